@@ -1,5 +1,7 @@
 package com.linkedin.datahub.graphql;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.datahub.authentication.AuthenticationConfiguration;
 import com.datahub.authentication.group.GroupService;
 import com.datahub.authentication.invite.InviteTokenService;
@@ -18,6 +20,8 @@ import com.linkedin.datahub.graphql.analytics.resolver.GetHighlightsResolver;
 import com.linkedin.datahub.graphql.analytics.resolver.GetMetadataAnalyticsResolver;
 import com.linkedin.datahub.graphql.analytics.resolver.IsAnalyticsEnabledResolver;
 import com.linkedin.datahub.graphql.analytics.service.AnalyticsService;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
+import com.linkedin.datahub.graphql.concurrency.GraphQLExecutors;
 import com.linkedin.datahub.graphql.featureflags.FeatureFlags;
 import com.linkedin.datahub.graphql.generated.AccessToken;
 import com.linkedin.datahub.graphql.generated.AccessTokenMetadata;
@@ -231,6 +235,7 @@ import com.linkedin.datahub.graphql.resolvers.view.ListGlobalViewsResolver;
 import com.linkedin.datahub.graphql.resolvers.view.ListMyViewsResolver;
 import com.linkedin.datahub.graphql.resolvers.view.UpdateViewResolver;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.EntityResponseCache;
 import com.linkedin.datahub.graphql.types.EntityType;
 import com.linkedin.datahub.graphql.types.LoadableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
@@ -269,6 +274,7 @@ import com.linkedin.datahub.graphql.types.test.TestType;
 import com.linkedin.datahub.graphql.types.view.DataHubViewType;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.config.DataHubConfiguration;
+import com.linkedin.metadata.config.GraphQLQueryCostConfiguration;
 import com.linkedin.metadata.config.IngestionConfiguration;
 import com.linkedin.metadata.config.TestsConfiguration;
 import com.linkedin.metadata.config.ViewsConfiguration;
@@ -285,6 +291,7 @@ import com.linkedin.metadata.service.LineageService;
 import com.linkedin.metadata.telemetry.TelemetryConfiguration;
 import com.linkedin.metadata.timeline.TimelineService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.metadata.version.GitVersion;
 import com.linkedin.usage.UsageClient;
 import graphql.execution.DataFetcherResult;
@@ -300,7 +307,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -355,6 +361,7 @@ public class GmsGraphQLEngine {
     private final TestsConfiguration testsConfiguration;
     private final DataHubConfiguration datahubConfiguration;
     private final ViewsConfiguration viewsConfiguration;
+    private final GraphQLQueryCostConfiguration queryCostConfiguration;
 
     private final DatasetType datasetType;
     private final CorpUserType corpUserType;
@@ -446,14 +453,23 @@ public class GmsGraphQLEngine {
         this.datahubConfiguration = args.datahubConfiguration;
         this.viewsConfiguration = args.viewsConfiguration;
         this.featureFlags = args.featureFlags;
+        this.queryCostConfiguration = args.graphQLConfiguration != null
+            ? args.graphQLConfiguration.getQueryCost() : null;
+
+        if (args.graphQLConfiguration != null && args.graphQLConfiguration.getConcurrency() != null) {
+            GraphQLExecutors.configure(args.graphQLConfiguration.getConcurrency());
+        }
+
+        final EntityResponseCache entityResponseCache = args.entityResponseCache != null
+            ? args.entityResponseCache : EntityResponseCache.DISABLED;
 
         this.datasetType = new DatasetType(entityClient);
-        this.corpUserType = new CorpUserType(entityClient, featureFlags);
+        this.corpUserType = new CorpUserType(entityClient, featureFlags, entityResponseCache);
         this.corpGroupType = new CorpGroupType(entityClient);
         this.chartType = new ChartType(entityClient);
         this.dashboardType = new DashboardType(entityClient);
-        this.dataPlatformType = new DataPlatformType(entityClient);
-        this.tagType = new TagType(entityClient);
+        this.dataPlatformType = new DataPlatformType(entityClient, entityResponseCache);
+        this.tagType = new TagType(entityClient, entityResponseCache);
         this.mlModelType = new MLModelType(entityClient);
         this.mlModelGroupType = new MLModelGroupType(entityClient);
         this.mlFeatureType = new MLFeatureType(entityClient);
@@ -461,7 +477,7 @@ public class GmsGraphQLEngine {
         this.mlPrimaryKeyType = new MLPrimaryKeyType(entityClient);
         this.dataFlowType = new DataFlowType(entityClient);
         this.dataJobType = new DataJobType(entityClient);
-        this.glossaryTermType = new GlossaryTermType(entityClient);
+        this.glossaryTermType = new GlossaryTermType(entityClient, entityResponseCache);
         this.glossaryNodeType = new GlossaryNodeType(entityClient);
         this.aspectType = new AspectType(entityClient);
         this.containerType = new ContainerType(entityClient);
@@ -585,6 +601,7 @@ public class GmsGraphQLEngine {
             .addSchema(fileBasedSchema(LINEAGE_SCHEMA_FILE))
             .addDataLoaders(loaderSuppliers(loadableTypes))
             .addDataLoader("Aspect", context -> createDataLoader(aspectType, context))
+            .setQueryCostConfiguration(queryCostConfiguration)
             .configureRuntimeWiring(this::configureRuntimeWiring);
     }
 
@@ -1600,13 +1617,19 @@ public class GmsGraphQLEngine {
     private <T, K> DataLoader<K, DataFetcherResult<T>> createDataLoader(final LoadableType<T, K> graphType, final QueryContext queryContext) {
         BatchLoaderContextProvider contextProvider = () -> queryContext;
         DataLoaderOptions loaderOptions = DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
-        return DataLoader.newDataLoader((keys, context) -> CompletableFuture.supplyAsync(() -> {
+        return DataLoader.newDataLoader((keys, context) -> GraphQLBulkhead.ENTITY.supplyAsync(() -> {
+            MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "dataLoader", graphType.name(), "batchSize"))
+                .update(keys.size());
+            final Timer.Context timer = MetricUtils.timer(this.getClass(),
+                MetricRegistry.name("dataLoader", graphType.name())).time();
             try {
                 log.debug(String.format("Batch loading entities of type: %s, keys: %s", graphType.name(), keys));
                 return graphType.batchLoad(keys, context.getContext());
             } catch (Exception e) {
                 log.error(String.format("Failed to load Entities of type: %s, keys: %s", graphType.name(), keys) + " " + e.getMessage());
                 throw new RuntimeException(String.format("Failed to retrieve entities of type %s", graphType.name()), e);
+            } finally {
+                timer.stop();
             }
         }), loaderOptions);
     }
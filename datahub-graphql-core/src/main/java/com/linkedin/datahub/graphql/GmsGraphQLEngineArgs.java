@@ -10,8 +10,10 @@ import com.datahub.authorization.AuthorizationConfiguration;
 import com.datahub.authorization.role.RoleService;
 import com.linkedin.datahub.graphql.analytics.service.AnalyticsService;
 import com.linkedin.datahub.graphql.featureflags.FeatureFlags;
+import com.linkedin.datahub.graphql.types.EntityResponseCache;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.config.DataHubConfiguration;
+import com.linkedin.metadata.config.GraphQLConfiguration;
 import com.linkedin.metadata.config.IngestionConfiguration;
 import com.linkedin.metadata.config.TestsConfiguration;
 import com.linkedin.metadata.config.ViewsConfiguration;
@@ -56,6 +58,8 @@ public class GmsGraphQLEngineArgs {
     TestsConfiguration testsConfiguration;
     DataHubConfiguration datahubConfiguration;
     ViewsConfiguration viewsConfiguration;
+    GraphQLConfiguration graphQLConfiguration;
+    EntityResponseCache entityResponseCache;
     SiblingGraphService siblingGraphService;
     GroupService groupService;
     RoleService roleService;
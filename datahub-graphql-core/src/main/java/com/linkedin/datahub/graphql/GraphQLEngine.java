@@ -1,9 +1,14 @@
 package com.linkedin.datahub.graphql;
 
 import com.linkedin.datahub.graphql.exception.DataHubDataFetcherExceptionHandler;
+import com.linkedin.datahub.graphql.instrumentation.FieldMetricsInstrumentation;
+import com.linkedin.datahub.graphql.instrumentation.QueryCostInstrumentation;
+import com.linkedin.metadata.config.GraphQLQueryCostConfiguration;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.instrumentation.tracing.TracingInstrumentation;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
@@ -40,7 +45,8 @@ public class GraphQLEngine {
 
     private GraphQLEngine(@Nonnull final List<String> schemas,
                           @Nonnull final RuntimeWiring runtimeWiring,
-                          @Nonnull final Map<String, Function<QueryContext, DataLoader<?, ?>>> dataLoaderSuppliers) {
+                          @Nonnull final Map<String, Function<QueryContext, DataLoader<?, ?>>> dataLoaderSuppliers,
+                          @Nullable final GraphQLQueryCostConfiguration queryCostConfiguration) {
 
         _dataLoaderSuppliers = dataLoaderSuppliers;
 
@@ -57,12 +63,22 @@ public class GraphQLEngine {
         SchemaGenerator schemaGenerator = new SchemaGenerator();
         GraphQLSchema graphQLSchema = schemaGenerator.makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
 
+        /*
+         * Configure instrumentation, estimating the cost of queries before they execute
+         */
+        List<Instrumentation> instrumentations = new ArrayList<>();
+        if (queryCostConfiguration != null && queryCostConfiguration.getMaxCost() > 0) {
+            instrumentations.add(new QueryCostInstrumentation(graphQLSchema.getCodeRegistry(), queryCostConfiguration));
+        }
+        instrumentations.add(new TracingInstrumentation());
+        instrumentations.add(new FieldMetricsInstrumentation());
+
         /*
          * Instantiate engine
          */
         _graphQL = new GraphQL.Builder(graphQLSchema)
             .defaultDataFetcherExceptionHandler(new DataHubDataFetcherExceptionHandler())
-            .instrumentation(new TracingInstrumentation())
+            .instrumentation(new ChainedInstrumentation(instrumentations))
             .build();
     }
 
@@ -106,6 +122,7 @@ public class GraphQLEngine {
         private final List<String> _schemas = new ArrayList<>();
         private final Map<String, Function<QueryContext, DataLoader<?, ?>>> _loaderSuppliers = new HashMap<>();
         private final RuntimeWiring.Builder _runtimeWiringBuilder = newRuntimeWiring();
+        private GraphQLQueryCostConfiguration _queryCostConfiguration;
 
         /**
          * Used to add a schema file containing the GQL types resolved by the engine.
@@ -153,11 +170,19 @@ public class GraphQLEngine {
             return this;
         }
 
+        /**
+         * Used to configure the budget of the estimated cost of a query. Queries are not estimated if not configured.
+         */
+        public Builder setQueryCostConfiguration(@Nullable final GraphQLQueryCostConfiguration queryCostConfiguration) {
+            _queryCostConfiguration = queryCostConfiguration;
+            return this;
+        }
+
         /**
          * Builds a {@link GraphQLEngine}.
          */
         public GraphQLEngine build() {
-            return new GraphQLEngine(_schemas, _runtimeWiringBuilder.build(), _loaderSuppliers);
+            return new GraphQLEngine(_schemas, _runtimeWiringBuilder.build(), _loaderSuppliers, _queryCostConfiguration);
         }
     }
 
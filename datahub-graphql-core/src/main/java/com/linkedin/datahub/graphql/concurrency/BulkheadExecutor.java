@@ -0,0 +1,107 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Executor of a single {@link GraphQLBulkhead}, running at most a fixed number of tasks at the same time and queueing at
+ * most a fixed number more. Further tasks are rejected, so that an overloaded bulkhead fails its own requests fast
+ * rather than holding on to an unbounded backlog.
+ *
+ * Tasks either run on a pool of platform threads, which bounds the number of running tasks by itself, or each on its
+ * own virtual thread, in which case permits bound the number of running and queued tasks.
+ *
+ * Records the time every task waited before running, along with the number of rejected tasks.
+ */
+class BulkheadExecutor implements Executor {
+
+  private final String _name;
+  private final ExecutorService _executorService;
+  // Bound the number of running and of admitted tasks when the executor service does not, otherwise null
+  private final Semaphore _runningPermits;
+  private final Semaphore _admittedPermits;
+  private final AtomicInteger _queued = new AtomicInteger();
+  private final AtomicInteger _running = new AtomicInteger();
+
+  BulkheadExecutor(@Nonnull String name, @Nonnull ExecutorService executorService,
+      @Nullable Semaphore runningPermits, @Nullable Semaphore admittedPermits) {
+    _name = name;
+    _executorService = executorService;
+    _runningPermits = runningPermits;
+    _admittedPermits = admittedPermits;
+  }
+
+  @Override
+  public void execute(@Nonnull Runnable command) {
+    if (_admittedPermits != null && !_admittedPermits.tryAcquire()) {
+      throw reject();
+    }
+    final long enqueuedAt = System.nanoTime();
+    _queued.incrementAndGet();
+    try {
+      _executorService.execute(() -> run(command, enqueuedAt));
+    } catch (RejectedExecutionException e) {
+      _queued.decrementAndGet();
+      if (_admittedPermits != null) {
+        _admittedPermits.release();
+      }
+      throw reject();
+    }
+  }
+
+  private void run(@Nonnull Runnable command, long enqueuedAt) {
+    if (_runningPermits != null) {
+      _runningPermits.acquireUninterruptibly();
+    }
+    _queued.decrementAndGet();
+    _running.incrementAndGet();
+    try {
+      MetricUtils.timer(GraphQLExecutors.class, MetricRegistry.name(_name, "wait"))
+          .update(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+      command.run();
+    } finally {
+      _running.decrementAndGet();
+      if (_runningPermits != null) {
+        _runningPermits.release();
+      }
+      if (_admittedPermits != null) {
+        _admittedPermits.release();
+      }
+    }
+  }
+
+  private RejectedExecutionException reject() {
+    MetricUtils.counter(GraphQLExecutors.class, MetricRegistry.name(_name, "rejected")).inc();
+    return new RejectedExecutionException(String.format("GraphQL %s executor is saturated", _name));
+  }
+
+  /**
+   * @return number of tasks waiting to run
+   */
+  int getQueued() {
+    return _queued.get();
+  }
+
+  /**
+   * @return number of tasks running
+   */
+  int getRunning() {
+    return _running.get();
+  }
+
+  /**
+   * Stops accepting new tasks, letting the admitted ones complete.
+   */
+  void shutdown() {
+    _executorService.shutdown();
+  }
+}
@@ -0,0 +1,43 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+
+/**
+ * The kinds of GraphQL work that run on separate executors, so that a burst of one kind, such as a heavy lineage
+ * traversal, cannot starve the others of threads.
+ *
+ * Resolvers and data loaders run their blocking work through the bulkhead of its kind, rather than through
+ * {@link CompletableFuture#supplyAsync(Supplier)}, which runs it on the common fork join pool sized to the number of
+ * cores.
+ */
+public enum GraphQLBulkhead {
+  /**
+   * Resolvers not covered by any other bulkhead, mostly mutations and listings
+   */
+  GENERAL,
+  /**
+   * Data loaders and the resolvers loading entities, aspects and relationships
+   */
+  ENTITY,
+  /**
+   * Search, browse and autocomplete resolvers
+   */
+  SEARCH,
+  /**
+   * Lineage traversal resolvers
+   */
+  LINEAGE;
+
+  @Nonnull
+  public <T> CompletableFuture<T> supplyAsync(@Nonnull Supplier<T> supplier) {
+    return CompletableFuture.supplyAsync(supplier, GraphQLExecutors.getExecutor(this));
+  }
+
+  @Nonnull
+  public CompletableFuture<Void> runAsync(@Nonnull Runnable runnable) {
+    return CompletableFuture.runAsync(runnable, GraphQLExecutors.getExecutor(this));
+  }
+}
@@ -0,0 +1,127 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.metadata.config.GraphQLBulkheadConfiguration;
+import com.linkedin.metadata.config.GraphQLConcurrencyConfiguration;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Holds the executors of the {@link GraphQLBulkhead}s, which are shared by all the GraphQL engines of the process, as
+ * resolvers are created all over the place without any handle on the engine.
+ *
+ * Executors are configured once at startup by {@link #configure}. Until then, every bulkhead runs on a pool of
+ * platform threads of the default size. The number of queued and running tasks of every bulkhead are reported as
+ * gauges.
+ */
+@Slf4j
+public final class GraphQLExecutors {
+
+  public static final GraphQLBulkheadConfiguration DEFAULT_BULKHEAD = new GraphQLBulkheadConfiguration(20, 1000);
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private static volatile Map<GraphQLBulkhead, BulkheadExecutor> _executors;
+
+  static {
+    for (GraphQLBulkhead bulkhead : GraphQLBulkhead.values()) {
+      final String name = getName(bulkhead);
+      MetricUtils.get().gauge(MetricRegistry.name(GraphQLExecutors.class, name, "queued"),
+          () -> (Gauge<Integer>) () -> getExecutor(bulkhead).getQueued());
+      MetricUtils.get().gauge(MetricRegistry.name(GraphQLExecutors.class, name, "running"),
+          () -> (Gauge<Integer>) () -> getExecutor(bulkhead).getRunning());
+    }
+  }
+
+  private GraphQLExecutors() {
+  }
+
+  /**
+   * Replaces the executors of all the bulkheads. Tasks already submitted to the previous executors still complete.
+   */
+  public static synchronized void configure(@Nonnull GraphQLConcurrencyConfiguration configuration) {
+    final Map<GraphQLBulkhead, BulkheadExecutor> executors = new EnumMap<>(GraphQLBulkhead.class);
+    executors.put(GraphQLBulkhead.GENERAL, createExecutor(GraphQLBulkhead.GENERAL, configuration.getGeneral(),
+        configuration.isVirtualThreads()));
+    executors.put(GraphQLBulkhead.ENTITY, createExecutor(GraphQLBulkhead.ENTITY, configuration.getEntity(),
+        configuration.isVirtualThreads()));
+    executors.put(GraphQLBulkhead.SEARCH, createExecutor(GraphQLBulkhead.SEARCH, configuration.getSearch(),
+        configuration.isVirtualThreads()));
+    executors.put(GraphQLBulkhead.LINEAGE, createExecutor(GraphQLBulkhead.LINEAGE, configuration.getLineage(),
+        configuration.isVirtualThreads()));
+    final Map<GraphQLBulkhead, BulkheadExecutor> previousExecutors = _executors;
+    _executors = executors;
+    if (previousExecutors != null) {
+      previousExecutors.values().forEach(BulkheadExecutor::shutdown);
+    }
+  }
+
+  @Nonnull
+  static BulkheadExecutor getExecutor(@Nonnull GraphQLBulkhead bulkhead) {
+    Map<GraphQLBulkhead, BulkheadExecutor> executors = _executors;
+    if (executors == null) {
+      synchronized (GraphQLExecutors.class) {
+        if (_executors == null) {
+          configure(new GraphQLConcurrencyConfiguration());
+        }
+        executors = _executors;
+      }
+    }
+    return executors.get(bulkhead);
+  }
+
+  private static BulkheadExecutor createExecutor(@Nonnull GraphQLBulkhead bulkhead,
+      @Nullable GraphQLBulkheadConfiguration configuration, boolean virtualThreads) {
+    final String name = getName(bulkhead);
+    final GraphQLBulkheadConfiguration bulkheadConfiguration = configuration != null ? configuration : DEFAULT_BULKHEAD;
+    final int threads = Math.max(1, bulkheadConfiguration.getThreads());
+    final int queueSize = Math.max(0, bulkheadConfiguration.getQueueSize());
+
+    if (virtualThreads) {
+      final ExecutorService virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+      if (virtualThreadExecutor != null) {
+        log.info("Running GraphQL {} tasks on virtual threads, {} at a time", name, threads);
+        return new BulkheadExecutor(name, virtualThreadExecutor, new Semaphore(threads),
+            new Semaphore(threads + queueSize));
+      }
+      log.warn("Virtual threads are not supported by this JVM, running GraphQL {} tasks on platform threads", name);
+    }
+
+    final BlockingQueue<Runnable> queue = queueSize > 0 ? new LinkedBlockingQueue<>(queueSize) : new SynchronousQueue<>();
+    final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS, queue, new ThreadFactoryBuilder().setNameFormat("graphql-" + name + "-%d").setDaemon(true)
+        .build(), new ThreadPoolExecutor.AbortPolicy());
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    return new BulkheadExecutor(name, threadPoolExecutor, null, null);
+  }
+
+  /**
+   * @return an executor starting a virtual thread per task, or null if the JVM does not support virtual threads
+   */
+  @Nullable
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  private static String getName(@Nonnull GraphQLBulkhead bulkhead) {
+    return bulkhead.name().toLowerCase();
+  }
+}
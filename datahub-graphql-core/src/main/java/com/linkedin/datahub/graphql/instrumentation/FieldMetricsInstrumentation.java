@@ -0,0 +1,35 @@
+package com.linkedin.datahub.graphql.instrumentation;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.GraphQLTypeUtil;
+
+
+/**
+ * Records the latency and the failures of every field fetched by a resolver, by parent type and field name.
+ *
+ * Fields fetched from the properties of their parent are skipped, as they never call out to other services.
+ */
+public class FieldMetricsInstrumentation extends SimpleInstrumentation {
+
+  @Override
+  public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters) {
+    if (parameters.isTrivialDataFetcher()) {
+      return super.beginFieldFetch(parameters);
+    }
+    final String name = MetricRegistry.name(GraphQLTypeUtil.simplePrint(parameters.getEnvironment().getParentType()),
+        parameters.getField().getName());
+    final Timer.Context timer = MetricUtils.timer(this.getClass(), name).time();
+    return SimpleInstrumentationContext.whenCompleted((result, throwable) -> {
+      timer.stop();
+      if (throwable != null) {
+        MetricUtils.counter(this.getClass(), MetricRegistry.name(name, "failed")).inc();
+      }
+    });
+  }
+}
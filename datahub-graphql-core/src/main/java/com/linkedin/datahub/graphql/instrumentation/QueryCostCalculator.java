@@ -0,0 +1,80 @@
+package com.linkedin.datahub.graphql.instrumentation;
+
+import com.google.common.collect.ImmutableList;
+import graphql.TrivialDataFetcher;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLTypeUtil;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Estimates the cost of a query from its fields, before it executes.
+ *
+ * Every field fetched by a resolver costs 1, while fields fetched from the properties of their parent are free. The
+ * cost of the sub-selection of a field is multiplied by the number of elements the field is expected to return: its
+ * page size argument if it has one, the default list size for other lists returned by resolvers, otherwise 1. Lists
+ * fetched from the properties of their parent are not multiplied, as their size is already bounded by the page size of
+ * an ancestor.
+ */
+public class QueryCostCalculator implements FieldComplexityCalculator {
+
+  // Names of the arguments holding the page size of a field, either directly or within its "input" argument
+  private static final List<String> PAGE_SIZE_ARGUMENTS = ImmutableList.of("count", "first", "limit");
+  private static final String INPUT_ARGUMENT = "input";
+
+  private final GraphQLCodeRegistry _codeRegistry;
+  private final int _defaultListSize;
+
+  public QueryCostCalculator(@Nonnull final GraphQLCodeRegistry codeRegistry, final int defaultListSize) {
+    _codeRegistry = codeRegistry;
+    _defaultListSize = Math.max(1, defaultListSize);
+  }
+
+  @Override
+  public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+    final boolean trivial = isTrivial(environment);
+    final Integer pageSize = getPageSize(environment.getArguments());
+    final long multiplier;
+    if (pageSize != null) {
+      multiplier = Math.max(1, pageSize);
+    } else if (!trivial && GraphQLTypeUtil.isList(
+        GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()))) {
+      multiplier = _defaultListSize;
+    } else {
+      multiplier = 1;
+    }
+    return (int) Math.min(Integer.MAX_VALUE, (trivial ? 0 : 1) + multiplier * childComplexity);
+  }
+
+  private boolean isTrivial(@Nonnull final FieldComplexityEnvironment environment) {
+    if (!(environment.getParentType() instanceof GraphQLFieldsContainer)) {
+      return true;
+    }
+    final DataFetcher<?> dataFetcher = _codeRegistry.getDataFetcher(
+        (GraphQLFieldsContainer) environment.getParentType(), environment.getFieldDefinition());
+    return dataFetcher instanceof TrivialDataFetcher;
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private static Integer getPageSize(@Nullable final Map<String, Object> arguments) {
+    if (arguments == null) {
+      return null;
+    }
+    for (String name : PAGE_SIZE_ARGUMENTS) {
+      if (arguments.get(name) instanceof Integer) {
+        return (Integer) arguments.get(name);
+      }
+    }
+    return arguments.get(INPUT_ARGUMENT) instanceof Map
+        ? getPageSize((Map<String, Object>) arguments.get(INPUT_ARGUMENT))
+        : null;
+  }
+}
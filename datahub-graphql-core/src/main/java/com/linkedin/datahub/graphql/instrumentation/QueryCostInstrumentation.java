@@ -0,0 +1,39 @@
+package com.linkedin.datahub.graphql.instrumentation;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.config.GraphQLQueryCostConfiguration;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.QueryComplexityInfo;
+import graphql.schema.GraphQLCodeRegistry;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Estimates the cost of every query with a {@link QueryCostCalculator} once it is validated, and reports the queries
+ * over budget. Queries over budget are rejected before they execute if configured to.
+ */
+@Slf4j
+public class QueryCostInstrumentation extends MaxQueryComplexityInstrumentation {
+
+  public QueryCostInstrumentation(@Nonnull final GraphQLCodeRegistry codeRegistry,
+      @Nonnull final GraphQLQueryCostConfiguration configuration) {
+    super(configuration.getMaxCost(), new QueryCostCalculator(codeRegistry, configuration.getDefaultListSize()),
+        queryComplexityInfo -> onOverBudget(queryComplexityInfo, configuration));
+  }
+
+  private static boolean onOverBudget(@Nonnull final QueryComplexityInfo queryComplexityInfo,
+      @Nonnull final GraphQLQueryCostConfiguration configuration) {
+    MetricUtils.get().histogram(MetricRegistry.name(QueryCostInstrumentation.class, "over_budget_cost"))
+        .update(queryComplexityInfo.getComplexity());
+    log.warn("GraphQL operation {} has an estimated cost of {}, over the budget of {}{}: {}",
+        queryComplexityInfo.getInstrumentationValidationParameters().getOperation(),
+        queryComplexityInfo.getComplexity(),
+        configuration.getMaxCost(),
+        configuration.isReject() ? ", rejecting it" : "",
+        queryComplexityInfo.getInstrumentationValidationParameters().getQuery());
+    MetricUtils.counter(QueryCostInstrumentation.class, configuration.isReject() ? "rejected" : "over_budget").inc();
+    return configuration.isReject();
+  }
+}
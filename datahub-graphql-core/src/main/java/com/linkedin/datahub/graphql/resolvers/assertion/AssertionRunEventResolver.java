@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.assertion;
 
 import com.google.common.collect.ImmutableList;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.generated.Assertion;
 import com.linkedin.datahub.graphql.generated.AssertionResultType;
 import com.linkedin.datahub.graphql.generated.AssertionRunEvent;
@@ -42,7 +43,7 @@ public class AssertionRunEventResolver implements DataFetcher<CompletableFuture<
 
   @Override
   public CompletableFuture<AssertionRunEventsResult> get(DataFetchingEnvironment environment) {
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
 
       final QueryContext context = environment.getContext();
 
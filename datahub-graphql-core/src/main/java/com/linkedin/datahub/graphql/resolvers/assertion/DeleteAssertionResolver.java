@@ -7,14 +7,15 @@ import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
 import com.linkedin.datahub.graphql.authorization.ConjunctivePrivilegeGroup;
 import com.linkedin.datahub.graphql.authorization.DisjunctivePrivilegeGroup;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.resolvers.AuthUtils;
 import com.linkedin.datahub.graphql.resolvers.mutate.MutationUtils;
+import com.linkedin.datahub.graphql.resolvers.mutate.util.DeleteUtils;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.authorization.PoliciesConfig;
 import com.linkedin.metadata.entity.EntityService;
-import com.linkedin.r2.RemoteInvocationException;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import java.util.concurrent.CompletableFuture;
@@ -39,7 +40,7 @@ public class DeleteAssertionResolver implements DataFetcher<CompletableFuture<Bo
   public CompletableFuture<Boolean> get(final DataFetchingEnvironment environment) throws Exception {
     final QueryContext context = environment.getContext();
     final Urn assertionUrn = Urn.createFromString(environment.getArgument("urn"));
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
 
       // 1. check the entity exists. If not, return false.
       if (!_entityService.exists(assertionUrn)) {
@@ -51,13 +52,7 @@ public class DeleteAssertionResolver implements DataFetcher<CompletableFuture<Bo
             _entityClient.deleteEntity(assertionUrn, context.getAuthentication());
 
             // Asynchronously Delete all references to the entity (to return quickly)
-            CompletableFuture.runAsync(() -> {
-              try {
-                _entityClient.deleteEntityReferences(assertionUrn, context.getAuthentication());
-              } catch (RemoteInvocationException e) {
-                log.error(String.format("Caught exception while attempting to clear all entity references for assertion with urn %s", assertionUrn), e);
-              }
-            });
+            DeleteUtils.deleteReferencesAsync(assertionUrn, _entityClient, context.getAuthentication());
 
             return true;
           } catch (Exception e) {
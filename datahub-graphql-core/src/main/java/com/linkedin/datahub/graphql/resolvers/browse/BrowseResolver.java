@@ -1,5 +1,6 @@
 package com.linkedin.datahub.graphql.resolvers.browse;
 
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.generated.BrowseInput;
 import com.linkedin.datahub.graphql.generated.BrowseResults;
@@ -40,7 +41,7 @@ public class BrowseResolver implements DataFetcher<CompletableFuture<BrowseResul
         final int start = input.getStart() != null ? input.getStart() : DEFAULT_START;
         final int count = input.getCount() != null ? input.getCount() : DEFAULT_COUNT;
 
-        return CompletableFuture.supplyAsync(() -> {
+        return GraphQLBulkhead.SEARCH.supplyAsync(() -> {
             try {
                 _logger.debug(
                     String.format("Executing browse. entity type: %s, path: %s, filters: %s, start: %s, count: %s",
@@ -1,6 +1,7 @@
 package com.linkedin.datahub.graphql.resolvers.browse;
 
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.generated.BrowsePath;
@@ -24,7 +25,7 @@ public class EntityBrowsePathsResolver implements DataFetcher<CompletableFuture<
     final QueryContext context = environment.getContext();
     final String urn = ((Entity) environment.getSource()).getUrn();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.SEARCH.supplyAsync(() -> {
       try {
         return _browsableType.browsePaths(urn, context);
       } catch (Exception e) {
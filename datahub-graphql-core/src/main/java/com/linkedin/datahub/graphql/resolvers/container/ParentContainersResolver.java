@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.container;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.DataMap;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLException;
 import com.linkedin.datahub.graphql.generated.Container;
 import com.linkedin.datahub.graphql.generated.Entity;
@@ -61,7 +62,7 @@ public class ParentContainersResolver implements DataFetcher<CompletableFuture<P
     final String urn = ((Entity) environment.getSource()).getUrn();
     final List<Container> containers = new ArrayList<>();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.ENTITY.supplyAsync(() -> {
       try {
         aggregateParentContainers(containers, urn, context);
         final ParentContainersResult result = new ParentContainersResult();
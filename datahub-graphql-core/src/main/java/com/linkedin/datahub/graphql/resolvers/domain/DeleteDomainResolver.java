@@ -3,9 +3,10 @@ package com.linkedin.datahub.graphql.resolvers.domain;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
+import com.linkedin.datahub.graphql.resolvers.mutate.util.DeleteUtils;
 import com.linkedin.entity.client.EntityClient;
-import com.linkedin.r2.RemoteInvocationException;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import java.util.concurrent.CompletableFuture;
@@ -29,7 +30,7 @@ public class DeleteDomainResolver implements DataFetcher<CompletableFuture<Boole
     final QueryContext context = environment.getContext();
     final String domainUrn = environment.getArgument("urn");
     final Urn urn = Urn.createFromString(domainUrn);
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
 
       if (AuthorizationUtils.canManageDomains(context) || AuthorizationUtils.canDeleteEntity(urn, context)) {
         try {
@@ -37,13 +38,7 @@ public class DeleteDomainResolver implements DataFetcher<CompletableFuture<Boole
           log.info(String.format("I've successfully deleted the entity %s with urn", domainUrn));
 
           // Asynchronously Delete all references to the entity (to return quickly)
-          CompletableFuture.runAsync(() -> {
-            try {
-              _entityClient.deleteEntityReferences(urn, context.getAuthentication());
-            } catch (RemoteInvocationException e) {
-              log.error(String.format("Caught exception while attempting to clear all entity references for Domain with urn %s", urn), e);
-            }
-          });
+          DeleteUtils.deleteReferencesAsync(urn, _entityClient, context.getAuthentication());
 
           return true;
         } catch (Exception e) {
@@ -2,11 +2,12 @@ package com.linkedin.datahub.graphql.resolvers.glossary;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
+import com.linkedin.datahub.graphql.resolvers.mutate.util.DeleteUtils;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.GlossaryUtils;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.entity.EntityService;
-import com.linkedin.r2.RemoteInvocationException;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import java.util.concurrent.CompletableFuture;
@@ -30,7 +31,7 @@ public class DeleteGlossaryEntityResolver implements DataFetcher<CompletableFutu
     final Urn entityUrn = Urn.createFromString(environment.getArgument("urn"));
     final Urn parentNodeUrn = GlossaryUtils.getParentUrn(entityUrn, context, _entityClient);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
       if (GlossaryUtils.canManageChildrenEntities(context, parentNodeUrn, _entityClient)) {
         if (!_entityService.exists(entityUrn)) {
           throw new RuntimeException(String.format("This urn does not exist: %s", entityUrn));
@@ -40,13 +41,7 @@ public class DeleteGlossaryEntityResolver implements DataFetcher<CompletableFutu
           _entityClient.deleteEntity(entityUrn, context.getAuthentication());
 
           // Asynchronously Delete all references to the entity (to return quickly)
-          CompletableFuture.runAsync(() -> {
-            try {
-              _entityClient.deleteEntityReferences(entityUrn, context.getAuthentication());
-            } catch (RemoteInvocationException e) {
-              log.error(String.format("Caught exception while attempting to clear all entity references for glossary entity with urn %s", entityUrn), e);
-            }
-          });
+          DeleteUtils.deleteReferencesAsync(entityUrn, _entityClient, context.getAuthentication());
 
           return true;
         } catch (Exception e) {
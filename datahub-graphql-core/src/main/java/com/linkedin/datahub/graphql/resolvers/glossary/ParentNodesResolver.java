@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.glossary;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.DataMap;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.DataHubGraphQLException;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.GlossaryNode;
@@ -95,7 +96,7 @@ public class ParentNodesResolver  implements DataFetcher<CompletableFuture<Paren
     final String urn = ((Entity) environment.getSource()).getUrn();
     final List<GlossaryNode> nodes = new ArrayList<>();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.ENTITY.supplyAsync(() -> {
       try {
         final String type = Urn.createFromString(urn).getEntityType();
 
@@ -3,9 +3,10 @@ package com.linkedin.datahub.graphql.resolvers.group;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
+import com.linkedin.datahub.graphql.resolvers.mutate.util.DeleteUtils;
 import com.linkedin.entity.client.EntityClient;
-import com.linkedin.r2.RemoteInvocationException;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import java.util.concurrent.CompletableFuture;
@@ -30,18 +31,12 @@ public class RemoveGroupResolver implements DataFetcher<CompletableFuture<Boolea
     if (AuthorizationUtils.canManageUsersAndGroups(context)) {
       final String groupUrn = environment.getArgument("urn");
       final Urn urn = Urn.createFromString(groupUrn);
-      return CompletableFuture.supplyAsync(() -> {
+      return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
         try {
           _entityClient.deleteEntity(urn, context.getAuthentication());
 
           // Asynchronously Delete all references to the entity (to return quickly)
-          CompletableFuture.runAsync(() -> {
-            try {
-              _entityClient.deleteEntityReferences(urn, context.getAuthentication());
-            } catch (RemoteInvocationException e) {
-              log.error(String.format("Caught exception while attempting to clear all entity references for group with urn %s", urn), e);
-            }
-          });
+          DeleteUtils.deleteReferencesAsync(urn, _entityClient, context.getAuthentication());
 
           return true;
         } catch (Exception e) {
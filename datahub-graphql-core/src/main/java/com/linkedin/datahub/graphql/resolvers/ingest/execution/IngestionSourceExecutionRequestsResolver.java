@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.generated.IngestionSource;
 import com.linkedin.datahub.graphql.generated.IngestionSourceExecutionRequests;
 import com.linkedin.datahub.graphql.resolvers.ingest.IngestionResolverUtils;
@@ -52,7 +53,7 @@ public class IngestionSourceExecutionRequestsResolver implements DataFetcher<Com
     final Integer start = environment.getArgument("start") != null ? environment.getArgument("start") : 0;
     final Integer count = environment.getArgument("count") != null ? environment.getArgument("count") : 10;
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
 
       try {
 
@@ -1,6 +1,7 @@
 package com.linkedin.datahub.graphql.resolvers.mutate;
 
 import com.codahale.metrics.Timer;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.types.BatchMutableType;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
@@ -35,7 +36,7 @@ public class MutableTypeBatchResolver<I, B, T> implements DataFetcher<Completabl
   public CompletableFuture<List<T>> get(DataFetchingEnvironment environment) throws Exception {
     final B[] input = bindArgument(environment.getArgument("input"), _batchMutableType.batchInputClass());
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
       Timer.Context timer = MetricUtils.timer(this.getClass(), "batchMutate").time();
 
       try {
@@ -1,5 +1,6 @@
 package com.linkedin.datahub.graphql.resolvers.mutate.util;
 
+import com.datahub.authentication.Authentication;
 import com.google.common.collect.ImmutableList;
 
 import com.linkedin.common.Status;
@@ -9,12 +10,18 @@ import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
 import com.linkedin.datahub.graphql.authorization.ConjunctivePrivilegeGroup;
 import com.linkedin.datahub.graphql.authorization.DisjunctivePrivilegeGroup;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
+import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.authorization.PoliciesConfig;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.r2.RemoteInvocationException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,6 +50,34 @@ public class DeleteUtils {
         orPrivilegeGroups);
   }
 
+  /**
+   * Deletes all references to the given entity in the background, so that deletes return quickly. The cleanup is not
+   * retried: its failures, including the bulkhead rejecting it, are logged and counted.
+   */
+  public static void deleteReferencesAsync(@Nonnull Urn urn, @Nonnull EntityClient entityClient,
+      @Nonnull Authentication authentication) {
+    try {
+      GraphQLBulkhead.GENERAL.runAsync(() -> {
+        try {
+          entityClient.deleteEntityReferences(urn, authentication);
+        } catch (RemoteInvocationException e) {
+          throw new CompletionException(e);
+        }
+      }).exceptionally(throwable -> {
+        onDeleteReferencesFailure(urn, throwable);
+        return null;
+      });
+    } catch (RejectedExecutionException e) {
+      onDeleteReferencesFailure(urn, e);
+    }
+  }
+
+  private static void onDeleteReferencesFailure(@Nonnull Urn urn, @Nonnull Throwable throwable) {
+    MetricUtils.counter(DeleteUtils.class, "delete_references_failure").inc();
+    log.error(String.format("Caught exception while attempting to clear all entity references for entity with urn %s",
+        urn), throwable);
+  }
+
   public static void updateStatusForResources(
       boolean removed,
       List<String> urnStrs,
@@ -4,6 +4,7 @@ import com.datahub.authorization.AuthorizerChain;
 import com.datahub.authorization.DataHubAuthorizer;
 import com.datahub.authorization.ResourceSpec;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.GetGrantedPrivilegesInput;
 import com.linkedin.datahub.graphql.generated.Privileges;
@@ -39,7 +40,7 @@ public class GetGrantedPrivilegesResolver implements DataFetcher<CompletableFutu
     if (context.getAuthorizer() instanceof AuthorizerChain) {
       DataHubAuthorizer dataHubAuthorizer = ((AuthorizerChain) context.getAuthorizer()).getDefaultAuthorizer();
       List<String> privileges = dataHubAuthorizer.getGrantedPrivileges(actor, resourceSpec);
-      return CompletableFuture.supplyAsync(() -> Privileges.builder()
+      return GraphQLBulkhead.GENERAL.supplyAsync(() -> Privileges.builder()
           .setPrivileges(privileges)
           .build());
     }
@@ -5,6 +5,7 @@ import com.datahub.authentication.post.PostService;
 import com.linkedin.common.Media;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreatePostInput;
 import com.linkedin.datahub.graphql.generated.PostContentType;
@@ -49,7 +50,7 @@ public class CreatePostResolver implements DataFetcher<CompletableFuture<Boolean
         : _postService.mapMedia(updateMediaInput.getType().toString(), updateMediaInput.getLocation());
     PostContent postContent = _postService.mapPostContent(contentType.toString(), title, description, link, media);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
       try {
         return _postService.createPost(type.toString(), postContent, authentication);
       } catch (Exception e) {
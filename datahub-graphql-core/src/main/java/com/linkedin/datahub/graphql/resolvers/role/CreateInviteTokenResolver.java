@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.role;
 import com.datahub.authentication.Authentication;
 import com.datahub.authentication.invite.InviteTokenService;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreateInviteTokenInput;
 import com.linkedin.datahub.graphql.generated.InviteToken;
@@ -33,7 +34,7 @@ public class CreateInviteTokenResolver implements DataFetcher<CompletableFuture<
     final String roleUrnStr = input.getRoleUrn();
     final Authentication authentication = context.getAuthentication();
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
       try {
         return new InviteToken(_inviteTokenService.getInviteToken(roleUrnStr, true, authentication));
       } catch (Exception e) {
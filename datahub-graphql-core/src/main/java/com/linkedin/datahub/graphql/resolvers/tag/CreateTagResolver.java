@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.tag;
 import com.linkedin.data.template.SetMode;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.CreateTagInput;
 import com.linkedin.datahub.graphql.generated.OwnerEntityType;
@@ -42,7 +43,7 @@ public class CreateTagResolver implements DataFetcher<CompletableFuture<String>>
     final QueryContext context = environment.getContext();
     final CreateTagInput input = bindArgument(environment.getArgument("input"), CreateTagInput.class);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
 
       if (!AuthorizationUtils.canCreateTags(context)) {
         throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
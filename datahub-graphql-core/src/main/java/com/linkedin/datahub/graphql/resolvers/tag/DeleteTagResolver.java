@@ -4,9 +4,10 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
+import com.linkedin.datahub.graphql.resolvers.mutate.util.DeleteUtils;
 import com.linkedin.entity.client.EntityClient;
-import com.linkedin.r2.RemoteInvocationException;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import java.util.concurrent.CompletableFuture;
@@ -31,21 +32,14 @@ public class DeleteTagResolver implements DataFetcher<CompletableFuture<Boolean>
     final String tagUrn = environment.getArgument("urn");
     final Urn urn = Urn.createFromString(tagUrn);
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
 
       if (AuthorizationUtils.canManageTags(context) || AuthorizationUtils.canDeleteEntity(UrnUtils.getUrn(tagUrn), context)) {
         try {
           _entityClient.deleteEntity(urn, context.getAuthentication());
 
           // Asynchronously Delete all references to the entity (to return quickly)
-          CompletableFuture.runAsync(() -> {
-            try {
-              _entityClient.deleteEntityReferences(urn, context.getAuthentication());
-            } catch (RemoteInvocationException e) {
-              log.error(String.format(
-                  "Caught exception while attempting to clear all entity references for Tag with urn %s", urn), e);
-            }
-          });
+          DeleteUtils.deleteReferencesAsync(urn, _entityClient, context.getAuthentication());
 
           return true;
         } catch (Exception e) {
@@ -6,6 +6,7 @@ import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
 import com.linkedin.datahub.graphql.authorization.ConjunctivePrivilegeGroup;
 import com.linkedin.datahub.graphql.authorization.DisjunctivePrivilegeGroup;
+import com.linkedin.datahub.graphql.concurrency.GraphQLBulkhead;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.resolvers.AuthUtils;
 import com.linkedin.entity.client.EntityClient;
@@ -43,7 +44,7 @@ public class SetTagColorResolver implements DataFetcher<CompletableFuture<Boolea
     final Urn tagUrn = Urn.createFromString(environment.getArgument("urn"));
     final String colorHex = environment.getArgument("colorHex");
 
-    return CompletableFuture.supplyAsync(() -> {
+    return GraphQLBulkhead.GENERAL.supplyAsync(() -> {
 
       // If user is not authorized, then throw exception.
       if (!isAuthorizedToSetTagColor(environment.getContext(), tagUrn)) {
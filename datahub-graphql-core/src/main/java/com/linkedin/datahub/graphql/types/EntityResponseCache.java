@@ -0,0 +1,132 @@
+package com.linkedin.datahub.graphql.types;
+
+import com.datahub.authentication.Authentication;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.event.CacheInvalidator;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.r2.RemoteInvocationException;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+
+/**
+ * Cache of {@link EntityResponse}s shared by the {@link LoadableType}s of all queries, so that entities which rarely
+ * change but are rendered on most pages, such as data platforms or tags, are not fetched again for every query.
+ *
+ * Only entities of the configured types are cached. Responses are keyed by urn and by the aspects that were fetched,
+ * as different types may fetch different aspects of the same entity. Entries expire after a fixed time, and are
+ * invalidated by urn whenever the entity changes: right after the change is committed when this instance made it,
+ * and once its change log is consumed otherwise. Invalidation is best effort: a load racing with a change may cache
+ * the previous value, which then lives until it expires.
+ *
+ * Responses do not depend on the caller, as entity reads are not authorized per actor. Cached responses are never
+ * handed out; callers always receive a copy.
+ */
+public class EntityResponseCache implements CacheInvalidator {
+
+  public static final EntityResponseCache DISABLED = new EntityResponseCache(Collections.emptySet(), 0, 0);
+
+  private final Set<String> _entityNames;
+  // Responses by fetched aspects, by urn
+  @Nullable
+  private final Cache<Urn, ConcurrentMap<Projection, EntityResponse>> _cache;
+
+  /**
+   * @param entityNames names of the entities to cache
+   * @param maxSize maximum number of cached entities. Disables the cache if not positive.
+   * @param ttlSeconds number of seconds an entity stays cached. Disables the cache if not positive.
+   */
+  public EntityResponseCache(@Nonnull final Collection<String> entityNames, final long maxSize, final long ttlSeconds) {
+    _entityNames = new HashSet<>(entityNames);
+    _cache = _entityNames.isEmpty() || maxSize <= 0 || ttlSeconds <= 0 ? null : CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .build();
+  }
+
+  /**
+   * Same as {@link EntityClient#batchGetV2}, fetching only the entities that are not cached.
+   */
+  @Nonnull
+  public Map<Urn, EntityResponse> batchGetV2(@Nonnull final EntityClient entityClient, @Nonnull final String entityName,
+      @Nonnull final Set<Urn> urns, @Nullable final Set<String> aspectNames,
+      @Nonnull final Authentication authentication) throws RemoteInvocationException, URISyntaxException {
+    if (_cache == null || !_entityNames.contains(entityName)) {
+      return entityClient.batchGetV2(entityName, urns, aspectNames, authentication);
+    }
+    final Projection projection = new Projection(entityName, aspectNames);
+    final Map<Urn, EntityResponse> responses = new HashMap<>();
+    final Set<Urn> missingUrns = new HashSet<>();
+    for (Urn urn : urns) {
+      final Map<Projection, EntityResponse> cached = _cache.getIfPresent(urn);
+      final EntityResponse response = cached != null ? cached.get(projection) : null;
+      if (response != null) {
+        responses.put(urn, copy(response));
+      } else {
+        missingUrns.add(urn);
+      }
+    }
+    MetricUtils.counter(this.getClass(), "hit").inc(responses.size());
+    MetricUtils.counter(this.getClass(), "miss").inc(missingUrns.size());
+    if (missingUrns.isEmpty()) {
+      return responses;
+    }
+
+    final Map<Urn, EntityResponse> fetchedResponses =
+        entityClient.batchGetV2(entityName, missingUrns, aspectNames, authentication);
+    fetchedResponses.forEach((urn, response) -> {
+      _cache.asMap().computeIfAbsent(urn, ignored -> new ConcurrentHashMap<>()).put(projection, copy(response));
+      responses.put(urn, response);
+    });
+    return responses;
+  }
+
+  /**
+   * Evicts every cached response of an entity.
+   */
+  public void invalidate(@Nonnull final String entityName, @Nonnull final Urn urn) {
+    if (_cache != null && _entityNames.contains(entityName)) {
+      _cache.invalidate(urn);
+    }
+  }
+
+  @Override
+  public void invalidate(@Nonnull final MetadataChangeLog metadataChangeLog) {
+    if (metadataChangeLog.hasEntityUrn()) {
+      invalidate(metadataChangeLog.getEntityType(), metadataChangeLog.getEntityUrn());
+    }
+  }
+
+  @Nonnull
+  private static EntityResponse copy(@Nonnull final EntityResponse response) {
+    try {
+      return response.copy();
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException("Failed to copy EntityResponse", e);
+    }
+  }
+
+  @Value
+  private static class Projection {
+    String entityName;
+    // Null when all the aspects were fetched
+    @Nullable
+    Set<String> aspectNames;
+  }
+}
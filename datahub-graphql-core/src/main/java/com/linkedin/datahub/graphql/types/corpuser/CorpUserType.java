@@ -19,6 +19,7 @@ import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
+import com.linkedin.datahub.graphql.types.EntityResponseCache;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.corpuser.mappers.CorpUserMapper;
@@ -53,10 +54,17 @@ public class CorpUserType implements SearchableEntityType<CorpUser, String>, Mut
 
     private final EntityClient _entityClient;
     private final FeatureFlags _featureFlags;
+    private final EntityResponseCache _entityResponseCache;
 
     public CorpUserType(final EntityClient entityClient, final FeatureFlags featureFlags) {
+        this(entityClient, featureFlags, EntityResponseCache.DISABLED);
+    }
+
+    public CorpUserType(final EntityClient entityClient, final FeatureFlags featureFlags,
+        final EntityResponseCache entityResponseCache) {
         _entityClient = entityClient;
         _featureFlags = featureFlags;
+        _entityResponseCache = entityResponseCache;
     }
 
     @Override
@@ -82,8 +90,8 @@ public class CorpUserType implements SearchableEntityType<CorpUser, String>, Mut
                     .map(UrnUtils::getUrn)
                     .collect(Collectors.toList());
 
-            final Map<Urn, EntityResponse> corpUserMap = _entityClient
-                    .batchGetV2(CORP_USER_ENTITY_NAME, new HashSet<>(corpUserUrns), null,
+            final Map<Urn, EntityResponse> corpUserMap = _entityResponseCache
+                    .batchGetV2(_entityClient, CORP_USER_ENTITY_NAME, new HashSet<>(corpUserUrns), null,
                         context.getAuthentication());
 
             final List<EntityResponse> results = new ArrayList<>();
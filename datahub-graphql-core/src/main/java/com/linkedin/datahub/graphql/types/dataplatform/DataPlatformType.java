@@ -5,6 +5,7 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.generated.DataPlatform;
 import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.datahub.graphql.types.EntityResponseCache;
 import com.linkedin.datahub.graphql.types.EntityType;
 import com.linkedin.datahub.graphql.types.dataplatform.mappers.DataPlatformMapper;
 import com.linkedin.entity.EntityResponse;
@@ -23,9 +24,15 @@ import static com.linkedin.metadata.Constants.*;
 public class DataPlatformType implements EntityType<DataPlatform, String> {
 
     private final EntityClient _entityClient;
+    private final EntityResponseCache _entityResponseCache;
 
     public DataPlatformType(final EntityClient entityClient) {
+        this(entityClient, EntityResponseCache.DISABLED);
+    }
+
+    public DataPlatformType(final EntityClient entityClient, final EntityResponseCache entityResponseCache) {
         _entityClient = entityClient;
+        _entityResponseCache = entityResponseCache;
     }
 
     @Override
@@ -41,7 +48,7 @@ public class DataPlatformType implements EntityType<DataPlatform, String> {
             .collect(Collectors.toList());
 
         try {
-            final Map<Urn, EntityResponse> dataPlatformMap = _entityClient.batchGetV2(
+            final Map<Urn, EntityResponse> dataPlatformMap = _entityResponseCache.batchGetV2(_entityClient,
                 DATA_PLATFORM_ENTITY_NAME, new HashSet<>(dataPlatformUrns), null, context.getAuthentication());
 
             final List<EntityResponse> gmsResults = new ArrayList<>();
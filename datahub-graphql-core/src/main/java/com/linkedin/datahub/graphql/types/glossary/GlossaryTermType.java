@@ -15,6 +15,7 @@ import com.linkedin.datahub.graphql.generated.GlossaryTerm;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
+import com.linkedin.datahub.graphql.types.EntityResponseCache;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.glossary.mappers.GlossaryTermMapper;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
@@ -58,9 +59,15 @@ public class GlossaryTermType implements SearchableEntityType<GlossaryTerm, Stri
     );
 
     private final EntityClient _entityClient;
+    private final EntityResponseCache _entityResponseCache;
 
     public GlossaryTermType(final EntityClient entityClient) {
+        this(entityClient, EntityResponseCache.DISABLED);
+    }
+
+    public GlossaryTermType(final EntityClient entityClient, final EntityResponseCache entityResponseCache) {
         _entityClient = entityClient;
+        _entityResponseCache = entityResponseCache;
     }
 
     @Override
@@ -85,7 +92,7 @@ public class GlossaryTermType implements SearchableEntityType<GlossaryTerm, Stri
                 .collect(Collectors.toList());
 
         try {
-            final Map<Urn, EntityResponse> glossaryTermMap = _entityClient.batchGetV2(GLOSSARY_TERM_ENTITY_NAME,
+            final Map<Urn, EntityResponse> glossaryTermMap = _entityResponseCache.batchGetV2(_entityClient, GLOSSARY_TERM_ENTITY_NAME,
                 new HashSet<>(glossaryTermUrns), ASPECTS_TO_RESOLVE, context.getAuthentication());
 
             final List<EntityResponse> gmsResults = new ArrayList<>();
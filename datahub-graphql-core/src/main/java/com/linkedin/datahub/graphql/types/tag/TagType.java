@@ -17,6 +17,7 @@ import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.generated.Tag;
 import com.linkedin.datahub.graphql.generated.TagUpdateInput;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
+import com.linkedin.datahub.graphql.types.EntityResponseCache;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.mappers.AutoCompleteResultsMapper;
 import com.linkedin.datahub.graphql.types.mappers.UrnSearchResultsMapper;
@@ -51,9 +52,15 @@ public class TagType implements com.linkedin.datahub.graphql.types.SearchableEnt
     private static final Set<String> FACET_FIELDS = Collections.emptySet();
 
     private final EntityClient _entityClient;
+    private final EntityResponseCache _entityResponseCache;
 
     public TagType(final EntityClient entityClient) {
+        this(entityClient, EntityResponseCache.DISABLED);
+    }
+
+    public TagType(final EntityClient entityClient, final EntityResponseCache entityResponseCache) {
         _entityClient = entityClient;
+        _entityResponseCache = entityResponseCache;
     }
 
     @Override
@@ -84,8 +91,8 @@ public class TagType implements com.linkedin.datahub.graphql.types.SearchableEnt
                 .collect(Collectors.toList());
 
         try {
-            final Map<Urn, EntityResponse> tagMap = _entityClient.batchGetV2(TAG_ENTITY_NAME, new HashSet<>(tagUrns),
-                null, context.getAuthentication());
+            final Map<Urn, EntityResponse> tagMap = _entityResponseCache.batchGetV2(_entityClient, TAG_ENTITY_NAME,
+                new HashSet<>(tagUrns), null, context.getAuthentication());
 
             final List<EntityResponse> gmsResults = new ArrayList<>();
             for (Urn urn : tagUrns) {
@@ -0,0 +1,56 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import com.linkedin.metadata.config.GraphQLBulkheadConfiguration;
+import com.linkedin.metadata.config.GraphQLConcurrencyConfiguration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class GraphQLExecutorsTest {
+
+  @AfterMethod
+  public void resetExecutors() {
+    GraphQLExecutors.configure(new GraphQLConcurrencyConfiguration());
+  }
+
+  @Test
+  public void testRunsOnBulkheadThreads() {
+    GraphQLExecutors.configure(new GraphQLConcurrencyConfiguration());
+
+    assertTrue(GraphQLBulkhead.SEARCH.supplyAsync(() -> Thread.currentThread().getName()).join()
+        .startsWith("graphql-search-"));
+    assertTrue(GraphQLBulkhead.LINEAGE.supplyAsync(() -> Thread.currentThread().getName()).join()
+        .startsWith("graphql-lineage-"));
+  }
+
+  @Test
+  public void testRejectsWhenSaturated() throws Exception {
+    final GraphQLConcurrencyConfiguration configuration = new GraphQLConcurrencyConfiguration();
+    configuration.setSearch(new GraphQLBulkheadConfiguration(1, 0));
+    GraphQLExecutors.configure(configuration);
+
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CompletableFuture<Void> blocking = GraphQLBulkhead.SEARCH.runAsync(() -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    started.await();
+
+    assertThrows(RejectedExecutionException.class, () -> GraphQLBulkhead.SEARCH.supplyAsync(() -> true));
+    // Other bulkheads are not held up by the saturated one
+    assertTrue(GraphQLBulkhead.GENERAL.supplyAsync(() -> true).join());
+
+    release.countDown();
+    blocking.join();
+  }
+}
@@ -0,0 +1,73 @@
+package com.linkedin.datahub.graphql.instrumentation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.metadata.config.GraphQLQueryCostConfiguration;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class QueryCostInstrumentationTest {
+
+  private static final String SCHEMA = "type Query { search(input: SearchInput!): SearchResults }\n"
+      + "input SearchInput { query: String!, count: Int }\n"
+      + "type SearchResults { total: Int, searchResults: [SearchResult!]! }\n"
+      + "type SearchResult { entity: Entity }\n"
+      + "type Entity { urn: String, relationships(count: Int): [Entity] }\n";
+
+  // search: 1 + 20 * (searchResults: 0 + 1 * (entity: 1 + 1 * (relationships: 1 + 5 * 0))) = 41
+  private static final String QUERY = "{ search(input: { query: \"*\", count: 20 }) { total searchResults "
+      + "{ entity { urn relationships(count: 5) { urn } } } } }";
+  private static final int QUERY_COST = 41;
+
+  @Test
+  public void testQueriesWithinBudgetExecute() {
+    final ExecutionResult result = graphQL(QUERY_COST, true).execute(QUERY);
+
+    assertTrue(result.getErrors().isEmpty());
+    assertNotNull(result.getData());
+  }
+
+  @Test
+  public void testRejectQueriesOverBudget() {
+    final ExecutionResult result = graphQL(QUERY_COST - 1, true).execute(QUERY);
+
+    assertEquals(result.getErrors().size(), 1);
+    assertNull(result.getData());
+  }
+
+  @Test
+  public void testReportQueriesOverBudget() {
+    final ExecutionResult result = graphQL(QUERY_COST - 1, false).execute(QUERY);
+
+    assertTrue(result.getErrors().isEmpty());
+    assertNotNull(result.getData());
+  }
+
+  private static GraphQL graphQL(int maxCost, boolean reject) {
+    final RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+        .type("Query", typeWiring -> typeWiring.dataFetcher("search",
+            env -> ImmutableMap.of("total", 1, "searchResults", ImmutableList.of(ImmutableMap.of()))))
+        .type("SearchResult", typeWiring -> typeWiring.dataFetcher("entity",
+            env -> ImmutableMap.of("urn", "urn:li:tag:test")))
+        .type("Entity", typeWiring -> typeWiring.dataFetcher("relationships", env -> ImmutableList.of()))
+        .build();
+    final GraphQLSchema schema =
+        new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SCHEMA), runtimeWiring);
+
+    final GraphQLQueryCostConfiguration configuration = new GraphQLQueryCostConfiguration();
+    configuration.setMaxCost(maxCost);
+    configuration.setDefaultListSize(10);
+    configuration.setReject(reject);
+    return GraphQL.newGraphQL(schema)
+        .instrumentation(new QueryCostInstrumentation(schema.getCodeRegistry(), configuration))
+        .build();
+  }
+}
@@ -0,0 +1,102 @@
+package com.linkedin.datahub.graphql.types;
+
+import com.datahub.authentication.Authentication;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.Map;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.testng.Assert.*;
+
+
+public class EntityResponseCacheTest {
+
+  private static final Urn TAG_URN = UrnUtils.getUrn("urn:li:tag:test");
+  private static final Urn OTHER_TAG_URN = UrnUtils.getUrn("urn:li:tag:other");
+  private static final Urn DATASET_URN =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)");
+
+  @Test
+  public void testFetchesOnlyMissingEntities() throws Exception {
+    final EntityClient entityClient = Mockito.mock(EntityClient.class);
+    final Authentication authentication = Mockito.mock(Authentication.class);
+    final EntityResponseCache cache = new EntityResponseCache(ImmutableList.of(TAG_ENTITY_NAME), 100, 60);
+    Mockito.when(entityClient.batchGetV2(Mockito.eq(TAG_ENTITY_NAME), Mockito.eq(ImmutableSet.of(TAG_URN)),
+        Mockito.isNull(), Mockito.any())).thenReturn(ImmutableMap.of(TAG_URN, response(TAG_URN)));
+    Mockito.when(entityClient.batchGetV2(Mockito.eq(TAG_ENTITY_NAME), Mockito.eq(ImmutableSet.of(OTHER_TAG_URN)),
+        Mockito.isNull(), Mockito.any())).thenReturn(ImmutableMap.of(OTHER_TAG_URN, response(OTHER_TAG_URN)));
+
+    cache.batchGetV2(entityClient, TAG_ENTITY_NAME, ImmutableSet.of(TAG_URN), null, authentication);
+    final Map<Urn, EntityResponse> responses = cache.batchGetV2(entityClient, TAG_ENTITY_NAME,
+        ImmutableSet.of(TAG_URN, OTHER_TAG_URN), null, authentication);
+
+    assertEquals(responses.get(TAG_URN), response(TAG_URN));
+    assertEquals(responses.get(OTHER_TAG_URN), response(OTHER_TAG_URN));
+    Mockito.verify(entityClient, Mockito.times(1)).batchGetV2(Mockito.eq(TAG_ENTITY_NAME),
+        Mockito.eq(ImmutableSet.of(TAG_URN)), Mockito.isNull(), Mockito.any());
+    Mockito.verify(entityClient, Mockito.times(1)).batchGetV2(Mockito.eq(TAG_ENTITY_NAME),
+        Mockito.eq(ImmutableSet.of(OTHER_TAG_URN)), Mockito.isNull(), Mockito.any());
+
+    // Other aspects of the same entity are cached separately
+    cache.batchGetV2(entityClient, TAG_ENTITY_NAME, ImmutableSet.of(TAG_URN),
+        ImmutableSet.of(TAG_PROPERTIES_ASPECT_NAME), authentication);
+    Mockito.verify(entityClient, Mockito.times(1)).batchGetV2(Mockito.eq(TAG_ENTITY_NAME),
+        Mockito.eq(ImmutableSet.of(TAG_URN)), Mockito.eq(ImmutableSet.of(TAG_PROPERTIES_ASPECT_NAME)),
+        Mockito.any());
+  }
+
+  @Test
+  public void testInvalidate() throws Exception {
+    final EntityClient entityClient = Mockito.mock(EntityClient.class);
+    final Authentication authentication = Mockito.mock(Authentication.class);
+    final EntityResponseCache cache = new EntityResponseCache(ImmutableList.of(TAG_ENTITY_NAME), 100, 60);
+    Mockito.when(entityClient.batchGetV2(Mockito.eq(TAG_ENTITY_NAME), Mockito.eq(ImmutableSet.of(TAG_URN)),
+        Mockito.isNull(), Mockito.any())).thenReturn(ImmutableMap.of(TAG_URN, response(TAG_URN)));
+
+    cache.batchGetV2(entityClient, TAG_ENTITY_NAME, ImmutableSet.of(TAG_URN), null, authentication);
+    cache.invalidate(TAG_ENTITY_NAME, TAG_URN);
+    cache.batchGetV2(entityClient, TAG_ENTITY_NAME, ImmutableSet.of(TAG_URN), null, authentication);
+    // Any change to an aspect of the entity evicts it
+    cache.invalidate(new MetadataChangeLog()
+        .setEntityType(TAG_ENTITY_NAME)
+        .setEntityUrn(TAG_URN)
+        .setAspectName(TAG_PROPERTIES_ASPECT_NAME)
+        .setChangeType(ChangeType.UPSERT));
+    cache.batchGetV2(entityClient, TAG_ENTITY_NAME, ImmutableSet.of(TAG_URN), null, authentication);
+
+    Mockito.verify(entityClient, Mockito.times(3)).batchGetV2(Mockito.eq(TAG_ENTITY_NAME),
+        Mockito.eq(ImmutableSet.of(TAG_URN)), Mockito.isNull(), Mockito.any());
+  }
+
+  @Test
+  public void testSkipsOtherEntityTypes() throws Exception {
+    final EntityClient entityClient = Mockito.mock(EntityClient.class);
+    final Authentication authentication = Mockito.mock(Authentication.class);
+    final EntityResponseCache cache = new EntityResponseCache(ImmutableList.of(TAG_ENTITY_NAME), 100, 60);
+    Mockito.when(entityClient.batchGetV2(Mockito.eq(DATASET_ENTITY_NAME), Mockito.eq(ImmutableSet.of(DATASET_URN)),
+        Mockito.isNull(), Mockito.any())).thenReturn(ImmutableMap.of(DATASET_URN, response(DATASET_URN)));
+
+    cache.batchGetV2(entityClient, DATASET_ENTITY_NAME, ImmutableSet.of(DATASET_URN), null, authentication);
+    cache.batchGetV2(entityClient, DATASET_ENTITY_NAME, ImmutableSet.of(DATASET_URN), null, authentication);
+
+    Mockito.verify(entityClient, Mockito.times(2)).batchGetV2(Mockito.eq(DATASET_ENTITY_NAME),
+        Mockito.eq(ImmutableSet.of(DATASET_URN)), Mockito.isNull(), Mockito.any());
+  }
+
+  private static EntityResponse response(Urn urn) {
+    return new EntityResponse()
+        .setEntityName(urn.getEntityType())
+        .setUrn(urn)
+        .setAspects(new EnvelopedAspectMap());
+  }
+}
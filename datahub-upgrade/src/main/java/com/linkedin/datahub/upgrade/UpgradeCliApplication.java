@@ -1,5 +1,6 @@
 package com.linkedin.datahub.upgrade;
 
+import com.linkedin.gms.factory.common.CacheInvalidationListener;
 import com.linkedin.gms.factory.telemetry.ScheduledAnalyticsFactory;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -16,7 +17,10 @@ import org.springframework.context.annotation.FilterType;
         "com.linkedin.datahub.upgrade.config",
         "com.linkedin.metadata.dao.producer"
 }, excludeFilters = {
-    @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ScheduledAnalyticsFactory.class)
+    @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+        ScheduledAnalyticsFactory.class,
+        CacheInvalidationListener.class
+    })
 })
 public class UpgradeCliApplication {
   public static void main(String[] args) {
@@ -1,5 +1,11 @@
 package com.linkedin.datahub.upgrade.restoreindices;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringMap;
 import com.linkedin.datahub.upgrade.UpgradeContext;
 import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.UpgradeStepResult;
@@ -8,10 +14,14 @@ import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
+import com.linkedin.metadata.key.DataHubUpgradeKey;
 import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.upgrade.DataHubUpgradeResult;
 import io.ebean.EbeanServer;
 import io.ebean.ExpressionList;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -21,9 +31,10 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
-import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+import static com.linkedin.metadata.Constants.*;
 
 
 public class SendMAEStep implements UpgradeStep {
@@ -31,6 +42,10 @@ public class SendMAEStep implements UpgradeStep {
   private static final int DEFAULT_BATCH_SIZE = 1000;
   private static final long DEFAULT_BATCH_DELAY_MS = 250;
   private static final int DEFAULT_THREADS = 1;
+  private static final long CHECKPOINT_INTERVAL_MS = 60 * 1000;
+  private static final String CHECKPOINT_ID = "restore-indices-checkpoint";
+  private static final String LAST_URN_KEY = "lastUrn";
+  private static final String LAST_ASPECT_KEY = "lastAspect";
 
   private final EbeanServer _server;
   private final EntityService _entityService;
@@ -117,6 +132,9 @@ public class SendMAEStep implements UpgradeStep {
     return (context) -> {
       RestoreIndicesResult finalJobResult = new RestoreIndicesResult();
       RestoreIndicesArgs args = getArgs(context);
+      if (context.parsedArgs().containsKey(RestoreIndices.STREAMING_ARG_NAME)) {
+        return streamMAEs(context, args);
+      }
       ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(args.numThreads);
 
       context.report().addLine("Sending MAE from local DB");
@@ -154,6 +172,79 @@ public class SendMAEStep implements UpgradeStep {
     };
   }
 
+  /**
+   * Sends MAEs through {@link EntityService#streamRestoreIndices}, checkpointing its progress to a dataHubUpgrade entity
+   * at most once every {@link #CHECKPOINT_INTERVAL_MS}. With the resume arg, starts from the last checkpoint of a
+   * restore with the same filter args.
+   */
+  private UpgradeStepResult streamMAEs(UpgradeContext context, RestoreIndicesArgs args) {
+    final Urn checkpointUrn = getCheckpointUrn(args);
+    if (context.parsedArgs().containsKey(RestoreIndices.RESUME_ARG_NAME)) {
+      final StringMap checkpoint = readCheckpoint(checkpointUrn);
+      if (checkpoint != null && checkpoint.containsKey(LAST_URN_KEY)) {
+        args.setCursor(checkpoint.get(LAST_URN_KEY), checkpoint.get(LAST_ASPECT_KEY));
+        context.report().addLine(String.format("Resuming after urn %s, aspect %s", args.lastUrn, args.lastAspect));
+      }
+    }
+
+    context.report().addLine("Streaming MAE from local DB");
+    long startTime = System.currentTimeMillis();
+    final int rowCount = getRowCount(args);
+    context.report().addLine(String.format("Found %s latest aspects in aspects table in %.2f minutes.",
+            rowCount, (float) (System.currentTimeMillis() - startTime) / 1000 / 60));
+
+    final AtomicLong lastCheckpointMs = new AtomicLong(System.currentTimeMillis());
+    startTime = System.currentTimeMillis();
+    final RestoreIndicesResult result;
+    try {
+      result = _entityService.streamRestoreIndices(args, context.report()::addLine, checkpoint -> {
+        if (System.currentTimeMillis() - lastCheckpointMs.get() >= CHECKPOINT_INTERVAL_MS) {
+          writeCheckpoint(checkpointUrn, new StringMap(ImmutableMap.of(LAST_URN_KEY, checkpoint.lastUrn,
+              LAST_ASPECT_KEY, checkpoint.lastAspect)));
+          lastCheckpointMs.set(System.currentTimeMillis());
+          context.report().addLine(String.format("Checkpointed after urn %s, aspect %s", checkpoint.lastUrn,
+              checkpoint.lastAspect));
+          return true;
+        }
+        return false;
+      });
+    } catch (Exception e) {
+      context.report().addLine(String.format("Failed to stream MAEs: %s", e));
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+    }
+    // Clear the cursor, so the next resumed restore starts from the beginning
+    writeCheckpoint(checkpointUrn, new StringMap());
+    reportStats(context, new RestoreIndicesResult(), result, rowCount, startTime);
+    return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+  }
+
+  /**
+   * Returns the urn holding the checkpoint of restores with the given filter args, so that restores of different
+   * subsets of the aspects table do not resume from each other's progress.
+   */
+  private static Urn getCheckpointUrn(RestoreIndicesArgs args) {
+    String id = CHECKPOINT_ID;
+    if (args.aspectName != null || args.urn != null || args.urnLike != null) {
+      final String filter = String.join("\n", String.valueOf(args.aspectName), String.valueOf(args.urn),
+          String.valueOf(args.urnLike));
+      id = id + "-" + Hashing.sha256().hashString(filter, StandardCharsets.UTF_8);
+    }
+    return EntityKeyUtils.convertEntityKeyToUrn(new DataHubUpgradeKey().setId(id), DATA_HUB_UPGRADE_ENTITY_NAME);
+  }
+
+  private StringMap readCheckpoint(Urn checkpointUrn) {
+    final DataHubUpgradeResult checkpoint =
+        (DataHubUpgradeResult) _entityService.getLatestAspect(checkpointUrn, DATA_HUB_UPGRADE_RESULT_ASPECT_NAME);
+    return checkpoint != null ? checkpoint.getResult() : null;
+  }
+
+  private void writeCheckpoint(Urn checkpointUrn, StringMap checkpoint) {
+    final AuditStamp auditStamp =
+        new AuditStamp().setActor(UrnUtils.getUrn(SYSTEM_ACTOR)).setTime(System.currentTimeMillis());
+    _entityService.ingestAspect(checkpointUrn, DATA_HUB_UPGRADE_RESULT_ASPECT_NAME,
+        new DataHubUpgradeResult().setTimestampMs(System.currentTimeMillis()).setResult(checkpoint), auditStamp, null);
+  }
+
   private static void reportStats(UpgradeContext context, RestoreIndicesResult finalResult, RestoreIndicesResult tmpResult,
                                   int rowCount, long startTime) {
     finalResult.ignored += tmpResult.ignored;
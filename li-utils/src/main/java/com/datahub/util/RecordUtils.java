@@ -86,14 +86,22 @@ public class RecordUtils {
    */
   @Nonnull
   public static <T extends RecordTemplate> T toRecordTemplate(@Nonnull Class<T> type, @Nonnull String jsonString) {
-    DataMap dataMap;
+    return toRecordTemplate(type, toDataMap(jsonString));
+  }
+
+  /**
+   * Creates a {@link DataMap} from a serialized JSON string.
+   *
+   * @param jsonString a JSON string serialized using {@link JacksonDataTemplateCodec}
+   * @return the created {@link DataMap}
+   */
+  @Nonnull
+  public static DataMap toDataMap(@Nonnull String jsonString) {
     try {
-      dataMap = DATA_TEMPLATE_CODEC.stringToMap(jsonString);
+      return DATA_TEMPLATE_CODEC.stringToMap(jsonString);
     } catch (IOException e) {
       throw new ModelConversionException("Failed to deserialize DataMap: " + jsonString);
     }
-
-    return toRecordTemplate(type, dataMap);
   }
 
   /**
@@ -23,7 +23,8 @@ public final class DataPlatformUrn extends Urn {
   }
 
   public static DataPlatformUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    // Pool the typed urn rather than the intermediate untyped one
+    return UrnInterner.DEFAULT.intern(rawUrn, DataPlatformUrn.class, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static DataPlatformUrn createFromUrn(Urn urn) throws URISyntaxException {
@@ -35,7 +35,8 @@ public final class DatasetUrn extends Urn {
   }
 
   public static DatasetUrn createFromString(String rawUrn) throws URISyntaxException {
-    return createFromUrn(Urn.createFromString(rawUrn));
+    // Pool the typed urn rather than the intermediate untyped one
+    return UrnInterner.DEFAULT.intern(rawUrn, DatasetUrn.class, raw -> createFromUrn(new Urn(raw)));
   }
 
   public static DatasetUrn createFromUrn(Urn urn) throws URISyntaxException {
@@ -19,7 +19,10 @@ public class TupleKey {
   public static final char END_TUPLE = ')';
   public static final char DELIMITER = ',';
 
-  private List<String> _tuple;
+  private final List<String> _tuple;
+
+  // Lazily computed, like String.hashCode()
+  private int _hashCode;
 
   public TupleKey(String... tuple) {
     _tuple = Arrays.asList(checkStringsNotNull(tuple));
@@ -206,7 +209,12 @@ public class TupleKey {
 
   @Override
   public int hashCode() {
-    return _tuple.hashCode();
+    int hashCode = _hashCode;
+    if (hashCode == 0) {
+      hashCode = _tuple.hashCode();
+      _hashCode = hashCode;
+    }
+    return hashCode;
   }
 
   @Override
@@ -312,7 +320,100 @@ public class TupleKey {
     return Collections.unmodifiableList(parts);
   }
 
-  private static boolean hasBalancedParens(String input, int startIndex) {
+  /**
+   * Validate the tuple key of a string starting at the given index, without allocating any of its parts.
+   * Accepts and rejects exactly the same inputs as {@link #fromString(String, int)}.
+   * @param input raw urn string or urn type specific string.
+   * @param startIndex index where urn type specific string starts.
+   * @return number of parts in the tuple key.
+   * @throws URISyntaxException if type specific string format is invalid.
+   */
+  static int validateKeyParts(CharSequence input, int startIndex) throws URISyntaxException {
+    if (startIndex >= input.length()) {
+      return 0;
+    }
+
+    if (input.charAt(startIndex) != START_TUPLE) {
+      if (!hasBalancedParens(input, startIndex)) {
+        throw new URISyntaxException(input.toString(), "mismatched paren nesting");
+      }
+      return 1;
+    }
+
+    int numParts = 0;
+    int numStartedParenPairs = 1;
+    int partStart = startIndex + 1;
+    for (int i = startIndex + 1; i < input.length(); i++) {
+      char c = input.charAt(i);
+      if (c == START_TUPLE) {
+        numStartedParenPairs++;
+      } else if (c == END_TUPLE) {
+        numStartedParenPairs--;
+        if (numStartedParenPairs < 0) {
+          throw new URISyntaxException(input.toString(), "mismatched paren nesting");
+        }
+      } else if (c == DELIMITER && numStartedParenPairs == 1) {
+        if (i - partStart <= 0) {
+          throw new URISyntaxException(input.toString(), "empty part disallowed");
+        }
+        numParts++;
+        partStart = i + 1;
+      }
+    }
+
+    if (numStartedParenPairs != 0) {
+      throw new URISyntaxException(input.toString(), "mismatched paren nesting");
+    }
+
+    int lastPartEnd = input.charAt(input.length() - 1) == END_TUPLE ? input.length() - 1 : input.length();
+    if (lastPartEnd - partStart <= 0) {
+      throw new URISyntaxException(input.toString(), "empty part disallowed");
+    }
+    return numParts + 1;
+  }
+
+  /**
+   * Compute the hash code of the tuple key of a string starting at the given index, without allocating any of its
+   * parts. The result is equal to the {@link #hashCode()} of {@link #fromString(String, int)} for the same input.
+   * The input must already have been validated with {@link #validateKeyParts(CharSequence, int)}.
+   */
+  static int hashKeyParts(CharSequence input, int startIndex) {
+    // Same as List.hashCode() over the parts returned by parseKeyParts
+    if (startIndex >= input.length()) {
+      return 1;
+    }
+    if (input.charAt(startIndex) != START_TUPLE) {
+      return 31 + hashRange(input, startIndex, input.length());
+    }
+
+    int hashCode = 1;
+    int numStartedParenPairs = 1;
+    int partStart = startIndex + 1;
+    for (int i = startIndex + 1; i < input.length(); i++) {
+      char c = input.charAt(i);
+      if (c == START_TUPLE) {
+        numStartedParenPairs++;
+      } else if (c == END_TUPLE) {
+        numStartedParenPairs--;
+      } else if (c == DELIMITER && numStartedParenPairs == 1) {
+        hashCode = 31 * hashCode + hashRange(input, partStart, i);
+        partStart = i + 1;
+      }
+    }
+    int lastPartEnd = input.charAt(input.length() - 1) == END_TUPLE ? input.length() - 1 : input.length();
+    return 31 * hashCode + hashRange(input, partStart, lastPartEnd);
+  }
+
+  // Same as input.subSequence(start, end).toString().hashCode()
+  private static int hashRange(CharSequence input, int start, int end) {
+    int hashCode = 0;
+    for (int i = start; i < end; i++) {
+      hashCode = 31 * hashCode + input.charAt(i);
+    }
+    return hashCode;
+  }
+
+  private static boolean hasBalancedParens(CharSequence input, int startIndex) {
     int numStartedParenPairs = 0;
     for (int i = startIndex; i < input.length(); i++) {
       char c = input.charAt(i);
@@ -27,6 +27,10 @@ import javax.annotation.Nullable;
  * encoded as:
  *
  * <p>urn:li:example:(1,2,3)
+ *
+ * <p>When a Urn is parsed from a String, its entity key is only validated up front. The key parts are split out of the
+ * String the first time they are accessed, and {@link #hashCode()} and {@link #equals(Object)} avoid splitting them
+ * where possible. See {@link UrnInterner} to share parsed instances of frequently parsed urns.
  */
 public class Urn {
   /**
@@ -41,9 +45,19 @@ public class Urn {
   private static final String DEFAULT_NAMESPACE = "li";
 
   private final String _entityType;
-  private final TupleKey _entityKey;
   private final String _namespace;
 
+  // For Urns parsed from a String, the raw String and the index at which their entity key starts. The entity key is
+  // parsed out of it on first access.
+  @Nullable
+  private final String _rawUrn;
+  private final int _entityKeyIndex;
+  @Nullable
+  private TupleKey _entityKey;
+
+  // Lazily computed, like String.hashCode()
+  private int _cachedHashCode;
+
   // Used to speed up toString() in the common case where the Urn is built up
   // from parsing an input string.
   @Nullable
@@ -75,6 +89,7 @@ public class Urn {
   public Urn(String rawUrn) throws URISyntaxException {
     ArgumentUtil.notNull(rawUrn, "rawUrn");
     _cachedStringUrn = rawUrn;
+    _rawUrn = rawUrn;
 
     if (!rawUrn.startsWith(URN_START)) {
       throw new URISyntaxException(
@@ -104,6 +119,7 @@ public class Urn {
             rawUrn,
             "entityType must have only [a-zA-Z0-9] chars. Urn: " + rawUrn);
       }
+      _entityKeyIndex = rawUrn.length();
       _entityKey = new TupleKey();
       return;
     }
@@ -123,13 +139,15 @@ public class Urn {
     }
 
     _entityType = internEntityType(entityType);
-    _entityKey = TupleKey.fromString(rawUrn, thirdColonIndex + 1);
+    _entityKeyIndex = thirdColonIndex + 1;
+    int numKeyParts = TupleKey.validateKeyParts(rawUrn, _entityKeyIndex);
 
     // For the sake of backwards compatibility, we must ensure that
     //   new Urn("urn:li:y:(urn:li:z:1)").toString() == "urn:li:y:urn:li:z:1"
     // Thus, if we detect a TupleKey with 1 part AND we had a paren in the
     // input, we abort our optimization of storing the original URN.
-    if (_entityKey.size() == 1 && rawUrn.charAt(thirdColonIndex + 1) == '(') {
+    if (numKeyParts == 1 && rawUrn.charAt(_entityKeyIndex) == '(') {
+      _entityKey = TupleKey.fromString(rawUrn, _entityKeyIndex);
       _cachedStringUrn = null;
     }
   }
@@ -153,6 +171,8 @@ public class Urn {
   public Urn(String namespace, String entityType, TupleKey entityKey) {
     _namespace = namespace;
     _entityType = entityType;
+    _rawUrn = null;
+    _entityKeyIndex = -1;
     _entityKey = entityKey;
     _cachedStringUrn = null;
   }
@@ -228,7 +248,8 @@ public class Urn {
    * @throws URISyntaxException - if the String is not a valid Urn.
    */
   public static Urn createFromString(String rawUrn) throws URISyntaxException {
-    return new Urn(rawUrn);
+    ArgumentUtil.notNull(rawUrn, "rawUrn");
+    return UrnInterner.DEFAULT.intern(rawUrn, Urn.class, Urn::new);
   }
 
   /**
@@ -238,7 +259,7 @@ public class Urn {
    */
   public static Urn createFromCharSequence(CharSequence rawUrn) throws URISyntaxException {
     ArgumentUtil.notNull(rawUrn, "rawUrn");
-    return new Urn(rawUrn.toString());
+    return UrnInterner.DEFAULT.intern(rawUrn, Urn.class, Urn::new);
   }
 
   /**
@@ -263,7 +284,18 @@ public class Urn {
   }
 
   public TupleKey getEntityKey() {
-    return _entityKey;
+    TupleKey entityKey = _entityKey;
+    if (entityKey == null) {
+      // Same benign race as in toString(): TupleKey is immutable and all threads
+      // parse the same logical key, so whichever write wins doesn't matter.
+      try {
+        entityKey = TupleKey.fromString(_rawUrn, _entityKeyIndex);
+      } catch (URISyntaxException e) {
+        throw new IllegalStateException("Entity key was validated on construction. Urn: " + _rawUrn, e);
+      }
+      _entityKey = entityKey;
+    }
+    return entityKey;
   }
 
   /**
@@ -272,7 +304,7 @@ public class Urn {
    * @return key's first tuple element
    */
   public String getId() {
-    return _entityKey.getAs(0, String.class);
+    return getEntityKey().getAs(0, String.class);
   }
 
   /**
@@ -281,7 +313,7 @@ public class Urn {
    * @return key's first tuple element, coerced to Integer
    */
   public Integer getIdAsInt() {
-    return _entityKey.getAs(0, Integer.class);
+    return getEntityKey().getAs(0, Integer.class);
   }
 
   /**
@@ -290,11 +322,11 @@ public class Urn {
    * @return key's first tuple element, coerced to Long
    */
   public Long getIdAsLong() {
-    return _entityKey.getAs(0, Long.class);
+    return getEntityKey().getAs(0, Long.class);
   }
 
   public Urn getIdAsUrn() {
-    return _entityKey.getAs(0, Urn.class);
+    return getEntityKey().getAs(0, Urn.class);
   }
 
   /**
@@ -304,7 +336,8 @@ public class Urn {
    * @return The namespace-specific string portion of this URN
    */
   public String getNSS() {
-    return _entityType + (_entityKey.size() > 0 ? ':' + _entityKey.toString() : "");
+    TupleKey entityKey = getEntityKey();
+    return _entityType + (entityKey.size() > 0 ? ':' + entityKey.toString() : "");
   }
 
   @Override
@@ -327,20 +360,37 @@ public class Urn {
 
   @Override
   public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
     if (obj == null || !Urn.class.isAssignableFrom(obj.getClass())) {
       return false;
     }
     Urn other = (Urn) obj;
+    // Both checks below are cheap and avoid parsing the entity keys in the common cases
+    if (hashCode() != other.hashCode()) {
+      return false;
+    }
+    if (_rawUrn != null && _rawUrn.equals(other._rawUrn)) {
+      return true;
+    }
     return _entityType.equals(other._entityType)
-        && _entityKey.equals(other._entityKey)
+        && getEntityKey().equals(other.getEntityKey())
         && _namespace.equals(other._namespace);
   }
 
   @Override
   public int hashCode() {
-    final int prime = 31;
-    int result = _entityType.hashCode();
-    result = prime * result + _entityKey.hashCode();
+    int result = _cachedHashCode;
+    if (result == 0) {
+      final int prime = 31;
+      // Hashing the raw key gives the same result as hashing the parsed TupleKey
+      TupleKey entityKey = _entityKey;
+      result = _entityType.hashCode();
+      result = prime * result
+          + (entityKey != null ? entityKey.hashCode() : TupleKey.hashKeyParts(_rawUrn, _entityKeyIndex));
+      _cachedHashCode = result;
+    }
     return result;
   }
 
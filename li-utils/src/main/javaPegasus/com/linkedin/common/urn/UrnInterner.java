@@ -0,0 +1,101 @@
+package com.linkedin.common.urn;
+
+import java.net.URISyntaxException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Bounded pool of parsed Urns, so that parsing the same urn string again returns the already parsed instance instead of
+ * parsing and allocating a new one. Since Urns are immutable, instances can safely be shared between callers.
+ *
+ * The pool is a fixed-size, direct-mapped table: every urn string maps to a single slot, and a newly parsed urn simply
+ * replaces whatever was in its slot. This keeps lookups lock-free and allocation-free, at the cost of hit rate when
+ * many hot urns map to the same slot.
+ *
+ * The pool used by {@link Urn#createFromString(String)} and the typed urns' createFromString methods is disabled by
+ * default, and is enabled by setting the URN_INTERN_POOL_SIZE environment variable to the number of slots.
+ */
+public final class UrnInterner {
+
+  public static final String POOL_SIZE_ENV_VAR = "URN_INTERN_POOL_SIZE";
+
+  public static final UrnInterner DEFAULT = new UrnInterner(
+      Integer.parseInt(Optional.ofNullable(System.getenv(POOL_SIZE_ENV_VAR)).orElse("0")));
+
+  /**
+   * Parses a raw urn string into an Urn of a given type.
+   */
+  @FunctionalInterface
+  public interface UrnParser<T extends Urn> {
+    T parse(String rawUrn) throws URISyntaxException;
+  }
+
+  @Nullable
+  private final AtomicReferenceArray<Urn> _slots;
+  private final int _mask;
+
+  /**
+   * @param capacity number of slots, rounded up to a power of two. Disables the pool if not positive.
+   */
+  public UrnInterner(int capacity) {
+    if (capacity <= 0) {
+      _slots = null;
+      _mask = 0;
+      return;
+    }
+    int size = 1;
+    while (size < capacity && size < (1 << 30)) {
+      size <<= 1;
+    }
+    _slots = new AtomicReferenceArray<>(size);
+    _mask = size - 1;
+  }
+
+  /**
+   * Returns the pooled urn of the given type for a raw urn string, parsing and pooling it on a miss.
+   *
+   * @param rawUrn the String representation of a Urn. On a hit, it is not copied into a new String.
+   * @param type the exact class of the Urns returned by the parser.
+   * @param parser parser to use on a miss.
+   * @throws URISyntaxException if the parser rejects the urn.
+   */
+  @Nonnull
+  public <T extends Urn> T intern(@Nonnull CharSequence rawUrn, @Nonnull Class<T> type, @Nonnull UrnParser<T> parser)
+      throws URISyntaxException {
+    if (_slots == null) {
+      return parser.parse(rawUrn.toString());
+    }
+
+    final int slot = slot(rawUrn, type);
+    final Urn pooled = _slots.get(slot);
+    if (pooled != null && pooled.getClass() == type && pooled.toString().contentEquals(rawUrn)) {
+      return type.cast(pooled);
+    }
+
+    final T parsed = parser.parse(rawUrn.toString());
+    // Only pool urns which serialize back to the same string, so that the check above can find them again
+    if (parsed.getClass() == type && parsed.toString().contentEquals(rawUrn)) {
+      _slots.set(slot, parsed);
+    }
+    return parsed;
+  }
+
+  private int slot(@Nonnull CharSequence rawUrn, @Nonnull Class<?> type) {
+    // Strings cache their hash code, so only hash other CharSequences by hand
+    int hashCode;
+    if (rawUrn instanceof String) {
+      hashCode = rawUrn.hashCode();
+    } else {
+      hashCode = 0;
+      for (int i = 0; i < rawUrn.length(); i++) {
+        hashCode = 31 * hashCode + rawUrn.charAt(i);
+      }
+    }
+    // Keep different types of the same urn in different slots, and spread the bits like HashMap does
+    hashCode = 31 * hashCode + type.getName().hashCode();
+    return (hashCode ^ (hashCode >>> 16)) & _mask;
+  }
+}
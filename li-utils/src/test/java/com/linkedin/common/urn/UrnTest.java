@@ -0,0 +1,82 @@
+package com.linkedin.common.urn;
+
+import com.linkedin.common.FabricType;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.Test;
+
+
+public class UrnTest {
+
+  private static final String DATASET_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,db.table,PROD)";
+
+  @Test
+  public void testLazyKeyMatchesParsedKey() throws URISyntaxException {
+    final String[] rawUrns = new String[]{
+        "urn:li:corpuser:foo",
+        "urn:li:corpuser",
+        DATASET_URN,
+        "urn:li:schemaField:(" + DATASET_URN + ",[version=2.0].[type=struct].a)",
+        "urn:li:dataJob:(urn:li:dataFlow:(airflow,flow,prod),job)",
+        "urn:li:y:(urn:li:z:1)",
+        "urn:li:y:(a,b)c"
+    };
+    for (String rawUrn : rawUrns) {
+      final Urn urn = Urn.createFromString(rawUrn);
+      final Urn parsed = new Urn("li", urn.getEntityType(),
+          rawUrn.indexOf(':', 7) == -1 ? new TupleKey() : TupleKey.fromString(rawUrn, rawUrn.indexOf(':', 7) + 1));
+
+      // Hash and equality computed from the raw string must agree with the parsed key
+      Assertions.assertThat(urn.hashCode()).isEqualTo(parsed.hashCode()).describedAs(rawUrn);
+      Assertions.assertThat(urn).isEqualTo(parsed);
+      Assertions.assertThat(parsed).isEqualTo(urn);
+      Assertions.assertThat(urn.getEntityKey()).isEqualTo(parsed.getEntityKey());
+      Assertions.assertThat(urn.getEntityKey().hashCode()).isEqualTo(parsed.getEntityKey().hashCode());
+    }
+  }
+
+  @Test
+  public void testEqualsWithTypedUrns() throws URISyntaxException {
+    final DatasetUrn datasetUrn = new DatasetUrn(new DataPlatformUrn("hive"), "db.table", FabricType.PROD);
+    final Urn urn = Urn.createFromString(DATASET_URN);
+
+    Assertions.assertThat(urn).isEqualTo(datasetUrn);
+    Assertions.assertThat(datasetUrn).isEqualTo(urn);
+    Assertions.assertThat(urn.hashCode()).isEqualTo(datasetUrn.hashCode());
+    Assertions.assertThat(urn)
+        .isNotEqualTo(Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hive,db.other,PROD)"));
+    Assertions.assertThat(urn.getEntityKey().getParts())
+        .isEqualTo(Arrays.asList("urn:li:dataPlatform:hive", "db.table", "PROD"));
+  }
+
+  @Test
+  public void testInvalidUrnsFailOnConstruction() {
+    for (String rawUrn : new String[]{"urn:li:corpuser:(foo", "urn:li:corpuser:foo)", "urn:li:dataset:(a,,b)",
+        "urn:li:dataset:(a,b,)", "urn:li:dataset:()"}) {
+      Assertions.assertThatThrownBy(() -> Urn.createFromString(rawUrn))
+          .isInstanceOf(URISyntaxException.class)
+          .describedAs(rawUrn);
+    }
+  }
+
+  @Test
+  public void testInterner() throws URISyntaxException {
+    final UrnInterner interner = new UrnInterner(16);
+
+    final Urn first = interner.intern(DATASET_URN, Urn.class, Urn::new);
+    Assertions.assertThat(interner.intern(new StringBuilder(DATASET_URN), Urn.class, Urn::new)).isSameAs(first);
+
+    // Typed urns of the same string are pooled separately
+    final DatasetUrn typed =
+        interner.intern(DATASET_URN, DatasetUrn.class, raw -> DatasetUrn.createFromUrn(new Urn(raw)));
+    Assertions.assertThat(typed).isNotSameAs(first).isEqualTo(first);
+    Assertions.assertThat(interner.intern(DATASET_URN, DatasetUrn.class, raw -> {
+      throw new AssertionError("Should have been pooled");
+    })).isSameAs(typed);
+
+    final UrnInterner disabled = new UrnInterner(0);
+    Assertions.assertThat(disabled.intern(DATASET_URN, Urn.class, Urn::new))
+        .isNotSameAs(disabled.intern(DATASET_URN, Urn.class, Urn::new));
+  }
+}
@@ -116,6 +116,11 @@ public class KafkaEventProducer implements EventProducer {
             _kafkaHealthChecker.getKafkaCallBack("MCL", urn.toString()));
   }
 
+  @Override
+  public void flush() {
+    _producer.flush();
+  }
+
   @Override
   @WithSpan
   public void produceMetadataChangeProposal(@Nonnull final Urn urn, @Nonnull final MetadataChangeProposal
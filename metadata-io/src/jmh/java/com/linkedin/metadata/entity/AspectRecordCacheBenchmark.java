@@ -0,0 +1,82 @@
+package com.linkedin.metadata.entity;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.schema.MySqlDDL;
+import com.linkedin.schema.SchemaField;
+import com.linkedin.schema.SchemaFieldArray;
+import com.linkedin.schema.SchemaFieldDataType;
+import com.linkedin.schema.SchemaMetadata;
+import com.linkedin.schema.StringType;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Compares reading a wide schemaMetadata aspect with and without an {@link AspectRecordCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AspectRecordCacheBenchmark {
+
+  private static final EntityRegistry ENTITY_REGISTRY =
+      new ConfigEntityRegistry(Snapshot.class.getClassLoader().getResourceAsStream("entity-registry.yml"));
+
+  @Param({"100", "1000", "5000"})
+  private int numFields;
+
+  private Urn _urn;
+  private EntityAspect _aspect;
+  private AspectRecordCache _warmCache;
+
+  @Setup
+  public void setup() {
+    final DatasetUrn datasetUrn = new DatasetUrn(new DataPlatformUrn("hive"), "benchmark", FabricType.PROD);
+    final SchemaFieldArray fields = new SchemaFieldArray();
+    for (int i = 0; i < numFields; i++) {
+      fields.add(new SchemaField()
+          .setFieldPath("struct.field_" + i)
+          .setDescription("Description of field " + i)
+          .setType(new SchemaFieldDataType().setType(SchemaFieldDataType.Type.create(new StringType())))
+          .setNativeDataType("string"));
+    }
+    final SchemaMetadata schemaMetadata = new SchemaMetadata().setSchemaName("benchmark")
+        .setPlatformSchema(SchemaMetadata.PlatformSchema.create(new MySqlDDL().setTableSchema("")))
+        .setPlatform(new DataPlatformUrn("hive"))
+        .setHash("")
+        .setVersion(0L)
+        .setFields(fields);
+
+    _urn = datasetUrn;
+    _aspect = new EntityAspect(datasetUrn.toString(), "schemaMetadata", 0, RecordUtils.toJsonString(schemaMetadata),
+        null, new Timestamp(0), "urn:li:corpuser:benchmark", null);
+    _warmCache = new AspectRecordCache(1024 * 1024 * 1024);
+    EntityUtils.toAspectRecord(_urn, _aspect, ENTITY_REGISTRY, _warmCache);
+  }
+
+  @Benchmark
+  public RecordTemplate cold() {
+    return EntityUtils.toAspectRecord(_urn, _aspect, ENTITY_REGISTRY, AspectRecordCache.DISABLED);
+  }
+
+  @Benchmark
+  public RecordTemplate warm() {
+    return EntityUtils.toAspectRecord(_urn, _aspect, ENTITY_REGISTRY, _warmCache);
+  }
+}
@@ -14,6 +14,7 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.entity.Entity;
 import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.client.BatchIngestProposalsException;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.entity.client.RestliEntityClient;
 import com.linkedin.metadata.Constants;
@@ -47,6 +48,8 @@ import com.linkedin.r2.RemoteInvocationException;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -399,6 +402,14 @@ public class JavaEntityClient implements EntityClient {
         return _entityService.listUrns(entityName, start, count);
     }
 
+    /**
+     * List the urns existing for a particular Entity type, starting right after the last urn of the previous page.
+     */
+    public ListUrnsResult listUrns(@Nonnull final String entityName, @Nullable final Urn afterUrn, final int count,
+        @Nonnull final Authentication authentication) throws RemoteInvocationException {
+        return _entityService.listUrns(entityName, afterUrn == null ? null : afterUrn.toString(), count);
+    }
+
     /**
      * Hard delete an entity with a particular urn.
      */
@@ -486,6 +497,39 @@ public class JavaEntityClient implements EntityClient {
         return urn.toString();
     }
 
+    @Override
+    public List<String> batchIngestProposals(@Nonnull final Collection<MetadataChangeProposal> metadataChangeProposals,
+        @Nonnull final Authentication authentication, final boolean async) throws RemoteInvocationException {
+        String actorUrnStr = authentication.getActor() != null ? authentication.getActor().toUrnStr() : Constants.UNKNOWN_ACTOR;
+        final AuditStamp auditStamp =
+            new AuditStamp().setTime(_clock.millis()).setActor(UrnUtils.getUrn(actorUrnStr));
+        final List<MetadataChangeProposal> proposals = new ArrayList<>(metadataChangeProposals);
+        final List<List<MetadataChangeProposal>> additionalChanges = proposals.stream()
+            .map(proposal -> AspectUtils.getAdditionalChanges(proposal, _entityService))
+            .collect(Collectors.toList());
+
+        final List<EntityService.IngestProposalResult> results;
+        try {
+            results = _entityService.ingestProposals(proposals, auditStamp, async);
+        } catch (BatchIngestProposalsException e) {
+            // The proposals committed get their additional changes all the same, as only the others are retried
+            _entityService.ingestProposals(additionalChanges.subList(0, e.getCommittedCount()).stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList()), auditStamp, async);
+            throw e;
+        }
+        _entityService.ingestProposals(additionalChanges.stream().flatMap(List::stream).collect(Collectors.toList()),
+            auditStamp, async);
+
+        final List<String> urns = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            final Urn urn = results.get(i).getUrn();
+            tryIndexRunId(urn, proposals.get(i).getSystemMetadata());
+            urns.add(urn.toString());
+        }
+        return urns;
+    }
+
     @SneakyThrows
     @Override
     public <T extends RecordTemplate> Optional<T> getVersionedAspect(@Nonnull String urn, @Nonnull String aspect,
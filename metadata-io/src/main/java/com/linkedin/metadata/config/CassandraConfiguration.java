@@ -0,0 +1,20 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+
+/**
+ * POJO representing the tuning properties of the "cassandra" configuration block in application.yml. The connection
+ * properties are read by the session factories.
+ */
+@Data
+public class CassandraConfiguration {
+  /**
+   * Max number of reads of a batch get waiting for their results
+   */
+  private int maxInFlightReads;
+  /**
+   * Full table scans, run token range by token range
+   */
+  private CassandraScanConfiguration scan;
+}
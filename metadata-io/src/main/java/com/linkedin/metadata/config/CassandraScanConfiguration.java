@@ -0,0 +1,19 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+
+/**
+ * POJO representing the "cassandra.scan" configuration block in application.yml.
+ */
+@Data
+public class CassandraScanConfiguration {
+  /**
+   * Number of token ranges full table scans are split into
+   */
+  private int splits;
+  /**
+   * Number of token ranges scanned in parallel
+   */
+  private int threads;
+}
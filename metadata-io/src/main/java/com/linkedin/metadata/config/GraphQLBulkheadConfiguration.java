@@ -0,0 +1,23 @@
+package com.linkedin.metadata.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * POJO representing the configuration of a single GraphQL executor bulkhead in application.yml.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GraphQLBulkheadConfiguration {
+  /**
+   * Maximum number of tasks running at the same time
+   */
+  private int threads;
+  /**
+   * Maximum number of tasks waiting for a thread, beyond which tasks are rejected
+   */
+  private int queueSize;
+}
@@ -0,0 +1,35 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+
+/**
+ * POJO representing the "graphQL.concurrency" configuration block in application.yml.
+ *
+ * Every bulkhead is a separate executor, so that one kind of load saturating its own executor does not hold up the
+ * others.
+ */
+@Data
+public class GraphQLConcurrencyConfiguration {
+  /**
+   * Whether to run the tasks of every bulkhead on virtual threads, when the JVM supports them. The number of threads of
+   * a bulkhead then bounds the number of its tasks running at the same time.
+   */
+  private boolean virtualThreads;
+  /**
+   * Resolvers not covered by any other bulkhead, mostly mutations and listings
+   */
+  private GraphQLBulkheadConfiguration general;
+  /**
+   * Data loaders and the resolvers loading entities, aspects and relationships
+   */
+  private GraphQLBulkheadConfiguration entity;
+  /**
+   * Search, browse and autocomplete resolvers
+   */
+  private GraphQLBulkheadConfiguration search;
+  /**
+   * Lineage traversal resolvers
+   */
+  private GraphQLBulkheadConfiguration lineage;
+}
@@ -0,0 +1,23 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+
+/**
+ * POJO representing the "graphQL" configuration block in application.yml.
+ */
+@Data
+public class GraphQLConfiguration {
+  /**
+   * Executors running the data fetchers and data loaders
+   */
+  private GraphQLConcurrencyConfiguration concurrency;
+  /**
+   * Cache of entities shared by the data loaders of all queries
+   */
+  private GraphQLEntityCacheConfiguration entityCache;
+  /**
+   * Budget of the estimated cost of a query
+   */
+  private GraphQLQueryCostConfiguration queryCost;
+}
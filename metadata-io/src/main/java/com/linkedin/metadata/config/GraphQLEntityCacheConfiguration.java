@@ -0,0 +1,28 @@
+package com.linkedin.metadata.config;
+
+import java.util.List;
+import lombok.Data;
+
+
+/**
+ * POJO representing the "graphQL.entityCache" configuration block in application.yml.
+ */
+@Data
+public class GraphQLEntityCacheConfiguration {
+  /**
+   * Whether entities loaded by GraphQL data loaders are cached across queries
+   */
+  private boolean enabled;
+  /**
+   * Names of the entities to cache, which should be ones that rarely change and are loaded by many queries
+   */
+  private List<String> entityTypes;
+  /**
+   * Maximum number of cached entities
+   */
+  private long maxSize;
+  /**
+   * Number of seconds an entity stays cached, bounding staleness when a change log is missed
+   */
+  private long ttlSeconds;
+}
@@ -0,0 +1,26 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+
+/**
+ * POJO representing the "graphQL.queryCost" configuration block in application.yml.
+ *
+ * The cost of a query is estimated before it executes, from the number of resolvers it runs and the page sizes it
+ * requests.
+ */
+@Data
+public class GraphQLQueryCostConfiguration {
+  /**
+   * Estimated cost above which a query is over budget. Disables the estimation if not positive.
+   */
+  private int maxCost;
+  /**
+   * Number of elements assumed for list fields resolved without a page size argument
+   */
+  private int defaultListSize;
+  /**
+   * Whether queries over budget are rejected, rather than only reported
+   */
+  private boolean reject;
+}
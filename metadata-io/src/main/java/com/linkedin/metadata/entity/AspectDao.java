@@ -8,6 +8,7 @@ import io.ebean.PagedList;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.sql.Timestamp;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -81,6 +82,18 @@ public interface AspectDao {
         final int start,
         final int pageSize);
 
+    /**
+     * Lists the urns having the given aspect, in the order they are stored, starting right after afterUrn. Unlike
+     * listing by offset, this does not read the urns of the previous pages, and the total count is only computed for
+     * the first page, when afterUrn is null.
+     */
+    @Nonnull
+    ListResult<String> listUrns(
+        @Nonnull final String entityName,
+        @Nonnull final String aspectName,
+        @Nullable final String afterUrn,
+        final int pageSize);
+
     @Nonnull
     Integer countAspect(
             @Nonnull final String aspectName,
@@ -110,6 +123,20 @@ public interface AspectDao {
 
     Map<String, Long> getNextVersions(@Nonnull final String urn, @Nonnull final Set<String> aspectNames);
 
+    /**
+     * Same as {@link #getNextVersions(String, Set)} but for multiple urns at once. Implementations should override
+     * this if they are able to resolve the versions of many urns in fewer round trips.
+     *
+     * @param urnAspects map of urn to the aspect names to resolve next versions for
+     * @return map of urn to a map of aspect name to next version
+     */
+    @Nonnull
+    default Map<String, Map<String, Long>> getNextVersions(@Nonnull final Map<String, Set<String>> urnAspects) {
+        final Map<String, Map<String, Long>> result = new HashMap<>();
+        urnAspects.forEach((urn, aspectNames) -> result.put(urn, getNextVersions(urn, aspectNames)));
+        return result;
+    }
+
     long getMaxVersion(@Nonnull final String urn, @Nonnull final String aspectName);
 
     void setWritable(boolean canWrite);
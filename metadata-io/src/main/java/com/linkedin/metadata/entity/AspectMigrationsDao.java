@@ -1,6 +1,7 @@
 package com.linkedin.metadata.entity;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * This interface is a split-off from {@link AspectDao} to segregate the methods that are only called by data migration
@@ -18,6 +19,16 @@ public interface AspectMigrationsDao {
   @Nonnull
   Iterable<String> listAllUrns(final int start, final int pageSize);
 
+  /**
+   * Return a page of _all_ URNs in the database, in the order they are stored, starting right after a given URN.
+   * Unlike {@link #listAllUrns(int, int)}, this does not read the URNs of the previous pages.
+   * @param afterUrn Last URN of the previous page, {@code null} for the first page.
+   * @param pageSize Number of records in a page.
+   * @return An iterable of {@code String} URNs.
+   */
+  @Nonnull
+  Iterable<String> listAllUrns(@Nullable final String afterUrn, final int pageSize);
+
   /**
    * Return the count of entities (unique URNs) in the database.
    * @return Count of entities.
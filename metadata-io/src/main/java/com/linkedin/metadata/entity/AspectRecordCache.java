@@ -0,0 +1,119 @@
+package com.linkedin.metadata.entity;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.data.DataMap;
+import com.linkedin.metadata.event.CacheInvalidator;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Memory-bounded cache of parsed aspect rows, so that reading the same version of an aspect again skips JSON parsing.
+ *
+ * Rows are parsed into different {@link Form}s, which are cached separately. Entries are keyed by (form, urn, aspect,
+ * version) and only served for the row they were parsed from, identified by its creation time and the length of its
+ * metadata, so that hits do not need to compare the JSON. Versioned rows never change. The latest version of an
+ * aspect is updated in place, with the time of the update, and is evicted whenever the aspect changes, in case it
+ * changes twice within the same millisecond. Cached {@link DataMap}s are never handed out, as callers mutate what
+ * they read; callers always receive a copy.
+ */
+public class AspectRecordCache implements CacheInvalidator {
+
+  public static final AspectRecordCache DISABLED = new AspectRecordCache(0);
+
+  /**
+   * What a row is parsed into.
+   */
+  public enum Form {
+    // The JSON of the row, as is
+    DATA_MAP,
+    // The aspect record, validated against the entity registry
+    ASPECT_RECORD
+  }
+
+  // Estimated heap usage of a parsed DataMap per character of its JSON. Every field of a DataMap takes a hash map
+  // node, a key String and usually a boxed or String value, which comes to several times the size of its JSON.
+  private static final int BYTES_PER_CHAR = 8;
+  // Estimated heap usage of an entry besides its DataMap: the key, its Strings and the cache's own bookkeeping
+  private static final int BYTES_PER_ENTRY = 256;
+
+  @Nullable
+  private final Cache<Key, Entry> _cache;
+
+  /**
+   * @param maxWeightBytes approximate upper bound on the heap used by cached entries, as estimated from the length of
+   *                       their JSON. Disables the cache if not positive.
+   */
+  public AspectRecordCache(final long maxWeightBytes) {
+    _cache = maxWeightBytes <= 0 ? null : CacheBuilder.newBuilder()
+        .maximumWeight(maxWeightBytes)
+        .<Key, Entry>weigher((key, entry) -> (int) Math.min(Integer.MAX_VALUE,
+            BYTES_PER_ENTRY + (long) BYTES_PER_CHAR * entry.getMetadataLength()))
+        .build();
+  }
+
+  /**
+   * Returns the given aspect row parsed into the given form, parsing it with the given parser if it is not cached.
+   */
+  @Nonnull
+  public DataMap getDataMap(@Nonnull final EntityAspect aspect, @Nonnull final Form form,
+      @Nonnull final Function<String, DataMap> parser) {
+    if (_cache == null || aspect.getCreatedOn() == null) {
+      return parser.apply(aspect.getMetadata());
+    }
+    final Key key = new Key(form, aspect.getUrn(), aspect.getAspect(), aspect.getVersion());
+    final long createdOn = aspect.getCreatedOn().getTime();
+    final int metadataLength = aspect.getMetadata().length();
+    final Entry cached = _cache.getIfPresent(key);
+    if (cached != null && cached.getCreatedOn() == createdOn && cached.getMetadataLength() == metadataLength) {
+      MetricUtils.counter(this.getClass(), "aspect_record_cache_hit").inc();
+      return copy(cached.getDataMap());
+    }
+    MetricUtils.counter(this.getClass(), "aspect_record_cache_miss").inc();
+    final DataMap dataMap = parser.apply(aspect.getMetadata());
+    _cache.put(key, new Entry(createdOn, metadataLength, copy(dataMap)));
+    return dataMap;
+  }
+
+  @Override
+  public void invalidate(@Nonnull final MetadataChangeLog metadataChangeLog) {
+    if (_cache == null || !metadataChangeLog.hasEntityUrn() || !metadataChangeLog.hasAspectName()) {
+      return;
+    }
+    for (Form form : Form.values()) {
+      _cache.invalidate(new Key(form, metadataChangeLog.getEntityUrn().toString(),
+          metadataChangeLog.getAspectName(), ASPECT_LATEST_VERSION));
+    }
+  }
+
+  @Nonnull
+  private static DataMap copy(@Nonnull final DataMap dataMap) {
+    try {
+      return dataMap.copy();
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException("Failed to copy DataMap", e);
+    }
+  }
+
+  @Value
+  private static class Key {
+    Form form;
+    String urn;
+    String aspect;
+    long version;
+  }
+
+  @Value
+  private static class Entry {
+    long createdOn;
+    int metadataLength;
+    DataMap dataMap;
+  }
+}
@@ -0,0 +1,386 @@
+package com.linkedin.metadata.entity;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.ebean.PagedList;
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+
+
+/**
+ * An {@link AspectDao} that keeps a size-bounded cache of latest aspects in front of another {@link AspectDao}.
+ *
+ * Latest aspects are cached when read, and replaced when written. Writes made within
+ * {@link #runInTransactionWithRetry(Supplier, int)} are only applied to the cache once the transaction has committed,
+ * and reads made within a transaction always go to the underlying storage, so that read-modify-write cycles never act
+ * on a cached value. Every transaction, including a nested one, commits on its own, so every transaction tracks its
+ * own writes. The writes of an attempt that failed are invalidated, in case the underlying storage does not roll
+ * them back. Writes made by other instances are picked up through {@link #invalidate(String, String)}, which
+ * is expected to be driven by the MCL stream.
+ *
+ * Reads only populate the cache if the aspect is not cached yet, so a slow read never overwrites the result of a
+ * concurrent write. A slow read racing with an invalidation may still cache a stale aspect, until it is evicted or
+ * written again.
+ */
+public class CachingAspectDao implements AspectDao {
+
+  private final AspectDao _aspectDao;
+  private final Cache<EntityAspectIdentifier, EntityAspect> _cache;
+
+  // Transactions of the current thread, innermost first
+  private final ThreadLocal<Deque<PendingWrites>> _transactions = new ThreadLocal<>();
+
+  public CachingAspectDao(@Nonnull final AspectDao aspectDao, final long maxSize) {
+    _aspectDao = aspectDao;
+    _cache = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .removalListener(notification -> {
+          if (notification.getCause() == RemovalCause.SIZE) {
+            MetricUtils.counter(this.getClass(), "latest_aspect_cache_eviction").inc();
+          }
+        })
+        .build();
+  }
+
+  /**
+   * Evicts the cached latest version of the given aspect.
+   */
+  public void invalidate(@Nonnull final String urn, @Nonnull final String aspectName) {
+    _cache.invalidate(latestKey(urn, aspectName));
+  }
+
+  @Nullable
+  @Override
+  public EntityAspect getAspect(@Nonnull final String urn, @Nonnull final String aspectName, final long version) {
+    if (version != ASPECT_LATEST_VERSION) {
+      return _aspectDao.getAspect(urn, aspectName, version);
+    }
+    return getLatestAspect(urn, aspectName);
+  }
+
+  @Nullable
+  @Override
+  public EntityAspect getAspect(@Nonnull final EntityAspectIdentifier key) {
+    if (key.getVersion() != ASPECT_LATEST_VERSION) {
+      return _aspectDao.getAspect(key);
+    }
+    return getLatestAspect(key.getUrn(), key.getAspect());
+  }
+
+  @Nonnull
+  @Override
+  public Map<EntityAspectIdentifier, EntityAspect> batchGet(@Nonnull final Set<EntityAspectIdentifier> keys) {
+    if (inTransaction()) {
+      return _aspectDao.batchGet(keys);
+    }
+    final Map<EntityAspectIdentifier, EntityAspect> result = new HashMap<>();
+    final Set<EntityAspectIdentifier> misses = new HashSet<>();
+    for (EntityAspectIdentifier key : keys) {
+      final EntityAspect cached = key.getVersion() == ASPECT_LATEST_VERSION ? _cache.getIfPresent(key) : null;
+      if (cached != null) {
+        result.put(key, copy(cached));
+      } else {
+        misses.add(key);
+      }
+    }
+    recordLookups(keys.size() - misses.size(), misses.size());
+    if (!misses.isEmpty()) {
+      final Map<EntityAspectIdentifier, EntityAspect> fetched = _aspectDao.batchGet(misses);
+      fetched.forEach((key, aspect) -> {
+        if (aspect != null && key.getVersion() == ASPECT_LATEST_VERSION) {
+          cache(key, aspect);
+        }
+      });
+      result.putAll(fetched);
+    }
+    return result;
+  }
+
+  @Nonnull
+  @Override
+  public List<EntityAspect> getAspectsInRange(@Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis,
+      long endTimeMillis) {
+    return _aspectDao.getAspectsInRange(urn, aspectNames, startTimeMillis, endTimeMillis);
+  }
+
+  @Nullable
+  @Override
+  public EntityAspect getLatestAspect(@Nonnull final String urn, @Nonnull final String aspectName) {
+    if (inTransaction()) {
+      return _aspectDao.getLatestAspect(urn, aspectName);
+    }
+    final EntityAspectIdentifier key = latestKey(urn, aspectName);
+    final EntityAspect cached = _cache.getIfPresent(key);
+    if (cached != null) {
+      recordLookups(1, 0);
+      return copy(cached);
+    }
+    recordLookups(0, 1);
+    final EntityAspect aspect = _aspectDao.getLatestAspect(urn, aspectName);
+    if (aspect != null) {
+      cache(key, aspect);
+    }
+    return aspect;
+  }
+
+  @Override
+  public void saveAspect(@Nonnull final String urn, @Nonnull final String aspectName,
+      @Nonnull final String aspectMetadata, @Nonnull final String actor, @Nullable final String impersonator,
+      @Nonnull final Timestamp timestamp, @Nonnull final String systemMetadata, final long version,
+      final boolean insert) {
+    _aspectDao.saveAspect(urn, aspectName, aspectMetadata, actor, impersonator, timestamp, systemMetadata, version,
+        insert);
+    if (version == ASPECT_LATEST_VERSION) {
+      onWrite(latestKey(urn, aspectName), Optional.of(
+          new EntityAspect(urn, aspectName, version, aspectMetadata, systemMetadata, timestamp, actor, impersonator)));
+    }
+  }
+
+  @Override
+  public void saveAspect(@Nonnull final EntityAspect aspect, final boolean insert) {
+    _aspectDao.saveAspect(aspect, insert);
+    if (aspect.getVersion() == ASPECT_LATEST_VERSION) {
+      onWrite(aspect.toAspectIdentifier(), Optional.of(copy(aspect)));
+    }
+  }
+
+  @Override
+  public long saveLatestAspect(@Nonnull final String urn, @Nonnull final String aspectName,
+      @Nullable final String oldAspectMetadata, @Nullable final String oldActor, @Nullable final String oldImpersonator,
+      @Nullable final Timestamp oldTime, @Nullable final String oldSystemMetadata,
+      @Nonnull final String newAspectMetadata, @Nonnull final String newActor, @Nullable final String newImpersonator,
+      @Nonnull final Timestamp newTime, @Nullable final String newSystemMetadata, final Long nextVersion) {
+    final long version = _aspectDao.saveLatestAspect(urn, aspectName, oldAspectMetadata, oldActor, oldImpersonator,
+        oldTime, oldSystemMetadata, newAspectMetadata, newActor, newImpersonator, newTime, newSystemMetadata,
+        nextVersion);
+    onWrite(latestKey(urn, aspectName), Optional.of(new EntityAspect(urn, aspectName, ASPECT_LATEST_VERSION,
+        newAspectMetadata, newSystemMetadata, newTime, newActor, newImpersonator)));
+    return version;
+  }
+
+  @Override
+  public void deleteAspect(@Nonnull final EntityAspect aspect) {
+    _aspectDao.deleteAspect(aspect);
+    if (aspect.getVersion() == ASPECT_LATEST_VERSION) {
+      onWrite(aspect.toAspectIdentifier(), Optional.empty());
+    }
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listUrns(@Nonnull final String entityName, @Nonnull final String aspectName,
+      final int start, final int pageSize) {
+    return _aspectDao.listUrns(entityName, aspectName, start, pageSize);
+  }
+
+  @Override
+  @Nonnull
+  public ListResult<String> listUrns(@Nonnull final String entityName, @Nonnull final String aspectName,
+      @Nullable final String afterUrn, final int pageSize) {
+    return _aspectDao.listUrns(entityName, aspectName, afterUrn, pageSize);
+  }
+
+  @Nonnull
+  @Override
+  public Integer countAspect(@Nonnull final String aspectName, @Nullable String urnLike) {
+    return _aspectDao.countAspect(aspectName, urnLike);
+  }
+
+  @Nonnull
+  @Override
+  public PagedList<EbeanAspectV2> getPagedAspects(final RestoreIndicesArgs args) {
+    return _aspectDao.getPagedAspects(args);
+  }
+
+  @Override
+  public int deleteUrn(@Nonnull final String urn) {
+    final int deleted = _aspectDao.deleteUrn(urn);
+    final PendingWrites pendingWrites = currentTransaction();
+    if (pendingWrites != null) {
+      pendingWrites.deleteUrn(urn);
+    } else {
+      invalidateUrn(urn);
+    }
+    return deleted;
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listLatestAspectMetadata(@Nonnull final String entityName,
+      @Nonnull final String aspectName, final int start, final int pageSize) {
+    return _aspectDao.listLatestAspectMetadata(entityName, aspectName, start, pageSize);
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listAspectMetadata(@Nonnull final String entityName, @Nonnull final String aspectName,
+      final long version, final int start, final int pageSize) {
+    return _aspectDao.listAspectMetadata(entityName, aspectName, version, start, pageSize);
+  }
+
+  @Override
+  public long getNextVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
+    return _aspectDao.getNextVersion(urn, aspectName);
+  }
+
+  @Override
+  public Map<String, Long> getNextVersions(@Nonnull final String urn, @Nonnull final Set<String> aspectNames) {
+    return _aspectDao.getNextVersions(urn, aspectNames);
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Map<String, Long>> getNextVersions(@Nonnull final Map<String, Set<String>> urnAspects) {
+    return _aspectDao.getNextVersions(urnAspects);
+  }
+
+  @Override
+  public long getMaxVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
+    return _aspectDao.getMaxVersion(urn, aspectName);
+  }
+
+  @Override
+  public void setWritable(boolean canWrite) {
+    _aspectDao.setWritable(canWrite);
+  }
+
+  @Nonnull
+  @Override
+  public <T> T runInTransactionWithRetry(@Nonnull final Supplier<T> block, final int maxTransactionRetry) {
+    Deque<PendingWrites> transactions = _transactions.get();
+    if (transactions == null) {
+      transactions = new ArrayDeque<>();
+      _transactions.set(transactions);
+    }
+    final PendingWrites pendingWrites = new PendingWrites();
+    transactions.push(pendingWrites);
+    try {
+      final T result = _aspectDao.runInTransactionWithRetry(() -> {
+        // Writes of a failed attempt are rolled back, or not, depending on the underlying storage
+        pendingWrites.invalidate();
+        return block.get();
+      }, maxTransactionRetry);
+      pendingWrites.apply();
+      return result;
+    } catch (RuntimeException e) {
+      // The transaction may or may not have committed
+      pendingWrites.invalidate();
+      throw e;
+    } finally {
+      transactions.pop();
+      if (transactions.isEmpty()) {
+        _transactions.remove();
+      }
+    }
+  }
+
+  private boolean inTransaction() {
+    return currentTransaction() != null;
+  }
+
+  @Nullable
+  private PendingWrites currentTransaction() {
+    final Deque<PendingWrites> transactions = _transactions.get();
+    return transactions != null ? transactions.peek() : null;
+  }
+
+  private void onWrite(@Nonnull final EntityAspectIdentifier key, @Nonnull final Optional<EntityAspect> aspect) {
+    final PendingWrites pendingWrites = currentTransaction();
+    if (pendingWrites != null) {
+      pendingWrites.write(key, aspect);
+    } else {
+      apply(key, aspect);
+    }
+  }
+
+  private void invalidateUrn(@Nonnull final String urn) {
+    // Rare enough that scanning the cache is cheaper than keeping an index of cached aspects per urn
+    _cache.asMap().keySet().removeIf(key -> key.getUrn().equals(urn));
+  }
+
+  private void apply(@Nonnull final EntityAspectIdentifier key, @Nonnull final Optional<EntityAspect> aspect) {
+    if (aspect.isPresent()) {
+      _cache.put(key, aspect.get());
+    } else {
+      _cache.invalidate(key);
+    }
+  }
+
+  private void cache(@Nonnull final EntityAspectIdentifier key, @Nonnull final EntityAspect aspect) {
+    _cache.asMap().putIfAbsent(key, copy(aspect));
+  }
+
+  private void recordLookups(final int hits, final int misses) {
+    if (hits > 0) {
+      MetricUtils.counter(this.getClass(), "latest_aspect_cache_hit").inc(hits);
+    }
+    if (misses > 0) {
+      MetricUtils.counter(this.getClass(), "latest_aspect_cache_miss").inc(misses);
+    }
+  }
+
+  /**
+   * Latest aspect writes of a single transaction, applied to the cache once it has committed.
+   */
+  private class PendingWrites {
+    // Keyed by aspect. An empty value denotes a delete.
+    private final Map<EntityAspectIdentifier, Optional<EntityAspect>> _writes = new HashMap<>();
+    private final Set<String> _deletedUrns = new HashSet<>();
+
+    void write(@Nonnull final EntityAspectIdentifier key, @Nonnull final Optional<EntityAspect> aspect) {
+      _writes.put(key, aspect);
+    }
+
+    void deleteUrn(@Nonnull final String urn) {
+      // Only writes made after the delete survive it
+      _writes.keySet().removeIf(key -> key.getUrn().equals(urn));
+      _deletedUrns.add(urn);
+    }
+
+    void apply() {
+      _deletedUrns.forEach(CachingAspectDao.this::invalidateUrn);
+      _writes.forEach(CachingAspectDao.this::apply);
+      clear();
+    }
+
+    void invalidate() {
+      _deletedUrns.forEach(CachingAspectDao.this::invalidateUrn);
+      _writes.keySet().forEach(_cache::invalidate);
+      clear();
+    }
+
+    private void clear() {
+      _writes.clear();
+      _deletedUrns.clear();
+    }
+  }
+
+  @Nonnull
+  private static EntityAspectIdentifier latestKey(@Nonnull final String urn, @Nonnull final String aspectName) {
+    return new EntityAspectIdentifier(urn, aspectName, ASPECT_LATEST_VERSION);
+  }
+
+  // EntityAspect is mutable, so callers never share an instance with the cache
+  @Nonnull
+  private static EntityAspect copy(@Nonnull final EntityAspect aspect) {
+    return new EntityAspect(aspect.getUrn(), aspect.getAspect(), aspect.getVersion(), aspect.getMetadata(),
+        aspect.getSystemMetadata(), aspect.getCreatedOn(), aspect.getCreatedBy(), aspect.getCreatedFor());
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.entity;
 
+import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.datahub.util.RecordUtils;
 import com.datahub.util.exception.ModelConversionException;
@@ -34,12 +35,14 @@ import com.linkedin.entity.Entity;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.BatchIngestProposalsException;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.aspect.Aspect;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesCheckpoints;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionArgs;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionResult;
@@ -78,9 +81,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -157,6 +165,7 @@ public class EntityService {
   private final EntityRegistry _entityRegistry;
   private final Map<String, Set<String>> _entityToValidAspects;
   private RetentionService _retentionService;
+  private AspectRecordCache _aspectRecordCache = AspectRecordCache.DISABLED;
   private final Boolean _alwaysEmitAuditEvent = false;
   public static final String DEFAULT_RUN_ID = "no-run-id-provided";
   public static final String BROWSE_PATHS = "browsePaths";
@@ -210,8 +219,7 @@ public class EntityService {
         return;
       }
 
-      final RecordTemplate aspectRecord =
-          EntityUtils.toAspectRecord(urn, aspectName, aspectEntry.getMetadata(), getEntityRegistry());
+      final RecordTemplate aspectRecord = toAspectRecord(urn, aspectEntry);
       urnToAspects.putIfAbsent(urn, new ArrayList<>());
       urnToAspects.get(urn).add(aspectRecord);
     });
@@ -226,7 +234,7 @@ public class EntityService {
     final Map<String, RecordTemplate> result = new HashMap<>();
     batchGetResults.forEach((key, aspectEntry) -> {
       final String aspectName = key.getAspect();
-      final RecordTemplate aspectRecord = EntityUtils.toAspectRecord(urn, aspectName, aspectEntry.getMetadata(), getEntityRegistry());
+      final RecordTemplate aspectRecord = toAspectRecord(urn, aspectEntry);
       result.put(aspectName, aspectRecord);
     });
     return result;
@@ -251,8 +259,7 @@ public class EntityService {
     version = calculateVersionNumber(urn, aspectName, version);
     final EntityAspectIdentifier primaryKey = new EntityAspectIdentifier(urn.toString(), aspectName, version);
     final Optional<EntityAspect> maybeAspect = Optional.ofNullable(_aspectDao.getAspect(primaryKey));
-    return maybeAspect.map(
-        aspect -> EntityUtils.toAspectRecord(urn, aspectName, aspect.getMetadata(), getEntityRegistry())).orElse(null);
+    return maybeAspect.map(aspect -> toAspectRecord(urn, aspect)).orElse(null);
   }
 
   /**
@@ -457,9 +464,7 @@ public class EntityService {
 
     final EntityAspectIdentifier primaryKey = new EntityAspectIdentifier(urn.toString(), aspectName, version);
     final Optional<EntityAspect> maybeAspect = Optional.ofNullable(_aspectDao.getAspect(primaryKey));
-    RecordTemplate aspectRecord =
-        maybeAspect.map(aspect -> EntityUtils.toAspectRecord(urn, aspectName, aspect.getMetadata(), getEntityRegistry()))
-            .orElse(null);
+    RecordTemplate aspectRecord = maybeAspect.map(aspect -> toAspectRecord(urn, aspect)).orElse(null);
 
     if (aspectRecord == null) {
       return null;
@@ -614,7 +619,7 @@ public class EntityService {
 
       long nextVersion = _aspectDao.getNextVersion(urnStr, aspectName);
       try {
-        RecordTemplate currentValue = EntityUtils.toAspectRecord(urn, aspectName, latest.getMetadata(), _entityRegistry);
+        RecordTemplate currentValue = toAspectRecord(urn, latest);
         RecordTemplate updatedValue =  _entityRegistry.getAspectTemplateEngine().applyPatch(currentValue, jsonPatch, aspectSpec);
 
         validateAspect(urn, updatedValue);
@@ -751,7 +756,7 @@ public class EntityService {
         return ingestAspectToLocalDBNoTransaction(urn, aspectName, ignored -> newValue, auditStamp,
             internalSystemMetadata, latest, nextVersion);
       }
-      RecordTemplate oldValue = EntityUtils.toAspectRecord(urn, aspectName, latest.getMetadata(), getEntityRegistry());
+      RecordTemplate oldValue = toAspectRecord(urn, latest);
       SystemMetadata oldMetadata = EntityUtils.parseSystemMetadata(latest.getSystemMetadata());
       return new UpdateAspectResult(urn, oldValue, oldValue, oldMetadata, oldMetadata, MetadataAuditOperation.UPDATE, auditStamp,
           latest.getVersion());
@@ -771,7 +776,7 @@ public class EntityService {
 
     // Apply retention policies asynchronously if there was an update to existing aspect value
     if (oldValue != updatedValue && oldValue != null && _retentionService != null) {
-      _retentionService.applyRetention(urn, aspectName,
+      _retentionService.scheduleRetention(urn, aspectName,
               Optional.of(new RetentionService.RetentionContext(Optional.of(result.maxVersion))));
     }
 
@@ -892,6 +897,156 @@ public class EntityService {
     return new IngestProposalResult(entityUrn, didUpdate, false);
   }
 
+  /**
+   * Ingest a batch of {@link MetadataChangeProposal}s, preserving the order in which they were provided.
+   *
+   * Consecutive synchronous UPSERTs of versioned aspects are grouped and written in a single transaction, resolving
+   * latest aspects and next versions with one batch read each, rather than one transaction per proposal. All other
+   * proposals (async, PATCH, timeseries) are handled exactly as {@link #ingestProposal} would handle them. Change logs
+   * are emitted once a group has been committed.
+   *
+   * Note that a batch is not atomic: the groups preceding a failing proposal will already have been committed, while
+   * the proposals grouped with it are not, so a failure reports how many proposals were committed. Failures to apply
+   * retention or emit change logs once a group has committed are logged rather than reported.
+   *
+   * @param mcps the proposals to ingest
+   * @param auditStamp an audit stamp representing the time and actor proposing the change
+   * @param async a flag to control whether we commit to primary store or just write to proposal log before returning
+   * @return an {@link IngestProposalResult} for each of the proposals, in the order they were provided
+   * @throws BatchIngestProposalsException if a proposal fails, with the number of proposals committed before it
+   */
+  public List<IngestProposalResult> ingestProposals(@Nonnull final List<MetadataChangeProposal> mcps,
+      @Nonnull final AuditStamp auditStamp, final boolean async) {
+
+    log.debug("Invoked ingestProposals with {} proposals, async: {}", mcps.size(), async);
+    final List<IngestProposalResult> results = new ArrayList<>(mcps.size());
+    final List<BatchUpsertItem> pendingUpserts = new ArrayList<>();
+    final Set<EntityAspectIdentifier> pendingKeys = new HashSet<>();
+
+    // A group failing to commit is reported by its first proposal
+    int failedIndex = 0;
+    try {
+      for (int i = 0; i < mcps.size(); i++) {
+        final MetadataChangeProposal mcp = mcps.get(i);
+        failedIndex = i;
+        final EntitySpec entitySpec = getEntityRegistry().getEntitySpec(mcp.getEntityType());
+        final AspectSpec aspectSpec = validateAspect(mcp, entitySpec);
+
+        if (async || aspectSpec.isTimeseries() || !ChangeType.UPSERT.equals(mcp.getChangeType())) {
+          failedIndex = results.size();
+          results.addAll(ingestUpsertBatch(pendingUpserts, auditStamp));
+          pendingUpserts.clear();
+          pendingKeys.clear();
+          failedIndex = i;
+          results.add(ingestProposal(mcp, auditStamp, async));
+          continue;
+        }
+
+        final Urn entityUrn = EntityKeyUtils.getUrnFromProposal(mcp, entitySpec.getKeyAspectSpec());
+        final EntityAspectIdentifier key =
+            new EntityAspectIdentifier(entityUrn.toString(), aspectSpec.getName(), ASPECT_LATEST_VERSION);
+        // A second write to the same aspect has to observe the first, so it starts a new group
+        if (pendingKeys.contains(key) || pendingUpserts.size() >= MAX_KEYS_PER_QUERY) {
+          failedIndex = results.size();
+          results.addAll(ingestUpsertBatch(pendingUpserts, auditStamp));
+          pendingUpserts.clear();
+          pendingKeys.clear();
+          failedIndex = i;
+        }
+
+        final SystemMetadata systemMetadata = generateSystemMetadataIfEmpty(mcp.getSystemMetadata());
+        systemMetadata.setRegistryName(aspectSpec.getRegistryName());
+        systemMetadata.setRegistryVersion(aspectSpec.getRegistryVersion().toString());
+
+        final RecordTemplate aspect = convertToRecordTemplate(mcp, aspectSpec);
+        validateUrn(entityUrn);
+        validateAspect(entityUrn, aspect);
+
+        pendingUpserts.add(new BatchUpsertItem(mcp, entityUrn, aspectSpec, aspect, systemMetadata));
+        pendingKeys.add(key);
+      }
+      failedIndex = results.size();
+      results.addAll(ingestUpsertBatch(pendingUpserts, auditStamp));
+    } catch (RuntimeException e) {
+      throw new BatchIngestProposalsException(results.size(), failedIndex, e);
+    }
+
+    return results;
+  }
+
+  @Value
+  private static class BatchUpsertItem {
+    MetadataChangeProposal mcp;
+    Urn urn;
+    AspectSpec aspectSpec;
+    RecordTemplate aspect;
+    SystemMetadata systemMetadata;
+  }
+
+  /**
+   * Writes a group of UPSERTs to distinct (urn, aspect) pairs within a single transaction, then applies retention and
+   * emits the change logs for each of them. Failures to do so are logged, as the whole group has committed.
+   */
+  private List<IngestProposalResult> ingestUpsertBatch(@Nonnull final List<BatchUpsertItem> items,
+      @Nonnull final AuditStamp auditStamp) {
+    if (items.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Timer.Context ingestToLocalDBTimer = MetricUtils.timer(this.getClass(), "ingestProposalBatchToLocalDB").time();
+    final List<UpdateAspectResult> updateResults = _aspectDao.runInTransactionWithRetry(() -> {
+      final Set<EntityAspectIdentifier> dbKeys = items.stream()
+          .map(item -> new EntityAspectIdentifier(item.getUrn().toString(), item.getAspectSpec().getName(),
+              ASPECT_LATEST_VERSION))
+          .collect(Collectors.toSet());
+      final Map<EntityAspectIdentifier, EntityAspect> latestAspects = _aspectDao.batchGet(dbKeys);
+
+      final Map<String, Set<String>> urnAspects = new HashMap<>();
+      items.forEach(item -> urnAspects.computeIfAbsent(item.getUrn().toString(), urn -> new HashSet<>())
+          .add(item.getAspectSpec().getName()));
+      final Map<String, Map<String, Long>> nextVersions = _aspectDao.getNextVersions(urnAspects);
+
+      final List<UpdateAspectResult> batchResults = new ArrayList<>(items.size());
+      for (BatchUpsertItem item : items) {
+        final String urnStr = item.getUrn().toString();
+        final String aspectName = item.getAspectSpec().getName();
+        final EntityAspect latest =
+            latestAspects.get(new EntityAspectIdentifier(urnStr, aspectName, ASPECT_LATEST_VERSION));
+        final long nextVersion = nextVersions.get(urnStr).get(aspectName);
+        batchResults.add(ingestAspectToLocalDBNoTransaction(item.getUrn(), aspectName, ignored -> item.getAspect(),
+            auditStamp, item.getSystemMetadata(), latest, nextVersion));
+      }
+      return batchResults;
+    }, DEFAULT_MAX_TRANSACTION_RETRY);
+    ingestToLocalDBTimer.stop();
+    MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "ingestProposalBatchSize")).update(items.size());
+
+    final List<IngestProposalResult> results = new ArrayList<>(items.size());
+    for (int i = 0; i < items.size(); i++) {
+      final BatchUpsertItem item = items.get(i);
+      final UpdateAspectResult result = updateResults.get(i);
+      final RecordTemplate oldAspect = result.getOldValue();
+      final RecordTemplate newAspect = result.getNewValue();
+      boolean didUpdate = true;
+      // The group has committed, so a failure past this point must neither be retried nor skip the remaining items
+      try {
+        // Apply retention policies asynchronously if there was an update to existing aspect value
+        if (oldAspect != newAspect && oldAspect != null && _retentionService != null) {
+          _retentionService.scheduleRetention(item.getUrn(), item.getAspectSpec().getName(),
+              Optional.of(new RetentionService.RetentionContext(Optional.of(result.maxVersion))));
+        }
+        didUpdate = emitChangeLog(oldAspect, result.getOldSystemMetadata(), newAspect,
+            result.getNewSystemMetadata(), item.getMcp(), item.getUrn(), auditStamp, item.getAspectSpec());
+      } catch (RuntimeException e) {
+        MetricUtils.counter(this.getClass(), "ingestProposalBatchPostCommitFailure").inc();
+        log.error("Failed to apply retention or emit the change log of committed aspect {} of urn {}",
+            item.getAspectSpec().getName(), item.getUrn(), e);
+      }
+      results.add(new IngestProposalResult(item.getUrn(), didUpdate, false));
+    }
+    return results;
+  }
+
   private AspectSpec validateAspect(MetadataChangeProposal mcp, EntitySpec entitySpec) {
     if (!mcp.hasAspectName() || !mcp.hasAspect()) {
       throw new UnsupportedOperationException("Aspect and aspect name is required for create and update operations");
@@ -971,7 +1126,7 @@ public class EntityService {
     RecordTemplate newAspect = result.getNewValue();
     // Apply retention policies asynchronously if there was an update to existing aspect value
     if (oldAspect != newAspect && oldAspect != null && _retentionService != null) {
-      _retentionService.applyRetention(entityUrn, aspectSpec.getName(),
+      _retentionService.scheduleRetention(entityUrn, aspectSpec.getName(),
           Optional.of(new RetentionService.RetentionContext(Optional.of(result.maxVersion))));
     }
     return result;
@@ -986,7 +1141,7 @@ public class EntityService {
     RecordTemplate newAspect = result.getNewValue();
     // Apply retention policies asynchronously if there was an update to existing aspect value
     if (oldAspect != newAspect && oldAspect != null && _retentionService != null) {
-      _retentionService.applyRetention(entityUrn, aspectSpec.getName(),
+      _retentionService.scheduleRetention(entityUrn, aspectSpec.getName(),
           Optional.of(new RetentionService.RetentionContext(Optional.of(result.maxVersion))));
     }
     return result;
@@ -1051,20 +1206,103 @@ public class EntityService {
 
   @Nonnull
   public RestoreIndicesResult restoreIndices(@Nonnull RestoreIndicesArgs args, @Nonnull Consumer<String> logger) {
-    RestoreIndicesResult result = new RestoreIndicesResult();
-    int ignored = 0;
-    int rowsMigrated = 0;
     logger.accept(String.format("Args are %s", args));
     logger.accept(String.format(
         "Reading rows %s through %s from the aspects table started.", args.start, args.start + args.batchSize));
     long startTime = System.currentTimeMillis();
     PagedList<EbeanAspectV2> rows = _aspectDao.getPagedAspects(args);
-    result.timeSqlQueryMs = System.currentTimeMillis() - startTime;
-    startTime = System.currentTimeMillis();
+    final long timeSqlQueryMs = System.currentTimeMillis() - startTime;
     logger.accept(String.format(
         "Reading rows %s through %s from the aspects table completed.", args.start, args.start + args.batchSize));
 
-    for (EbeanAspectV2 aspect : rows.getList()) {
+    RestoreIndicesResult result = restoreIndices(rows.getList(), logger);
+    result.timeSqlQueryMs = timeSqlQueryMs;
+    return result;
+  }
+
+  /**
+   * Streams MCLs for every latest aspect matching the args, from the args' cursor onwards.
+   *
+   * The aspects table is read with keyset pagination on (urn, aspect), so reading a page costs the same regardless of
+   * how deep into the table it is. Pages are read up to 2 * numThreads ahead of the workers producing them, and every
+   * worker flushes the producer once its page has been sent. Once a contiguous run of pages has been flushed, the args
+   * of the page following it are handed to the checkpointer, which returns whether it persisted them; passing those
+   * args back in resumes the restore.
+   */
+  @Nonnull
+  public RestoreIndicesResult streamRestoreIndices(@Nonnull RestoreIndicesArgs args, @Nonnull Consumer<String> logger,
+      @Nonnull Predicate<RestoreIndicesArgs> checkpointer) {
+    logger.accept(String.format("Args are %s", args));
+    final RestoreIndicesResult result = new RestoreIndicesResult();
+    final int numThreads = Math.max(1, args.numThreads);
+    final int maxPagesInFlight = 2 * numThreads;
+    final Semaphore pagesInFlight = new Semaphore(maxPagesInFlight);
+    final RestoreIndicesCheckpoints checkpoints = new RestoreIndicesCheckpoints(checkpointer);
+    final AtomicReference<Exception> failure = new AtomicReference<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+
+    RestoreIndicesArgs cursor = args.clone();
+    long page = 0;
+    try {
+      while (failure.get() == null) {
+        final long startTime = System.currentTimeMillis();
+        final List<EbeanAspectV2> rows = _aspectDao.getPagedAspects(cursor).getList();
+        final long timeSqlQueryMs = System.currentTimeMillis() - startTime;
+        if (rows.isEmpty()) {
+          break;
+        }
+        final EbeanAspectV2.PrimaryKey last = rows.get(rows.size() - 1).getKey();
+        cursor = cursor.clone().setCursor(last.getUrn(), last.getAspect());
+
+        final long currentPage = page++;
+        final RestoreIndicesArgs nextPageArgs = cursor;
+        pagesInFlight.acquire();
+        executor.execute(() -> {
+          try {
+            final RestoreIndicesResult pageResult = restoreIndices(rows, logger);
+            pageResult.timeSqlQueryMs = timeSqlQueryMs;
+            _producer.flush();
+            synchronized (result) {
+              addRestoreIndicesResult(result, pageResult);
+            }
+            checkpoints.complete(currentPage, nextPageArgs);
+          } catch (Exception e) {
+            failure.compareAndSet(null, e);
+          } finally {
+            pagesInFlight.release();
+          }
+        });
+        if (rows.size() < cursor.batchSize) {
+          break;
+        }
+      }
+      // Wait for the pages still being produced
+      pagesInFlight.acquire(maxPagesInFlight);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while restoring indices", e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    if (failure.get() != null) {
+      throw new RuntimeException(String.format("Failed to restore indices after %s, resume from the last checkpoint",
+          checkpoints.getLastCheckpoint()), failure.get());
+    }
+    return result;
+  }
+
+  /**
+   * Produces MCLs for the given latest aspect rows.
+   */
+  @Nonnull
+  private RestoreIndicesResult restoreIndices(@Nonnull List<EbeanAspectV2> rows, @Nonnull Consumer<String> logger) {
+    RestoreIndicesResult result = new RestoreIndicesResult();
+    int ignored = 0;
+    int rowsMigrated = 0;
+    long startTime = System.currentTimeMillis();
+
+    for (EbeanAspectV2 aspect : rows) {
       // 1. Extract an Entity type from the entity Urn
       result.timeGetRowMs = System.currentTimeMillis() - startTime;
       startTime = System.currentTimeMillis();
@@ -1135,6 +1373,19 @@ public class EntityService {
     return result;
   }
 
+  private static void addRestoreIndicesResult(@Nonnull RestoreIndicesResult result,
+      @Nonnull RestoreIndicesResult pageResult) {
+    result.ignored += pageResult.ignored;
+    result.rowsMigrated += pageResult.rowsMigrated;
+    result.timeSqlQueryMs += pageResult.timeSqlQueryMs;
+    result.timeGetRowMs += pageResult.timeGetRowMs;
+    result.timeUrnMs += pageResult.timeUrnMs;
+    result.timeEntityRegistryCheckMs += pageResult.timeEntityRegistryCheckMs;
+    result.aspectCheckMs += pageResult.aspectCheckMs;
+    result.createRecordMs += pageResult.createRecordMs;
+    result.sendMessageMs += pageResult.sendMessageMs;
+  }
+
   /**
    * Updates a particular version of an aspect & optionally emits a {@link com.linkedin.mxe.MetadataAuditEvent}.
    *
@@ -1182,10 +1433,40 @@ public class EntityService {
     final String keyAspectName = getEntityRegistry().getEntitySpec(entityName).getKeyAspectSpec().getName();
     final ListResult<String> keyAspectList = _aspectDao.listUrns(entityName, keyAspectName, start, count);
 
-    final ListUrnsResult result = new ListUrnsResult();
+    final ListUrnsResult result = toListUrnsResult(keyAspectList);
     result.setStart(start);
-    result.setCount(keyAspectList.getValues().size());
     result.setTotal(keyAspectList.getTotalCount());
+    return result;
+  }
+
+  /**
+   * Lists the entity URNs found in storage, starting right after a given urn. Unlike listing by offset, listing a page
+   * costs the same regardless of how deep into the entities it is.
+   *
+   * @param entityName the name associated with the entity
+   * @param afterUrn the last urn of the previous page, as returned in {@link ListUrnsResult#getNextAfter()}, or null
+   *                 for the first page
+   * @param count the count
+   */
+  public ListUrnsResult listUrns(@Nonnull final String entityName, @Nullable final String afterUrn, final int count) {
+    log.debug("Invoked listUrns with entityName: {}, afterUrn: {}, count: {}", entityName, afterUrn, count);
+
+    final String keyAspectName = getEntityRegistry().getEntitySpec(entityName).getKeyAspectSpec().getName();
+    final ListResult<String> keyAspectList = _aspectDao.listUrns(entityName, keyAspectName, afterUrn, count);
+
+    final ListUrnsResult result = toListUrnsResult(keyAspectList);
+    if (afterUrn == null) {
+      // The total is only counted for the first page
+      result.setStart(0);
+      result.setTotal(keyAspectList.getTotalCount());
+    }
+    return result;
+  }
+
+  @Nonnull
+  private static ListUrnsResult toListUrnsResult(@Nonnull final ListResult<String> keyAspectList) {
+    final ListUrnsResult result = new ListUrnsResult();
+    result.setCount(keyAspectList.getValues().size());
 
     // Extract urns
     final UrnArray entityUrns = new UrnArray();
@@ -1198,6 +1479,9 @@ public class EntityService {
       }
     }
     result.setEntities(entityUrns);
+    if (keyAspectList.isHasNext() && !entityUrns.isEmpty()) {
+      result.setNextAfter(entityUrns.get(entityUrns.size() - 1));
+    }
     return result;
   }
 
@@ -1522,6 +1806,15 @@ public class EntityService {
     _retentionService = retentionService;
   }
 
+  public void setAspectRecordCache(@Nonnull AspectRecordCache aspectRecordCache) {
+    _aspectRecordCache = aspectRecordCache;
+  }
+
+  @Nonnull
+  private RecordTemplate toAspectRecord(@Nonnull final Urn urn, @Nonnull final EntityAspect aspect) {
+    return EntityUtils.toAspectRecord(urn, aspect, getEntityRegistry(), _aspectRecordCache);
+  }
+
   protected Set<String> getEntityAspectNames(final Urn entityUrn) {
     return getEntityAspectNames(urnToEntityName(entityUrn));
   }
@@ -1548,25 +1841,67 @@ public class EntityService {
       RollbackResult result = deleteAspect(aspectToRemove.getUrn(), aspectToRemove.getAspectName(),
           conditions, hardDelete);
       if (result != null) {
-        Optional<AspectSpec> aspectSpec = getAspectSpec(result.entityName, result.aspectName);
-        if (!aspectSpec.isPresent()) {
-          log.error("Issue while rolling back: unknown aspect {} for entity {}", result.entityName, result.aspectName);
-          return;
-        }
-
-        rowsDeletedFromEntityDeletion.addAndGet(result.additionalRowsAffected);
-        removedAspects.add(aspectToRemove);
-        produceMetadataChangeLog(result.getUrn(), result.getEntityName(), result.getAspectName(), aspectSpec.get(),
-            result.getOldValue(), result.getNewValue(), result.getOldSystemMetadata(), result.getNewSystemMetadata(),
-            // TODO: use properly attributed audit stamp.
-            createSystemAuditStamp(),
-            result.getChangeType());
+        produceRollbackMetadataChangeLog(aspectToRemove, result, removedAspects, rowsDeletedFromEntityDeletion);
       }
     });
 
     return new RollbackRunResult(removedAspects, rowsDeletedFromEntityDeletion.get());
   }
 
+  /**
+   * Same as {@link #rollbackWithConditions(List, Map, boolean)}, but rolls back all the given aspects in a single
+   * transaction, and only produces their MCLs once it has committed. The producer is flushed once for the whole batch.
+   *
+   * Callers running batches in parallel should keep all the aspects of an urn in the same batch, since rolling back a
+   * key aspect may delete the whole entity. Soft deletes of key aspects are only ingested once the batch has committed,
+   * so that the batch can neither overwrite the new status row nor wait on it.
+   */
+  public RollbackRunResult rollbackBatchWithConditions(List<AspectRowSummary> aspectRows,
+      Map<String, String> conditions, boolean hardDelete) {
+    final Pair<List<Pair<AspectRowSummary, RollbackResult>>, List<MetadataChangeProposal>> results =
+        _aspectDao.runInTransactionWithRetry(() -> {
+          final List<Pair<AspectRowSummary, RollbackResult>> batchResults = new ArrayList<>();
+          final List<MetadataChangeProposal> softDeletes = new ArrayList<>();
+          for (AspectRowSummary aspectToRemove : aspectRows) {
+            RollbackResult result = deleteAspectInTransaction(aspectToRemove.getUrn(), aspectToRemove.getAspectName(),
+                conditions, hardDelete, softDeletes);
+            if (result != null) {
+              batchResults.add(Pair.of(aspectToRemove, result));
+            }
+          }
+          return Pair.of(batchResults, softDeletes);
+        }, DEFAULT_MAX_TRANSACTION_RETRY);
+
+    ingestSoftDeletes(results.getSecond());
+
+    List<AspectRowSummary> removedAspects = new ArrayList<>();
+    AtomicInteger rowsDeletedFromEntityDeletion = new AtomicInteger(0);
+    results.getFirst().forEach(result ->
+        produceRollbackMetadataChangeLog(result.getFirst(), result.getSecond(), removedAspects,
+            rowsDeletedFromEntityDeletion));
+    _producer.flush();
+
+    return new RollbackRunResult(removedAspects, rowsDeletedFromEntityDeletion.get());
+  }
+
+  private void produceRollbackMetadataChangeLog(@Nonnull AspectRowSummary aspectToRemove,
+      @Nonnull RollbackResult result, @Nonnull List<AspectRowSummary> removedAspects,
+      @Nonnull AtomicInteger rowsDeletedFromEntityDeletion) {
+    Optional<AspectSpec> aspectSpec = getAspectSpec(result.entityName, result.aspectName);
+    if (!aspectSpec.isPresent()) {
+      log.error("Issue while rolling back: unknown aspect {} for entity {}", result.entityName, result.aspectName);
+      return;
+    }
+
+    rowsDeletedFromEntityDeletion.addAndGet(result.additionalRowsAffected);
+    removedAspects.add(aspectToRemove);
+    produceMetadataChangeLog(result.getUrn(), result.getEntityName(), result.getAspectName(), aspectSpec.get(),
+        result.getOldValue(), result.getNewValue(), result.getOldSystemMetadata(), result.getNewSystemMetadata(),
+        // TODO: use properly attributed audit stamp.
+        createSystemAuditStamp(),
+        result.getChangeType());
+  }
+
   public RollbackRunResult deleteUrn(Urn urn) {
     List<AspectRowSummary> removedAspects = new ArrayList<>();
     Integer rowsDeletedFromEntityDeletion = 0;
@@ -1620,6 +1955,31 @@ public class EntityService {
 
   @Nullable
   public RollbackResult deleteAspect(String urn, String aspectName, @Nonnull Map<String, String> conditions, boolean hardDelete) {
+    final Pair<RollbackResult, List<MetadataChangeProposal>> result = _aspectDao.runInTransactionWithRetry(() -> {
+      final List<MetadataChangeProposal> softDeletes = new ArrayList<>();
+      return Pair.of(deleteAspectInTransaction(urn, aspectName, conditions, hardDelete, softDeletes), softDeletes);
+    }, DEFAULT_MAX_TRANSACTION_RETRY);
+    ingestSoftDeletes(result.getSecond());
+    return result.getFirst();
+  }
+
+  private void ingestSoftDeletes(@Nonnull List<MetadataChangeProposal> softDeletes) {
+    if (softDeletes.isEmpty()) {
+      return;
+    }
+    final AuditStamp auditStamp = new AuditStamp().setActor(UrnUtils.getUrn(Constants.SYSTEM_ACTOR))
+        .setTime(System.currentTimeMillis());
+    softDeletes.forEach(proposal -> ingestProposal(proposal, auditStamp, false));
+  }
+
+  /**
+   * Same as {@link #deleteAspect(String, String, Map, boolean)}, within the caller's transaction. Soft deletes of key
+   * aspects are added to softDeletes rather than ingested, and must be ingested once the transaction has committed.
+   */
+  @Nullable
+  private RollbackResult deleteAspectInTransaction(String urn, String aspectName,
+      @Nonnull Map<String, String> conditions, boolean hardDelete,
+      @Nonnull List<MetadataChangeProposal> softDeletes) {
     // Validate pre-conditions before running queries
     Urn entityUrn;
     EntitySpec entitySpec;
@@ -1632,120 +1992,115 @@ public class EntityService {
       throw new RuntimeException(String.format("Failed to extract urn from %s", urn));
     }
 
-    final RollbackResult result = _aspectDao.runInTransactionWithRetry(() -> {
-      Integer additionalRowsDeleted = 0;
+    Integer additionalRowsDeleted = 0;
 
-      // 1. Fetch the latest existing version of the aspect.
-      final EntityAspect latest = _aspectDao.getLatestAspect(urn, aspectName);
+    // 1. Fetch the latest existing version of the aspect.
+    final EntityAspect latest = _aspectDao.getLatestAspect(urn, aspectName);
 
-      // 1.1 If no latest exists, skip this aspect
-      if (latest == null) {
-        return null;
-      }
+    // 1.1 If no latest exists, skip this aspect
+    if (latest == null) {
+      return null;
+    }
 
-      // 2. Compare the match conditions, if they don't match, ignore.
-      SystemMetadata latestSystemMetadata = EntityUtils.parseSystemMetadata(latest.getSystemMetadata());
-      if (!filterMatch(latestSystemMetadata, conditions)) {
-        return null;
-      }
-      String latestMetadata = latest.getMetadata();
+    // 2. Compare the match conditions, if they don't match, ignore.
+    SystemMetadata latestSystemMetadata = EntityUtils.parseSystemMetadata(latest.getSystemMetadata());
+    if (!filterMatch(latestSystemMetadata, conditions)) {
+      return null;
+    }
+    String latestMetadata = latest.getMetadata();
 
-      // 3. Check if this is a key aspect
-      Boolean isKeyAspect = false;
-      try {
-        isKeyAspect = getKeyAspectName(Urn.createFromString(urn)).equals(aspectName);
-      } catch (URISyntaxException e) {
-        log.error("Error occurred while parsing urn: {}", urn, e);
-      }
+    // 3. Check if this is a key aspect
+    Boolean isKeyAspect = false;
+    try {
+      isKeyAspect = getKeyAspectName(Urn.createFromString(urn)).equals(aspectName);
+    } catch (URISyntaxException e) {
+      log.error("Error occurred while parsing urn: {}", urn, e);
+    }
 
-      // 4. Fetch all preceding aspects, that match
-      List<EntityAspect> aspectsToDelete = new ArrayList<>();
-      long maxVersion = _aspectDao.getMaxVersion(urn, aspectName);
-      EntityAspect survivingAspect = null;
-      String previousMetadata = null;
-      boolean filterMatch = true;
-      while (maxVersion > 0 && filterMatch)  {
-        EntityAspect candidateAspect = _aspectDao.getAspect(urn, aspectName, maxVersion);
-        SystemMetadata previousSysMetadata = EntityUtils.parseSystemMetadata(candidateAspect.getSystemMetadata());
-        filterMatch = filterMatch(previousSysMetadata, conditions);
-        if (filterMatch) {
-          aspectsToDelete.add(candidateAspect);
-          maxVersion = maxVersion - 1;
-        } else {
-          survivingAspect = candidateAspect;
-          previousMetadata = survivingAspect.getMetadata();
-        }
+    // 4. Fetch all preceding aspects, that match
+    List<EntityAspect> aspectsToDelete = new ArrayList<>();
+    long maxVersion = _aspectDao.getMaxVersion(urn, aspectName);
+    EntityAspect survivingAspect = null;
+    String previousMetadata = null;
+    boolean filterMatch = true;
+    while (maxVersion > 0 && filterMatch)  {
+      EntityAspect candidateAspect = _aspectDao.getAspect(urn, aspectName, maxVersion);
+      SystemMetadata previousSysMetadata = EntityUtils.parseSystemMetadata(candidateAspect.getSystemMetadata());
+      filterMatch = filterMatch(previousSysMetadata, conditions);
+      if (filterMatch) {
+        aspectsToDelete.add(candidateAspect);
+        maxVersion = maxVersion - 1;
+      } else {
+        survivingAspect = candidateAspect;
+        previousMetadata = survivingAspect.getMetadata();
       }
+    }
 
-      // 5. Apply deletes and fix up latest row
-
-      aspectsToDelete.forEach(aspect -> _aspectDao.deleteAspect(aspect));
-
-      if (survivingAspect != null) {
-        // if there was a surviving aspect, copy its information into the latest row
-        // eBean does not like us updating a pkey column (version) for the surviving aspect
-        // as a result we copy information from survivingAspect to latest and delete survivingAspect
-        latest.setMetadata(survivingAspect.getMetadata());
-        latest.setSystemMetadata(survivingAspect.getSystemMetadata());
-        latest.setCreatedOn(survivingAspect.getCreatedOn());
-        latest.setCreatedBy(survivingAspect.getCreatedBy());
-        latest.setCreatedFor(survivingAspect.getCreatedFor());
-        _aspectDao.saveAspect(latest, false);
-        _aspectDao.deleteAspect(survivingAspect);
-      } else {
-        if (isKeyAspect) {
-          if (hardDelete) {
-            // If this is the key aspect, delete the entity entirely.
-            additionalRowsDeleted = _aspectDao.deleteUrn(urn);
-          } else if (entitySpec.hasAspect(Constants.STATUS_ASPECT_NAME)) {
-            // soft delete by setting status.removed=true (if applicable)
-            final Status statusAspect = new Status();
-            statusAspect.setRemoved(true);
-
-            final MetadataChangeProposal gmce = new MetadataChangeProposal();
-            gmce.setEntityUrn(entityUrn);
-            gmce.setChangeType(ChangeType.UPSERT);
-            gmce.setEntityType(entityUrn.getEntityType());
-            gmce.setAspectName(Constants.STATUS_ASPECT_NAME);
-            gmce.setAspect(GenericRecordUtils.serializeAspect(statusAspect));
-            final AuditStamp auditStamp = new AuditStamp().setActor(UrnUtils.getUrn(Constants.SYSTEM_ACTOR)).setTime(System.currentTimeMillis());
-
-            this.ingestProposal(gmce, auditStamp, false);
-          }
-        } else {
-          // Else, only delete the specific aspect.
-          _aspectDao.deleteAspect(latest);
+    // 5. Apply deletes and fix up latest row
+
+    aspectsToDelete.forEach(aspect -> _aspectDao.deleteAspect(aspect));
+
+    if (survivingAspect != null) {
+      // if there was a surviving aspect, copy its information into the latest row
+      // eBean does not like us updating a pkey column (version) for the surviving aspect
+      // as a result we copy information from survivingAspect to latest and delete survivingAspect
+      latest.setMetadata(survivingAspect.getMetadata());
+      latest.setSystemMetadata(survivingAspect.getSystemMetadata());
+      latest.setCreatedOn(survivingAspect.getCreatedOn());
+      latest.setCreatedBy(survivingAspect.getCreatedBy());
+      latest.setCreatedFor(survivingAspect.getCreatedFor());
+      _aspectDao.saveAspect(latest, false);
+      _aspectDao.deleteAspect(survivingAspect);
+    } else {
+      if (isKeyAspect) {
+        if (hardDelete) {
+          // If this is the key aspect, delete the entity entirely.
+          additionalRowsDeleted = _aspectDao.deleteUrn(urn);
+        } else if (entitySpec.hasAspect(Constants.STATUS_ASPECT_NAME)) {
+          // soft delete by setting status.removed=true (if applicable)
+          final Status statusAspect = new Status();
+          statusAspect.setRemoved(true);
+
+          final MetadataChangeProposal gmce = new MetadataChangeProposal();
+          gmce.setEntityUrn(entityUrn);
+          gmce.setChangeType(ChangeType.UPSERT);
+          gmce.setEntityType(entityUrn.getEntityType());
+          gmce.setAspectName(Constants.STATUS_ASPECT_NAME);
+          gmce.setAspect(GenericRecordUtils.serializeAspect(statusAspect));
+
+          softDeletes.add(gmce);
         }
+      } else {
+        // Else, only delete the specific aspect.
+        _aspectDao.deleteAspect(latest);
       }
+    }
 
-      // 6. Emit the Update
-      try {
-        final RecordTemplate latestValue = latest == null ? null
-            : EntityUtils.toAspectRecord(Urn.createFromString(latest.getUrn()), latest.getAspect(),
-                latestMetadata, getEntityRegistry());
-
-        final RecordTemplate previousValue = survivingAspect == null ? null
-            : EntityUtils.toAspectRecord(Urn.createFromString(survivingAspect.getUrn()),
-                survivingAspect.getAspect(), previousMetadata, getEntityRegistry());
-
-        final Urn urnObj = Urn.createFromString(urn);
-        // We are not deleting key aspect if hardDelete has not been set so do not return a rollback result
-        if (isKeyAspect && !hardDelete) {
-          return null;
-        }
-        return new RollbackResult(urnObj, urnObj.getEntityType(), latest.getAspect(), latestValue,
-            previousValue, latestSystemMetadata,
-            previousValue == null ? null : EntityUtils.parseSystemMetadata(survivingAspect.getSystemMetadata()),
-            survivingAspect == null ? ChangeType.DELETE : ChangeType.UPSERT, isKeyAspect, additionalRowsDeleted);
-      } catch (URISyntaxException e) {
-        throw new RuntimeException(String.format("Failed to emit the update for urn %s", urn));
-      } catch (IllegalStateException e) {
-        log.warn("Unable to find aspect, rollback result will not be sent. Error: {}", e.getMessage());
+    // 6. Emit the Update
+    try {
+      final RecordTemplate latestValue = latest == null ? null
+          : EntityUtils.toAspectRecord(Urn.createFromString(latest.getUrn()), latest.getAspect(),
+              latestMetadata, getEntityRegistry());
+
+      final RecordTemplate previousValue = survivingAspect == null ? null
+          : EntityUtils.toAspectRecord(Urn.createFromString(survivingAspect.getUrn()),
+              survivingAspect.getAspect(), previousMetadata, getEntityRegistry());
+
+      final Urn urnObj = Urn.createFromString(urn);
+      // We are not deleting key aspect if hardDelete has not been set so do not return a rollback result
+      if (isKeyAspect && !hardDelete) {
         return null;
       }
-    }, DEFAULT_MAX_TRANSACTION_RETRY);
-
-    return result;
+      return new RollbackResult(urnObj, urnObj.getEntityType(), latest.getAspect(), latestValue,
+          previousValue, latestSystemMetadata,
+          previousValue == null ? null : EntityUtils.parseSystemMetadata(survivingAspect.getSystemMetadata()),
+          survivingAspect == null ? ChangeType.DELETE : ChangeType.UPSERT, isKeyAspect, additionalRowsDeleted);
+    } catch (URISyntaxException e) {
+      throw new RuntimeException(String.format("Failed to emit the update for urn %s", urn));
+    } catch (IllegalStateException e) {
+      log.warn("Unable to find aspect, rollback result will not be sent. Error: {}", e.getMessage());
+      return null;
+    }
   }
 
   protected boolean filterMatch(SystemMetadata systemMetadata, Map<String, String> conditions) {
@@ -1821,8 +2176,8 @@ public class EntityService {
       }
 
       // Aspect found. Now turn it into an EnvelopedAspect
-      final com.linkedin.entity.Aspect aspect = RecordUtils.toRecordTemplate(com.linkedin.entity.Aspect.class, currAspectEntry
-          .getMetadata());
+      final com.linkedin.entity.Aspect aspect = new com.linkedin.entity.Aspect(
+          _aspectRecordCache.getDataMap(currAspectEntry, AspectRecordCache.Form.DATA_MAP, RecordUtils::toDataMap));
       final EnvelopedAspect envelopedAspect = new EnvelopedAspect();
       envelopedAspect.setName(currAspectEntry.getAspect());
       envelopedAspect.setVersion(currAspectEntry.getVersion());
@@ -1881,7 +2236,7 @@ public class EntityService {
 
     // 2. Compare the latest existing and new.
     final RecordTemplate oldValue =
-        latest == null ? null : EntityUtils.toAspectRecord(urn, aspectName, latest.getMetadata(), getEntityRegistry());
+        latest == null ? null : toAspectRecord(urn, latest);
     final RecordTemplate newValue = updateLambda.apply(Optional.ofNullable(oldValue));
 
     // 3. If there is no difference between existing and new, we just update
@@ -1942,7 +2297,7 @@ public class EntityService {
 
       final EntityAspect oldAspect = _aspectDao.getAspect(urn.toString(), aspectName, version);
       final RecordTemplate oldValue =
-          oldAspect == null ? null : EntityUtils.toAspectRecord(urn, aspectName, oldAspect.getMetadata(), getEntityRegistry());
+          oldAspect == null ? null : toAspectRecord(urn, oldAspect);
 
       SystemMetadata oldSystemMetadata =
           oldAspect == null ? new SystemMetadata() : EntityUtils.parseSystemMetadata(oldAspect.getSystemMetadata());
@@ -4,6 +4,7 @@ import com.datahub.util.RecordUtils;
 import com.google.common.base.Preconditions;
 import com.linkedin.common.Status;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.entity.EnvelopedAspect;
@@ -63,6 +64,23 @@ public class EntityUtils {
     return aspectRecord;
   }
 
+  /**
+   * Same as {@link #toAspectRecord(Urn, String, String, EntityRegistry)}, but skips parsing and validation if the
+   * aspect row has been parsed before and is still held by the given cache.
+   */
+  public static RecordTemplate toAspectRecord(
+      @Nonnull final Urn entityUrn,
+      @Nonnull final EntityAspect aspect,
+      @Nonnull final EntityRegistry entityRegistry,
+      @Nonnull final AspectRecordCache aspectRecordCache) {
+    final EntitySpec entitySpec = entityRegistry.getEntitySpec(PegasusUtils.urnToEntityName(entityUrn));
+    final AspectSpec aspectSpec = entitySpec.getAspectSpec(aspect.getAspect());
+    Preconditions.checkState(aspectSpec != null, String.format("Aspect %s could not be found", aspect.getAspect()));
+    final DataMap dataMap = aspectRecordCache.getDataMap(aspect, AspectRecordCache.Form.ASPECT_RECORD,
+        jsonAspect -> toAspectRecord(entityUrn, aspect.getAspect(), jsonAspect, entityRegistry).data());
+    return RecordUtils.toRecordTemplate(aspectSpec.getDataTemplateClass(), dataMap);
+  }
+
   public static SystemMetadata parseSystemMetadata(String jsonSystemMetadata) {
     if (jsonSystemMetadata == null || jsonSystemMetadata.equals("")) {
       SystemMetadata response = new SystemMetadata();
@@ -9,6 +9,7 @@ import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionArgs;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionResult;
+import com.linkedin.metadata.entity.retention.RetentionScheduler;
 import com.linkedin.metadata.key.DataHubRetentionKey;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
@@ -16,8 +17,11 @@ import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.retention.DataHubRetentionConfig;
 import com.linkedin.retention.Retention;
+import com.linkedin.util.Pair;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -42,8 +46,18 @@ public abstract class RetentionService {
   protected static final String DATAHUB_RETENTION_ASPECT = "dataHubRetentionConfig";
   protected static final String DATAHUB_RETENTION_KEY_ASPECT = "dataHubRetentionKey";
 
+  @Nullable
+  private RetentionScheduler _retentionScheduler;
+
   protected abstract EntityService getEntityService();
 
+  /**
+   * Sets the scheduler to hand retention over to from {@link #applyRetentionAsync} and {@link #scheduleRetention}.
+   */
+  public void setRetentionScheduler(@Nullable RetentionScheduler retentionScheduler) {
+    _retentionScheduler = retentionScheduler;
+  }
+
   /**
    * Fetch retention policies given the entityName and aspectName
    * Uses the entity service to fetch the latest retention policies set for the input entity and aspect
@@ -150,9 +164,29 @@ public abstract class RetentionService {
    * @param context Additional context that could be used to apply retention
    */
   public void applyRetentionAsync(@Nonnull Urn urn, @Nonnull String aspectName, Optional<RetentionContext> context) {
+    if (_retentionScheduler != null) {
+      _retentionScheduler.schedule(urn, aspectName, context);
+      return;
+    }
     CompletableFuture.runAsync(() -> applyRetention(urn, aspectName, context));
   }
 
+  /**
+   * Apply retention policies after a write of the given aspect. Hands retention over to the retention scheduler if one
+   * is set, otherwise applies it right away.
+   *
+   * @param urn Urn of the entity
+   * @param aspectName Name of the aspect
+   * @param context Additional context that could be used to apply retention
+   */
+  public void scheduleRetention(@Nonnull Urn urn, @Nonnull String aspectName, Optional<RetentionContext> context) {
+    if (_retentionScheduler != null) {
+      _retentionScheduler.schedule(urn, aspectName, context);
+      return;
+    }
+    applyRetention(urn, aspectName, context);
+  }
+
   /**
    * Apply retention policies given the urn and aspect name
    *
@@ -178,6 +212,37 @@ public abstract class RetentionService {
   public abstract void applyRetention(@Nonnull Urn urn, @Nonnull String aspectName, Retention retentionPolicy,
       Optional<RetentionContext> retentionContext);
 
+  /**
+   * Apply retention policies to a batch of aspects. Implementations may override this to group the deletes of the batch
+   * into fewer statements.
+   *
+   * @param requests aspects to apply retention to
+   */
+  public void applyRetention(@Nonnull List<RetentionRequest> requests) {
+    getRetentionPolicies(requests).forEach((request, retentionPolicy) ->
+        applyRetention(request.getUrn(), request.getAspectName(), retentionPolicy, request.getContext()));
+  }
+
+  /**
+   * Fetch the retention policies of a batch of aspects, fetching the policies of each entity and aspect name only once
+   *
+   * @param requests aspects to fetch the retention policies of
+   * @return retention policies of the input aspects, leaving out the aspects with no policies to apply
+   */
+  protected Map<RetentionRequest, Retention> getRetentionPolicies(@Nonnull List<RetentionRequest> requests) {
+    Map<Pair<String, String>, Retention> retentionPolicies = new HashMap<>();
+    Map<RetentionRequest, Retention> result = new LinkedHashMap<>();
+    for (RetentionRequest request : requests) {
+      Retention retentionPolicy = retentionPolicies.computeIfAbsent(
+          Pair.of(request.getUrn().getEntityType(), request.getAspectName()),
+          key -> getRetention(key.getFirst(), key.getSecond()));
+      if (!retentionPolicy.data().isEmpty()) {
+        result.put(request, retentionPolicy);
+      }
+    }
+    return result;
+  }
+
   /**
    * Batch apply retention to all records that match the input entityName and aspectName
    *
@@ -196,4 +261,11 @@ public abstract class RetentionService {
   public static class RetentionContext {
     Optional<Long> maxVersion;
   }
+
+  @Value
+  public static class RetentionRequest {
+    Urn urn;
+    String aspectName;
+    Optional<RetentionContext> context;
+  }
 }
@@ -6,17 +6,17 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.paging.OffsetPager;
 import com.datastax.oss.driver.api.core.paging.OffsetPager.Page;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
-import com.datastax.oss.driver.api.querybuilder.insert.Insert;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.datastax.oss.driver.api.querybuilder.select.Selector;
 import com.datastax.oss.driver.api.querybuilder.term.Term;
-import com.datastax.oss.driver.api.querybuilder.update.Update;
-import com.datastax.oss.driver.api.querybuilder.update.UpdateWithAssignments;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.AuditStamp;
@@ -33,11 +33,17 @@ import com.linkedin.metadata.query.ExtraInfoArray;
 import com.linkedin.metadata.query.ListResultMetadata;
 import java.net.URISyntaxException;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -51,13 +57,86 @@ import static com.linkedin.metadata.Constants.*;
 
 @Slf4j
 public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
+  public static final int DEFAULT_MAX_IN_FLIGHT_READS = 64;
+
+  // Hot queries, prepared once and bound on every call
+  private static final SimpleStatement GET_ASPECT_STATEMENT = selectFrom(CassandraAspect.TABLE_NAME)
+      .all()
+      .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(bindMarker())
+      .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(bindMarker())
+      .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(bindMarker())
+      .limit(1)
+      .build();
+  private static final SimpleStatement GET_ALL_ASPECTS_STATEMENT = selectFrom(CassandraAspect.TABLE_NAME)
+      .all()
+      .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(bindMarker())
+      .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(bindMarker())
+      .build();
+  private static final SimpleStatement GET_MAX_VERSIONS_STATEMENT = selectFrom(CassandraAspect.TABLE_NAME)
+      .selectors(
+          Selector.column(CassandraAspect.URN_COLUMN),
+          Selector.column(CassandraAspect.ASPECT_COLUMN),
+          Selector.function("max", Selector.column(CassandraAspect.VERSION_COLUMN)).as(CassandraAspect.VERSION_COLUMN))
+      .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(bindMarker())
+      .whereColumn(CassandraAspect.ASPECT_COLUMN).in(bindMarker())
+      .groupBy(ImmutableList.of(
+          Selector.column(CassandraAspect.URN_COLUMN),
+          Selector.column(CassandraAspect.ASPECT_COLUMN)))
+      .build();
+  private static final SimpleStatement INSERT_ASPECT_STATEMENT = insertInto(CassandraAspect.TABLE_NAME)
+      .value(CassandraAspect.URN_COLUMN, bindMarker())
+      .value(CassandraAspect.ASPECT_COLUMN, bindMarker())
+      .value(CassandraAspect.VERSION_COLUMN, bindMarker())
+      .value(CassandraAspect.SYSTEM_METADATA_COLUMN, bindMarker())
+      .value(CassandraAspect.METADATA_COLUMN, bindMarker())
+      .value(CassandraAspect.CREATED_ON_COLUMN, bindMarker())
+      .value(CassandraAspect.CREATED_FOR_COLUMN, bindMarker())
+      .value(CassandraAspect.ENTITY_COLUMN, bindMarker())
+      .value(CassandraAspect.CREATED_BY_COLUMN, bindMarker())
+      .ifNotExists()
+      .build();
+  private static final SimpleStatement UPDATE_ASPECT_STATEMENT = update(CassandraAspect.TABLE_NAME)
+      .setColumn(CassandraAspect.METADATA_COLUMN, bindMarker())
+      .setColumn(CassandraAspect.SYSTEM_METADATA_COLUMN, bindMarker())
+      .setColumn(CassandraAspect.CREATED_ON_COLUMN, bindMarker())
+      .setColumn(CassandraAspect.CREATED_BY_COLUMN, bindMarker())
+      .setColumn(CassandraAspect.CREATED_FOR_COLUMN, bindMarker())
+      .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(bindMarker())
+      .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(bindMarker())
+      .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(bindMarker())
+      .ifExists()
+      .build();
+  private static final SimpleStatement DELETE_ASPECT_STATEMENT = deleteFrom(CassandraAspect.TABLE_NAME)
+      .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(bindMarker())
+      .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(bindMarker())
+      .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(bindMarker())
+      .ifExists()
+      .build();
+  private static final SimpleStatement DELETE_URN_STATEMENT = deleteFrom(CassandraAspect.TABLE_NAME)
+      .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(bindMarker())
+      .build();
 
   private final CqlSession _cqlSession;
+  private final int _maxInFlightReads;
+  private final CassandraTokenRangeScanner _scanner;
+  private final Map<String, PreparedStatement> _preparedStatements = new ConcurrentHashMap<>();
   private boolean _canWrite = true;
   private boolean _connectionValidated = false;
 
   public CassandraAspectDao(@Nonnull final CqlSession cqlSession) {
+    this(cqlSession, DEFAULT_MAX_IN_FLIGHT_READS, new CassandraTokenRangeScanner(cqlSession));
+  }
+
+  /**
+   * @param cqlSession session to the keyspace of the aspects table
+   * @param maxInFlightReads max number of reads of a batch get sent before their results come back
+   * @param scanner scanner of full table reads
+   */
+  public CassandraAspectDao(@Nonnull final CqlSession cqlSession, final int maxInFlightReads,
+      @Nonnull final CassandraTokenRangeScanner scanner) {
     _cqlSession = cqlSession;
+    _maxInFlightReads = Math.max(1, maxInFlightReads);
+    _scanner = scanner;
   }
 
   public void setConnectionValidated(boolean validated) {
@@ -94,16 +173,13 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public long countEntities() {
     validateConnection();
-    SimpleStatement ss = selectFrom(CassandraAspect.TABLE_NAME)
+    Select select = selectFrom(CassandraAspect.TABLE_NAME)
         .distinct()
-        .column(CassandraAspect.URN_COLUMN)
-        .build();
+        .column(CassandraAspect.URN_COLUMN);
 
-    ResultSet rs = _cqlSession.execute(ss);
-    // TODO: make sure it doesn't blow up on a large database
-    //  Getting a count of distinct values in a Cassandra query doesn't seem to be feasible, but counting them in the app is dangerous
-    //  The saving grace here is that the only place where this method is used should only run once, what the database is still young
-    return rs.all().size();
+    // Getting a count of distinct values in a Cassandra query doesn't seem to be feasible, so partitions are counted
+    // as they are scanned, token range by token range, without holding on to them
+    return _scanner.scan(select, row -> { });
   }
 
   @Override
@@ -121,17 +197,7 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   }
 
   private Map<String, Long> getMaxVersions(@Nonnull final String urn, @Nonnull final Set<String> aspectNames) {
-    SimpleStatement ss = selectFrom(CassandraAspect.TABLE_NAME)
-        .selectors(
-            Selector.column(CassandraAspect.URN_COLUMN),
-            Selector.column(CassandraAspect.ASPECT_COLUMN),
-            Selector.function("max", Selector.column(CassandraAspect.VERSION_COLUMN)).as(CassandraAspect.VERSION_COLUMN))
-        .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn))
-        .whereColumn(CassandraAspect.ASPECT_COLUMN).in(aspectNamesToLiterals(aspectNames))
-        .groupBy(ImmutableList.of(Selector.column(CassandraAspect.URN_COLUMN), Selector.column(CassandraAspect.ASPECT_COLUMN)))
-        .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs = _cqlSession.execute(prepare(GET_MAX_VERSIONS_STATEMENT).bind(urn, new ArrayList<>(aspectNames)));
     Map<String, Long> aspectVersions = rs.all().stream()
         .collect(Collectors.toMap(
             row -> row.getString(CassandraAspect.ASPECT_COLUMN),
@@ -150,20 +216,45 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public void saveAspect(@Nonnull EntityAspect aspect, final boolean insert) {
     validateConnection();
-    SimpleStatement statement = generateSaveStatement(aspect, insert);
+    BoundStatement statement = generateSaveStatement(aspect, insert);
     _cqlSession.execute(statement);
   }
 
-  // TODO: can further improve by running the sub queries in parallel
-  // TODO: look into supporting pagination
+  /**
+   * Reads the aspects with point reads sent asynchronously, with at most maxInFlightReads reads waiting for their
+   * results at a time. Every read is routed to a replica of its partition, so that the reads of a batch are served by
+   * the whole cluster in parallel.
+   */
   @Override
   @Nonnull
   public Map<EntityAspectIdentifier, EntityAspect> batchGet(@Nonnull final Set<EntityAspectIdentifier> keys) {
     validateConnection();
-    return keys.stream()
-        .map(this::getAspect)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toMap(EntityAspect::toAspectIdentifier, aspect -> aspect));
+    final PreparedStatement statement = prepare(GET_ASPECT_STATEMENT);
+    final Semaphore inFlight = new Semaphore(_maxInFlightReads);
+    final List<CompletableFuture<EntityAspect>> reads = new ArrayList<>(keys.size());
+    for (EntityAspectIdentifier key : keys) {
+      inFlight.acquireUninterruptibly();
+      reads.add(_cqlSession.executeAsync(statement.bind(key.getUrn(), key.getAspect(), key.getVersion()))
+          .toCompletableFuture()
+          .whenComplete((rs, e) -> inFlight.release())
+          .thenApply(rs -> {
+            Row row = rs.one();
+            return row == null ? null : CassandraAspect.rowToEntityAspect(row);
+          }));
+    }
+
+    try {
+      return reads.stream()
+          .map(CompletableFuture::join)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toMap(EntityAspect::toAspectIdentifier, aspect -> aspect));
+    } catch (CompletionException e) {
+      // Surface driver exceptions as the synchronous reads would, for transactions to be retried on them
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
   }
 
   @Override
@@ -204,6 +295,8 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
     ResultSet rs = _cqlSession.execute(ss);
 
+    // The offset pager reads and discards every row ahead of the page, so a pass over all the pages is quadratic.
+    // Passes over the whole table should scan it with the CassandraTokenRangeScanner instead.
     int pageNumber = start / pageSize + 1;
     OffsetPager offsetPager = new OffsetPager(pageSize);
     Page<Row> page = offsetPager.getPage(rs, pageNumber);
@@ -320,36 +413,21 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public void deleteAspect(@Nonnull final EntityAspect aspect) {
     validateConnection();
-    SimpleStatement ss = deleteFrom(CassandraAspect.TABLE_NAME)
-        .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(aspect.getUrn()))
-        .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspect.getAspect()))
-        .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(literal(aspect.getVersion()))
-        .ifExists()
-        .build();
-
-    _cqlSession.execute(ss);
+    _cqlSession.execute(
+        prepare(DELETE_ASPECT_STATEMENT).bind(aspect.getUrn(), aspect.getAspect(), aspect.getVersion()));
   }
 
   @Override
   public int deleteUrn(@Nonnull final String urn) {
     validateConnection();
-    SimpleStatement ss = deleteFrom(CassandraAspect.TABLE_NAME)
-        .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn))
-        .build();
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs = _cqlSession.execute(prepare(DELETE_URN_STATEMENT).bind(urn));
     // TODO: look into how to get around this for counts in Cassandra
     // https://stackoverflow.com/questions/28611459/how-to-know-affected-rows-in-cassandracql
     return rs.getExecutionInfo().getErrors().size() == 0 ? -1 : 0;
   }
 
   public List<EntityAspect> getAllAspects(String urn, String aspectName) {
-    SimpleStatement ss = selectFrom(CassandraAspect.TABLE_NAME)
-        .all()
-        .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn))
-        .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspectName))
-        .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs = _cqlSession.execute(prepare(GET_ALL_ASPECTS_STATEMENT).bind(urn, aspectName));
     return rs.all().stream().map(CassandraAspect::rowToEntityAspect).collect(Collectors.toList());
   }
 
@@ -357,15 +435,7 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Nullable
   public EntityAspect getAspect(@Nonnull String urn, @Nonnull String aspectName, long version) {
     validateConnection();
-    SimpleStatement ss = selectFrom(CassandraAspect.TABLE_NAME)
-      .all()
-      .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn))
-      .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspectName))
-      .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(literal(version))
-      .limit(1)
-      .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs = _cqlSession.execute(prepare(GET_ASPECT_STATEMENT).bind(urn, aspectName, version));
     Row row = rs.one();
     return row == null ? null : CassandraAspect.rowToEntityAspect(row);
   }
@@ -417,6 +487,58 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return toListResult(urns, null, start, pageNumber, pageSize, totalCount);
   }
 
+  @Override
+  @Nonnull
+  public ListResult<String> listUrns(
+      @Nonnull final String entityName,
+      @Nonnull final String aspectName,
+      @Nullable final String afterUrn,
+      final int pageSize) {
+
+    validateConnection();
+    Select select = selectFrom(CassandraAspect.TABLE_NAME)
+        .column(CassandraAspect.URN_COLUMN)
+        .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspectName))
+        .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(literal(ASPECT_LATEST_VERSION))
+        .whereColumn(CassandraAspect.ENTITY_COLUMN).isEqualTo(literal(entityName));
+    if (afterUrn != null) {
+      // Partitions are stored in token order, so seek past the token of the cursor
+      select = select.whereToken(CassandraAspect.URN_COLUMN).isGreaterThan(function("token", literal(afterUrn)));
+    }
+    // One more row than a page tells whether there is a next page
+    SimpleStatement ss = select.limit(pageSize + 1).allowFiltering().build();
+
+    final List<String> urns = _cqlSession.execute(ss)
+        .all()
+        .stream()
+        .map(row -> row.getString(CassandraAspect.URN_COLUMN))
+        .collect(Collectors.toList());
+    final boolean hasNext = urns.size() > pageSize;
+
+    // Counting reads every row of the aspect, so is only done for the first page
+    int totalCount = -1;
+    if (afterUrn == null) {
+      SimpleStatement ssCount = selectFrom(CassandraAspect.TABLE_NAME)
+          .countAll()
+          .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspectName))
+          .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(literal(ASPECT_LATEST_VERSION))
+          .whereColumn(CassandraAspect.ENTITY_COLUMN).isEqualTo(literal(entityName))
+          .allowFiltering()
+          .build();
+      totalCount = (int) _cqlSession.execute(ssCount).one().getLong(0);
+    }
+
+    return ListResult.<String>builder()
+      .values(hasNext ? urns.subList(0, pageSize) : urns)
+      .metadata(null)
+      .nextStart(ListResult.INVALID_NEXT_START)
+      .hasNext(hasNext)
+      .totalCount(totalCount)
+      .totalPageCount(totalCount < 0 ? -1 : (totalCount + pageSize - 1) / pageSize)
+      .pageSize(pageSize)
+      .build();
+  }
+
   @Nonnull
   @Override
   public Integer countAspect(@Nonnull String aspectName, @Nullable String urnLike) {
@@ -426,8 +548,9 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
   @Nonnull
   public PagedList<EbeanAspectV2> getPagedAspects(final RestoreIndicesArgs args) {
-    // Not implemented
-    return null;
+    // Restoring indices pages through Ebean rows. A Cassandra restore would scan the table with the
+    // CassandraTokenRangeScanner instead, which the restore indices job does not support yet.
+    throw new UnsupportedOperationException("Restoring indices is not supported with the Cassandra aspect DAO");
   }
 
 
@@ -451,6 +574,26 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
         .collect(Collectors.toList());
   }
 
+  @Override
+  @Nonnull
+  public Iterable<String> listAllUrns(@Nullable String afterUrn, int pageSize) {
+    validateConnection();
+    Select select = selectFrom(CassandraAspect.TABLE_NAME)
+        .distinct()
+        .column(CassandraAspect.URN_COLUMN);
+    if (afterUrn != null) {
+      // Partitions are stored in token order, so seek past the token of the cursor
+      select = select.whereToken(CassandraAspect.URN_COLUMN).isGreaterThan(function("token", literal(afterUrn)));
+    }
+    SimpleStatement ss = select.limit(pageSize).build();
+
+    return _cqlSession.execute(ss)
+        .all()
+        .stream()
+        .map(row -> row.getString(CassandraAspect.URN_COLUMN))
+        .collect(Collectors.toList());
+  }
+
   @Override
   public long getNextVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
     validateConnection();
@@ -528,44 +671,42 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return largestVersion;
   }
 
-  private SimpleStatement generateSaveStatement(EntityAspect aspect, boolean insert) {
+  private BoundStatement generateSaveStatement(EntityAspect aspect, boolean insert) {
     String entity;
     try {
       entity = (new Urn(aspect.getUrn())).getEntityType();
     } catch (URISyntaxException e) {
       throw new RuntimeException(e);
     }
+    final Instant createdOn = aspect.getCreatedOn().toInstant();
     if (insert) {
-      Insert ri = insertInto(CassandraAspect.TABLE_NAME)
-              .value(CassandraAspect.URN_COLUMN, literal(aspect.getUrn()))
-              .value(CassandraAspect.ASPECT_COLUMN, literal(aspect.getAspect()))
-              .value(CassandraAspect.VERSION_COLUMN, literal(aspect.getVersion()))
-              .value(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
-              .value(CassandraAspect.METADATA_COLUMN, literal(aspect.getMetadata()))
-              .value(CassandraAspect.CREATED_ON_COLUMN, literal(aspect.getCreatedOn().getTime()))
-              .value(CassandraAspect.CREATED_FOR_COLUMN, literal(aspect.getCreatedFor()))
-              .value(CassandraAspect.ENTITY_COLUMN, literal(entity))
-              .value(CassandraAspect.CREATED_BY_COLUMN, literal(aspect.getCreatedBy()))
-              .ifNotExists();
-      return ri.build();
+      return prepare(INSERT_ASPECT_STATEMENT).bind(
+          aspect.getUrn(),
+          aspect.getAspect(),
+          aspect.getVersion(),
+          aspect.getSystemMetadata(),
+          aspect.getMetadata(),
+          createdOn,
+          aspect.getCreatedFor(),
+          entity,
+          aspect.getCreatedBy());
     } else {
-
-      UpdateWithAssignments uwa = update(CassandraAspect.TABLE_NAME)
-              .setColumn(CassandraAspect.METADATA_COLUMN, literal(aspect.getMetadata()))
-              .setColumn(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
-              .setColumn(CassandraAspect.CREATED_ON_COLUMN, literal(aspect.getCreatedOn().getTime()))
-              .setColumn(CassandraAspect.CREATED_BY_COLUMN, literal(aspect.getCreatedBy()))
-              .setColumn(CassandraAspect.CREATED_FOR_COLUMN, literal(aspect.getCreatedFor()));
-
-      Update u = uwa.whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(aspect.getUrn()))
-              .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspect.getAspect()))
-              .whereColumn(CassandraAspect.VERSION_COLUMN).isEqualTo(literal(aspect.getVersion()))
-              .ifExists();
-
-      return u.build();
+      return prepare(UPDATE_ASPECT_STATEMENT).bind(
+          aspect.getMetadata(),
+          aspect.getSystemMetadata(),
+          createdOn,
+          aspect.getCreatedBy(),
+          aspect.getCreatedFor(),
+          aspect.getUrn(),
+          aspect.getAspect(),
+          aspect.getVersion());
     }
   }
 
+  private PreparedStatement prepare(@Nonnull SimpleStatement statement) {
+    return _preparedStatements.computeIfAbsent(statement.getQuery(), query -> _cqlSession.prepare(statement));
+  }
+
   @Override
   public void setWritable(boolean canWrite) {
     _canWrite = canWrite;
@@ -2,6 +2,9 @@ package com.linkedin.metadata.entity.cassandra;
 
 import com.datahub.util.RecordUtils;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -21,13 +24,15 @@ import com.linkedin.retention.Retention;
 import com.linkedin.retention.TimeBasedRetention;
 import com.linkedin.retention.VersionBasedRetention;
 import io.opentelemetry.extension.annotations.WithSpan;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.sql.Timestamp;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,11 +45,23 @@ import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.selectFrom;
 import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 
 @Slf4j
-@RequiredArgsConstructor
 public class CassandraRetentionService extends RetentionService {
   private final EntityService _entityService;
   private final CqlSession _cqlSession;
   private final int _batchSize;
+  private final CassandraTokenRangeScanner _scanner;
+
+  public CassandraRetentionService(EntityService entityService, CqlSession cqlSession, int batchSize) {
+    this(entityService, cqlSession, batchSize, new CassandraTokenRangeScanner(cqlSession));
+  }
+
+  public CassandraRetentionService(EntityService entityService, CqlSession cqlSession, int batchSize,
+      CassandraTokenRangeScanner scanner) {
+    _entityService = entityService;
+    _cqlSession = cqlSession;
+    _batchSize = batchSize;
+    _scanner = scanner;
+  }
 
   private final Clock _clock = Clock.systemUTC();
 
@@ -62,13 +79,40 @@ public class CassandraRetentionService extends RetentionService {
       return;
     }
 
+    getRetentionStatements(urn, aspectName, retentionPolicy, retentionContext).forEach(_cqlSession::execute);
+  }
+
+  @Override
+  @WithSpan
+  public void applyRetention(@Nonnull List<RetentionRequest> requests) {
+    log.debug("Applying retention to {} aspects", requests.size());
+    // All aspects of an urn are in the same partition, so send the deletes of each urn as a single unlogged batch
+    Map<Urn, List<BatchableStatement<?>>> statementsByUrn = new LinkedHashMap<>();
+    getRetentionPolicies(requests).forEach((request, retentionPolicy) ->
+        statementsByUrn.computeIfAbsent(request.getUrn(), urn -> new ArrayList<>())
+            .addAll(getRetentionStatements(request.getUrn(), request.getAspectName(), retentionPolicy,
+                request.getContext())));
+    for (List<BatchableStatement<?>> statements : statementsByUrn.values()) {
+      if (statements.size() == 1) {
+        _cqlSession.execute(statements.get(0));
+      } else if (!statements.isEmpty()) {
+        _cqlSession.execute(BatchStatement.newInstance(BatchType.UNLOGGED, statements));
+      }
+    }
+  }
+
+  private List<SimpleStatement> getRetentionStatements(@Nonnull Urn urn, @Nonnull String aspectName,
+      @Nonnull Retention retentionPolicy, Optional<RetentionContext> retentionContext) {
+    List<SimpleStatement> statements = new ArrayList<>();
     if (retentionPolicy.hasVersion()) {
-      applyVersionBasedRetention(urn, aspectName, retentionPolicy.getVersion(), retentionContext.flatMap(RetentionService.RetentionContext::getMaxVersion));
+      statements.add(getVersionBasedRetentionStatement(urn, aspectName, retentionPolicy.getVersion(),
+          retentionContext.flatMap(RetentionService.RetentionContext::getMaxVersion)));
     }
 
     if (retentionPolicy.hasTime()) {
-      applyTimeBasedRetention(urn, aspectName, retentionPolicy.getTime());
+      statements.add(getTimeBasedRetentionStatement(urn, aspectName, retentionPolicy.getTime()));
     }
+    return statements;
   }
 
   @Override
@@ -120,7 +164,7 @@ public class CassandraRetentionService extends RetentionService {
     return null;
   }
 
-  private void applyVersionBasedRetention(
+  private SimpleStatement getVersionBasedRetentionStatement(
       @Nonnull final Urn urn,
       @Nonnull final String aspectName,
       @Nonnull final VersionBasedRetention retention,
@@ -128,14 +172,12 @@ public class CassandraRetentionService extends RetentionService {
 
     long largestVersion = maxVersionFromUpdate.orElseGet(() -> getMaxVersion(urn, aspectName));
 
-    SimpleStatement ss = deleteFrom(CassandraAspect.TABLE_NAME)
+    return deleteFrom(CassandraAspect.TABLE_NAME)
         .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn.toString()))
         .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspectName))
         .whereColumn(CassandraAspect.VERSION_COLUMN).isGreaterThan(literal(ASPECT_LATEST_VERSION))
         .whereColumn(CassandraAspect.VERSION_COLUMN).isLessThanOrEqualTo(literal(largestVersion - retention.getMaxVersions() + 1L))
         .build();
-
-    _cqlSession.execute(ss);
   }
 
   private long getMaxVersion(@Nonnull final Urn urn, @Nonnull final String aspectName) {
@@ -150,18 +192,16 @@ public class CassandraRetentionService extends RetentionService {
     return row.getLong(CassandraAspect.VERSION_COLUMN);
   }
 
-  private void applyTimeBasedRetention(
+  private SimpleStatement getTimeBasedRetentionStatement(
       @Nonnull final Urn urn,
       @Nonnull final String aspectName,
       @Nonnull final TimeBasedRetention retention) {
     Timestamp threshold = new Timestamp(_clock.millis() - retention.getMaxAgeInSeconds() * 1000);
-    SimpleStatement ss = deleteFrom(CassandraAspect.TABLE_NAME)
+    return deleteFrom(CassandraAspect.TABLE_NAME)
         .whereColumn(CassandraAspect.URN_COLUMN).isEqualTo(literal(urn.toString()))
         .whereColumn(CassandraAspect.ASPECT_COLUMN).isEqualTo(literal(aspectName))
         .whereColumn(CassandraAspect.CREATED_ON_COLUMN).isLessThanOrEqualTo(literal(threshold))
         .build();
-
-    _cqlSession.execute(ss);
   }
 
   private List<EntityAspectIdentifier> queryCandidates(@Nullable String entityName, @Nullable String aspectName) {
@@ -179,9 +219,10 @@ public class CassandraRetentionService extends RetentionService {
       select = select.whereColumn(CassandraAspect.ENTITY_COLUMN).isEqualTo(literal(entityName));
     }
     select = select.groupBy(ImmutableList.of(Selector.column(CassandraAspect.URN_COLUMN), Selector.column(CassandraAspect.ASPECT_COLUMN)));
-    SimpleStatement ss = select.build();
-    ResultSet rs = _cqlSession.execute(ss);
-    return rs.all().stream().map(CassandraAspect::rowToAspectIdentifier).collect(Collectors.toList());
+    // Scanned token range by token range, rather than through a single coordinator going over the whole table
+    final List<EntityAspectIdentifier> candidates = Collections.synchronizedList(new ArrayList<>());
+    _scanner.scan(select, row -> candidates.add(CassandraAspect.rowToAspectIdentifier(row)));
+    return candidates;
   }
 
   private Map<String, DataHubRetentionConfig> getAllRetentionPolicies() {
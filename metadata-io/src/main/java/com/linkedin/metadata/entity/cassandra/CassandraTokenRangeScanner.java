@@ -0,0 +1,127 @@
+package com.linkedin.metadata.entity.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
+
+
+/**
+ * Runs full table scans of the aspects table as one query per token range, on a pool of numThreads workers.
+ *
+ * A single scan query is driven by a single coordinator, which reads every partition of the table one after the other.
+ * Splitting the Murmur3 token ring into numSplits ranges of equal width spreads the scan over the coordinators and
+ * replicas of every range instead, and lets the ranges be read in parallel.
+ *
+ * Rows of every range are read page by page, and handed over to the row consumer, which is called concurrently for
+ * different ranges.
+ */
+@Slf4j
+public class CassandraTokenRangeScanner {
+  public static final int DEFAULT_NUM_SPLITS = 64;
+  public static final int DEFAULT_NUM_THREADS = 4;
+  private static final int PAGE_SIZE = 1000;
+
+  private final CqlSession _cqlSession;
+  private final int _numSplits;
+  private final int _numThreads;
+  private final Map<String, PreparedStatement> _preparedStatements = new ConcurrentHashMap<>();
+
+  public CassandraTokenRangeScanner(@Nonnull CqlSession cqlSession) {
+    this(cqlSession, DEFAULT_NUM_SPLITS, DEFAULT_NUM_THREADS);
+  }
+
+  public CassandraTokenRangeScanner(@Nonnull CqlSession cqlSession, int numSplits, int numThreads) {
+    _cqlSession = cqlSession;
+    _numSplits = Math.max(1, numSplits);
+    _numThreads = Math.max(1, numThreads);
+  }
+
+  /**
+   * Scans the rows selected by a query, which must not restrict the token of the partition key itself.
+   *
+   * @return number of rows scanned
+   */
+  public long scan(@Nonnull Select select, @Nonnull Consumer<Row> rowConsumer) {
+    final PreparedStatement statement = prepare(select
+        .whereToken(CassandraAspect.URN_COLUMN).isGreaterThan(bindMarker())
+        .whereToken(CassandraAspect.URN_COLUMN).isLessThanOrEqualTo(bindMarker()));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(_numThreads);
+    try {
+      final List<CompletableFuture<Long>> scans = splitTokenRing(_numSplits).stream()
+          .map(range -> CompletableFuture.supplyAsync(() -> scan(statement, range, rowConsumer), executor))
+          .collect(Collectors.toList());
+      return scans.stream().mapToLong(CompletableFuture::join).sum();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private long scan(@Nonnull PreparedStatement statement, @Nonnull TokenRange range,
+      @Nonnull Consumer<Row> rowConsumer) {
+    final ResultSet rs = _cqlSession.execute(statement.bind(range.getStart(), range.getEnd()).setPageSize(PAGE_SIZE));
+    long scanned = 0;
+    // Further pages are fetched as the result set is iterated
+    for (Row row : rs) {
+      rowConsumer.accept(row);
+      scanned++;
+    }
+    MetricUtils.counter(this.getClass(), "rowsScanned").inc(scanned);
+    return scanned;
+  }
+
+  private PreparedStatement prepare(@Nonnull Select select) {
+    final String query = select.asCql();
+    return _preparedStatements.computeIfAbsent(query, _cqlSession::prepare);
+  }
+
+  /**
+   * Splits the Murmur3 token ring into numSplits contiguous ranges of about the same width, covering the whole ring.
+   * Ranges are exclusive of their start and inclusive of their end, like the ring's own ranges.
+   */
+  @Nonnull
+  static List<TokenRange> splitTokenRing(int numSplits) {
+    final BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+    final BigInteger width = BigInteger.valueOf(Long.MAX_VALUE).subtract(min).divide(BigInteger.valueOf(numSplits));
+    final List<TokenRange> ranges = new ArrayList<>(numSplits);
+    long start = Long.MIN_VALUE;
+    for (int i = 1; i <= numSplits; i++) {
+      final long end = i == numSplits
+          ? Long.MAX_VALUE
+          : min.add(width.multiply(BigInteger.valueOf(i))).longValueExact();
+      ranges.add(new TokenRange(start, end));
+      start = end;
+    }
+    return ranges;
+  }
+
+  @Value
+  static class TokenRange {
+    long start;
+    long end;
+  }
+}
@@ -2,6 +2,7 @@ package com.linkedin.metadata.entity.ebean;
 
 import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
+import com.google.common.collect.Iterators;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.AspectDao;
@@ -22,6 +23,7 @@ import io.ebean.PagedList;
 import io.ebean.Query;
 import io.ebean.RawSql;
 import io.ebean.RawSqlBuilder;
+import io.ebean.SqlRow;
 import io.ebean.Transaction;
 import io.ebean.TxScope;
 import io.ebean.annotation.TxIsolation;
@@ -392,6 +394,41 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return toListResult(urns, null, pagedList, start);
   }
 
+  @Override
+  @Nonnull
+  public ListResult<String> listUrns(
+      @Nonnull final String entityName,
+      @Nonnull final String aspectName,
+      @Nullable final String afterUrn,
+      final int pageSize) {
+
+    validateConnection();
+
+    final String urnPrefixMatcher = "urn:li:" + entityName + ":%";
+    ExpressionList<EbeanAspectV2> exp = _server.find(EbeanAspectV2.class)
+        .select(EbeanAspectV2.KEY_ID)
+        .where()
+        .like(EbeanAspectV2.URN_COLUMN, urnPrefixMatcher)
+        .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
+        .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION);
+    if (afterUrn != null) {
+      // Seek past the cursor on the primary key instead of skipping rows
+      exp = exp.gt(EbeanAspectV2.URN_COLUMN, afterUrn);
+    }
+    // One more row than a page tells whether there is a next page
+    final List<String> urns = exp.orderBy()
+        .asc(EbeanAspectV2.URN_COLUMN)
+        .setMaxRows(pageSize + 1)
+        .findList()
+        .stream()
+        .map(entry -> entry.getKey().getUrn())
+        .collect(Collectors.toList());
+
+    // Counting reads every urn of the entity, so is only done for the first page
+    final int totalCount = afterUrn == null ? countAspect(aspectName, urnPrefixMatcher) : -1;
+    return toListResult(urns, pageSize, totalCount);
+  }
+
   @Nonnull
   @Override
   public Integer countAspect(@Nonnull String aspectName, @Nullable String urnLike) {
@@ -423,11 +460,19 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     if (args.urnLike != null) {
       exp = exp.like(EbeanAspectV2.URN_COLUMN, args.urnLike);
     }
+    int firstRow = args.start;
+    if (args.lastUrn != null) {
+      // Seek past the cursor instead of skipping rows, so deep pages cost the same as the first one. Only latest
+      // versions are read, so (urn, aspect) identifies a row.
+      exp = exp.raw(String.format("(%s > ? OR (%s = ? AND %s > ?))", EbeanAspectV2.URN_COLUMN,
+          EbeanAspectV2.URN_COLUMN, EbeanAspectV2.ASPECT_COLUMN), args.lastUrn, args.lastUrn, args.lastAspect);
+      firstRow = 0;
+    }
     return  exp.orderBy()
             .asc(EbeanAspectV2.URN_COLUMN)
             .orderBy()
             .asc(EbeanAspectV2.ASPECT_COLUMN)
-            .setFirstRow(args.start)
+            .setFirstRow(firstRow)
             .setMaxRows(args.batchSize)
             .findPagedList();
   }
@@ -447,6 +492,26 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return ebeanAspects.getList().stream().map(EbeanAspectV2::getUrn).collect(Collectors.toList());
   }
 
+  @Override
+  @Nonnull
+  public Iterable<String> listAllUrns(@Nullable String afterUrn, int pageSize) {
+    validateConnection();
+    ExpressionList<EbeanAspectV2> exp = _server.find(EbeanAspectV2.class)
+        .setDistinct(true)
+        .select(EbeanAspectV2.URN_COLUMN)
+        .where();
+    if (afterUrn != null) {
+      exp = exp.gt(EbeanAspectV2.URN_COLUMN, afterUrn);
+    }
+    return exp.orderBy()
+        .asc(EbeanAspectV2.URN_COLUMN)
+        .setMaxRows(pageSize)
+        .findList()
+        .stream()
+        .map(EbeanAspectV2::getUrn)
+        .collect(Collectors.toList());
+  }
+
   @Override
   @Nonnull
   public ListResult<String> listAspectMetadata(
@@ -570,6 +635,50 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return result;
   }
 
+  /**
+   * Resolves the next versions for many urns by issuing one grouped MAX(version) query per page of urns, rather than
+   * one query per urn.
+   */
+  @Override
+  @Nonnull
+  public Map<String, Map<String, Long>> getNextVersions(@Nonnull final Map<String, Set<String>> urnAspects) {
+    validateConnection();
+    final Map<String, Map<String, Long>> result = new HashMap<>();
+    if (urnAspects.isEmpty()) {
+      return result;
+    }
+
+    final String sql = String.format("SELECT urn, aspect, MAX(version) AS max_version FROM %s "
+            + "WHERE urn IN (:urns) AND aspect IN (:aspects) GROUP BY urn, aspect",
+        EbeanAspectV2.class.getAnnotation(Table.class).name());
+    final int pageSize = _queryKeysCount == 0 ? urnAspects.size() : _queryKeysCount;
+    final Map<String, Map<String, Long>> maxVersions = new HashMap<>();
+    Iterators.partition(urnAspects.keySet().iterator(), pageSize).forEachRemaining(urns -> {
+      final Set<String> aspectNames = urns.stream()
+          .flatMap(urn -> urnAspects.get(urn).stream())
+          .collect(Collectors.toSet());
+      final List<SqlRow> rows = _server.createSqlQuery(sql)
+          .setParameter("urns", urns)
+          .setParameter("aspects", aspectNames)
+          .findList();
+      for (SqlRow row : rows) {
+        maxVersions.computeIfAbsent(row.getString(EbeanAspectV2.URN_COLUMN), key -> new HashMap<>())
+            .put(row.getString(EbeanAspectV2.ASPECT_COLUMN), row.getLong("max_version"));
+      }
+    });
+
+    urnAspects.forEach((urn, aspectNames) -> {
+      final Map<String, Long> urnMaxVersions = maxVersions.getOrDefault(urn, Collections.emptyMap());
+      final Map<String, Long> nextVersions = new HashMap<>();
+      for (String aspectName : aspectNames) {
+        final Long maxVersion = urnMaxVersions.get(aspectName);
+        nextVersions.put(aspectName, maxVersion == null ? ASPECT_LATEST_VERSION : maxVersion + 1L);
+      }
+      result.put(urn, nextVersions);
+    });
+    return result;
+  }
+
   @Nonnull
   private <T> ListResult<T> toListResult(
       @Nonnull final List<T> values,
@@ -590,6 +699,26 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
         .build();
   }
 
+  /**
+   * Builds the result of a page listed after a cursor, from the rows read for it plus the first row of the next page.
+   */
+  @Nonnull
+  private static ListResult<String> toListResult(
+      @Nonnull final List<String> values,
+      final int pageSize,
+      final int totalCount) {
+    final boolean hasNext = values.size() > pageSize;
+    return ListResult.<String>builder()
+        .values(hasNext ? values.subList(0, pageSize) : values)
+        .metadata(null)
+        .nextStart(ListResult.INVALID_NEXT_START)
+        .hasNext(hasNext)
+        .totalCount(totalCount)
+        .totalPageCount(totalCount < 0 ? -1 : (totalCount + pageSize - 1) / pageSize)
+        .pageSize(pageSize)
+        .build();
+  }
+
   @Nonnull
   private static ExtraInfo toExtraInfo(@Nonnull final EbeanAspectV2 aspect) {
     final ExtraInfo extraInfo = new ExtraInfo();
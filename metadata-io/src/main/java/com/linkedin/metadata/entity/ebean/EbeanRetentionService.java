@@ -22,6 +22,7 @@ import io.opentelemetry.extension.annotations.WithSpan;
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -65,6 +66,45 @@ public class EbeanRetentionService extends RetentionService {
         .ne(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
         .or();
 
+    List<Expression> filterList = getRetentionFilters(urn, aspectName, retentionPolicy, retentionContext);
+
+    // Only run delete if at least one of the retention policies are applicable
+    if (!filterList.isEmpty()) {
+      filterList.forEach(deleteQuery::add);
+      deleteQuery.endOr().delete();
+    }
+  }
+
+  @Override
+  @WithSpan
+  public void applyRetention(@Nonnull List<RetentionRequest> requests) {
+    log.debug("Applying retention to {} aspects", requests.size());
+    // Delete the old versions of all aspects of the batch with the same name in a single statement, of the form
+    // aspect = ? and version != 0 and ((urn = ? and (<filters>)) or (urn = ? and (<filters>)) or ...)
+    Map<String, ExpressionList<EbeanAspectV2>> deleteQueries = new HashMap<>();
+    getRetentionPolicies(requests).forEach((request, retentionPolicy) -> {
+      List<Expression> filterList =
+          getRetentionFilters(request.getUrn(), request.getAspectName(), retentionPolicy, request.getContext());
+      if (filterList.isEmpty()) {
+        return;
+      }
+      ExpressionList<EbeanAspectV2> urnQuery = deleteQueries.computeIfAbsent(request.getAspectName(),
+          aspectName -> _server.find(EbeanAspectV2.class)
+              .where()
+              .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
+              .ne(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+              .or())
+          .and()
+          .eq(EbeanAspectV2.URN_COLUMN, request.getUrn().toString())
+          .or();
+      filterList.forEach(urnQuery::add);
+      urnQuery.endOr().endAnd();
+    });
+    deleteQueries.values().forEach(deleteQuery -> deleteQuery.endOr().delete());
+  }
+
+  private List<Expression> getRetentionFilters(@Nonnull Urn urn, @Nonnull String aspectName,
+      @Nonnull Retention retentionPolicy, Optional<RetentionContext> retentionContext) {
     List<Expression> filterList = new ArrayList<>();
     if (retentionPolicy.hasVersion()) {
       getVersionBasedRetentionQuery(urn, aspectName, retentionPolicy.getVersion(),
@@ -73,12 +113,7 @@ public class EbeanRetentionService extends RetentionService {
     if (retentionPolicy.hasTime()) {
       filterList.add(getTimeBasedRetentionQuery(retentionPolicy.getTime()));
     }
-
-    // Only run delete if at least one of the retention policies are applicable
-    if (!filterList.isEmpty()) {
-      filterList.forEach(deleteQuery::add);
-      deleteQuery.endOr().delete();
-    }
+    return filterList;
   }
 
   private long getMaxVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
@@ -11,6 +11,9 @@ public class RestoreIndicesArgs implements Cloneable {
     public String aspectName;
     public String urn;
     public String urnLike;
+    // Keyset cursor: when set, only aspects after (lastUrn, lastAspect) are read and start is ignored
+    public String lastUrn;
+    public String lastAspect;
 
     @Override
     public RestoreIndicesArgs clone() {
@@ -38,6 +41,12 @@ public class RestoreIndicesArgs implements Cloneable {
         return this;
     }
 
+    public RestoreIndicesArgs setCursor(String lastUrn, String lastAspect) {
+        this.lastUrn = lastUrn;
+        this.lastAspect = lastAspect;
+        return this;
+    }
+
     public RestoreIndicesArgs setStart(Integer start) {
         if (start != null) {
             this.start = start;
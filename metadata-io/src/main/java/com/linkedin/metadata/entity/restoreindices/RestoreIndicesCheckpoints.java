@@ -0,0 +1,74 @@
+package com.linkedin.metadata.entity.restoreindices;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Tracks pages of a streaming restore that complete out of order, and checkpoints the cursor only once every page
+ * before it has completed. A restore resumed from the last checkpoint may resend some pages, but never skips one.
+ *
+ * Checkpoints are handed to the checkpointer outside of the lock tracking completed pages, so that workers do not wait
+ * on each other's checkpoint writes. Checkpoints are handed over in page order; one overtaken by a later checkpoint
+ * is dropped.
+ */
+public class RestoreIndicesCheckpoints {
+
+    private final Predicate<RestoreIndicesArgs> _checkpointer;
+    private final Map<Long, RestoreIndicesArgs> _completed = new HashMap<>();
+    private long _nextPage = 0;
+
+    private final Object _checkpointLock = new Object();
+    private long _lastOfferedPage = -1;
+    private volatile RestoreIndicesArgs _lastCheckpoint;
+
+    /**
+     * @param checkpointer persists the given checkpoint, returning whether it did so; it may skip checkpoints, e.g. to
+     *                     throttle writes
+     */
+    public RestoreIndicesCheckpoints(@Nonnull Predicate<RestoreIndicesArgs> checkpointer) {
+        _checkpointer = checkpointer;
+    }
+
+    /**
+     * Marks the given page as completed.
+     *
+     * @param page the 0-based sequence number of the page
+     * @param nextPageArgs the args that read the page after it
+     */
+    public void complete(long page, @Nonnull RestoreIndicesArgs nextPageArgs) {
+        RestoreIndicesArgs checkpoint = null;
+        final long checkpointPage;
+        synchronized (this) {
+            _completed.put(page, nextPageArgs);
+            while (_completed.containsKey(_nextPage)) {
+                checkpoint = _completed.remove(_nextPage);
+                _nextPage++;
+            }
+            checkpointPage = _nextPage - 1;
+        }
+        if (checkpoint == null) {
+            return;
+        }
+
+        synchronized (_checkpointLock) {
+            if (checkpointPage <= _lastOfferedPage) {
+                return;
+            }
+            _lastOfferedPage = checkpointPage;
+            if (_checkpointer.test(checkpoint)) {
+                _lastCheckpoint = checkpoint;
+            }
+        }
+    }
+
+    /**
+     * Returns the last checkpoint persisted by the checkpointer, which a restore may safely be resumed from.
+     */
+    @Nullable
+    public RestoreIndicesArgs getLastCheckpoint() {
+        return _lastCheckpoint;
+    }
+}
@@ -0,0 +1,174 @@
+package com.linkedin.metadata.entity.retention;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.RateLimiter;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.RetentionService;
+import com.linkedin.metadata.entity.RetentionService.RetentionContext;
+import com.linkedin.metadata.entity.RetentionService.RetentionRequest;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Applies retention in the background on behalf of a {@link RetentionService}, so that writes do not wait for it.
+ *
+ * Requests are queued per (urn, aspect): a request for an aspect which is already queued is merged into the queued one,
+ * so that an aspect written many times in a row only has retention applied once. A single worker thread takes the
+ * queued aspects in batches of up to batchSize, and hands every batch to
+ * {@link RetentionService#applyRetention(List)}, which groups its deletes into as few statements as the storage allows.
+ *
+ * The queue holds at most maxPending aspects. Once it is full, retention is applied on the calling thread instead,
+ * which slows writers down to the rate at which retention keeps up rather than growing the queue without bound. Queued
+ * requests are lost on shutdown, which is harmless as retention is re-applied on the next write of the aspect.
+ */
+@Slf4j
+public class RetentionScheduler implements AutoCloseable {
+
+  private final RetentionService _retentionService;
+  private final int _maxPending;
+  private final int _batchSize;
+  private final long _flushIntervalMs;
+  @Nullable
+  private final RateLimiter _rateLimiter;
+
+  // Queued aspects in arrival order, with the max version known for each. Guarded by itself.
+  private final Map<PendingAspect, Optional<Long>> _pending = new LinkedHashMap<>();
+  private final Thread _worker;
+
+  /**
+   * @param retentionService service applying retention to the scheduled aspects
+   * @param maxPending max number of aspects to queue before applying retention on the calling thread
+   * @param batchSize max number of aspects to apply retention to at once
+   * @param flushIntervalMs max time a queued aspect waits for a batch to fill up
+   * @param maxAspectsPerSecond max number of aspects to apply retention to per second in the background. Not limited
+   *                            if not positive.
+   */
+  public RetentionScheduler(@Nonnull final RetentionService retentionService, final int maxPending,
+      final int batchSize, final long flushIntervalMs, final double maxAspectsPerSecond) {
+    _retentionService = retentionService;
+    _maxPending = maxPending;
+    _batchSize = batchSize;
+    _flushIntervalMs = flushIntervalMs;
+    _rateLimiter = maxAspectsPerSecond > 0 ? RateLimiter.create(maxAspectsPerSecond) : null;
+
+    MetricUtils.get()
+        .gauge(MetricRegistry.name(this.getClass(), "pending"), () -> (Gauge<Integer>) this::getPendingCount);
+
+    _worker = new Thread(this::run, "retention-scheduler");
+    _worker.setDaemon(true);
+    _worker.start();
+  }
+
+  /**
+   * Schedules retention to be applied to the given aspect.
+   *
+   * @param urn Urn of the entity
+   * @param aspectName Name of the aspect
+   * @param context Additional context that could be used to apply retention
+   */
+  public void schedule(@Nonnull Urn urn, @Nonnull String aspectName, Optional<RetentionContext> context) {
+    final PendingAspect pendingAspect = new PendingAspect(urn, aspectName);
+    final Optional<Long> maxVersion = context.flatMap(RetentionContext::getMaxVersion);
+    synchronized (_pending) {
+      if (_pending.containsKey(pendingAspect)) {
+        _pending.merge(pendingAspect, maxVersion, RetentionScheduler::mergeMaxVersions);
+        MetricUtils.counter(this.getClass(), "coalesced").inc();
+        return;
+      }
+      if (_pending.size() < _maxPending) {
+        _pending.put(pendingAspect, maxVersion);
+        if (_pending.size() >= _batchSize) {
+          _pending.notifyAll();
+        }
+        return;
+      }
+    }
+
+    MetricUtils.counter(this.getClass(), "callerRuns").inc();
+    _retentionService.applyRetention(urn, aspectName, context);
+  }
+
+  public int getPendingCount() {
+    synchronized (_pending) {
+      return _pending.size();
+    }
+  }
+
+  @Override
+  public void close() {
+    _worker.interrupt();
+  }
+
+  private void run() {
+    while (!Thread.currentThread().isInterrupted()) {
+      final List<RetentionRequest> batch = nextBatch();
+      if (batch.isEmpty()) {
+        continue;
+      }
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize")).update(batch.size());
+      if (_rateLimiter != null) {
+        _rateLimiter.acquire(batch.size());
+      }
+      try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "applyRetention").time()) {
+        _retentionService.applyRetention(batch);
+      } catch (Exception e) {
+        log.error("Failed to apply retention to {} aspects", batch.size(), e);
+        MetricUtils.exceptionCounter(this.getClass(), "applyRetention", e);
+      }
+    }
+  }
+
+  /**
+   * Takes up to batchSize queued aspects, waiting up to flushIntervalMs for the queue to fill up a batch.
+   */
+  private List<RetentionRequest> nextBatch() {
+    final List<RetentionRequest> batch = new ArrayList<>();
+    synchronized (_pending) {
+      if (_pending.size() < _batchSize) {
+        try {
+          _pending.wait(_flushIntervalMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return batch;
+        }
+      }
+      final Iterator<Map.Entry<PendingAspect, Optional<Long>>> it = _pending.entrySet().iterator();
+      while (it.hasNext() && batch.size() < _batchSize) {
+        final Map.Entry<PendingAspect, Optional<Long>> entry = it.next();
+        batch.add(new RetentionRequest(entry.getKey().getUrn(), entry.getKey().getAspectName(),
+            Optional.of(new RetentionContext(entry.getValue()))));
+        it.remove();
+      }
+    }
+    return batch;
+  }
+
+  /**
+   * The max version of an aspect written more than once is the highest of its writes. If any write did not know its
+   * version, leave it unknown so that it is read from storage.
+   */
+  private static Optional<Long> mergeMaxVersions(Optional<Long> queued, Optional<Long> latest) {
+    if (queued.isPresent() && latest.isPresent()) {
+      return Optional.of(Math.max(queued.get(), latest.get()));
+    }
+    return Optional.empty();
+  }
+
+  @Value
+  private static class PendingAspect {
+    Urn urn;
+    String aspectName;
+  }
+}
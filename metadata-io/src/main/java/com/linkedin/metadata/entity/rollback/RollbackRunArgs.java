@@ -0,0 +1,63 @@
+package com.linkedin.metadata.entity.rollback;
+
+import lombok.Data;
+
+@Data
+public class RollbackRunArgs implements Cloneable {
+    public String runId;
+    public boolean hardDelete = false;
+    // Number of aspects read from the system metadata index at once
+    public int pageSize = 1000;
+    // Max number of aspects rolled back in a single transaction
+    public int batchSize = 100;
+    public int numThreads = 1;
+    // Keyset cursor: when set, only aspects after (lastUrn, lastAspect) are rolled back
+    public String lastUrn;
+    public String lastAspect;
+
+    @Override
+    public RollbackRunArgs clone() {
+        try {
+            return (RollbackRunArgs) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError();
+        }
+    }
+
+    public RollbackRunArgs setRunId(String runId) {
+        this.runId = runId;
+        return this;
+    }
+
+    public RollbackRunArgs setHardDelete(boolean hardDelete) {
+        this.hardDelete = hardDelete;
+        return this;
+    }
+
+    public RollbackRunArgs setPageSize(Integer pageSize) {
+        if (pageSize != null) {
+            this.pageSize = pageSize;
+        }
+        return this;
+    }
+
+    public RollbackRunArgs setBatchSize(Integer batchSize) {
+        if (batchSize != null) {
+            this.batchSize = batchSize;
+        }
+        return this;
+    }
+
+    public RollbackRunArgs setNumThreads(Integer numThreads) {
+        if (numThreads != null) {
+            this.numThreads = numThreads;
+        }
+        return this;
+    }
+
+    public RollbackRunArgs setCursor(String lastUrn, String lastAspect) {
+        this.lastUrn = lastUrn;
+        this.lastAspect = lastAspect;
+        return this;
+    }
+}
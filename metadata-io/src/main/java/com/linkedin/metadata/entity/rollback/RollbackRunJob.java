@@ -0,0 +1,149 @@
+package com.linkedin.metadata.entity.rollback;
+
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.RollbackRunResult;
+import com.linkedin.metadata.run.AspectRowSummary;
+import com.linkedin.metadata.systemmetadata.SystemMetadataService;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Rolls back every aspect of an ingestion run, reading the run from the system metadata index page by page.
+ *
+ * Pages are read sorted by (urn, aspect) with search_after, so reading a page costs the same regardless of how deep
+ * into the run it is. The last urn of a full page is left for the next page, so that all the aspects of an urn are
+ * rolled back together. Every page is split into batches of whole urns, which are rolled back in parallel on numThreads
+ * workers, one transaction per batch, while the next page is read.
+ *
+ * Once a page has been rolled back, the progress listener is handed the args of the next page along with the summary
+ * so far; passing those args back in resumes the rollback. Since rolled back aspects leave the run, rolling the run
+ * back again from the start also resumes it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RollbackRunJob {
+  private static final int MAX_SAMPLE_ROWS = 100;
+  // Matches the page of rows the key aspects of a run used to be read from
+  private static final int MAX_SAMPLE_KEY_ASPECTS = 10000;
+
+  private final EntityService _entityService;
+  private final SystemMetadataService _systemMetadataService;
+
+  @Nonnull
+  public RollbackRunSummary run(@Nonnull RollbackRunArgs args,
+      @Nonnull BiConsumer<RollbackRunArgs, RollbackRunSummary> progressListener) {
+    final Map<String, String> conditions = Collections.singletonMap("runId", args.runId);
+    final RollbackRunSummary summary = new RollbackRunSummary();
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, args.numThreads));
+
+    RollbackRunArgs cursor = args.clone();
+    RollbackRunArgs checkpoint = cursor;
+    try {
+      List<AspectRowSummary> page = readPage(cursor);
+      while (!page.isEmpty()) {
+        final boolean lastPage = page.size() < cursor.pageSize;
+        final List<AspectRowSummary> rows = lastPage ? page : withoutLastUrn(page);
+        final AspectRowSummary lastRow = rows.get(rows.size() - 1);
+        final RollbackRunArgs pageArgs = cursor;
+        cursor = cursor.clone().setCursor(lastRow.getUrn(), lastRow.getAspectName());
+
+        final List<CompletableFuture<RollbackRunResult>> batches = partitionByUrn(rows, pageArgs.batchSize).stream()
+            .map(batch -> CompletableFuture.supplyAsync(
+                () -> _entityService.rollbackBatchWithConditions(batch, conditions, pageArgs.hardDelete), executor))
+            .collect(Collectors.toList());
+        // Read the next page while this one is being rolled back
+        final List<AspectRowSummary> nextPage = lastPage ? Collections.emptyList() : readPage(cursor);
+
+        for (CompletableFuture<RollbackRunResult> batch : batches) {
+          addBatchResult(summary, batch.join());
+        }
+        addScannedRows(summary, rows);
+        MetricUtils.counter(this.getClass(), "rowsRead").inc(rows.size());
+        log.info("Rolled back {} of {} rows of run {} read so far", summary.rowsRolledBack, summary.rowsScanned,
+            args.runId);
+        checkpoint = cursor;
+        progressListener.accept(checkpoint, summary);
+        page = nextPage;
+      }
+    } catch (RuntimeException e) {
+      // Either a batch or the read of a page failed
+      throw new RuntimeException(String.format("Failed to roll back run %s, resume after urn %s and aspect %s",
+          args.runId, checkpoint.lastUrn, checkpoint.lastAspect), e instanceof CompletionException ? e.getCause() : e);
+    } finally {
+      executor.shutdownNow();
+    }
+    return summary;
+  }
+
+  private List<AspectRowSummary> readPage(@Nonnull RollbackRunArgs args) {
+    final AspectRowSummary after = args.lastUrn == null ? null
+        : new AspectRowSummary().setUrn(args.lastUrn).setAspectName(args.lastAspect);
+    return _systemMetadataService.scrollByRunId(args.runId, args.hardDelete, after, args.pageSize);
+  }
+
+  /**
+   * Drops the rows of the last urn of a page, unless the whole page belongs to it.
+   */
+  private static List<AspectRowSummary> withoutLastUrn(@Nonnull List<AspectRowSummary> page) {
+    final String lastUrn = page.get(page.size() - 1).getUrn();
+    int end = page.size();
+    while (end > 0 && page.get(end - 1).getUrn().equals(lastUrn)) {
+      end--;
+    }
+    return end == 0 ? page : page.subList(0, end);
+  }
+
+  /**
+   * Splits rows sorted by urn into batches of about batchSize rows, keeping all the rows of an urn in the same batch.
+   */
+  private static List<List<AspectRowSummary>> partitionByUrn(@Nonnull List<AspectRowSummary> rows, int batchSize) {
+    final List<List<AspectRowSummary>> batches = new ArrayList<>();
+    List<AspectRowSummary> batch = new ArrayList<>();
+    String previousUrn = null;
+    for (AspectRowSummary row : rows) {
+      if (batch.size() >= batchSize && !row.getUrn().equals(previousUrn)) {
+        batches.add(batch);
+        batch = new ArrayList<>();
+      }
+      batch.add(row);
+      previousUrn = row.getUrn();
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+    return batches;
+  }
+
+  private static void addBatchResult(@Nonnull RollbackRunSummary summary, @Nonnull RollbackRunResult result) {
+    summary.rowsRolledBack += result.getRowsRolledBack().size();
+    summary.rowsDeletedFromEntityDeletion += result.getRowsDeletedFromEntityDeletion();
+    // Urns are never split across batches, so counting them per batch counts every urn once
+    summary.entitiesAffected += result.getRowsRolledBack().stream().map(AspectRowSummary::getUrn).distinct().count();
+  }
+
+  private static void addScannedRows(@Nonnull RollbackRunSummary summary, @Nonnull List<AspectRowSummary> rows) {
+    summary.rowsScanned += rows.size();
+    final List<AspectRowSummary> keyAspects =
+        rows.stream().filter(AspectRowSummary::isKeyAspect).collect(Collectors.toList());
+    summary.keyAspectsScanned += keyAspects.size();
+    keyAspects.stream()
+        .limit(Math.max(0, MAX_SAMPLE_KEY_ASPECTS - summary.keyAspects.size()))
+        .forEach(summary.keyAspects::add);
+    rows.stream()
+        .limit(Math.max(0, MAX_SAMPLE_ROWS - summary.sampleRows.size()))
+        .forEach(summary.sampleRows::add);
+  }
+}
@@ -0,0 +1,20 @@
+package com.linkedin.metadata.entity.rollback;
+
+import com.linkedin.metadata.run.AspectRowSummary;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class RollbackRunSummary {
+    public long rowsScanned = 0;
+    public long rowsRolledBack = 0;
+    public long rowsDeletedFromEntityDeletion = 0;
+    public long entitiesAffected = 0;
+    // Number of key aspects of the run, i.e. of entities it created
+    public long keyAspectsScanned = 0;
+    // The first key aspects of the run, as a sample to check for aspects other runs added to its entities
+    public List<AspectRowSummary> keyAspects = new ArrayList<>();
+    // The first rows of the run, as a sample to return to the caller
+    public List<AspectRowSummary> sampleRows = new ArrayList<>();
+}
@@ -0,0 +1,143 @@
+package com.linkedin.metadata.entity.scan;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.query.ListUrnsResult;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Scans the urns of all the entities of some entity types, for jobs that go over the whole aspects table.
+ *
+ * Urns are prefixed with their entity type, so every entity type is a range of the primary key. Each of these is split
+ * further into up to rangesPerEntity ranges of about the same number of urns, whose boundaries are looked up once by
+ * offset before the scan starts. Ranges are scanned in parallel on numThreads workers, each one page by page, listing
+ * every page after the last urn of the previous one. Reading a page therefore costs the same regardless of how deep
+ * into its range it is.
+ *
+ * A range ends at the urn starting the next one. If that urn is deleted during the scan, the range runs on to the end
+ * of its entity type, and the urns following it are handed over more than once.
+ */
+@Slf4j
+public class EntityUrnScanner {
+
+  private final EntityService _entityService;
+  private final int _pageSize;
+  private final int _numThreads;
+  private final int _rangesPerEntity;
+
+  public EntityUrnScanner(@Nonnull EntityService entityService, int pageSize, int numThreads) {
+    this(entityService, pageSize, numThreads, 1);
+  }
+
+  public EntityUrnScanner(@Nonnull EntityService entityService, int pageSize, int numThreads, int rangesPerEntity) {
+    _entityService = entityService;
+    _pageSize = pageSize;
+    _numThreads = numThreads;
+    _rangesPerEntity = Math.max(1, rangesPerEntity);
+  }
+
+  /**
+   * Hands every page of urns over to the page consumer, which is called concurrently for different ranges.
+   *
+   * @return number of urns scanned
+   */
+  public long scan(@Nonnull Collection<String> entityNames, @Nonnull Consumer<List<Urn>> pageConsumer) {
+    final List<UrnRange> ranges = entityNames.stream()
+        .flatMap(entityName -> getRanges(entityName).stream())
+        .collect(Collectors.toList());
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, _numThreads));
+    try {
+      final List<CompletableFuture<Long>> scans = ranges.stream()
+          .map(range -> CompletableFuture.supplyAsync(() -> scan(range, pageConsumer), executor))
+          .collect(Collectors.toList());
+      return scans.stream().mapToLong(CompletableFuture::join).sum();
+    } catch (CompletionException e) {
+      throw new RuntimeException("Failed to scan entity urns", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Splits the urns of an entity type into ranges of about the same size, each of at least a page.
+   */
+  @Nonnull
+  private List<UrnRange> getRanges(@Nonnull String entityName) {
+    final List<UrnRange> ranges = new ArrayList<>();
+    if (_rangesPerEntity == 1) {
+      ranges.add(new UrnRange(entityName, null, null));
+      return ranges;
+    }
+    final ListUrnsResult firstPage = _entityService.listUrns(entityName, (String) null, 1);
+    final long total = firstPage.hasTotal() ? firstPage.getTotal() : 0;
+    final long rangeCount = Math.max(1, Math.min(_rangesPerEntity, (total + _pageSize - 1) / _pageSize));
+
+    final Set<Urn> boundaries = new LinkedHashSet<>();
+    for (long i = 1; i < rangeCount; i++) {
+      final List<Urn> urns = _entityService.listUrns(entityName, (int) (total * i / rangeCount), 1).getEntities();
+      if (!urns.isEmpty()) {
+        boundaries.add(urns.get(0));
+      }
+    }
+    Urn start = null;
+    for (Urn boundary : boundaries) {
+      ranges.add(new UrnRange(entityName, start, boundary));
+      start = boundary;
+    }
+    ranges.add(new UrnRange(entityName, start, null));
+    return ranges;
+  }
+
+  private long scan(@Nonnull UrnRange range, @Nonnull Consumer<List<Urn>> pageConsumer) {
+    long scanned = 0;
+    Urn afterUrn = range.getAfterUrn();
+    do {
+      final ListUrnsResult page =
+          _entityService.listUrns(range.getEntityName(), afterUrn == null ? null : afterUrn.toString(), _pageSize);
+      List<Urn> urns = page.getEntities();
+      afterUrn = page.getNextAfter();
+      // Urns are compared for equality only, as the order in which they are listed depends on the storage
+      final int lastIndex = range.getLastUrn() == null ? -1 : urns.indexOf(range.getLastUrn());
+      if (lastIndex >= 0) {
+        urns = urns.subList(0, lastIndex + 1);
+        afterUrn = null;
+      }
+      if (!urns.isEmpty()) {
+        pageConsumer.accept(urns);
+      }
+      scanned += urns.size();
+      MetricUtils.counter(this.getClass(), "urnsScanned").inc(urns.size());
+    } while (afterUrn != null);
+    log.info("Scanned {} urns of entity {} after {}", scanned, range.getEntityName(), range.getAfterUrn());
+    return scanned;
+  }
+
+  /**
+   * The urns of an entity type listed after afterUrn, up to and including lastUrn. Either bound is null when the range
+   * starts or ends with its entity type.
+   */
+  @Value
+  private static class UrnRange {
+    String entityName;
+    @Nullable
+    Urn afterUrn;
+    @Nullable
+    Urn lastUrn;
+  }
+}
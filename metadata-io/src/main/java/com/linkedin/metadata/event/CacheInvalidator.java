@@ -0,0 +1,26 @@
+package com.linkedin.metadata.event;
+
+import com.linkedin.mxe.MetadataChangeLog;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Interface implemented by caches of metadata which must evict what changes, whichever instance changed it.
+ */
+public interface CacheInvalidator {
+
+  /**
+   * Evicts whatever the given change may have made stale.
+   *
+   * @param metadataChangeLog the change, as logged by the instance that made it
+   */
+  void invalidate(@Nonnull MetadataChangeLog metadataChangeLog);
+
+  /**
+   * Whether the cache is updated by the writes of this instance, and so need not evict them as they are committed.
+   * Changes are still invalidated when consumed from the change log, as they may have been made by another instance.
+   */
+  default boolean isWriteThrough() {
+    return false;
+  }
+}
@@ -56,6 +56,12 @@ public interface EventProducer {
       @Nonnull final MetadataChangeLog metadataChangeLog
   );
 
+  /**
+   * Blocks until every event produced so far has been sent. Producers that send synchronously need not override this.
+   */
+  default void flush() {
+  }
+
   /**
    * Produces a {@link com.linkedin.mxe.MetadataChangeProposal}
    * as an async update to an entity
@@ -0,0 +1,83 @@
+package com.linkedin.metadata.event;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.DataHubUpgradeHistoryEvent;
+import com.linkedin.mxe.MetadataAuditOperation;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.PlatformEvent;
+import com.linkedin.mxe.SystemMetadata;
+import java.util.Collection;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * {@link EventProducer} which also hands every produced {@link MetadataChangeLog} to the caches of this instance.
+ *
+ * Every committed change is logged through the producer, so this is where the writes of this instance are seen,
+ * whether they come from the Rest.li resources, GraphQL resolvers or services, and through an entity client or the
+ * entity service. Caches are invalidated as soon as the change is committed, rather than once the change log is
+ * consumed back from Kafka, so that a write is visible to the reads which follow it on the same instance.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class InvalidatingEventProducer implements EventProducer {
+
+  private final EventProducer _delegate;
+  // Resolved on each change, as caches may depend on the entity service, and hence on this producer
+  private final Supplier<Collection<CacheInvalidator>> _cacheInvalidators;
+
+  @Override
+  @Deprecated
+  public void produceMetadataAuditEvent(@Nonnull Urn urn, @Nullable Snapshot oldSnapshot,
+      @Nonnull Snapshot newSnapshot, @Nullable SystemMetadata oldSystemMetadata,
+      @Nullable SystemMetadata newSystemMetadata, MetadataAuditOperation operation) {
+    _delegate.produceMetadataAuditEvent(urn, oldSnapshot, newSnapshot, oldSystemMetadata, newSystemMetadata,
+        operation);
+  }
+
+  @Override
+  public void produceMetadataChangeLog(@Nonnull Urn urn, @Nonnull AspectSpec aspectSpec,
+      @Nonnull MetadataChangeLog metadataChangeLog) {
+    _delegate.produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
+    for (CacheInvalidator cacheInvalidator : _cacheInvalidators.get()) {
+      if (cacheInvalidator.isWriteThrough()) {
+        continue;
+      }
+      try {
+        cacheInvalidator.invalidate(metadataChangeLog);
+      } catch (RuntimeException e) {
+        // The change is committed, and will be invalidated again once its change log is consumed
+        MetricUtils.counter(this.getClass(), "cache_invalidation_failure").inc();
+        log.error("Failed to invalidate the caches of {}", urn, e);
+      }
+    }
+  }
+
+  @Override
+  public void flush() {
+    _delegate.flush();
+  }
+
+  @Override
+  public void produceMetadataChangeProposal(@Nonnull Urn urn, @Nonnull MetadataChangeProposal metadataChangeProposal) {
+    _delegate.produceMetadataChangeProposal(urn, metadataChangeProposal);
+  }
+
+  @Override
+  public void producePlatformEvent(@Nonnull String name, @Nullable String key, @Nonnull PlatformEvent payload) {
+    _delegate.producePlatformEvent(name, key, payload);
+  }
+
+  @Override
+  public void produceDataHubUpgradeHistoryEvent(@Nonnull DataHubUpgradeHistoryEvent event) {
+    _delegate.produceDataHubUpgradeHistoryEvent(event);
+  }
+}
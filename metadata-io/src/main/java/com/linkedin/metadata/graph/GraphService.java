@@ -228,6 +228,22 @@ public interface GraphService {
     return result;
   }
 
+  /**
+   * Removes, then adds, the given edges. Implementations which can write many edges at once override this to do so;
+   * by default edges are written one by one.
+   */
+  default void updateEdges(@Nonnull final List<Edge> edgesToAdd, @Nonnull final List<Edge> edgesToRemove) {
+    edgesToRemove.forEach(this::removeEdge);
+    edgesToAdd.forEach(this::addEdge);
+  }
+
+  /**
+   * Sends the edge writes buffered so far, for implementations which buffer writes. Callers which add, update or
+   * remove edges must flush once done.
+   */
+  default void flush() {
+  }
+
   /**
    * Removes the given node (if it exists) as well as all edges (incoming and outgoing) of the node.
    */
@@ -4,13 +4,13 @@ import com.codahale.metrics.Timer;
 import com.datahub.util.exception.ESQueryException;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
-import com.linkedin.common.UrnArray;
-import com.linkedin.common.UrnArrayArray;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.metadata.graph.GraphFilters;
 import com.linkedin.metadata.graph.LineageDirection;
 import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.graph.elastic.LineageTraversal.LineageEdge;
 import com.linkedin.metadata.models.registry.LineageRegistry;
 import com.linkedin.metadata.models.registry.LineageRegistry.EdgeInfo;
 import com.linkedin.metadata.query.filter.Condition;
@@ -23,21 +23,21 @@ import com.linkedin.metadata.utils.ConcurrencyUtils;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
+import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
@@ -58,13 +58,15 @@ import static com.linkedin.metadata.graph.elastic.ElasticSearchGraphService.*;
  * A search DAO for Elasticsearch backend.
  */
 @Slf4j
-@RequiredArgsConstructor
-public class ESGraphQueryDAO {
+public class ESGraphQueryDAO implements Closeable {
 
   private final RestHighLevelClient client;
   private final LineageRegistry lineageRegistry;
   private final IndexConvention indexConvention;
+  private final ThreadPoolExecutor lineageExecutor;
 
+  private static final int DEFAULT_LINEAGE_THREADS = 10;
+  private static final int DEFAULT_LINEAGE_QUEUE_SIZE = 100;
   private static final int MAX_ELASTIC_RESULT = 10000;
   private static final int BATCH_SIZE = 1000;
   private static final int TIMEOUT_SECS = 10;
@@ -79,6 +81,36 @@ public class ESGraphQueryDAO {
   private static final String PROPERTIES = "properties";
   private static final String UI = "UI";
 
+  public ESGraphQueryDAO(@Nonnull RestHighLevelClient client, @Nonnull LineageRegistry lineageRegistry,
+      @Nonnull IndexConvention indexConvention) {
+    this(client, lineageRegistry, indexConvention, DEFAULT_LINEAGE_THREADS, DEFAULT_LINEAGE_QUEUE_SIZE);
+  }
+
+  /**
+   * @param lineageThreads the number of threads used to fetch the hops of lineage queries. Each thread runs one
+   *                       batch of up to {@value #BATCH_SIZE} urns at a time.
+   * @param lineageQueueSize the maximum number of batches waiting for a thread. Once it is reached, the thread of the
+   *                         lineage query runs its batches itself.
+   */
+  public ESGraphQueryDAO(@Nonnull RestHighLevelClient client, @Nonnull LineageRegistry lineageRegistry,
+      @Nonnull IndexConvention indexConvention, int lineageThreads, int lineageQueueSize) {
+    this.client = client;
+    this.lineageRegistry = lineageRegistry;
+    this.indexConvention = indexConvention;
+    this.lineageExecutor = new ThreadPoolExecutor(lineageThreads, lineageThreads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(lineageQueueSize),
+        new ThreadFactoryBuilder().setNameFormat("es-graph-lineage-%d").setDaemon(true).build(),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * Stops the lineage threads. Batches not yet started are dropped.
+   */
+  @Override
+  public void close() {
+    lineageExecutor.shutdownNow();
+  }
+
   @Nonnull
   public static void addFilterToQueryBuilder(@Nonnull Filter filter, String node, BoolQueryBuilder rootQuery) {
     BoolQueryBuilder orQuery = new BoolQueryBuilder();
@@ -164,15 +196,12 @@ public class ESGraphQueryDAO {
   public LineageResponse getLineage(@Nonnull Urn entityUrn, @Nonnull LineageDirection direction,
       GraphFilters graphFilters, int offset, int count,
       int maxHops, @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
-    List<LineageRelationship> result = new ArrayList<>();
     long currentTime = System.currentTimeMillis();
     long remainingTime = TIMEOUT_SECS * 1000;
     long timeoutTime = currentTime + remainingTime;
 
     // Do a Level-order BFS
-    Set<Urn> visitedEntities = ConcurrentHashMap.newKeySet();
-    visitedEntities.add(entityUrn);
-    UrnArrayArray existingPaths = new UrnArrayArray();
+    LineageTraversal traversal = new LineageTraversal(entityUrn);
     List<Urn> currentLevel = ImmutableList.of(entityUrn);
 
     for (int i = 0; i < maxHops; i++) {
@@ -187,63 +216,50 @@ public class ESGraphQueryDAO {
       }
 
       // Do one hop on the lineage graph
-      List<LineageRelationship> oneHopRelationships =
-          getLineageRelationshipsInBatches(
+      List<LineageEdge> oneHopEdges =
+          getLineageEdgesInBatches(
               currentLevel,
               direction,
               graphFilters,
-              visitedEntities,
-              i + 1,
               remainingTime,
-              existingPaths,
               startTimeMillis,
               endTimeMillis);
-      result.addAll(oneHopRelationships);
-      currentLevel = oneHopRelationships.stream().map(LineageRelationship::getEntity).collect(Collectors.toList());
+      currentLevel = traversal.visit(oneHopEdges, i + 1);
       currentTime = System.currentTimeMillis();
       remainingTime = timeoutTime - currentTime;
     }
-    LineageResponse response = new LineageResponse(result.size(), result);
 
-    List<LineageRelationship> subList;
-    if (offset >= response.getTotal()) {
-      subList = Collections.emptyList();
-    } else {
-      subList = response.getLineageRelationships().subList(offset, Math.min(offset + count, response.getTotal()));
-    }
-
-    return new LineageResponse(response.getTotal(), subList);
+    // Paths are only materialized for the requested page
+    return new LineageResponse(traversal.getTotal(), traversal.getRelationships(offset, count));
   }
 
-  // Get 1-hop lineage relationships asynchronously in batches with timeout
+  // Get 1-hop lineage edges asynchronously in batches with timeout
   @WithSpan
-  public List<LineageRelationship> getLineageRelationshipsInBatches(@Nonnull List<Urn> entityUrns,
-      @Nonnull LineageDirection direction, GraphFilters graphFilters, Set<Urn> visitedEntities, int numHops,
-      long remainingTime, UrnArrayArray existingPaths, @Nullable Long startTimeMillis,
-      @Nullable Long endTimeMillis) {
+  List<LineageEdge> getLineageEdgesInBatches(@Nonnull List<Urn> entityUrns,
+      @Nonnull LineageDirection direction, GraphFilters graphFilters, long remainingTime,
+      @Nullable Long startTimeMillis, @Nullable Long endTimeMillis) {
     List<List<Urn>> batches = Lists.partition(entityUrns, BATCH_SIZE);
-    return ConcurrencyUtils.getAllCompleted(batches.stream()
-            .map(batchUrns -> CompletableFuture.supplyAsync(
-                () -> getLineageRelationships(
-                    batchUrns,
-                    direction,
-                    graphFilters,
-                    visitedEntities,
-                    numHops,
-                    existingPaths,
-                    startTimeMillis,
-                    endTimeMillis)))
-            .collect(Collectors.toList()), remainingTime, TimeUnit.MILLISECONDS)
-        .stream()
+    List<CompletableFuture<List<LineageEdge>>> futures = batches.stream()
+        .map(batchUrns -> CompletableFuture.supplyAsync(
+            () -> getLineageEdges(
+                batchUrns,
+                direction,
+                graphFilters,
+                startTimeMillis,
+                endTimeMillis), lineageExecutor))
+        .collect(Collectors.toList());
+    List<List<LineageEdge>> completed = ConcurrencyUtils.getAllCompleted(futures, remainingTime, TimeUnit.MILLISECONDS);
+    // Batches still waiting for a thread after the timeout are skipped instead of taking it from the next queries
+    futures.forEach(future -> future.cancel(true));
+    return completed.stream()
         .flatMap(List::stream)
         .collect(Collectors.toList());
   }
 
-  // Get 1-hop lineage relationships
+  // Get 1-hop lineage edges
   @WithSpan
-  private List<LineageRelationship> getLineageRelationships(@Nonnull List<Urn> entityUrns,
-      @Nonnull LineageDirection direction, GraphFilters graphFilters, Set<Urn> visitedEntities, int numHops,
-      UrnArrayArray existingPaths, @Nullable Long startTimeMillis,
+  private List<LineageEdge> getLineageEdges(@Nonnull List<Urn> entityUrns,
+      @Nonnull LineageDirection direction, GraphFilters graphFilters, @Nullable Long startTimeMillis,
       @Nullable Long endTimeMillis) {
     Map<String, List<Urn>> urnsPerEntityType = entityUrns.stream().collect(Collectors.groupingBy(Urn::getEntityType));
     Map<String, List<EdgeInfo>> edgesPerEntityType = urnsPerEntityType.keySet()
@@ -266,49 +282,14 @@ public class ESGraphQueryDAO {
         .stream()
         .flatMap(entry -> entry.getValue().stream().map(edgeInfo -> Pair.of(entry.getKey(), edgeInfo)))
         .collect(Collectors.toSet());
-    return extractRelationships(entityUrnSet, response, validEdges, visitedEntities, numHops, existingPaths);
-  }
-
-  private UrnArrayArray getAndUpdatePaths(UrnArrayArray existingPaths, Urn parentUrn, Urn childUrn, RelationshipDirection direction) {
-    try {
-      UrnArrayArray currentPaths = existingPaths.stream()
-          .filter(path -> path.get(direction == RelationshipDirection.OUTGOING ? 0 : path.size() - 1).equals(parentUrn))
-          .collect(Collectors.toCollection(UrnArrayArray::new));
-      UrnArrayArray resultPaths = new UrnArrayArray();
-      if (currentPaths.size() > 0) {
-        for (UrnArray path : currentPaths) {
-          UrnArray copyOfPath = path.clone();
-          if (direction == RelationshipDirection.OUTGOING) {
-            copyOfPath.add(0, childUrn);
-          } else {
-            copyOfPath.add(childUrn);
-          }
-          resultPaths.add(copyOfPath);
-          existingPaths.add(copyOfPath);
-        }
-      } else {
-        UrnArray path = new UrnArray();
-        if (direction == RelationshipDirection.OUTGOING) {
-          path.addAll(ImmutableList.of(childUrn, parentUrn));
-        } else {
-          path.addAll(ImmutableList.of(parentUrn, childUrn));
-        }
-        resultPaths.add(path);
-        existingPaths.add(path);
-      }
-      return resultPaths;
-    } catch (CloneNotSupportedException e) {
-      log.error(String.format("Failed to create paths for parentUrn %s and childUrn %s", parentUrn, childUrn), e);
-      throw new RuntimeException(e);
-    }
+    return extractEdges(entityUrnSet, response, validEdges);
   }
 
   // Given set of edges and the search response, extract all valid edges that originate from the input entityUrns
   @WithSpan
-  private List<LineageRelationship> extractRelationships(@Nonnull Set<Urn> entityUrns,
-      @Nonnull SearchResponse searchResponse, Set<Pair<String, EdgeInfo>> validEdges, Set<Urn> visitedEntities,
-      int numHops, UrnArrayArray existingPaths) {
-    final List<LineageRelationship> result = new LinkedList<>();
+  private List<LineageEdge> extractEdges(@Nonnull Set<Urn> entityUrns,
+      @Nonnull SearchResponse searchResponse, Set<Pair<String, EdgeInfo>> validEdges) {
+    final List<LineageEdge> result = new ArrayList<>();
     for (SearchHit hit : searchResponse.getHits().getHits()) {
       final Map<String, Object> document = hit.getSourceAsMap();
       final Urn sourceUrn = UrnUtils.getUrn(((Map<String, Object>) document.get(SOURCE)).get("urn").toString());
@@ -332,85 +313,26 @@ public class ESGraphQueryDAO {
       boolean isManual = properties.containsKey(SOURCE) && properties.get(SOURCE).equals("UI");
 
       // Potential outgoing edge
-      if (entityUrns.contains(sourceUrn)) {
-        // Skip if already visited
-        // Skip if edge is not a valid outgoing edge
-        if (!visitedEntities.contains(destinationUrn) && validEdges.contains(
-            Pair.of(sourceUrn.getEntityType(),
-                new EdgeInfo(type, RelationshipDirection.OUTGOING, destinationUrn.getEntityType().toLowerCase())))) {
-          visitedEntities.add(destinationUrn);
-          final UrnArrayArray paths =
-              getAndUpdatePaths(existingPaths, sourceUrn, destinationUrn, RelationshipDirection.OUTGOING);
-          final LineageRelationship relationship =
-              createLineageRelationship(
-                  type,
-                  destinationUrn,
-                  numHops,
-                  paths,
-                  createdOn,
-                  createdActor,
-                  updatedOn,
-                  updatedActor,
-                  isManual);
-          result.add(relationship);
-        }
+      // Skip if edge is not a valid outgoing edge. Already visited entities are skipped by the traversal.
+      if (entityUrns.contains(sourceUrn) && validEdges.contains(
+          Pair.of(sourceUrn.getEntityType(),
+              new EdgeInfo(type, RelationshipDirection.OUTGOING, destinationUrn.getEntityType().toLowerCase())))) {
+        result.add(new LineageEdge(sourceUrn, destinationUrn, type, RelationshipDirection.OUTGOING, createdOn,
+            createdActor, updatedOn, updatedActor, isManual));
       }
 
       // Potential incoming edge
-      if (entityUrns.contains(destinationUrn)) {
-        // Skip if already visited
-        // Skip if edge is not a valid outgoing edge
-        if (!visitedEntities.contains(sourceUrn) && validEdges.contains(
-            Pair.of(destinationUrn.getEntityType(), new EdgeInfo(type, RelationshipDirection.INCOMING, sourceUrn.getEntityType().toLowerCase())))) {
-          visitedEntities.add(sourceUrn);
-          final UrnArrayArray paths =
-              getAndUpdatePaths(existingPaths, destinationUrn, sourceUrn, RelationshipDirection.INCOMING);
-          final LineageRelationship relationship = createLineageRelationship(
-              type,
-              sourceUrn,
-              numHops,
-              paths,
-              createdOn,
-              createdActor,
-              updatedOn,
-              updatedActor,
-              isManual);
-          result.add(relationship);
-        }
+      // Skip if edge is not a valid incoming edge. Already visited entities are skipped by the traversal.
+      if (entityUrns.contains(destinationUrn) && validEdges.contains(
+          Pair.of(destinationUrn.getEntityType(),
+              new EdgeInfo(type, RelationshipDirection.INCOMING, sourceUrn.getEntityType().toLowerCase())))) {
+        result.add(new LineageEdge(destinationUrn, sourceUrn, type, RelationshipDirection.INCOMING, createdOn,
+            createdActor, updatedOn, updatedActor, isManual));
       }
     }
     return result;
   }
 
-  private LineageRelationship createLineageRelationship(
-      @Nonnull final String type,
-      @Nonnull final Urn entityUrn,
-      final int numHops,
-      @Nonnull final UrnArrayArray paths,
-      @Nullable final Long createdOn,
-      @Nullable final Urn createdActor,
-      @Nullable final Long updatedOn,
-      @Nullable final Urn updatedActor,
-      final boolean isManual
-  ) {
-    final LineageRelationship relationship =
-        new LineageRelationship().setType(type).setEntity(entityUrn).setDegree(numHops).setPaths(paths);
-    if (createdOn != null) {
-      relationship.setCreatedOn(createdOn);
-    }
-    if (createdActor != null) {
-      relationship.setCreatedActor(createdActor);
-    }
-    if (updatedOn != null) {
-      relationship.setUpdatedOn(updatedOn);
-    }
-    if (updatedActor != null) {
-      relationship.setUpdatedActor(updatedActor);
-    }
-    relationship.setIsManual(isManual);
-    return relationship;
-  }
-
   BoolQueryBuilder getOutGoingEdgeQuery(List<Urn> urns, List<EdgeInfo> outgoingEdges, GraphFilters graphFilters) {
     BoolQueryBuilder outgoingEdgeQuery = QueryBuilders.boolQuery();
     outgoingEdgeQuery.must(buildUrnFilters(urns, SOURCE));
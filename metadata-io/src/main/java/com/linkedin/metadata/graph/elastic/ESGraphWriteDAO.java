@@ -1,14 +1,20 @@
 package com.linkedin.metadata.graph.elastic;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableList;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipFilter;
 import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.update.UpdateRequest;
@@ -20,29 +26,76 @@ import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.buildQuery;
 import static com.linkedin.metadata.graph.elastic.ElasticSearchGraphService.INDEX_NAME;
 
 
+/**
+ * Writes edge documents to the graph index.
+ *
+ * Upserts and deletes of documents can be buffered, up to maxPendingWrites documents, until {@link #flush()} is called.
+ * Within a flush, every document is upserted at most once: upserts of a document which already has a pending upsert are
+ * merged into it as ES would have merged the partial updates, recursing into objects such as the edge properties, and
+ * a delete replaces any pending write. An upsert following a pending delete is sent after the delete, so that no field
+ * of the deleted document survives. Buffered writes are flushed before any delete by query, so that they are applied
+ * in order.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class ESGraphWriteDAO {
   private final IndexConvention indexConvention;
   private final ESBulkProcessor bulkProcessor;
   private final int numRetries;
+  private final int maxPendingWrites;
+
+  // Pending writes per document id, a null document being a delete. Guarded by itself.
+  private final Map<String, ObjectNode> pendingWrites = new LinkedHashMap<>();
+  // Documents deleted before their pending upsert. Guarded by pendingWrites.
+  private final Set<String> deletedBeforeUpsert = new HashSet<>();
 
   private static final String ES_WRITES_METRIC = "num_elasticSearch_writes";
 
+  public ESGraphWriteDAO(IndexConvention indexConvention, ESBulkProcessor bulkProcessor, int numRetries) {
+    this(indexConvention, bulkProcessor, numRetries, 0);
+  }
+
+  /**
+   * @param maxPendingWrites max number of documents to buffer writes of until flushed. Writes are not buffered if not
+   *                         positive.
+   */
+  public ESGraphWriteDAO(IndexConvention indexConvention, ESBulkProcessor bulkProcessor, int numRetries,
+      int maxPendingWrites) {
+    this.indexConvention = indexConvention;
+    this.bulkProcessor = bulkProcessor;
+    this.numRetries = numRetries;
+    this.maxPendingWrites = maxPendingWrites;
+  }
+
   /**
-   * Updates or inserts the given search document.
+   * Updates or inserts the given fields of a search document.
    *
-   * @param document the document to update / insert
+   * @param document the fields to update / insert
    * @param docId the ID of the document
    */
-  public void upsertDocument(@Nonnull String docId, @Nonnull String document) {
-    final UpdateRequest updateRequest = new UpdateRequest(
-            indexConvention.getIndexName(INDEX_NAME), docId)
-            .detectNoop(false)
-            .docAsUpsert(true)
-            .doc(document, XContentType.JSON)
-            .retryOnConflict(numRetries);
-    bulkProcessor.add(updateRequest);
+  public void upsertDocument(@Nonnull String docId, @Nonnull ObjectNode document) {
+    if (maxPendingWrites <= 0) {
+      sendUpsert(docId, document);
+      return;
+    }
+    final boolean full;
+    synchronized (pendingWrites) {
+      final ObjectNode pending = pendingWrites.get(docId);
+      if (pending != null) {
+        final ObjectNode merged = pending.deepCopy();
+        merge(merged, document);
+        pendingWrites.put(docId, merged);
+        MetricUtils.counter(this.getClass(), "coalesced").inc();
+        return;
+      }
+      if (pendingWrites.containsKey(docId)) {
+        deletedBeforeUpsert.add(docId);
+      }
+      pendingWrites.put(docId, document);
+      full = pendingWrites.size() >= maxPendingWrites;
+    }
+    if (full) {
+      flush();
+    }
   }
 
   /**
@@ -51,6 +104,69 @@ public class ESGraphWriteDAO {
    * @param docId the ID of the document
    */
   public void deleteDocument(@Nonnull String docId) {
+    if (maxPendingWrites <= 0) {
+      sendDelete(docId);
+      return;
+    }
+    final boolean full;
+    synchronized (pendingWrites) {
+      if (pendingWrites.containsKey(docId)) {
+        MetricUtils.counter(this.getClass(), "coalesced").inc();
+      }
+      pendingWrites.put(docId, null);
+      deletedBeforeUpsert.remove(docId);
+      full = pendingWrites.size() >= maxPendingWrites;
+    }
+    if (full) {
+      flush();
+    }
+  }
+
+  /**
+   * Hands the buffered writes over to the bulk processor.
+   */
+  public void flush() {
+    // Writes are handed over while holding the lock, so that racing flushes keep the order of the writes
+    synchronized (pendingWrites) {
+      pendingWrites.forEach((docId, document) -> {
+        if (document == null || deletedBeforeUpsert.contains(docId)) {
+          sendDelete(docId);
+        }
+        if (document != null) {
+          sendUpsert(docId, document);
+        }
+      });
+      pendingWrites.clear();
+      deletedBeforeUpsert.clear();
+    }
+  }
+
+  /**
+   * Merges the given fields into a document as ES merges a partial update: objects are merged recursively, while any
+   * other value replaces the existing one.
+   */
+  private static void merge(@Nonnull ObjectNode document, @Nonnull ObjectNode fields) {
+    fields.fields().forEachRemaining(field -> {
+      final JsonNode existing = document.get(field.getKey());
+      if (existing instanceof ObjectNode && field.getValue() instanceof ObjectNode) {
+        merge((ObjectNode) existing, (ObjectNode) field.getValue());
+      } else {
+        document.set(field.getKey(), field.getValue());
+      }
+    });
+  }
+
+  private void sendUpsert(@Nonnull String docId, @Nonnull ObjectNode document) {
+    final UpdateRequest updateRequest = new UpdateRequest(
+            indexConvention.getIndexName(INDEX_NAME), docId)
+            .detectNoop(false)
+            .docAsUpsert(true)
+            .doc(document.toString(), XContentType.JSON)
+            .retryOnConflict(numRetries);
+    bulkProcessor.add(updateRequest);
+  }
+
+  private void sendDelete(@Nonnull String docId) {
     final DeleteRequest deleteRequest =
         new DeleteRequest(indexConvention.getIndexName(INDEX_NAME)).id(docId);
     bulkProcessor.add(deleteRequest);
@@ -64,6 +180,7 @@ public class ESGraphWriteDAO {
             destinationType == null ? ImmutableList.of() : ImmutableList.of(destinationType), destinationEntityFilter,
             relationshipTypes, relationshipFilter);
 
+    flush();
     return bulkProcessor.deleteByQuery(finalQuery, indexConvention.getIndexName(INDEX_NAME))
             .orElse(null);
   }
@@ -64,7 +64,7 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   public static final String INDEX_NAME = "graph_service_v1";
   private static final Map<String, Object> EMPTY_HASH = new HashMap<>();
 
-  private String toDocument(@Nonnull final Edge edge) {
+  private ObjectNode toDocument(@Nonnull final Edge edge) {
     final ObjectNode searchDocument = JsonNodeFactory.instance.objectNode();
 
     final ObjectNode sourceObject = JsonNodeFactory.instance.objectNode();
@@ -108,7 +108,7 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
       searchDocument.set("properties", propertiesObject);
     }
 
-    return searchDocument.toString();
+    return searchDocument;
   }
 
   private String toDocId(@Nonnull final Edge edge) {
@@ -135,7 +135,7 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   @Override
   public void addEdge(@Nonnull final Edge edge) {
     String docId = toDocId(edge);
-    String edgeDocument = toDocument(edge);
+    ObjectNode edgeDocument = toDocument(edge);
     _graphWriteDAO.upsertDocument(docId, edgeDocument);
   }
 
@@ -150,6 +150,11 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
     _graphWriteDAO.deleteDocument(docId);
   }
 
+  @Override
+  public void flush() {
+    _graphWriteDAO.flush();
+  }
+
   @Nonnull
   public RelatedEntitiesResult findRelatedEntities(
       @Nullable final List<String> sourceTypes,
@@ -340,6 +345,7 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   @VisibleForTesting
   @Override
   public void clear() {
+    _graphWriteDAO.flush();
     _esBulkProcessor.deleteByQuery(QueryBuilders.matchAllQuery(), true, _indexConvention.getIndexName(INDEX_NAME));
   }
 
@@ -347,4 +353,11 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   public boolean supportsMultiHop() {
     return true;
   }
+
+  /**
+   * Stops the threads of lineage queries. Called by Spring when the service is destroyed.
+   */
+  public void close() {
+    _graphReadDAO.close();
+  }
 }
@@ -0,0 +1,168 @@
+package com.linkedin.metadata.graph.elastic;
+
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+
+/**
+ * State of a single multi-hop lineage traversal.
+ *
+ * Every visited urn is assigned a compact integer id. Instead of copying the full path of every relationship while
+ * traversing, only the id of the node each urn was reached from is recorded. Paths are materialized on demand for the
+ * relationships that are actually returned, by walking these parent pointers back to the source urn.
+ *
+ * Not thread-safe. Hops may be fetched in parallel, but their edges must be visited from a single thread.
+ */
+class LineageTraversal {
+
+  private static final int ROOT_ID = 0;
+
+  private final Map<Urn, Integer> _ids = new HashMap<>();
+  private final List<Urn> _urns = new ArrayList<>();
+  private int[] _parents = new int[16];
+  private RelationshipDirection[] _directions = new RelationshipDirection[16];
+  private boolean[] _extendsParentPath = new boolean[16];
+
+  private final List<LineageRelationship> _relationships = new ArrayList<>();
+  private final List<Integer> _relationshipIds = new ArrayList<>();
+
+  LineageTraversal(@Nonnull final Urn sourceUrn) {
+    _ids.put(sourceUrn, ROOT_ID);
+    _urns.add(sourceUrn);
+  }
+
+  /**
+   * Visits the candidate edges of one hop, in order. Edges leading to an urn that has already been visited are
+   * skipped.
+   *
+   * @return the urns visited for the first time, which form the frontier of the next hop
+   */
+  @Nonnull
+  List<Urn> visit(@Nonnull final List<LineageEdge> edges, final int numHops) {
+    final List<Urn> frontier = new ArrayList<>();
+    for (LineageEdge edge : edges) {
+      if (_ids.containsKey(edge.getChildUrn())) {
+        continue;
+      }
+      final int parentId = _ids.get(edge.getParentUrn());
+      final int childId = add(edge.getChildUrn(), parentId, edge.getDirection());
+      _relationships.add(edge.toRelationship(numHops));
+      _relationshipIds.add(childId);
+      frontier.add(edge.getChildUrn());
+    }
+    return frontier;
+  }
+
+  int getTotal() {
+    return _relationships.size();
+  }
+
+  /**
+   * Returns a page of the relationships visited so far, in the order in which they were visited, with their paths
+   * materialized.
+   */
+  @Nonnull
+  List<LineageRelationship> getRelationships(final int offset, final int count) {
+    if (offset >= _relationships.size()) {
+      return Collections.emptyList();
+    }
+    final int end = Math.min(offset + count, _relationships.size());
+    final List<LineageRelationship> page = new ArrayList<>(end - offset);
+    for (int i = offset; i < end; i++) {
+      final UrnArrayArray paths = new UrnArrayArray();
+      paths.add(getPath(_relationshipIds.get(i)));
+      page.add(_relationships.get(i).setPaths(paths));
+    }
+    return page;
+  }
+
+  private int add(@Nonnull final Urn urn, final int parentId, @Nonnull final RelationshipDirection direction) {
+    final int id = _urns.size();
+    if (id == _parents.length) {
+      _parents = Arrays.copyOf(_parents, id * 2);
+      _directions = Arrays.copyOf(_directions, id * 2);
+      _extendsParentPath = Arrays.copyOf(_extendsParentPath, id * 2);
+    }
+    _ids.put(urn, id);
+    _urns.add(urn);
+    _parents[id] = parentId;
+    _directions[id] = direction;
+    // A path can only be extended if it was built in the same direction; otherwise a new path starts at the parent
+    _extendsParentPath[id] = parentId != ROOT_ID && _directions[parentId] == direction;
+    return id;
+  }
+
+  /**
+   * Builds the path of the given node. Paths of nodes reached through outgoing edges start at the node, while paths of
+   * nodes reached through incoming edges end at it.
+   */
+  @Nonnull
+  private UrnArray getPath(final int id) {
+    final List<Urn> path = new ArrayList<>();
+    path.add(_urns.get(id));
+    int current = id;
+    while (true) {
+      path.add(_urns.get(_parents[current]));
+      if (!_extendsParentPath[current]) {
+        break;
+      }
+      current = _parents[current];
+    }
+    if (_directions[id] == RelationshipDirection.INCOMING) {
+      Collections.reverse(path);
+    }
+    return new UrnArray(path);
+  }
+
+  /**
+   * A candidate lineage edge found while hopping from parentUrn.
+   */
+  @Value
+  static class LineageEdge {
+    Urn parentUrn;
+    Urn childUrn;
+    String type;
+    RelationshipDirection direction;
+    @Nullable
+    Long createdOn;
+    @Nullable
+    Urn createdActor;
+    @Nullable
+    Long updatedOn;
+    @Nullable
+    Urn updatedActor;
+    boolean isManual;
+
+    @Nonnull
+    LineageRelationship toRelationship(final int numHops) {
+      final LineageRelationship relationship =
+          new LineageRelationship().setType(type).setEntity(childUrn).setDegree(numHops);
+      if (createdOn != null) {
+        relationship.setCreatedOn(createdOn);
+      }
+      if (createdActor != null) {
+        relationship.setCreatedActor(createdActor);
+      }
+      if (updatedOn != null) {
+        relationship.setUpdatedOn(updatedOn);
+      }
+      if (updatedActor != null) {
+        relationship.setUpdatedActor(updatedActor);
+      }
+      relationship.setIsManual(isManual);
+      return relationship;
+    }
+  }
+}
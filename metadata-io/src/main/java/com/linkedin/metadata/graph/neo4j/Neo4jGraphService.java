@@ -5,6 +5,7 @@ import com.datahub.util.Statement;
 import com.datahub.util.exception.RetryLimitReached;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.EntityLineageResult;
@@ -25,12 +26,13 @@ import com.linkedin.metadata.query.filter.RelationshipFilter;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -45,25 +47,43 @@ import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.Neo4jException;
-import org.neo4j.driver.internal.InternalRelationship;
 
 @Slf4j
 public class Neo4jGraphService implements GraphService {
 
   private static final int MAX_TRANSACTION_RETRY = 3;
+  private static final int DEFAULT_MAX_EDGES_PER_STATEMENT = 1000;
+
+  // Node labels and relationship types cannot be parameters, so edges are written with one statement per source type,
+  // destination type and relationship type
+  private static final String MERGE_EDGES_TEMPLATE = "UNWIND $rows AS row "
+      + "MERGE (source:%s {urn: row.sourceUrn}) MERGE (destination:%s {urn: row.destinationUrn}) "
+      + "MERGE (source)-[r:%s]->(destination) SET r = {}";
+  private static final String REMOVE_EDGES_TEMPLATE = "UNWIND $rows AS row "
+      + "MATCH (source:%s {urn: row.sourceUrn}), (destination:%s {urn: row.destinationUrn}) "
+      + "MATCH (source)-[r:%s]->(destination) DELETE r";
+
   private final LineageRegistry _lineageRegistry;
   private final Driver _driver;
   private SessionConfig _sessionConfig;
+  private final int _maxEdgesPerStatement;
 
   public Neo4jGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull Driver driver) {
     this(lineageRegistry, driver, SessionConfig.defaultConfig());
   }
 
   public Neo4jGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull Driver driver, @Nonnull SessionConfig sessionConfig) {
+    this(lineageRegistry, driver, sessionConfig, DEFAULT_MAX_EDGES_PER_STATEMENT);
+  }
+
+  public Neo4jGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull Driver driver,
+      @Nonnull SessionConfig sessionConfig, int maxEdgesPerStatement) {
     this._lineageRegistry = lineageRegistry;
     this._driver = driver;
     this._sessionConfig = sessionConfig;
+    this._maxEdgesPerStatement = maxEdgesPerStatement;
   }
 
   @Override
@@ -79,39 +99,58 @@ public class Neo4jGraphService implements GraphService {
         edge.getDestination(),
         edge.getRelationshipType()));
 
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-
-    final List<Statement> statements = new ArrayList<>();
-
-    // Add/Update source & destination node first
-    statements.add(getOrInsertNode(edge.getSource()));
-    statements.add(getOrInsertNode(edge.getDestination()));
-
-    // Add/Update relationship
-    final String mergeRelationshipTemplate =
-        "MATCH (source:%s {urn: $sourceUrn}),(destination:%s {urn: $destinationUrn}) MERGE (source)-[r:%s]->(destination) SET r = $properties";
-    final String statement =
-        String.format(mergeRelationshipTemplate, sourceType, destinationType, edge.getRelationshipType());
-
-    final Map<String, Object> paramsMerge = new HashMap<>();
-    paramsMerge.put("sourceUrn", edge.getSource().toString());
-    paramsMerge.put("destinationUrn", edge.getDestination().toString());
-    paramsMerge.put("properties", new HashMap<>());
-
-    statements.add(buildStatement(statement, paramsMerge));
-
-    executeStatements(statements);
+    updateEdges(Collections.singletonList(edge), Collections.emptyList());
   }
 
   @Override
   public void upsertEdge(final Edge edge) {
-    throw new UnsupportedOperationException("Upsert edge not supported by Neo4JGraphService at this time.");
+    // Edge properties are not stored, so updating an edge is the same as adding it
+    addEdge(edge);
   }
 
   @Override
   public void removeEdge(final Edge edge) {
-    throw new UnsupportedOperationException("Remove edge not supported by Neo4JGraphService at this time.");
+    updateEdges(Collections.emptyList(), Collections.singletonList(edge));
+  }
+
+  /**
+   * Removes then adds the given edges, creating the missing source and destination nodes. Edges are sent with one
+   * UNWIND statement per source type, destination type and relationship type, each of at most maxEdgesPerStatement
+   * edges. All the statements run in a single transaction, so that readers never see the edges removed but not yet
+   * added back.
+   */
+  @Override
+  public void updateEdges(@Nonnull final List<Edge> edgesToAdd, @Nonnull final List<Edge> edgesToRemove) {
+    log.debug(String.format("Updating Neo4j edges, adding: %s, removing: %s", edgesToAdd.size(), edgesToRemove.size()));
+
+    final List<Statement> statements = new ArrayList<>(buildEdgeStatements(REMOVE_EDGES_TEMPLATE, edgesToRemove));
+    statements.addAll(buildEdgeStatements(MERGE_EDGES_TEMPLATE, edgesToAdd));
+    if (!statements.isEmpty()) {
+      executeStatements(statements);
+    }
+  }
+
+  @Nonnull
+  private List<Statement> buildEdgeStatements(@Nonnull final String template, @Nonnull final List<Edge> edges) {
+    final Map<List<String>, List<Map<String, Object>>> rowsByTypes = new LinkedHashMap<>();
+    for (Edge edge : edges) {
+      final List<String> types = Arrays.asList(edge.getSource().getEntityType(),
+          edge.getDestination().getEntityType(), edge.getRelationshipType());
+      rowsByTypes.computeIfAbsent(types, ignored -> new ArrayList<>())
+          .add(ImmutableMap.<String, Object>of("sourceUrn", edge.getSource().toString(),
+              "destinationUrn", edge.getDestination().toString()));
+    }
+
+    final List<Statement> statements = new ArrayList<>();
+    rowsByTypes.forEach((types, rows) -> {
+      final String statement = String.format(template, types.toArray());
+      for (List<Map<String, Object>> chunk : Lists.partition(rows, Math.max(1, _maxEdgesPerStatement))) {
+        final Map<String, Object> params = new HashMap<>();
+        params.put("rows", chunk);
+        statements.add(buildStatement(statement, params));
+      }
+    });
+    return statements;
   }
 
   @Nonnull
@@ -121,49 +160,62 @@ public class Neo4jGraphService implements GraphService {
     log.debug(String.format("Neo4j getLineage maxHops = %d", maxHops));
 
     final String statement = generateLineageStatement(entityUrn, direction, graphFilters, maxHops);
+    if (statement == null) {
+      return new EntityLineageResult().setStart(offset)
+          .setCount(0)
+          .setRelationships(new LineageRelationshipArray())
+          .setTotal(0);
+    }
 
-    List<Record> neo4jResult = statement != null ? runQuery(buildStatement(statement, new HashMap<>())).list() : new ArrayList<>();
-
-    // It is possible to have more than 1 path from node A to node B in the graph and previous query returns all the paths.
-    // We convert the List into Map with only the shortest paths. "item.get(i).size()" is the path size between two nodes in relation.
-    // The key for mapping is the destination node as the source node is always the same, and it is defined by parameter.
-    neo4jResult = neo4jResult.stream()
-            .collect(Collectors.toMap(item -> item.values().get(2).asNode().get("urn").asString(),
-                    Function.identity(),
-                    (item1, item2) -> item1.get(1).size() < item2.get(1).size() ? item1 : item2))
-            .values()
-            .stream()
-            .collect(Collectors.toList());
+    final Map<String, Object> params = new HashMap<>();
+    params.put("urn", entityUrn.toString());
+    params.put("offset", offset);
+    params.put("count", count);
+    final Record record = runQuery(buildStatement(statement, params)).single();
 
     LineageRelationshipArray relations = new LineageRelationshipArray();
-    neo4jResult.stream()
-            .skip(offset).limit(count)
-            .forEach(item -> {
-              String urn = item.values().get(2).asNode().get("urn").asString();
-              String relationType = ((InternalRelationship) item.get(1).asList().get(0)).type();
-              int numHops = item.get(1).size();
-              try {
-                relations.add(new LineageRelationship()
-                        .setEntity(Urn.createFromString(urn))
-                        .setType(relationType)
-                        .setDegree(numHops));
-              } catch (URISyntaxException ignored) {
-                log.warn(String.format("Can't convert urn = %s, Error = %s", urn, ignored.getMessage()));
-              }
-            });
+    record.get("page").asList(Value::asMap).forEach(item -> {
+      String urn = (String) item.get("urn");
+      try {
+        relations.add(new LineageRelationship()
+            .setEntity(Urn.createFromString(urn))
+            .setType((String) item.get("type"))
+            .setDegree(((Number) item.get("degree")).intValue()));
+      } catch (URISyntaxException ignored) {
+        log.warn(String.format("Can't convert urn = %s, Error = %s", urn, ignored.getMessage()));
+      }
+    });
 
     EntityLineageResult result = new EntityLineageResult().setStart(offset)
             .setCount(relations.size())
             .setRelationships(relations)
-            .setTotal(neo4jResult.size());
+            .setTotal(record.get("total").asInt());
 
     log.debug(String.format("Neo4j getLineage results = %s", result));
     return result;
   }
 
+  /**
+   * Builds a single query returning every entity reachable from the given entity in up to maxHops hops, along with the
+   * total number of such entities, and only the page of entities asked for.
+   *
+   * There can be very many paths to an entity, so the reachable entities are first matched with DISTINCT, which lets
+   * the planner expand the hops breadth first while pruning nodes already reached instead of enumerating every path.
+   * Only then is a single shortest path looked up for each of them, to find its degree and the relationship of its
+   * first hop.
+   */
   private String generateLineageStatement(@Nonnull Urn entityUrn, @Nonnull LineageDirection direction, GraphFilters graphFilters, int maxHops) {
-    final String multiHopTemplateDirect = "MATCH (a {urn: '%s'})-[r:%s*1..%d]->(b) WHERE b:%s RETURN a,r,b";
-    final String multiHopTemplateIndirect = "MATCH (a {urn: '%s'})<-[r:%s*1..%d]-(b) WHERE b:%s RETURN a,r,b";
+    final String multiHopTemplateDirect = "WITH a MATCH (a)-[:%1$s*1..%2$d]->(b) WHERE (b:%3$s) AND b <> a "
+        + "WITH DISTINCT a, b MATCH p = shortestPath((a)-[:%1$s*1..%2$d]->(b)) RETURN b, p";
+    final String multiHopTemplateIndirect = "WITH a MATCH (a)<-[:%1$s*1..%2$d]-(b) WHERE (b:%3$s) AND b <> a "
+        + "WITH DISTINCT a, b MATCH p = shortestPath((a)<-[:%1$s*1..%2$d]-(b)) RETURN b, p";
+    final String shortestPathsTemplate = "MATCH (a:%s {urn: $urn}) "
+        + "CALL { %s } "
+        + "WITH b, p ORDER BY length(p) "
+        + "WITH b, head(collect(p)) AS p "
+        + "WITH b.urn AS urn, type(relationships(p)[0]) AS type, length(p) AS degree ORDER BY degree, urn "
+        + "WITH collect({urn: urn, type: type, degree: degree}) AS rows "
+        + "RETURN size(rows) AS total, rows[$offset..$offset + $count] AS page";
 
     List<LineageRegistry.EdgeInfo> edgesToFetch =
             getLineageRegistry().getLineageRelationships(entityUrn.getEntityType(), direction);
@@ -179,8 +231,9 @@ public class Neo4jGraphService implements GraphService {
 
     final String allowedEntityTypes = String.join(" OR b:", graphFilters.getAllowedEntityTypes());
 
-    final String statementDirect = String.format(multiHopTemplateDirect, entityUrn, upstreamRel, maxHops, allowedEntityTypes);
-    final String statementIndirect = String.format(multiHopTemplateIndirect, entityUrn, dowStreamRel, maxHops, allowedEntityTypes);
+    final String entityType = entityUrn.getEntityType();
+    final String statementDirect = String.format(multiHopTemplateDirect, upstreamRel, maxHops, allowedEntityTypes);
+    final String statementIndirect = String.format(multiHopTemplateIndirect, dowStreamRel, maxHops, allowedEntityTypes);
 
     String statement = null;
     if (upstreamRel.length() > 0 && dowStreamRel.length() > 0) {
@@ -190,7 +243,7 @@ public class Neo4jGraphService implements GraphService {
     } else if (dowStreamRel.length() > 0) {
       statement = statementIndirect;
     }
-    return statement;
+    return statement != null ? String.format(shortestPathsTemplate, entityType, statement) : null;
   }
 
   @Nonnull
@@ -504,22 +557,6 @@ public class Neo4jGraphService implements GraphService {
     return joiner.length() <= 2 ? "" : joiner.toString();
   }
 
-  /**
-   * Gets Node based on Urn, if not exist, creates placeholder node.
-   */
-  @Nonnull
-  private Statement getOrInsertNode(@Nonnull Urn urn) {
-    final String nodeType = urn.getEntityType();
-
-    final String mergeTemplate = "MERGE (node:%s {urn: $urn}) RETURN node";
-    final String statement = String.format(mergeTemplate, nodeType);
-
-    final Map<String, Object> params = new HashMap<>();
-    params.put("urn", urn.toString());
-
-    return buildStatement(statement, params);
-  }
-
   @Override
   public boolean supportsMultiHop() {
     return true;
@@ -17,6 +17,7 @@ import com.linkedin.metadata.query.filter.Criterion;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.cache.CachedEntityLineageResult;
+import com.linkedin.metadata.search.cache.EntityLineageResultCacheIndex;
 import com.linkedin.metadata.search.utils.FilterUtils;
 import com.linkedin.metadata.search.utils.QueryUtils;
 import com.linkedin.metadata.search.utils.SearchUtils;
@@ -48,6 +49,7 @@ public class LineageSearchService {
   @Nullable
   private final Cache cache;
   private final boolean cacheEnabled;
+  private final EntityLineageResultCacheIndex cacheIndex;
 
   private static final String DEGREE_FILTER = "degree";
   private static final String DEGREE_FILTER_INPUT = "degree.keyword";
@@ -94,6 +96,7 @@ public class LineageSearchService {
       if (cacheEnabled) {
         cache.put(cacheKey,
             new CachedEntityLineageResult(lineageResult, System.currentTimeMillis()));
+        cacheIndex.register(cacheKey, lineageResult);
       }
     } else {
       lineageResult = cachedLineageResult.getEntityLineageResult();
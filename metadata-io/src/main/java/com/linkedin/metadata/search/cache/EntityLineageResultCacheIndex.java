@@ -0,0 +1,153 @@
+package com.linkedin.metadata.search.cache;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.graph.EntityLineageResult;
+import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.search.EntityLineageResultCacheKey;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+
+/**
+ * Reverse index from the urns that appear in cached multi-hop lineage results to the keys of those results.
+ *
+ * When lineage edges of an urn change, every cached result that either starts at or contains that urn may be stale.
+ * Other cached results cannot be affected, since a traversal can only cross the changed edges through one of their
+ * endpoints. {@link #invalidate(Collection)} evicts exactly those results, which allows the lineage cache to be kept
+ * for much longer than it would be safe to otherwise.
+ *
+ * The index is a map of its own, sized separately from the results since a result registers every urn it contains.
+ * Keys are added with atomic merges, on a background thread so that searches do not wait for a round trip per urn.
+ * A result whose registration cannot be queued is evicted instead. A result cached concurrently with an invalidation,
+ * or an index entry evicted ahead of its result, may still be served until the result expires.
+ *
+ * Invalidation only reaches the results cached in the same cache as the index. With a distributed cache (Hazelcast),
+ * the caches are shared between the GMS nodes and the MAE consumer. With a local cache (Caffeine) and a standalone MAE
+ * consumer, the invalidations run in the consumer's JVM and do not evict anything from the caches of the GMS nodes.
+ */
+@Slf4j
+public class EntityLineageResultCacheIndex {
+
+  private static final int REGISTRATION_QUEUE_SIZE = 1000;
+
+  @Nullable
+  private final Cache lineageCache;
+  @Nullable
+  private final ConcurrentMap<Urn, Set<EntityLineageResultCacheKey>> index;
+  private final ExecutorService registrationExecutor;
+
+  public EntityLineageResultCacheIndex(@Nullable final Cache lineageCache,
+      @Nullable final ConcurrentMap<Urn, Set<EntityLineageResultCacheKey>> index) {
+    this(lineageCache, index, new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(REGISTRATION_QUEUE_SIZE),
+        new ThreadFactoryBuilder().setNameFormat("lineage-cache-index-%d").setDaemon(true).build()));
+  }
+
+  public EntityLineageResultCacheIndex(@Nullable final Cache lineageCache,
+      @Nullable final ConcurrentMap<Urn, Set<EntityLineageResultCacheKey>> index,
+      @Nonnull final ExecutorService registrationExecutor) {
+    this.lineageCache = lineageCache;
+    this.index = index;
+    this.registrationExecutor = registrationExecutor;
+  }
+
+  public boolean isEnabled() {
+    return lineageCache != null && index != null;
+  }
+
+  /**
+   * Records, asynchronously, that the given result was cached under the given key.
+   */
+  public void register(@Nonnull final EntityLineageResultCacheKey cacheKey, @Nonnull final EntityLineageResult result) {
+    if (!isEnabled()) {
+      return;
+    }
+    // Collected now, as the caller may go on to modify the result
+    final Set<Urn> urns = new HashSet<>();
+    urns.add(cacheKey.getSourceUrn());
+    for (LineageRelationship relationship : result.getRelationships()) {
+      urns.add(relationship.getEntity());
+    }
+    try {
+      registrationExecutor.execute(() -> addKey(urns, cacheKey));
+    } catch (RejectedExecutionException e) {
+      // A result missing from the index could never be invalidated
+      log.warn("Lineage cache index registration queue is full, evicting the result for {}", cacheKey.getSourceUrn());
+      lineageCache.evict(cacheKey);
+      MetricUtils.counter(this.getClass(), "lineage_cache_registration_rejections").inc();
+    }
+  }
+
+  /**
+   * Evicts every cached lineage result that starts at or contains one of the given urns.
+   */
+  public void invalidate(@Nonnull final Collection<Urn> urns) {
+    if (!isEnabled()) {
+      return;
+    }
+    for (Urn urn : urns) {
+      final Set<EntityLineageResultCacheKey> cacheKeys = index.remove(urn);
+      if (cacheKeys == null) {
+        continue;
+      }
+      log.debug("Invalidating {} cached lineage results containing {}", cacheKeys.size(), urn);
+      cacheKeys.forEach(lineageCache::evict);
+      MetricUtils.counter(this.getClass(), "lineage_cache_invalidations").inc(cacheKeys.size());
+    }
+  }
+
+  /**
+   * Stops registering results. Pending registrations are dropped.
+   */
+  public void close() {
+    registrationExecutor.shutdownNow();
+  }
+
+  private void addKey(@Nonnull final Set<Urn> urns, @Nonnull final EntityLineageResultCacheKey cacheKey) {
+    final Set<EntityLineageResultCacheKey> cacheKeys = new HashSet<>();
+    cacheKeys.add(cacheKey);
+    try {
+      for (Urn urn : urns) {
+        index.merge(urn, cacheKeys, KeyUnion.INSTANCE);
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to index the cached lineage result for {}, evicting it", cacheKey.getSourceUrn(), e);
+      lineageCache.evict(cacheKey);
+    }
+  }
+
+  /**
+   * Merges the keys of an index entry. Static and serializable, so that distributed maps can apply it where the entry
+   * is stored, in a single atomic operation.
+   */
+  private static class KeyUnion implements BiFunction<Set<EntityLineageResultCacheKey>,
+      Set<EntityLineageResultCacheKey>, Set<EntityLineageResultCacheKey>>, Serializable {
+    private static final KeyUnion INSTANCE = new KeyUnion();
+
+    @Override
+    public Set<EntityLineageResultCacheKey> apply(Set<EntityLineageResultCacheKey> existing,
+        Set<EntityLineageResultCacheKey> added) {
+      if (existing.containsAll(added)) {
+        return existing;
+      }
+      final Set<EntityLineageResultCacheKey> merged = new HashSet<>(existing);
+      merged.addAll(added);
+      return merged;
+    }
+  }
+}
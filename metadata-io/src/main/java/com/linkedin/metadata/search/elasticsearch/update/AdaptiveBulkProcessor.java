@@ -0,0 +1,401 @@
+package com.linkedin.metadata.search.elasticsearch.update;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.rest.RestStatus;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends bulk requests to ES, sizing them from the latency and the rejections of the previous ones.
+ *
+ * Requests are queued and sent in bulks of batchSize requests, with at most concurrentRequests bulks in flight. Both
+ * follow AIMD: a bulk answered within the target latency grows the batch size by a quarter, and once the batch size is
+ * at its max, allows one more bulk in flight; a slow bulk shrinks the batch size by a fifth, and a rejected one
+ * (429 / es_rejected_execution) halves it and allows one bulk less in flight.
+ *
+ * Only the failed items of a bulk are retried, and only when they were rejected or the whole bulk failed, after a
+ * jittered exponential backoff. Other item failures (mapping errors, version conflicts...) are counted and logged.
+ *
+ * Writes to the same document are applied in the order they were added: a request is held in the queue while an
+ * earlier request to the same document is in flight or waiting to be retried, so that neither concurrent bulks nor
+ * retries can reorder them.
+ *
+ * Items, failed items and retried items are counted per index. Queue depth, batch size and bulks in flight are
+ * published as gauges, named after the processor.
+ */
+@Slf4j
+public class AdaptiveBulkProcessor implements Closeable {
+    private static final double GROWTH_FACTOR = 1.25;
+    private static final double SLOWDOWN_FACTOR = 0.8;
+    private static final double REJECTION_FACTOR = 0.5;
+    private static final String REJECTED_EXECUTION = "es_rejected_execution";
+
+    private final String name;
+    private final RestHighLevelClient searchClient;
+    @Nullable
+    private final WriteRequest.RefreshPolicy refreshPolicy;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int maxConcurrentRequests;
+    private final long targetLatencyMs;
+    private final int numRetries;
+    private final long retryIntervalMs;
+    private final int maxQueuedRequests;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong executionIds = new AtomicLong();
+
+    // Guarded by this
+    private final Deque<PendingRequest> queue = new ArrayDeque<>();
+    // Documents with a request in flight or waiting to be retried
+    private final Set<DocumentKey> busyDocuments = new HashSet<>();
+    private int batchSize;
+    private int concurrentRequests = 1;
+    private int inFlight = 0;
+    private int retrying = 0;
+
+    /**
+     * @param name name of the processor, which its gauges are published under
+     * @param searchClient client the bulks are sent with
+     * @param refreshPolicy refresh policy of every bulk
+     * @param initialBatchSize batch size of the first bulk
+     * @param minBatchSize min number of requests per bulk
+     * @param maxBatchSize max number of requests per bulk
+     * @param maxConcurrentRequests max number of bulks in flight
+     * @param targetLatencyMs bulk latency above which bulks are shrunk
+     * @param flushPeriodSeconds max time a request is queued for
+     * @param numRetries max number of times a rejected request is retried
+     * @param retryIntervalMs base of the backoff before retrying a rejected request
+     */
+    public AdaptiveBulkProcessor(@Nonnull String name, @Nonnull RestHighLevelClient searchClient,
+                                 @Nullable WriteRequest.RefreshPolicy refreshPolicy, int initialBatchSize,
+                                 int minBatchSize, int maxBatchSize, int maxConcurrentRequests, long targetLatencyMs,
+                                 long flushPeriodSeconds, int numRetries, long retryIntervalMs) {
+        this.name = name;
+        this.searchClient = searchClient;
+        this.refreshPolicy = refreshPolicy;
+        this.minBatchSize = Math.max(1, minBatchSize);
+        this.maxBatchSize = Math.max(this.minBatchSize, maxBatchSize);
+        this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+        this.targetLatencyMs = targetLatencyMs;
+        this.numRetries = numRetries;
+        this.retryIntervalMs = retryIntervalMs;
+        // Writers block once every bulk in flight and as many again are queued
+        this.maxQueuedRequests = 2 * this.maxBatchSize * this.maxConcurrentRequests;
+        this.batchSize = Math.min(this.maxBatchSize, Math.max(this.minBatchSize, initialBatchSize));
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "adaptive-bulk-processor-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(() -> sendBatches(true), flushPeriodSeconds, flushPeriodSeconds,
+                TimeUnit.SECONDS);
+
+        MetricUtils.get().gauge(gaugeName("queueDepth"), () -> (Gauge<Integer>) this::getQueueDepth);
+        MetricUtils.get().gauge(gaugeName("batchSize"), () -> (Gauge<Integer>) this::getBatchSize);
+        MetricUtils.get().gauge(gaugeName("concurrentRequests"), () -> (Gauge<Integer>) this::getConcurrentRequests);
+    }
+
+    /**
+     * Queues a request, blocking while the queue is full.
+     */
+    public void add(@Nonnull DocWriteRequest<?> request) {
+        synchronized (this) {
+            while (queue.size() >= maxQueuedRequests) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for the bulk queue", e);
+                }
+            }
+            queue.add(new PendingRequest(request, 0));
+        }
+        sendBatches(false);
+    }
+
+    /**
+     * Sends every queued request and waits for them, and for their retries, to complete.
+     */
+    public void flush() {
+        while (true) {
+            sendBatches(true);
+            synchronized (this) {
+                if (queue.isEmpty() && inFlight == 0 && retrying == 0) {
+                    return;
+                }
+                try {
+                    // Woken up when a bulk completes, sends again in case nothing else does
+                    wait(retryIntervalMs + 100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while flushing bulk requests", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        scheduler.shutdownNow();
+        MetricUtils.get().remove(gaugeName("queueDepth"));
+        MetricUtils.get().remove(gaugeName("batchSize"));
+        MetricUtils.get().remove(gaugeName("concurrentRequests"));
+    }
+
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    public synchronized int getBatchSize() {
+        return batchSize;
+    }
+
+    public synchronized int getConcurrentRequests() {
+        return concurrentRequests;
+    }
+
+    /**
+     * Sends full bulks, or with partial set any queued requests, as long as there are bulks to spare. Requests to busy
+     * documents stay queued. A full queue is sent as if partial, as it may be full of such requests.
+     */
+    private void sendBatches(boolean partial) {
+        final List<List<PendingRequest>> batches = new ArrayList<>();
+        synchronized (this) {
+            partial = partial || queue.size() >= maxQueuedRequests;
+            while (inFlight < concurrentRequests && !queue.isEmpty() && (partial || queue.size() >= batchSize)) {
+                final List<PendingRequest> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+                final Iterator<PendingRequest> iterator = queue.iterator();
+                while (batch.size() < batchSize && iterator.hasNext()) {
+                    final PendingRequest pending = iterator.next();
+                    final DocumentKey key = pending.getDocumentKey();
+                    // A retry is the only request of its document which is not done
+                    if (key != null && pending.getAttempt() == 0 && !busyDocuments.add(key)) {
+                        continue;
+                    }
+                    iterator.remove();
+                    batch.add(pending);
+                }
+                if (batch.isEmpty() || (!partial && batch.size() < batchSize)) {
+                    // Only requests to busy documents are left. Put back what was taken for a full bulk.
+                    for (int i = batch.size() - 1; i >= 0; i--) {
+                        final PendingRequest pending = batch.get(i);
+                        if (pending.getAttempt() == 0 && pending.getDocumentKey() != null) {
+                            busyDocuments.remove(pending.getDocumentKey());
+                        }
+                        queue.addFirst(pending);
+                    }
+                    break;
+                }
+                batches.add(batch);
+                inFlight++;
+            }
+            if (!batches.isEmpty()) {
+                notifyAll();
+            }
+        }
+        batches.forEach(this::send);
+    }
+
+    private void send(@Nonnull List<PendingRequest> batch) {
+        final long executionId = executionIds.incrementAndGet();
+        final BulkRequest request = new BulkRequest();
+        if (refreshPolicy != null) {
+            request.setRefreshPolicy(refreshPolicy);
+        }
+        batch.forEach(pending -> request.add(pending.getRequest()));
+        final long start = System.nanoTime();
+        try {
+            searchClient.bulkAsync(request, RequestOptions.DEFAULT, new ActionListener<BulkResponse>() {
+                @Override
+                public void onResponse(BulkResponse response) {
+                    onBulkResponse(executionId, batch, response, System.nanoTime() - start);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    onBulkFailure(executionId, batch, e);
+                }
+            });
+        } catch (Exception e) {
+            onBulkFailure(executionId, batch, e);
+        }
+    }
+
+    private void onBulkResponse(long executionId, @Nonnull List<PendingRequest> batch, @Nonnull BulkResponse response,
+                                long latencyNanos) {
+        MetricUtils.timer(this.getClass(), "bulkLatency").update(latencyNanos, TimeUnit.NANOSECONDS);
+        final List<PendingRequest> retries = new ArrayList<>();
+        final BulkItemResponse[] items = response.getItems();
+        for (int i = 0; i < items.length; i++) {
+            final BulkItemResponse item = items[i];
+            indexCounter(item.getIndex(), "items").inc();
+            if (!item.isFailed()) {
+                continue;
+            }
+            if (isRejection(item.getFailure().getStatus(), item.getFailureMessage())) {
+                retries.add(batch.get(i));
+            } else {
+                indexCounter(item.getIndex(), "failed_items").inc();
+                log.error("Failed to write {} of bulk {}: {}", item.getId(), executionId, item.getFailureMessage());
+            }
+        }
+        final boolean rejected = !retries.isEmpty();
+        if (rejected) {
+            log.warn("{} of {} requests of bulk {} were rejected, retrying them", retries.size(), items.length,
+                    executionId);
+        }
+        complete(TimeUnit.NANOSECONDS.toMillis(latencyNanos), rejected, batch, retries);
+    }
+
+    private void onBulkFailure(long executionId, @Nonnull List<PendingRequest> batch, @Nonnull Exception e) {
+        MetricUtils.exceptionCounter(this.getClass(), "bulkFailure", e);
+        final boolean rejected = e instanceof ElasticsearchException
+                && isRejection(((ElasticsearchException) e).status(), e.getMessage());
+        log.warn("Bulk {} of {} requests failed, retrying it", executionId, batch.size(), e);
+        complete(null, rejected, batch, batch);
+    }
+
+    /**
+     * Adapts the sizing of bulks to a completed one, schedules the retries of its failed requests, and releases the
+     * documents of the others.
+     *
+     * @param latencyMs latency of the bulk, null if it did not complete
+     * @param batch requests of the bulk
+     * @param failed requests of the bulk to retry
+     */
+    private void complete(@Nullable Long latencyMs, boolean rejected, @Nonnull List<PendingRequest> batch,
+                          @Nonnull List<PendingRequest> failed) {
+        final Set<PendingRequest> done = Collections.newSetFromMap(new IdentityHashMap<>());
+        done.addAll(batch);
+        final List<PendingRequest> retries = new ArrayList<>(failed.size());
+        for (PendingRequest pending : failed) {
+            final String index = pending.getRequest().index();
+            if (pending.getAttempt() < numRetries) {
+                indexCounter(index, "retried_items").inc();
+                retries.add(pending.retry());
+                done.remove(pending);
+            } else {
+                indexCounter(index, "failed_items").inc();
+                log.error("Giving up on writing {} to {} after {} retries", pending.getRequest().id(), index,
+                        numRetries);
+            }
+        }
+
+        synchronized (this) {
+            inFlight--;
+            for (PendingRequest pending : done) {
+                if (pending.getDocumentKey() != null) {
+                    busyDocuments.remove(pending.getDocumentKey());
+                }
+            }
+            if (rejected) {
+                batchSize = Math.max(minBatchSize, (int) (batchSize * REJECTION_FACTOR));
+                concurrentRequests = Math.max(1, concurrentRequests - 1);
+            } else if (latencyMs != null && latencyMs > targetLatencyMs) {
+                batchSize = Math.max(minBatchSize, (int) (batchSize * SLOWDOWN_FACTOR));
+            } else if (latencyMs != null) {
+                if (batchSize < maxBatchSize) {
+                    batchSize = Math.min(maxBatchSize, (int) Math.ceil(batchSize * GROWTH_FACTOR));
+                } else {
+                    concurrentRequests = Math.min(maxConcurrentRequests, concurrentRequests + 1);
+                }
+            }
+            if (!retries.isEmpty()) {
+                retrying++;
+            }
+            notifyAll();
+        }
+
+        if (!retries.isEmpty()) {
+            scheduleRetries(retries);
+        }
+        sendBatches(false);
+    }
+
+    private void scheduleRetries(@Nonnull List<PendingRequest> retries) {
+        final int attempt = retries.get(0).getAttempt();
+        // Exponential backoff, jittered by +/-50% so that the retries of concurrent bulks do not line up
+        final long delayMs = retryIntervalMs * (1L << Math.min(attempt - 1, 10))
+                * (50 + ThreadLocalRandom.current().nextInt(101)) / 100;
+        scheduler.schedule(() -> {
+            synchronized (this) {
+                retrying--;
+                // Later requests to the same documents are held until the retries complete
+                for (int i = retries.size() - 1; i >= 0; i--) {
+                    queue.addFirst(retries.get(i));
+                }
+            }
+            sendBatches(true);
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean isRejection(@Nullable RestStatus status, @Nullable String message) {
+        return status == RestStatus.TOO_MANY_REQUESTS || (message != null && message.contains(REJECTED_EXECUTION));
+    }
+
+    private String gaugeName(@Nonnull String metric) {
+        return MetricRegistry.name(this.getClass(), name, metric);
+    }
+
+    private Counter indexCounter(@Nullable String index, @Nonnull String metric) {
+        return MetricUtils.counter(this.getClass(), BulkListener.buildIndexMetricName(index, metric));
+    }
+
+    @Value
+    private static class PendingRequest {
+        DocWriteRequest<?> request;
+        int attempt;
+
+        PendingRequest retry() {
+            return new PendingRequest(request, attempt + 1);
+        }
+
+        /**
+         * @return the document written by the request, null if its id is generated by ES
+         */
+        @Nullable
+        DocumentKey getDocumentKey() {
+            return request.id() != null ? new DocumentKey(request.index(), request.id(), request.routing()) : null;
+        }
+    }
+
+    @Value
+    private static class DocumentKey {
+        String index;
+        String id;
+        @Nullable
+        String routing;
+    }
+}
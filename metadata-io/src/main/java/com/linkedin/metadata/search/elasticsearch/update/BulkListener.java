@@ -61,6 +61,12 @@ public class BulkListener implements BulkProcessor.Listener {
     Arrays.stream(response.getItems())
             .map(req -> buildMetricName(req.getOpType(), req.status().name()))
             .forEach(metricName -> MetricUtils.counter(BulkListener.class, metricName).inc());
+    Arrays.stream(response.getItems()).forEach(item -> {
+      MetricUtils.counter(BulkListener.class, buildIndexMetricName(item.getIndex(), "items")).inc();
+      if (item.isFailed()) {
+        MetricUtils.counter(BulkListener.class, buildIndexMetricName(item.getIndex(), "failed_items")).inc();
+      }
+    });
   }
 
   private static void incrementMetrics(BulkRequest request, Throwable failure) {
@@ -73,6 +79,13 @@ public class BulkListener implements BulkProcessor.Listener {
     return opType.getLowercase() + MetricUtils.DELIMITER + status.toLowerCase();
   }
 
+  /**
+   * Name of a per index metric, e.g. items written to or failed items of the index.
+   */
+  static String buildIndexMetricName(String index, String metric) {
+    return (index == null ? "unknown" : index) + MetricUtils.DELIMITER + metric;
+  }
+
   public static String buildBulkRequestSummary(BulkRequest request) {
     return request.requests().stream().map(req -> String.format(
             "Failed to perform bulk request: index [%s], optype: [%s], type [%s], id [%s]",
@@ -22,6 +22,7 @@ import org.elasticsearch.index.reindex.DeleteByQueryRequest;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Builder(builderMethodName = "hiddenBuilder")
@@ -48,16 +49,35 @@ public class ESBulkProcessor implements Closeable {
     private Long retryInterval = 1L;
     @Builder.Default
     private TimeValue defaultTimeout = TimeValue.timeValueMinutes(1);
+    // Sizes bulks from their latency and rejections, see AdaptiveBulkProcessor
+    @Builder.Default
+    private Boolean adaptive = false;
+    @Builder.Default
+    private Integer minBulkRequestsLimit = 100;
+    @Builder.Default
+    private Integer maxBulkRequestsLimit = 5000;
+    @Builder.Default
+    private Integer maxConcurrentRequests = 4;
+    @Builder.Default
+    private Long targetLatencyMs = 1000L;
+    // Name the gauges of the adaptive processor are published under
+    @Builder.Default
+    private String name = "default";
     @Getter
     private final WriteRequest.RefreshPolicy writeRequestRefreshPolicy;
     @Setter(AccessLevel.NONE)
     @Getter(AccessLevel.NONE)
     private final BulkProcessor bulkProcessor;
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE)
+    private final AdaptiveBulkProcessor adaptiveBulkProcessor;
 
     private ESBulkProcessor(@NonNull RestHighLevelClient searchClient, @NonNull Boolean async, Integer bulkRequestsLimit,
                             Integer bulkFlushPeriod, Integer numRetries, Long retryInterval,
-                            TimeValue defaultTimeout, WriteRequest.RefreshPolicy writeRequestRefreshPolicy,
-                            BulkProcessor ignored) {
+                            TimeValue defaultTimeout, Boolean adaptive, Integer minBulkRequestsLimit,
+                            Integer maxBulkRequestsLimit, Integer maxConcurrentRequests, Long targetLatencyMs,
+                            String name, WriteRequest.RefreshPolicy writeRequestRefreshPolicy,
+                            BulkProcessor ignored, AdaptiveBulkProcessor ignoredAdaptive) {
         this.searchClient = searchClient;
         this.async = async;
         this.bulkRequestsLimit = bulkRequestsLimit;
@@ -65,13 +85,32 @@ public class ESBulkProcessor implements Closeable {
         this.numRetries = numRetries;
         this.retryInterval = retryInterval;
         this.defaultTimeout = defaultTimeout;
+        this.adaptive = adaptive;
+        this.minBulkRequestsLimit = minBulkRequestsLimit;
+        this.maxBulkRequestsLimit = maxBulkRequestsLimit;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.targetLatencyMs = targetLatencyMs;
+        this.name = name;
         this.writeRequestRefreshPolicy = writeRequestRefreshPolicy;
-        this.bulkProcessor = async ? toAsyncBulkProcessor() : toBulkProcessor();
+        if (adaptive) {
+            // Adaptive bulks are always sent asynchronously
+            this.bulkProcessor = null;
+            this.adaptiveBulkProcessor = new AdaptiveBulkProcessor(name, searchClient, writeRequestRefreshPolicy,
+                    bulkRequestsLimit, minBulkRequestsLimit, maxBulkRequestsLimit, maxConcurrentRequests,
+                    targetLatencyMs, bulkFlushPeriod, numRetries, TimeUnit.SECONDS.toMillis(retryInterval));
+        } else {
+            this.bulkProcessor = async ? toAsyncBulkProcessor() : toBulkProcessor();
+            this.adaptiveBulkProcessor = null;
+        }
     }
 
     public ESBulkProcessor add(DocWriteRequest<?> request) {
         MetricUtils.counter(this.getClass(), ES_WRITES_METRIC).inc();
-        bulkProcessor.add(request);
+        if (adaptiveBulkProcessor != null) {
+            adaptiveBulkProcessor.add(request);
+        } else {
+            bulkProcessor.add(request);
+        }
         return this;
     }
 
@@ -96,7 +135,7 @@ public class ESBulkProcessor implements Closeable {
 
         try {
             // flush pending writes
-            bulkProcessor.flush();
+            flush();
             // perform delete after local flush
             final BulkByScrollResponse deleteResponse = searchClient.deleteByQuery(deleteByQueryRequest, RequestOptions.DEFAULT);
             MetricUtils.counter(this.getClass(), ES_WRITES_METRIC).inc(deleteResponse.getTotal());
@@ -139,10 +178,18 @@ public class ESBulkProcessor implements Closeable {
 
     @Override
     public void close() throws IOException {
-        bulkProcessor.close();
+        if (adaptiveBulkProcessor != null) {
+            adaptiveBulkProcessor.close();
+        } else {
+            bulkProcessor.close();
+        }
     }
 
     public void flush() {
-        bulkProcessor.flush();
+        if (adaptiveBulkProcessor != null) {
+            adaptiveBulkProcessor.flush();
+        } else {
+            bulkProcessor.flush();
+        }
     }
 }
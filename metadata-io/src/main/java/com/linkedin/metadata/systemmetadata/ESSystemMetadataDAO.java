@@ -4,11 +4,13 @@ import com.google.common.collect.ImmutableList;
 import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.delete.DeleteRequest;
@@ -36,6 +38,9 @@ import static com.linkedin.metadata.systemmetadata.ElasticSearchSystemMetadataSe
 @Slf4j
 @RequiredArgsConstructor
 public class ESSystemMetadataDAO {
+  private static final String FIELD_URN = "urn";
+  private static final String FIELD_ASPECT = "aspect";
+
   private final RestHighLevelClient client;
   private final IndexConvention indexConvention;
   private final ESBulkProcessor bulkProcessor;
@@ -57,6 +62,15 @@ public class ESSystemMetadataDAO {
     bulkProcessor.add(updateRequest);
   }
 
+  /**
+   * Deletes the given search document through the bulk processor.
+   *
+   * @param docId the ID of the document
+   */
+  public void deleteDocument(@Nonnull String docId) {
+    bulkProcessor.add(new DeleteRequest(indexConvention.getIndexName(INDEX_NAME), docId));
+  }
+
   public DeleteResponse deleteByDocId(@Nonnull final String docId) {
     DeleteRequest deleteRequest = new DeleteRequest(indexConvention.getIndexName(INDEX_NAME), docId);
 
@@ -80,6 +94,19 @@ public class ESSystemMetadataDAO {
     return deleteResponse.orElse(null);
   }
 
+  /**
+   * Deletes the documents of all the aspects of the given urns with a single delete by query.
+   */
+  public BulkByScrollResponse deleteByUrns(@Nonnull final Collection<String> urns) {
+    BoolQueryBuilder finalQuery = QueryBuilders.boolQuery();
+    finalQuery.must(QueryBuilders.termsQuery(FIELD_URN, urns));
+
+    final Optional<BulkByScrollResponse> deleteResponse = bulkProcessor.deleteByQuery(finalQuery,
+            indexConvention.getIndexName(INDEX_NAME));
+
+    return deleteResponse.orElse(null);
+  }
+
   public BulkByScrollResponse deleteByUrnAspect(@Nonnull final String urn, @Nonnull final String aspect) {
     BoolQueryBuilder finalQuery = QueryBuilders.boolQuery();
     finalQuery.must(QueryBuilders.termQuery("urn", urn));
@@ -96,17 +123,7 @@ public class ESSystemMetadataDAO {
 
     SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
 
-    BoolQueryBuilder finalQuery = QueryBuilders.boolQuery();
-
-    for (String key : searchParams.keySet()) {
-      finalQuery.must(QueryBuilders.termQuery(key, searchParams.get(key)));
-    }
-
-    if (!includeSoftDeleted) {
-      finalQuery.mustNot(QueryBuilders.termQuery("removed", "true"));
-    }
-
-    searchSourceBuilder.query(finalQuery);
+    searchSourceBuilder.query(buildParamsQuery(searchParams, includeSoftDeleted));
 
     searchSourceBuilder.from(from);
     searchSourceBuilder.size(size);
@@ -124,6 +141,56 @@ public class ESSystemMetadataDAO {
     return null;
   }
 
+  /**
+   * Like {@link #findByParams(Map, boolean, int, int)}, but sorted by urn and aspect and paginated with search_after
+   * rather than from / size, so that deep pages cost the same as the first one and are not capped by the max result
+   * window.
+   *
+   * Unlike {@link #findByParams(Map, boolean, int, int)}, a failed search throws rather than returning null, as callers
+   * take an empty page for the last one and would otherwise stop part way through.
+   *
+   * @param searchAfter the urn and aspect of the last document of the previous page, or null for the first page
+   */
+  public SearchResponse scrollByParams(Map<String, String> searchParams, boolean includeSoftDeleted,
+      @Nullable Object[] searchAfter, int size) {
+    SearchRequest searchRequest = new SearchRequest();
+
+    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+
+    searchSourceBuilder.query(buildParamsQuery(searchParams, includeSoftDeleted));
+
+    searchSourceBuilder.sort(FIELD_URN, SortOrder.ASC);
+    searchSourceBuilder.sort(FIELD_ASPECT, SortOrder.ASC);
+    if (searchAfter != null) {
+      searchSourceBuilder.searchAfter(searchAfter);
+    }
+    searchSourceBuilder.size(size);
+
+    searchRequest.source(searchSourceBuilder);
+
+    searchRequest.indices(indexConvention.getIndexName(INDEX_NAME));
+
+    try {
+      return client.search(searchRequest, RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      log.error("Failed to scroll system metadata by params {}", searchParams, e);
+      throw new RuntimeException("Failed to scroll system metadata", e);
+    }
+  }
+
+  private static BoolQueryBuilder buildParamsQuery(Map<String, String> searchParams, boolean includeSoftDeleted) {
+    BoolQueryBuilder finalQuery = QueryBuilders.boolQuery();
+
+    for (String key : searchParams.keySet()) {
+      finalQuery.must(QueryBuilders.termQuery(key, searchParams.get(key)));
+    }
+
+    if (!includeSoftDeleted) {
+      finalQuery.mustNot(QueryBuilders.termQuery("removed", "true"));
+    }
+    return finalQuery;
+  }
+
   public SearchResponse findByRegistry(String registryName, String registryVersion, boolean includeSoftDeleted,
       int from, int size) {
     Map<String, String> params = new HashMap<>();
@@ -136,6 +203,11 @@ public class ESSystemMetadataDAO {
     return findByParams(Collections.singletonMap("runId", runId), includeSoftDeleted, from, size);
   }
 
+  public SearchResponse scrollByRunId(String runId, boolean includeSoftDeleted, @Nullable Object[] searchAfter,
+      int size) {
+    return scrollByParams(Collections.singletonMap("runId", runId), includeSoftDeleted, searchAfter, size);
+  }
+
   public SearchResponse findRuns(Integer pageOffset, Integer pageSize) {
 
     SearchRequest searchRequest = new SearchRequest();
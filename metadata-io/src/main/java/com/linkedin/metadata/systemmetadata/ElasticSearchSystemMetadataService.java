@@ -47,6 +47,9 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
   private final IndexConvention _indexConvention;
   private final ESSystemMetadataDAO _esDAO;
   private final ESIndexBuilder _indexBuilder;
+  // Buffers writes to the index if set, otherwise every write is sent on its own
+  @Nullable
+  private SystemMetadataBulkWriter _bulkWriter;
 
   private static final String DOC_DELIMETER = "--";
   public static final String INDEX_NAME = "system_metadata_service_v1";
@@ -60,7 +63,11 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
       Arrays.asList(FIELD_URN, FIELD_ASPECT, FIELD_RUNID, FIELD_LAST_UPDATED, FIELD_REGISTRY_NAME,
           FIELD_REGISTRY_VERSION));
 
-  private String toDocument(SystemMetadata systemMetadata, String urn, String aspect) {
+  public void setBulkWriter(@Nullable SystemMetadataBulkWriter bulkWriter) {
+    _bulkWriter = bulkWriter;
+  }
+
+  private ObjectNode toDocument(SystemMetadata systemMetadata, String urn, String aspect) {
     final ObjectNode document = JsonNodeFactory.instance.objectNode();
 
     document.put("urn", urn);
@@ -70,7 +77,7 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
     document.put("registryName", systemMetadata.getRegistryName());
     document.put("registryVersion", systemMetadata.getRegistryVersion());
     document.put("removed", false);
-    return document.toString();
+    return document;
   }
 
   private String toDocId(@Nonnull final String urn, @Nonnull final String aspect) {
@@ -89,16 +96,26 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
 
   @Override
   public void deleteAspect(String urn, String aspect) {
+    if (_bulkWriter != null) {
+      _bulkWriter.delete(urn, toDocId(urn, aspect));
+      return;
+    }
     _esDAO.deleteByUrnAspect(urn, aspect);
   }
 
   @Override
   public void deleteUrn(String urn) {
+    if (_bulkWriter != null) {
+      _bulkWriter.deleteUrn(urn);
+      return;
+    }
     _esDAO.deleteByUrn(urn);
   }
 
   @Override
   public void setDocStatus(String urn, boolean removed) {
+    // The aspects to update are read from the index, so send the buffered writes first
+    flush();
     // searchBy findByParams
     // If status.removed -> false (from removed to not removed) --> get soft deleted entities.
     // If status.removed -> true (from not removed to removed) --> do not get soft deleted entities.
@@ -109,7 +126,7 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
       final String docId = toDocId(aspect.getUrn(), aspect.getAspectName());
       final ObjectNode document = JsonNodeFactory.instance.objectNode();
       document.put("removed", removed);
-      _esDAO.upsertDocument(docId, document.toString());
+      upsertDocument(aspect.getUrn(), docId, document);
     });
   }
 
@@ -121,8 +138,33 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
 
     String docId = toDocId(urn, aspect);
 
-    String document = toDocument(systemMetadata, urn, aspect);
-    _esDAO.upsertDocument(docId, document);
+    ObjectNode document = toDocument(systemMetadata, urn, aspect);
+    upsertDocument(urn, docId, document);
+  }
+
+  private void upsertDocument(String urn, String docId, ObjectNode document) {
+    if (_bulkWriter != null) {
+      _bulkWriter.upsert(urn, docId, document);
+      return;
+    }
+    _esDAO.upsertDocument(docId, document.toString());
+  }
+
+  @Override
+  public void flush() {
+    if (_bulkWriter != null) {
+      _bulkWriter.flush();
+    }
+  }
+
+  /**
+   * Sends the buffered writes, if any, and stops buffering.
+   */
+  public void close() {
+    if (_bulkWriter != null) {
+      _bulkWriter.close();
+      _bulkWriter = null;
+    }
   }
 
   @Override
@@ -130,6 +172,13 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
     return findByParams(Collections.singletonMap(FIELD_RUNID, runId), includeSoftDeleted, from, size);
   }
 
+  @Override
+  public List<AspectRowSummary> scrollByRunId(String runId, boolean includeSoftDeleted,
+      @Nullable AspectRowSummary after, int size) {
+    Object[] searchAfter = after == null ? null : new Object[]{after.getUrn(), after.getAspectName()};
+    return toAspectRowSummaries(_esDAO.scrollByRunId(runId, includeSoftDeleted, searchAfter, size));
+  }
+
   @Override
   public List<AspectRowSummary> findByUrn(String urn, boolean includeSoftDeleted, int from, int size) {
     return findByParams(Collections.singletonMap(FIELD_URN, urn), includeSoftDeleted, from, size);
@@ -138,7 +187,10 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
   @Override
   public List<AspectRowSummary> findByParams(Map<String, String> systemMetaParams, boolean includeSoftDeleted, int from,
       int size) {
-    SearchResponse searchResponse = _esDAO.findByParams(systemMetaParams, includeSoftDeleted, from, size);
+    return toAspectRowSummaries(_esDAO.findByParams(systemMetaParams, includeSoftDeleted, from, size));
+  }
+
+  private List<AspectRowSummary> toAspectRowSummaries(@Nullable SearchResponse searchResponse) {
     if (searchResponse != null) {
       SearchHits hits = searchResponse.getHits();
       List<AspectRowSummary> summaries = Arrays.stream(hits.getHits()).map(hit -> {
@@ -220,6 +272,9 @@ public class ElasticSearchSystemMetadataService implements SystemMetadataService
   @VisibleForTesting
   @Override
   public void clear() {
+    if (_bulkWriter != null) {
+      _bulkWriter.clear();
+    }
     _esBulkProcessor.deleteByQuery(QueryBuilders.matchAllQuery(), true, _indexConvention.getIndexName(INDEX_NAME));
   }
 }
@@ -0,0 +1,195 @@
+package com.linkedin.metadata.systemmetadata;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Buffers writes to the system metadata index, so that the writes of a flush window reach ES as one set of bulk
+ * requests with at most one upsert and one delete per document.
+ *
+ * Writes are kept per document id: an upsert of a document which already has a pending upsert is merged into it, field
+ * by field, as ES would have merged the two partial updates, and a delete replaces any pending write. An upsert
+ * following a pending delete is kept along with the delete, which is sent first so that no field of the deleted
+ * document survives. Deletes of all the aspects of urns are collected into a single delete by terms query per flush,
+ * which drops the pending writes of those urns.
+ *
+ * Buffered writes are flushed every flushIntervalMs, or by the writing thread once maxPending writes are buffered.
+ * Urn deletes are sent before the other writes of the same flush, so that a write following the delete of its urn is
+ * kept.
+ */
+@Slf4j
+public class SystemMetadataBulkWriter implements AutoCloseable {
+
+  private final ESSystemMetadataDAO _esDAO;
+  private final int _maxPending;
+  private final ScheduledExecutorService _flushExecutor;
+
+  // Pending writes per document id, and urns to delete. Guarded by this.
+  private Map<String, PendingWrite> _pendingWrites = new LinkedHashMap<>();
+  private Set<String> _pendingUrnDeletes = new LinkedHashSet<>();
+  // Serializes flushes, so that the writes of a window are sent before those of the next one
+  private final Object _flushLock = new Object();
+
+  /**
+   * @param esDAO DAO sending the writes to ES
+   * @param maxPending max number of writes to buffer before flushing on the writing thread
+   * @param flushIntervalMs max time a write is buffered for
+   */
+  public SystemMetadataBulkWriter(@Nonnull ESSystemMetadataDAO esDAO, int maxPending, long flushIntervalMs) {
+    _esDAO = esDAO;
+    _maxPending = maxPending;
+    _flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "system-metadata-bulk-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    _flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Upserts the given fields of a document.
+   */
+  public void upsert(@Nonnull String urn, @Nonnull String docId, @Nonnull ObjectNode document) {
+    final boolean full;
+    synchronized (this) {
+      final PendingWrite pending = _pendingWrites.get(docId);
+      if (pending != null && pending.getDocument() != null) {
+        final ObjectNode merged = pending.getDocument().deepCopy();
+        merged.setAll(document);
+        _pendingWrites.put(docId, new PendingWrite(urn, merged, pending.isDeleteFirst()));
+        MetricUtils.counter(this.getClass(), "coalesced").inc();
+        return;
+      }
+      _pendingWrites.put(docId, new PendingWrite(urn, document, pending != null));
+      full = isFull();
+    }
+    flushIfFull(full);
+  }
+
+  /**
+   * Deletes a single document.
+   */
+  public void delete(@Nonnull String urn, @Nonnull String docId) {
+    final boolean full;
+    synchronized (this) {
+      if (_pendingWrites.put(docId, new PendingWrite(urn, null, false)) != null) {
+        MetricUtils.counter(this.getClass(), "coalesced").inc();
+      }
+      full = isFull();
+    }
+    flushIfFull(full);
+  }
+
+  /**
+   * Deletes the documents of all the aspects of an urn.
+   */
+  public void deleteUrn(@Nonnull String urn) {
+    final boolean full;
+    synchronized (this) {
+      final int before = _pendingWrites.size();
+      _pendingWrites.values().removeIf(pending -> pending.getUrn().equals(urn));
+      MetricUtils.counter(this.getClass(), "coalesced").inc(before - _pendingWrites.size());
+      _pendingUrnDeletes.add(urn);
+      full = isFull();
+    }
+    flushIfFull(full);
+  }
+
+  /**
+   * Drops the buffered writes without sending them.
+   */
+  public synchronized void clear() {
+    _pendingWrites = new LinkedHashMap<>();
+    _pendingUrnDeletes = new LinkedHashSet<>();
+  }
+
+  public synchronized int getPendingCount() {
+    return _pendingWrites.size() + _pendingUrnDeletes.size();
+  }
+
+  /**
+   * Hands the buffered writes over to the bulk processor.
+   */
+  public void flush() {
+    synchronized (_flushLock) {
+      final Map<String, PendingWrite> writes;
+      final Set<String> urnDeletes;
+      synchronized (this) {
+        writes = _pendingWrites;
+        urnDeletes = _pendingUrnDeletes;
+        _pendingWrites = new LinkedHashMap<>();
+        _pendingUrnDeletes = new LinkedHashSet<>();
+      }
+      if (writes.isEmpty() && urnDeletes.isEmpty()) {
+        return;
+      }
+
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "flushSize"))
+          .update(writes.size() + urnDeletes.size());
+      try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "flush").time()) {
+        if (!urnDeletes.isEmpty()) {
+          _esDAO.deleteByUrns(urnDeletes);
+        }
+        writes.forEach((docId, pending) -> {
+          if (pending.getDocument() == null || pending.isDeleteFirst()) {
+            _esDAO.deleteDocument(docId);
+          }
+          if (pending.getDocument() != null) {
+            _esDAO.upsertDocument(docId, pending.getDocument().toString());
+          }
+        });
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    _flushExecutor.shutdownNow();
+    flush();
+  }
+
+  private boolean isFull() {
+    return _pendingWrites.size() + _pendingUrnDeletes.size() >= _maxPending;
+  }
+
+  private void flushIfFull(boolean full) {
+    if (full) {
+      flush();
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("Failed to flush system metadata writes", e);
+      MetricUtils.exceptionCounter(this.getClass(), "flush", e);
+    }
+  }
+
+  /**
+   * A buffered write of a document: an upsert of the given fields, or a delete if there are none.
+   */
+  @Value
+  private static class PendingWrite {
+    String urn;
+    @Nullable
+    ObjectNode document;
+    // Whether the document is deleted before being upserted
+    boolean deleteFirst;
+  }
+}
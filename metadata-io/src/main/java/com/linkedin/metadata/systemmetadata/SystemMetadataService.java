@@ -23,8 +23,27 @@ public interface SystemMetadataService {
 
   void insert(@Nullable SystemMetadata systemMetadata, String urn, String aspect);
 
+  /**
+   * Sends the writes buffered so far, for implementations which buffer writes. Buffered writes are eventually sent
+   * anyway, so this is only needed when the latest writes must be visible.
+   */
+  default void flush() {
+  }
+
   List<AspectRowSummary> findByRunId(String runId, boolean includeSoftDeleted, int from, int size);
 
+  /**
+   * Returns a page of the aspects of a run, sorted by urn and aspect name. Unlike
+   * {@link #findByRunId(String, boolean, int, int)}, pages can be read arbitrarily deep into a run.
+   *
+   * @param runId the run to read the aspects of
+   * @param includeSoftDeleted whether to include soft deleted aspects
+   * @param after the last aspect of the previous page, or null to read the first page
+   * @param size the max number of aspects to return
+   */
+  List<AspectRowSummary> scrollByRunId(String runId, boolean includeSoftDeleted, @Nullable AspectRowSummary after,
+      int size);
+
   List<AspectRowSummary> findByUrn(String urn, boolean includeSoftDeleted, int from, int size);
 
   List<AspectRowSummary> findByParams(Map<String, String> systemMetaParams, boolean includeSoftDeleted, int from, int size);
@@ -9,6 +9,7 @@ import com.linkedin.timeseries.DeleteAspectValuesResult;
 import com.linkedin.timeseries.GenericTable;
 import com.linkedin.timeseries.GroupingBucket;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -20,6 +21,17 @@ public interface TimeseriesAspectService {
   void upsertDocument(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull String docId,
       @Nonnull JsonNode document);
 
+  /**
+   * Upsert a batch of documents of the same timeseries aspect.
+   * @param entityName - The name of the entity.
+   * @param aspectName - The name of the aspect.
+   * @param documents - The documents to be upserted, by document id.
+   */
+  default void upsertDocuments(@Nonnull String entityName, @Nonnull String aspectName,
+      @Nonnull Map<String, JsonNode> documents) {
+    documents.forEach((docId, document) -> upsertDocument(entityName, aspectName, docId, document));
+  }
+
   List<EnvelopedAspect> getAspectValues(@Nonnull final Urn urn, @Nonnull String entityName, @Nonnull String aspectName,
       @Nullable Long startTimeMillis, @Nullable Long endTimeMillis, @Nullable Integer limit,
       @Nullable Boolean getLatestValue, @Nullable Filter filter);
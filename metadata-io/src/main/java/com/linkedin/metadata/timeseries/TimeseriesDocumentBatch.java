@@ -0,0 +1,99 @@
+package com.linkedin.metadata.timeseries;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.timeseries.transformer.TimeseriesAspectTransformer;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.SystemMetadata;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Collects the documents of timeseries aspect values, to be upserted with one
+ * {@link TimeseriesAspectService#upsertDocuments} call per aspect rather than one call per document.
+ *
+ * Document ids are derived from the documents, so a document added twice is upserted once, as its last value.
+ */
+public class TimeseriesDocumentBatch {
+
+  // Documents by id, by aspect name, by entity name
+  private final Map<String, Map<String, Map<String, JsonNode>>> _documents = new LinkedHashMap<>();
+
+  /**
+   * Adds the documents of a timeseries aspect value.
+   */
+  public void add(@Nonnull Urn urn, @Nonnull String entityName, @Nonnull AspectSpec aspectSpec,
+      @Nonnull RecordTemplate aspect, @Nullable SystemMetadata systemMetadata) throws JsonProcessingException {
+    add(entityName, aspectSpec.getName(),
+        TimeseriesAspectTransformer.transform(urn, aspect, aspectSpec, systemMetadata));
+  }
+
+  /**
+   * Adds the documents of the timeseries aspect value of an UPSERT proposal.
+   *
+   * @return urn of the entity of the proposal
+   * @throws IllegalArgumentException if the proposal is not an UPSERT of a timeseries aspect of the registry
+   */
+  @Nonnull
+  public Urn add(@Nonnull MetadataChangeProposal mcp, @Nonnull EntityRegistry entityRegistry)
+      throws JsonProcessingException {
+    final EntitySpec entitySpec = entityRegistry.getEntitySpec(mcp.getEntityType());
+    final AspectSpec aspectSpec = mcp.hasAspectName() ? entitySpec.getAspectSpec(mcp.getAspectName()) : null;
+    if (aspectSpec == null || !aspectSpec.isTimeseries()) {
+      throw new IllegalArgumentException(
+          String.format("Unknown timeseries aspect %s for entity %s", mcp.getAspectName(), mcp.getEntityType()));
+    }
+    if (!ChangeType.UPSERT.equals(mcp.getChangeType()) || !mcp.hasAspect()) {
+      throw new IllegalArgumentException(
+          String.format("Timeseries aspect %s only supports UPSERT proposals with a value", mcp.getAspectName()));
+    }
+    final Urn urn = EntityKeyUtils.getUrnFromProposal(mcp, entitySpec.getKeyAspectSpec());
+    final RecordTemplate aspect = GenericRecordUtils.deserializeAspect(mcp.getAspect().getValue(),
+        mcp.getAspect().getContentType(), aspectSpec);
+    add(urn, entitySpec.getName(), aspectSpec, aspect, mcp.getSystemMetadata());
+    return urn;
+  }
+
+  /**
+   * Adds documents of a timeseries aspect, by document id.
+   */
+  public void add(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull Map<String, JsonNode> documents) {
+    _documents.computeIfAbsent(entityName, ignored -> new LinkedHashMap<>())
+        .computeIfAbsent(aspectName, ignored -> new LinkedHashMap<>())
+        .putAll(documents);
+  }
+
+  public int size() {
+    return _documents.values().stream()
+        .flatMap(aspects -> aspects.values().stream())
+        .mapToInt(Map::size)
+        .sum();
+  }
+
+  public boolean isEmpty() {
+    return _documents.isEmpty();
+  }
+
+  /**
+   * Upserts all the documents of the batch, which is left empty.
+   */
+  public void upsert(@Nonnull TimeseriesAspectService timeseriesAspectService) {
+    try {
+      _documents.forEach((entityName, aspects) -> aspects.forEach((aspectName, documents) ->
+          timeseriesAspectService.upsertDocuments(entityName, aspectName, documents)));
+    } finally {
+      _documents.clear();
+    }
+  }
+}
@@ -24,6 +24,8 @@ import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesAspectIndexBuilders;
 import com.linkedin.metadata.timeseries.elastic.query.ESAggregatedStatsDAO;
+import com.linkedin.metadata.timeseries.elastic.rollup.ESTimeseriesRollupDAO;
+import com.linkedin.metadata.timeseries.elastic.rollup.RollupGranularity;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.GenericAspect;
@@ -33,11 +35,14 @@ import com.linkedin.timeseries.DeleteAspectValuesResult;
 import com.linkedin.timeseries.GenericTable;
 import com.linkedin.timeseries.GroupingBucket;
 
+import java.io.Closeable;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -59,7 +64,7 @@ import org.elasticsearch.search.sort.SortOrder;
 
 
 @Slf4j
-public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectService, ElasticSearchIndexed {
+public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectService, ElasticSearchIndexed, Closeable {
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
   private static final String TIMESTAMP_FIELD = "timestampMillis";
   private static final String EVENT_FIELD = "event";
@@ -72,18 +77,38 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   private final RestHighLevelClient _searchClient;
   private final ESAggregatedStatsDAO _esAggregatedStatsDAO;
   private final EntityRegistry _entityRegistry;
+  private final ESTimeseriesRollupDAO _rollupDAO;
+  private final boolean _routeByUrn;
 
   public ElasticSearchTimeseriesAspectService(@Nonnull RestHighLevelClient searchClient,
       @Nonnull IndexConvention indexConvention, @Nonnull TimeseriesAspectIndexBuilders indexBuilders,
       @Nonnull EntityRegistry entityRegistry, @Nonnull ESBulkProcessor bulkProcessor, int numRetries) {
+    this(searchClient, indexConvention, indexBuilders, entityRegistry, bulkProcessor, numRetries, null, false, false);
+  }
+
+  /**
+   * @param rollupDAO maintainer of the rollup indices, or null for rollups not to be maintained
+   * @param queryRollups whether to answer aggregation queries out of the rollup indices when they can
+   * @param routeByUrn whether to route documents to shards by their urn rather than by their id, so that all the
+   *                   documents of an entity are written to, and read from, a single shard. Documents already indexed
+   *                   without routing would be duplicated by their next upsert, so this is only to be enabled on
+   *                   indices created, or reindexed, with it enabled.
+   */
+  public ElasticSearchTimeseriesAspectService(@Nonnull RestHighLevelClient searchClient,
+      @Nonnull IndexConvention indexConvention, @Nonnull TimeseriesAspectIndexBuilders indexBuilders,
+      @Nonnull EntityRegistry entityRegistry, @Nonnull ESBulkProcessor bulkProcessor, int numRetries,
+      @Nullable ESTimeseriesRollupDAO rollupDAO, boolean queryRollups, boolean routeByUrn) {
     _indexConvention = indexConvention;
     _indexBuilders = indexBuilders;
     _searchClient = searchClient;
     _bulkProcessor = bulkProcessor;
     _entityRegistry = entityRegistry;
     _numRetries = numRetries;
+    _rollupDAO = rollupDAO;
+    _routeByUrn = routeByUrn;
 
-    _esAggregatedStatsDAO = new ESAggregatedStatsDAO(indexConvention, searchClient, entityRegistry);
+    _esAggregatedStatsDAO =
+        new ESAggregatedStatsDAO(indexConvention, searchClient, entityRegistry, queryRollups ? rollupDAO : null);
   }
 
   private static EnvelopedAspect parseDocument(@Nonnull SearchHit doc) {
@@ -114,7 +139,26 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
 
   @Override
   public void configure() {
+    final Set<String> newIndices = _rollupDAO == null ? Collections.emptySet()
+        : _indexBuilders.getReindexConfigs().stream()
+            .filter(config -> !config.exists())
+            .map(ReindexConfig::name)
+            .collect(Collectors.toSet());
     _indexBuilders.reindexAll();
+    if (_rollupDAO == null) {
+      return;
+    }
+    // Rollup indices created just now, or whose backfill never completed, are backfilled out of the aspect indices
+    _rollupDAO.refreshBackfillState();
+    for (Map.Entry<String, EntitySpec> entry : _entityRegistry.getEntitySpecs().entrySet()) {
+      for (AspectSpec aspectSpec : entry.getValue().getAspectSpecs()) {
+        if (aspectSpec.isTimeseries() && (newIndices.contains(
+            _rollupDAO.getRollupIndexName(entry.getKey(), aspectSpec.getName(), RollupGranularity.DAY))
+            || !_rollupDAO.isBackfilled(entry.getKey(), aspectSpec.getName()))) {
+          _rollupDAO.backfill(entry.getKey(), aspectSpec.getName());
+        }
+      }
+    }
   }
 
   @Override
@@ -131,13 +175,39 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
   public void upsertDocument(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull String docId,
       @Nonnull JsonNode document) {
     String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
-    final UpdateRequest updateRequest = new UpdateRequest(
-            indexName, docId)
-            .detectNoop(false)
-            .docAsUpsert(true)
-            .doc(document.toString(), XContentType.JSON)
-            .retryOnConflict(_numRetries);
-    _bulkProcessor.add(updateRequest);
+    _bulkProcessor.add(createUpsertRequest(indexName, docId, document));
+    if (_rollupDAO != null) {
+      _rollupDAO.markDirty(entityName, aspectName, document);
+    }
+  }
+
+  /**
+   * Hands all the documents over to the bulk processor at once, so that they are sent along in as few bulk requests as
+   * the bulk processor allows. Document ids are derived from the documents themselves, which makes retried batches
+   * overwrite, rather than duplicate, the documents they already wrote.
+   */
+  @Override
+  public void upsertDocuments(@Nonnull String entityName, @Nonnull String aspectName,
+      @Nonnull Map<String, JsonNode> documents) {
+    final String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
+    documents.forEach((docId, document) -> _bulkProcessor.add(createUpsertRequest(indexName, docId, document)));
+    if (_rollupDAO != null) {
+      documents.values().forEach(document -> _rollupDAO.markDirty(entityName, aspectName, document));
+    }
+    MetricUtils.counter(this.getClass(), "upsertDocuments").inc(documents.size());
+  }
+
+  private UpdateRequest createUpsertRequest(@Nonnull String indexName, @Nonnull String docId,
+      @Nonnull JsonNode document) {
+    final UpdateRequest updateRequest = new UpdateRequest(indexName, docId)
+        .detectNoop(false)
+        .docAsUpsert(true)
+        .doc(document.toString(), XContentType.JSON)
+        .retryOnConflict(_numRetries);
+    if (_routeByUrn && document.hasNonNull(MappingsBuilder.URN_FIELD)) {
+      updateRequest.routing(document.get(MappingsBuilder.URN_FIELD).asText());
+    }
+    return updateRequest;
   }
 
   @Override
@@ -176,6 +246,10 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
 
     String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
     searchRequest.indices(indexName);
+    if (_routeByUrn) {
+      // All the documents of the urn live on the shard it is routed to
+      searchRequest.routing(urn.toString());
+    }
 
     log.debug("Search request is: " + searchRequest);
     SearchHits hits;
@@ -215,6 +289,10 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
       @Nonnull Filter filter) {
     final String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
     final BoolQueryBuilder filterQueryBuilder = ESUtils.buildFilterQuery(filter);
+    if (_rollupDAO != null) {
+      // Days of the deleted documents are rolled up again once they are gone
+      _rollupDAO.markDirty(entityName, aspectName, filterQueryBuilder);
+    }
 
     final Optional<DeleteAspectValuesResult> result = _bulkProcessor
             .deleteByQuery(filterQueryBuilder, false, DEFAULT_LIMIT, TimeValue.timeValueMinutes(10), indexName)
@@ -249,4 +327,14 @@ public class ElasticSearchTimeseriesAspectService implements TimeseriesAspectSer
 
     return rollbackResult;
   }
+
+  /**
+   * Stops maintaining the rollup indices, if they are, rolling up the days marked dirty so far.
+   */
+  @Override
+  public void close() {
+    if (_rollupDAO != null) {
+      _rollupDAO.close();
+    }
+  }
 }
@@ -23,11 +23,59 @@ public class MappingsBuilder {
   public static final String PARTITION_SPEC_PARTITION = "partition";
   public static final String PARTITION_SPEC_TIME_PARTITION = "timePartition";
   public static final String RUN_ID_FIELD = "runId";
+  // Suffix of the fields holding the sums of numeric fields in rollup documents
+  public static final String ROLLUP_SUM_SUFFIX = "_rollupSum";
+  // Timestamp of the latest event rolled up into a rollup document
+  public static final String ROLLUP_LATEST_TIMESTAMP_FIELD = "rollupLatestTimestampMillis";
+  // Fields of the documents of the rollup state index
+  public static final String ROLLUP_STATE_TYPE_FIELD = "type";
+  public static final String ROLLUP_STATE_ENTITY_NAME_FIELD = "entityName";
+  public static final String ROLLUP_STATE_ASPECT_NAME_FIELD = "aspectName";
+  public static final String ROLLUP_STATE_DAY_START_FIELD = "dayStart";
+  public static final String ROLLUP_STATE_UPDATED_AT_FIELD = "updatedAt";
 
   private MappingsBuilder() {
   }
 
   public static Map<String, Object> getMappings(@Nonnull final AspectSpec aspectSpec) {
+    return getMappings(aspectSpec, false);
+  }
+
+  /**
+   * Mappings of rollup indices, which are the ones of the aspect, along with the sums of every numeric field.
+   */
+  public static Map<String, Object> getRollupMappings(@Nonnull final AspectSpec aspectSpec) {
+    return getMappings(aspectSpec, true);
+  }
+
+  /**
+   * Mappings of the index holding the state of the rollups: the days still to be rolled up, and the aspects whose
+   * rollups have been backfilled.
+   */
+  public static Map<String, Object> getRollupStateMappings() {
+    final Map<String, Object> mappings = new HashMap<>();
+    mappings.put(ROLLUP_STATE_TYPE_FIELD, getFieldMapping(DataSchema.Type.STRING));
+    mappings.put(ROLLUP_STATE_ENTITY_NAME_FIELD, getFieldMapping(DataSchema.Type.STRING));
+    mappings.put(ROLLUP_STATE_ASPECT_NAME_FIELD, getFieldMapping(DataSchema.Type.STRING));
+    mappings.put(URN_FIELD, getFieldMapping(DataSchema.Type.STRING));
+    mappings.put(ROLLUP_STATE_DAY_START_FIELD, ImmutableMap.of("type", "date"));
+    mappings.put(ROLLUP_STATE_UPDATED_AT_FIELD, ImmutableMap.of("type", "date"));
+    return ImmutableMap.of("properties", mappings);
+  }
+
+  public static boolean isNumeric(@Nonnull DataSchema.Type dataSchemaType) {
+    switch (dataSchemaType) {
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static Map<String, Object> getMappings(@Nonnull final AspectSpec aspectSpec, final boolean rollup) {
     if (!aspectSpec.isTimeseries()) {
       throw new IllegalArgumentException(
           String.format("Cannot apply timeseries field indexing for a non-timeseries aspect %s", aspectSpec.getName()));
@@ -51,22 +99,43 @@ public class MappingsBuilder {
     aspectSpec.getTimeseriesFieldSpecs()
         .forEach(x -> mappings.put(x.getName(), getFieldMapping(x.getPegasusSchema().getType())));
     aspectSpec.getTimeseriesFieldCollectionSpecs()
-        .forEach(x -> mappings.put(x.getName(), getTimeseriesFieldCollectionSpecMapping(x)));
+        .forEach(x -> mappings.put(x.getName(), getTimeseriesFieldCollectionSpecMapping(x, rollup)));
+    if (rollup) {
+      mappings.put(ROLLUP_LATEST_TIMESTAMP_FIELD, ImmutableMap.of("type", "date"));
+      aspectSpec.getTimeseriesFieldSpecs()
+          .stream()
+          .filter(x -> isNumeric(x.getPegasusSchema().getType()))
+          .forEach(x -> mappings.put(x.getName() + ROLLUP_SUM_SUFFIX, getSumMapping(x.getPegasusSchema().getType())));
+    }
 
     return ImmutableMap.of("properties", mappings);
   }
 
   private static Map<String, Object> getTimeseriesFieldCollectionSpecMapping(
-      TimeseriesFieldCollectionSpec timeseriesFieldCollectionSpec) {
+      TimeseriesFieldCollectionSpec timeseriesFieldCollectionSpec, boolean rollup) {
     Map<String, Object> collectionMappings = new HashMap<>();
     collectionMappings.put(timeseriesFieldCollectionSpec.getTimeseriesFieldCollectionAnnotation().getKey(),
         getFieldMapping(DataSchema.Type.STRING));
     timeseriesFieldCollectionSpec.getTimeseriesFieldSpecMap()
         .values()
         .forEach(x -> collectionMappings.put(x.getName(), getFieldMapping(x.getPegasusSchema().getType())));
+    if (rollup) {
+      timeseriesFieldCollectionSpec.getTimeseriesFieldSpecMap()
+          .values()
+          .stream()
+          .filter(x -> isNumeric(x.getPegasusSchema().getType()))
+          .forEach(x -> collectionMappings.put(x.getName() + ROLLUP_SUM_SUFFIX,
+              getSumMapping(x.getPegasusSchema().getType())));
+    }
     return ImmutableMap.of("properties", collectionMappings);
   }
 
+  private static Map<String, Object> getSumMapping(DataSchema.Type dataSchemaType) {
+    // Sums of integers may overflow them
+    return dataSchemaType == DataSchema.Type.INT || dataSchemaType == DataSchema.Type.LONG
+        ? ImmutableMap.of("type", "long") : ImmutableMap.of("type", "double");
+  }
+
   private static Map<String, Object> getFieldMapping(DataSchema.Type dataSchemaType) {
     switch (dataSchemaType) {
       case INT:
@@ -1,26 +1,47 @@
 package com.linkedin.metadata.timeseries.elastic.indexbuilder;
 
+import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
 import com.linkedin.metadata.shared.ElasticSearchIndexed;
+import com.linkedin.metadata.timeseries.elastic.rollup.ESTimeseriesRollupDAO;
+import com.linkedin.metadata.timeseries.elastic.rollup.RollupGranularity;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.linkedin.util.Pair;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 
 @Slf4j
-@RequiredArgsConstructor
 public class TimeseriesAspectIndexBuilders implements ElasticSearchIndexed {
   private final ESIndexBuilder _indexBuilder;
   private final EntityRegistry _entityRegistry;
   private final IndexConvention _indexConvention;
+  private final boolean _rollupsEnabled;
+
+  public TimeseriesAspectIndexBuilders(ESIndexBuilder indexBuilder, EntityRegistry entityRegistry,
+      IndexConvention indexConvention) {
+    this(indexBuilder, entityRegistry, indexConvention, false);
+  }
+
+  /**
+   * @param rollupsEnabled whether to build the rollup indices of every timeseries aspect along with its index
+   */
+  public TimeseriesAspectIndexBuilders(ESIndexBuilder indexBuilder, EntityRegistry entityRegistry,
+      IndexConvention indexConvention, boolean rollupsEnabled) {
+    _indexBuilder = indexBuilder;
+    _entityRegistry = entityRegistry;
+    _indexConvention = indexConvention;
+    _rollupsEnabled = rollupsEnabled;
+  }
 
   @Override
   public void reindexAll() {
@@ -35,20 +56,46 @@ public class TimeseriesAspectIndexBuilders implements ElasticSearchIndexed {
 
   @Override
   public List<ReindexConfig> getReindexConfigs() {
-    return _entityRegistry.getEntitySpecs().values().stream()
+    final Stream<ReindexConfig> aspectIndices = _entityRegistry.getEntitySpecs().values().stream()
             .flatMap(entitySpec -> entitySpec.getAspectSpecs().stream()
                     .map(aspectSpec -> Pair.of(entitySpec, aspectSpec)))
             .filter(pair -> pair.getSecond().isTimeseries())
-            .map(pair -> {
-              try {
-                return _indexBuilder.buildReindexState(
-                        _indexConvention.getTimeseriesAspectIndexName(pair.getFirst().getName(), pair.getSecond().getName()),
-                        MappingsBuilder.getMappings(pair.getSecond()), Collections.emptyMap());
-              } catch (IOException e) {
-                log.error("Issue while building timeseries field index for entity {} aspect {}", pair.getFirst().getName(),
-                        pair.getSecond().getName());
-                throw new RuntimeException(e);
+            .flatMap(pair -> {
+              final String entityName = pair.getFirst().getName();
+              final AspectSpec aspectSpec = pair.getSecond();
+              final Stream<ReindexConfig> aspectIndex = Stream.of(buildReindexState(entityName, aspectSpec,
+                      _indexConvention.getTimeseriesAspectIndexName(entityName, aspectSpec.getName()),
+                      MappingsBuilder.getMappings(aspectSpec)));
+              if (!_rollupsEnabled) {
+                return aspectIndex;
               }
-            }).collect(Collectors.toList());
+              return Stream.concat(aspectIndex, Arrays.stream(RollupGranularity.values())
+                      .map(granularity -> buildReindexState(entityName, aspectSpec,
+                              _indexConvention.getTimeseriesAspectRollupIndexName(entityName, aspectSpec.getName(),
+                                      granularity.name()),
+                              MappingsBuilder.getRollupMappings(aspectSpec))));
+            });
+    if (!_rollupsEnabled) {
+      return aspectIndices.collect(Collectors.toList());
+    }
+    final String stateIndex = ESTimeseriesRollupDAO.getStateIndexName(_indexConvention);
+    try {
+      return Stream.concat(aspectIndices, Stream.of(_indexBuilder.buildReindexState(stateIndex,
+          MappingsBuilder.getRollupStateMappings(), Collections.emptyMap()))).collect(Collectors.toList());
+    } catch (IOException e) {
+      log.error("Issue while building timeseries rollup state index {}", stateIndex);
+      throw new RuntimeException(e);
+    }
+  }
+
+  private ReindexConfig buildReindexState(String entityName, AspectSpec aspectSpec, String indexName,
+      Map<String, Object> mappings) {
+    try {
+      return _indexBuilder.buildReindexState(indexName, mappings, Collections.emptyMap());
+    } catch (IOException e) {
+      log.error("Issue while building timeseries field index for entity {} aspect {}", entityName,
+              aspectSpec.getName());
+      throw new RuntimeException(e);
+    }
   }
 }
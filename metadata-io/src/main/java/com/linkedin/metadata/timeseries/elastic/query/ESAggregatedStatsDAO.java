@@ -1,6 +1,7 @@
 package com.linkedin.metadata.timeseries.elastic.query;
 
 import com.datahub.util.exception.ESQueryException;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.linkedin.data.schema.DataSchema;
 import com.linkedin.data.template.StringArray;
@@ -10,30 +11,50 @@ import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.TimeseriesFieldCollectionSpec;
 import com.linkedin.metadata.models.TimeseriesFieldSpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterion;
+import com.linkedin.metadata.query.filter.Criterion;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
+import com.linkedin.metadata.timeseries.elastic.rollup.ESTimeseriesRollupDAO;
+import com.linkedin.metadata.timeseries.elastic.rollup.RollupGranularity;
+import com.linkedin.metadata.timeseries.elastic.rollup.TimeseriesRollupBuilder;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.timeseries.AggregationSpec;
+import com.linkedin.timeseries.AggregationType;
 import com.linkedin.timeseries.GenericTable;
 import com.linkedin.timeseries.GroupingBucket;
 import com.linkedin.timeseries.GroupingBucketType;
 import com.linkedin.timeseries.TimeWindowSize;
+import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.Stack;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.index.query.RangeQueryBuilder;
 import org.elasticsearch.search.aggregations.AggregationBuilder;
 import org.elasticsearch.search.aggregations.AggregationBuilders;
 import org.elasticsearch.search.aggregations.Aggregations;
@@ -65,12 +86,24 @@ public class ESAggregatedStatsDAO {
   private final IndexConvention _indexConvention;
   private final RestHighLevelClient _searchClient;
   private final EntityRegistry _entityRegistry;
+  private final ESTimeseriesRollupDAO _rollupDAO;
+  private final Map<String, TimeseriesRollupBuilder> _rollupBuilders = new ConcurrentHashMap<>();
 
   public ESAggregatedStatsDAO(@Nonnull IndexConvention indexConvention, @Nonnull RestHighLevelClient searchClient,
       @Nonnull EntityRegistry entityRegistry) {
+    this(indexConvention, searchClient, entityRegistry, null);
+  }
+
+  /**
+   * @param rollupDAO maintainer of the rollup indices to answer queries out of, once backfilled, or null for queries
+   *                  to only be answered out of the aspect indices
+   */
+  public ESAggregatedStatsDAO(@Nonnull IndexConvention indexConvention, @Nonnull RestHighLevelClient searchClient,
+      @Nonnull EntityRegistry entityRegistry, @Nullable ESTimeseriesRollupDAO rollupDAO) {
     _indexConvention = indexConvention;
     _searchClient = searchClient;
     _entityRegistry = entityRegistry;
+    _rollupDAO = rollupDAO;
   }
 
   private static String toEsAggName(final String aggName) {
@@ -300,17 +333,7 @@ public class ESAggregatedStatsDAO {
         return values[0];
       }
     } else if (memberAgg instanceof ParsedSum) {
-      // Underling integral type.
-      switch (memberType) {
-        case INT:
-        case LONG:
-          return String.valueOf((long) ((ParsedSum) memberAgg).getValue());
-        case DOUBLE:
-        case FLOAT:
-          return String.valueOf(((ParsedSum) memberAgg).getValue());
-        default:
-          throw new IllegalArgumentException("Unexpected type encountered for sum aggregation: " + memberType);
-      }
+      return formatSum(((ParsedSum) memberAgg).getValue(), memberType);
     } else if (memberAgg instanceof ParsedCardinality) {
       // This will always be a long value as string.
       return String.valueOf(((ParsedCardinality) memberAgg).getValue());
@@ -320,6 +343,20 @@ public class ESAggregatedStatsDAO {
     return defaultValue;
   }
 
+  private static String formatSum(double sum, @Nonnull DataSchema.Type memberType) {
+    // Underling integral type.
+    switch (memberType) {
+      case INT:
+      case LONG:
+        return String.valueOf((long) sum);
+      case DOUBLE:
+      case FLOAT:
+        return String.valueOf(sum);
+      default:
+        throw new IllegalArgumentException("Unexpected type encountered for sum aggregation: " + memberType);
+    }
+  }
+
   private AspectSpec getTimeseriesAspectSpec(@Nonnull String entityName, @Nonnull String aspectName) {
     EntitySpec entitySpec = _entityRegistry.getEntitySpec(entityName);
     AspectSpec aspectSpec = entitySpec.getAspectSpec(aspectName);
@@ -343,17 +380,63 @@ public class ESAggregatedStatsDAO {
 
     // Setup the filter query builder using the input filter provided.
     final BoolQueryBuilder filterQueryBuilder = ESUtils.buildFilterQuery(filter);
-    // Create the high-level aggregation builder with the filter.
-    final AggregationBuilder filteredAggBuilder = AggregationBuilders.filter(ES_FILTERED_STATS, filterQueryBuilder);
 
     AspectSpec aspectSpec = getTimeseriesAspectSpec(entityName, aspectName);
+    final Optional<RollupPlan> rollupPlan = _rollupDAO != null && _rollupDAO.isBackfilled(entityName, aspectName)
+        ? planRollup(aspectSpec, aggregationSpecs, filter, groupingBuckets, System.currentTimeMillis())
+        : Optional.empty();
+    final String rawIndexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
+
+    try {
+      if (!rollupPlan.isPresent()) {
+        MetricUtils.counter(this.getClass(), "rawQuery").inc();
+        final SearchResponse searchResponse =
+            search(rawIndexName, filterQueryBuilder, aspectSpec, aggregationSpecs, groupingBuckets, false);
+        return generateResponseFromElastic(searchResponse, groupingBuckets, aggregationSpecs, aspectSpec);
+      }
+
+      // Whole rollup buckets are read out of the rollup index, and the events on either side of them out of the
+      // aspect index
+      final RollupPlan plan = rollupPlan.get();
+      MetricUtils.counter(this.getClass(), "rollupQuery_" + plan.getGranularity().name().toLowerCase()).inc();
+      final RangeQueryBuilder rolledUpRange = QueryBuilders.rangeQuery(ES_FIELD_TIMESTAMP);
+      if (plan.getStartMillis() != Long.MIN_VALUE) {
+        rolledUpRange.gte(plan.getStartMillis());
+      }
+      if (plan.getEndMillis() != Long.MAX_VALUE) {
+        rolledUpRange.lt(plan.getEndMillis());
+      }
+      final SearchResponse rollupResponse = search(
+          _indexConvention.getTimeseriesAspectRollupIndexName(entityName, aspectName, plan.getGranularity().name()),
+          QueryBuilders.boolQuery().filter(filterQueryBuilder).filter(rolledUpRange), aspectSpec, aggregationSpecs,
+          groupingBuckets, true);
+      if (plan.getEdgeMillis() == 0) {
+        return generateResponseFromElastic(rollupResponse, groupingBuckets, aggregationSpecs, aspectSpec);
+      }
+      MetricUtils.counter(this.getClass(), "rawEdgeQuery").inc();
+      final SearchResponse edgeResponse = search(rawIndexName,
+          QueryBuilders.boolQuery().filter(filterQueryBuilder).mustNot(rolledUpRange), aspectSpec, aggregationSpecs,
+          groupingBuckets, false);
+      return mergeResponsesFromElastic(ImmutableList.of(rollupResponse, edgeResponse), groupingBuckets,
+          aggregationSpecs, aspectSpec);
+    } catch (Exception e) {
+      log.error("Search query failed: " + e.getMessage());
+      throw new ESQueryException("Search query failed:", e);
+    }
+  }
+
+  private SearchResponse search(@Nonnull String indexName, @Nonnull QueryBuilder filterQueryBuilder,
+      @Nonnull AspectSpec aspectSpec, @Nonnull AggregationSpec[] aggregationSpecs,
+      @Nonnull GroupingBucket[] groupingBuckets, boolean rollup) throws IOException {
+    // Create the high-level aggregation builder with the filter.
+    final AggregationBuilder filteredAggBuilder = AggregationBuilders.filter(ES_FILTERED_STATS, filterQueryBuilder);
     // Build and attach the grouping aggregations
     final AggregationBuilder baseAggregationForMembers =
         makeGroupingAggregationBuilder(aspectSpec, filteredAggBuilder, groupingBuckets);
 
     // Add the aggregations for members.
     for (AggregationSpec aggregationSpec : aggregationSpecs) {
-      addAggregationBuildersFromAggregationSpec(aspectSpec, baseAggregationForMembers, aggregationSpec);
+      addAggregationBuildersFromAggregationSpec(aspectSpec, baseAggregationForMembers, aggregationSpec, rollup);
     }
 
     final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
@@ -361,34 +444,143 @@ public class ESAggregatedStatsDAO {
 
     final SearchRequest searchRequest = new SearchRequest();
     searchRequest.source(searchSourceBuilder);
-
-    final String indexName = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
     searchRequest.indices(indexName);
 
     log.debug("Search request is: " + searchRequest);
+    return _searchClient.search(searchRequest, RequestOptions.DEFAULT);
+  }
 
-    try {
-      final SearchResponse searchResponse = _searchClient.search(searchRequest, RequestOptions.DEFAULT);
-      return generateResponseFromElastic(searchResponse, groupingBuckets, aggregationSpecs, aspectSpec);
-    } catch (Exception e) {
-      log.error("Search query failed: " + e.getMessage());
-      throw new ESQueryException("Search query failed:", e);
+  /**
+   * Plans how to answer a query out of a rollup index, which is possible when:
+   * <ul>
+   *   <li>aggregations are LATEST ones, or SUM ones of numeric fields, as distinct counts can't be added up</li>
+   *   <li>date grouping buckets are made of whole rollup buckets</li>
+   *   <li>other grouping buckets and filters are on fields having the same value across the events rolled up
+   *   together, apart from filters on the timestamp, which may only bound the events of a single conjunction</li>
+   * </ul>
+   * The whole rollup buckets within the timestamp bounds are read out of the rollup index, and the events between the
+   * bounds and the rollup buckets, if any, out of the aspect index. Upper bounds in the future are ignored, for the
+   * current rollup bucket to be read as is, as no event is expected to be timestamped past the present. The rollup
+   * leaving the fewest events to read out of the aspect index is picked, or the coarsest one on a tie.
+   */
+  @VisibleForTesting
+  Optional<RollupPlan> planRollup(@Nonnull AspectSpec aspectSpec, @Nonnull AggregationSpec[] aggregationSpecs,
+      @Nullable Filter filter, @Nullable GroupingBucket[] groupingBuckets, long nowMillis) {
+    final TimeseriesRollupBuilder rollupBuilder =
+        _rollupBuilders.computeIfAbsent(aspectSpec.getName(), name -> new TimeseriesRollupBuilder(aspectSpec));
+    final Set<RollupGranularity> candidates = EnumSet.allOf(RollupGranularity.class);
+
+    for (AggregationSpec aggregationSpec : aggregationSpecs) {
+      if (aggregationSpec.getAggregationType() == AggregationType.SUM) {
+        if (!rollupBuilder.isNumericField(aggregationSpec.getFieldPath())) {
+          return Optional.empty();
+        }
+      } else if (aggregationSpec.getAggregationType() != AggregationType.LATEST) {
+        return Optional.empty();
+      }
+    }
+
+    if (groupingBuckets != null) {
+      for (GroupingBucket groupingBucket : groupingBuckets) {
+        if (groupingBucket.getType() == GroupingBucketType.DATE_GROUPING_BUCKET) {
+          candidates.removeIf(granularity -> !granularity.covers(groupingBucket.getTimeWindowSize()));
+        } else if (!rollupBuilder.isGroupField(groupingBucket.getKey())) {
+          return Optional.empty();
+        }
+      }
+    }
+
+    // Inclusive lower and exclusive upper bounds of the timestamps
+    long lowerMillis = Long.MIN_VALUE;
+    long upperMillis = Long.MAX_VALUE;
+    final List<List<Criterion>> conjunctions = new ArrayList<>();
+    if (filter != null) {
+      if (filter.getOr() != null) {
+        filter.getOr().stream().map(ConjunctiveCriterion::getAnd).forEach(conjunctions::add);
+      } else if (filter.getCriteria() != null) {
+        conjunctions.add(filter.getCriteria());
+      }
+    }
+    for (List<Criterion> conjunction : conjunctions) {
+      for (Criterion criterion : conjunction) {
+        if (!criterion.getField().equals(ES_FIELD_TIMESTAMP)) {
+          if (!rollupBuilder.isGroupField(criterion.getField())) {
+            return Optional.empty();
+          }
+          continue;
+        }
+        if (conjunctions.size() > 1 || criterion.isNegated()) {
+          return Optional.empty();
+        }
+        final long value;
+        try {
+          value = Long.parseLong(criterion.getValue());
+        } catch (NumberFormatException e) {
+          return Optional.empty();
+        }
+        switch (criterion.getCondition()) {
+          case GREATER_THAN_OR_EQUAL_TO:
+            lowerMillis = Math.max(lowerMillis, value);
+            break;
+          case GREATER_THAN:
+            lowerMillis = Math.max(lowerMillis, value + 1);
+            break;
+          case LESS_THAN:
+            upperMillis = Math.min(upperMillis, value);
+            break;
+          case LESS_THAN_OR_EQUAL_TO:
+            upperMillis = Math.min(upperMillis, value + 1);
+            break;
+          default:
+            return Optional.empty();
+        }
+      }
+    }
+    if (upperMillis != Long.MAX_VALUE && upperMillis > nowMillis) {
+      upperMillis = Long.MAX_VALUE;
+    }
+    if (lowerMillis >= upperMillis) {
+      return Optional.empty();
+    }
+
+    RollupPlan bestPlan = null;
+    for (RollupGranularity granularity : candidates.stream()
+        .sorted(Comparator.reverseOrder())
+        .collect(Collectors.toList())) {
+      final long startMillis = lowerMillis == Long.MIN_VALUE || granularity.isBucketStart(lowerMillis) ? lowerMillis
+          : granularity.nextBucketStart(lowerMillis);
+      final long endMillis = upperMillis == Long.MAX_VALUE ? upperMillis : granularity.bucketStart(upperMillis);
+      if (startMillis >= endMillis || (endMillis == Long.MAX_VALUE && startMillis > nowMillis)) {
+        // No whole rollup bucket within the bounds
+        continue;
+      }
+      final long edgeMillis = (lowerMillis == Long.MIN_VALUE ? 0 : startMillis - lowerMillis)
+          + (upperMillis == Long.MAX_VALUE ? 0 : upperMillis - endMillis);
+      if (bestPlan == null || edgeMillis < bestPlan.getEdgeMillis()) {
+        bestPlan = new RollupPlan(granularity, startMillis, endMillis, edgeMillis);
+      }
     }
+    return Optional.ofNullable(bestPlan);
   }
 
+  /**
+   * @param rollup whether the aggregations are run against a rollup index
+   */
   private void addAggregationBuildersFromAggregationSpec(AspectSpec aspectSpec, AggregationBuilder baseAggregation,
-      AggregationSpec aggregationSpec) {
+      AggregationSpec aggregationSpec, boolean rollup) {
     String fieldPath = aggregationSpec.getFieldPath();
     String esFieldName = fieldPath;
 
     switch (aggregationSpec.getAggregationType()) {
       case LATEST:
         // Construct the terms aggregation with a max timestamp sub-aggregation.
+        // Rollups are all timestamped with the start of their bucket, along with the timestamp of their latest event.
         String termsAggName = toEsAggName(ES_AGGREGATION_PREFIX + ES_TERMS_AGGREGATION_PREFIX + fieldPath);
         AggregationBuilder termsAgg = AggregationBuilders.terms(termsAggName)
             .field(esFieldName)
             .size(MAX_TERM_BUCKETS)
-            .subAggregation(AggregationBuilders.max(ES_AGG_MAX_TIMESTAMP).field(ES_FIELD_TIMESTAMP));
+            .subAggregation(AggregationBuilders.max(ES_AGG_MAX_TIMESTAMP)
+                .field(rollup ? MappingsBuilder.ROLLUP_LATEST_TIMESTAMP_FIELD : ES_FIELD_TIMESTAMP));
         baseAggregation.subAggregation(termsAgg);
         // Construct the max_bucket pipeline aggregation
         MaxBucketPipelineAggregationBuilder maxBucketPipelineAgg =
@@ -397,8 +589,8 @@ public class ESAggregatedStatsDAO {
         baseAggregation.subAggregation(maxBucketPipelineAgg);
         break;
       case SUM:
-        AggregationBuilder sumAgg =
-            AggregationBuilders.sum(getAggregationSpecAggESName(aggregationSpec)).field(esFieldName);
+        AggregationBuilder sumAgg = AggregationBuilders.sum(getAggregationSpecAggESName(aggregationSpec))
+            .field(rollup ? esFieldName + MappingsBuilder.ROLLUP_SUM_SUFFIX : esFieldName);
         baseAggregation.subAggregation(sumAgg);
         break;
       case CARDINALITY:
@@ -442,6 +634,109 @@ public class ESAggregatedStatsDAO {
     return lastAggregationBuilder;
   }
 
+  /**
+   * Merges the rows of several searches over disjoint sets of events, as if the events had all been searched at once.
+   */
+  private GenericTable mergeResponsesFromElastic(List<SearchResponse> searchResponses,
+      GroupingBucket[] groupingBuckets, AggregationSpec[] aggregationSpecs, AspectSpec aspectSpec) {
+    GenericTable resultTable = new GenericTable();
+    resultTable.setColumnNames(new StringArray(genColumnNames(groupingBuckets, aggregationSpecs)));
+    resultTable.setColumnTypes(new StringArray(genColumnTypes(aspectSpec, groupingBuckets, aggregationSpecs)));
+
+    // Rows sorted by their keys, as the grouping aggregations sort their buckets
+    final Map<List<String>, Object[]> mergedRows = new TreeMap<>((keys1, keys2) -> {
+      for (int i = 0; i < groupingBuckets.length; ++i) {
+        final int comparison = compareBucketKeys(keys1.get(i), keys2.get(i));
+        if (comparison != 0) {
+          return comparison;
+        }
+      }
+      return 0;
+    });
+    for (SearchResponse searchResponse : searchResponses) {
+      ParsedFilter filterAgg = searchResponse.getAggregations().get(ES_FILTERED_STATS);
+      collectRows(filterAgg.getAggregations(), 0, groupingBuckets, aggregationSpecs, new Stack<>(), mergedRows);
+    }
+
+    List<StringArray> rows = new ArrayList<>();
+    mergedRows.forEach((keys, values) -> {
+      final List<String> row = new ArrayList<>(keys);
+      for (int i = 0; i < aggregationSpecs.length; ++i) {
+        if (values[i] instanceof LatestValue) {
+          row.add(((LatestValue) values[i]).getValue());
+        } else if (values[i] instanceof Double) {
+          row.add(formatSum((Double) values[i], getAggregationSpecMemberType(aspectSpec, aggregationSpecs[i])));
+        } else {
+          row.add("NULL");
+        }
+      }
+      rows.add(new StringArray(row));
+    });
+    resultTable.setRows(new StringArrayArray(rows));
+    return resultTable;
+  }
+
+  /**
+   * Collects the values of the aggregations of every row, by the keys of the row, adding up the sums and keeping the
+   * latest of the latest values of rows collected already.
+   */
+  private static void collectRows(final Aggregations lowestAggs, final int curLevel,
+      final GroupingBucket[] groupingBuckets, final AggregationSpec[] aggregationSpecs, final Stack<String> keys,
+      final Map<List<String>, Object[]> rows) {
+    if (curLevel < groupingBuckets.length) {
+      GroupingBucket curGroupingBucket = groupingBuckets[curLevel];
+      MultiBucketsAggregation nestedMBAgg = lowestAggs.get(getGroupingBucketAggName(curGroupingBucket));
+      for (MultiBucketsAggregation.Bucket b : nestedMBAgg.getBuckets()) {
+        if (curGroupingBucket.getType() == GroupingBucketType.DATE_GROUPING_BUCKET) {
+          keys.push(String.valueOf(((ZonedDateTime) b.getKey()).toInstant().toEpochMilli()));
+        } else {
+          keys.push(b.getKeyAsString());
+        }
+        collectRows(b.getAggregations(), curLevel + 1, groupingBuckets, aggregationSpecs, keys, rows);
+        keys.pop();
+      }
+      return;
+    }
+
+    final Object[] values = new Object[aggregationSpecs.length];
+    for (int i = 0; i < aggregationSpecs.length; ++i) {
+      Object memberAgg = lowestAggs.get(getAggregationSpecAggESName(aggregationSpecs[i]));
+      if (memberAgg instanceof ParsedBucketMetricValue) {
+        String[] latestValues = ((ParsedBucketMetricValue) memberAgg).keys();
+        if (latestValues.length > 0) {
+          values[i] = new LatestValue(latestValues[0], ((ParsedBucketMetricValue) memberAgg).value());
+        }
+      } else if (memberAgg instanceof ParsedSum) {
+        values[i] = ((ParsedSum) memberAgg).getValue();
+      } else {
+        throw new UnsupportedOperationException("Only latest and sum aggregations can be merged.");
+      }
+    }
+    rows.merge(Collections.unmodifiableList(new ArrayList<>(keys)), values, (values1, values2) -> {
+      final Object[] merged = new Object[values1.length];
+      for (int i = 0; i < values1.length; ++i) {
+        if (values1[i] == null || values2[i] == null) {
+          merged[i] = values1[i] == null ? values2[i] : values1[i];
+        } else if (values1[i] instanceof Double) {
+          merged[i] = (Double) values1[i] + (Double) values2[i];
+        } else {
+          final LatestValue latest1 = (LatestValue) values1[i];
+          final LatestValue latest2 = (LatestValue) values2[i];
+          merged[i] = latest1.getTimestampMillis() >= latest2.getTimestampMillis() ? latest1 : latest2;
+        }
+      }
+      return merged;
+    });
+  }
+
+  private static int compareBucketKeys(@Nonnull String key1, @Nonnull String key2) {
+    try {
+      return Double.compare(Double.parseDouble(key1), Double.parseDouble(key2));
+    } catch (NumberFormatException e) {
+      return key1.compareTo(key2);
+    }
+  }
+
   private GenericTable generateResponseFromElastic(SearchResponse searchResponse, GroupingBucket[] groupingBuckets,
       AggregationSpec[] aggregationSpecs, AspectSpec aspectSpec) {
     GenericTable resultTable = new GenericTable();
@@ -468,4 +763,23 @@ public class ESAggregatedStatsDAO {
     resultTable.setRows(new StringArrayArray(rows));
     return resultTable;
   }
+
+  /**
+   * Rollup to answer a query out of, within the {@code [startMillis, endMillis)} timestamps, leaving {@code edgeMillis}
+   * of the queried timestamps to answer out of the aspect index.
+   */
+  @Value
+  @VisibleForTesting
+  static class RollupPlan {
+    RollupGranularity granularity;
+    long startMillis;
+    long endMillis;
+    long edgeMillis;
+  }
+
+  @Value
+  private static class LatestValue {
+    String value;
+    double timestampMillis;
+  }
 }
@@ -0,0 +1,616 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import com.codahale.metrics.Timer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.search.ClearScrollRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.rest.RestStatus;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.elasticsearch.search.aggregations.bucket.composite.CompositeValuesSourceBuilder;
+import org.elasticsearch.search.aggregations.bucket.composite.DateHistogramValuesSourceBuilder;
+import org.elasticsearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.elasticsearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+
+
+/**
+ * Maintains the day, week and month rollup indices of the timeseries aspects, which {@code ESAggregatedStatsDAO}
+ * reads instead of the raw aspect indices whenever they answer a query exactly.
+ *
+ * Rollups are maintained incrementally: every write to a timeseries aspect index marks the day of the written document
+ * dirty, and dirty days are rolled up every flush period, once they have not been written to for a flush period, so
+ * that the writes have been indexed by the time they are rolled up. A dirty day is rolled up from the raw documents of
+ * its urn, then the weeks and months it belongs to are rolled up from the day rollups, so that no bucket is ever rolled
+ * up from more raw documents than a day's. Rollups are replaced rather than updated, which keeps them exact when an
+ * event is written more than once, and stale rollup documents are deleted along the way.
+ *
+ * Dirty days are recorded in a state index along with the writes marking them, rather than in memory, so that they
+ * survive restarts and are rolled up by whichever instance flushes first. A marker is only deleted if it has not been
+ * marked again while its day was being rolled up. The state index also records the aspects whose rollups have been
+ * fully backfilled, which are the only ones whose rollups may be read, and claims on the backfills in progress, so that
+ * an aspect is only backfilled by one instance at a time.
+ */
+@Slf4j
+public class ESTimeseriesRollupDAO implements Closeable {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+  private static final int PAGE_SIZE = 1000;
+  private static final String COMPOSITE_AGG = "urn_days";
+  private static final String URN_SOURCE = "urn";
+  private static final String DAY_SOURCE = "day";
+  private static final String STATE_INDEX = "timeseries_rollup_state";
+  private static final String DIRTY_DAY_TYPE = "dirtyDay";
+  private static final String BACKFILLED_TYPE = "backfilled";
+  private static final String BACKFILL_CLAIM_TYPE = "backfillClaim";
+  // Claims are renewed every page of days, and a claim not renewed for this long belongs to an interrupted backfill
+  private static final long BACKFILL_CLAIM_LEASE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+  private final IndexConvention _indexConvention;
+  private final RestHighLevelClient _searchClient;
+  private final ESBulkProcessor _bulkProcessor;
+  private final EntityRegistry _entityRegistry;
+  private final long _flushPeriodMillis;
+  private final String _stateIndex;
+  private final Map<String, TimeseriesRollupBuilder> _rollupBuilders = new ConcurrentHashMap<>();
+  // Aspects whose rollups have been backfilled, as of the last refresh of the state
+  private volatile Set<UrnAspect> _backfilledAspects = Collections.emptySet();
+  private final ScheduledExecutorService _scheduler = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("timeseries-rollup-flush-%d").setDaemon(true).build());
+  // Backfills take as long as reading a whole aspect index, and must not hold up the rollup of dirty days
+  private final ExecutorService _backfillExecutor = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("timeseries-rollup-backfill-%d").setDaemon(true).build());
+
+  public ESTimeseriesRollupDAO(@Nonnull IndexConvention indexConvention, @Nonnull RestHighLevelClient searchClient,
+      @Nonnull ESBulkProcessor bulkProcessor, @Nonnull EntityRegistry entityRegistry, long flushPeriodSeconds) {
+    _indexConvention = indexConvention;
+    _searchClient = searchClient;
+    _bulkProcessor = bulkProcessor;
+    _entityRegistry = entityRegistry;
+    _flushPeriodMillis = TimeUnit.SECONDS.toMillis(flushPeriodSeconds);
+    _stateIndex = getStateIndexName(indexConvention);
+    _scheduler.scheduleWithFixedDelay(() -> {
+      refreshBackfillStateQuietly();
+      flushQuietly(System.currentTimeMillis() - _flushPeriodMillis);
+    }, flushPeriodSeconds, flushPeriodSeconds, TimeUnit.SECONDS);
+  }
+
+  @Nonnull
+  public static String getStateIndexName(@Nonnull IndexConvention indexConvention) {
+    return indexConvention.getIndexName(STATE_INDEX);
+  }
+
+  @Nonnull
+  public String getRollupIndexName(@Nonnull String entityName, @Nonnull String aspectName,
+      @Nonnull RollupGranularity granularity) {
+    return _indexConvention.getTimeseriesAspectRollupIndexName(entityName, aspectName, granularity.name());
+  }
+
+  /**
+   * Marks the day of a document written to a timeseries aspect index dirty.
+   */
+  public void markDirty(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull JsonNode document) {
+    final JsonNode urn = document.get(MappingsBuilder.URN_FIELD);
+    final JsonNode timestampMillis = document.get(MappingsBuilder.TIMESTAMP_MILLIS_FIELD);
+    if (urn == null || timestampMillis == null) {
+      return;
+    }
+    markDirty(new DirtyDay(entityName, aspectName, urn.asText(),
+        RollupGranularity.DAY.bucketStart(timestampMillis.asLong())));
+  }
+
+  /**
+   * Marks the days of the documents of a timeseries aspect index matching a query dirty, before they get deleted.
+   */
+  public void markDirty(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull QueryBuilder query) {
+    forEachUrnDay(entityName, aspectName, query,
+        (urn, day) -> markDirty(new DirtyDay(entityName, aspectName, urn, day)));
+  }
+
+  private void markDirty(@Nonnull DirtyDay dirtyDay) {
+    final ObjectNode marker = OBJECT_MAPPER.createObjectNode()
+        .put(MappingsBuilder.ROLLUP_STATE_TYPE_FIELD, DIRTY_DAY_TYPE)
+        .put(MappingsBuilder.ROLLUP_STATE_ENTITY_NAME_FIELD, dirtyDay.getEntityName())
+        .put(MappingsBuilder.ROLLUP_STATE_ASPECT_NAME_FIELD, dirtyDay.getAspectName())
+        .put(MappingsBuilder.URN_FIELD, dirtyDay.getUrn())
+        .put(MappingsBuilder.ROLLUP_STATE_DAY_START_FIELD, dirtyDay.getDayStart())
+        .put(MappingsBuilder.ROLLUP_STATE_UPDATED_AT_FIELD, System.currentTimeMillis());
+    _bulkProcessor.add(new IndexRequest(_stateIndex).id(getMarkerId(dirtyDay))
+        .source(marker.toString(), XContentType.JSON));
+  }
+
+  /**
+   * @return whether the rollups of an aspect have been backfilled, and therefore hold every one of its documents
+   */
+  public boolean isBackfilled(@Nonnull String entityName, @Nonnull String aspectName) {
+    return _backfilledAspects.contains(new UrnAspect(entityName, aspectName, null));
+  }
+
+  /**
+   * Reads the aspects whose rollups have been backfilled from the state index.
+   */
+  public void refreshBackfillState() {
+    final Set<UrnAspect> backfilledAspects = new HashSet<>();
+    scrollState(QueryBuilders.termQuery(MappingsBuilder.ROLLUP_STATE_TYPE_FIELD, BACKFILLED_TYPE),
+        hits -> hits.forEach(hit -> backfilledAspects.add(new UrnAspect(
+            (String) hit.getSourceAsMap().get(MappingsBuilder.ROLLUP_STATE_ENTITY_NAME_FIELD),
+            (String) hit.getSourceAsMap().get(MappingsBuilder.ROLLUP_STATE_ASPECT_NAME_FIELD), null))));
+    _backfilledAspects = Collections.unmodifiableSet(backfilledAspects);
+  }
+
+  private void refreshBackfillStateQuietly() {
+    try {
+      refreshBackfillState();
+    } catch (RuntimeException e) {
+      log.error("Failed to refresh the backfill state of timeseries rollups", e);
+      MetricUtils.exceptionCounter(this.getClass(), "refreshBackfillState", e);
+    }
+  }
+
+  /**
+   * Rolls up every document of a timeseries aspect index, page of days by page of days, in the background. Rollups of
+   * the aspect are not read until the backfill completes and is recorded in the state index, so a backfill interrupted
+   * by a restart is started over.
+   *
+   * Nothing is done while another instance is backfilling the aspect, unless its claim on the backfill has expired.
+   */
+  public void backfill(@Nonnull String entityName, @Nonnull String aspectName) {
+    if (!claimBackfill(entityName, aspectName)) {
+      log.info("Skipping the backfill of entity {} aspect {}, which another instance is running", entityName,
+          aspectName);
+      return;
+    }
+    final String backfilledId = getBackfilledId(entityName, aspectName);
+    try {
+      _searchClient.delete(new DeleteRequest(_stateIndex, backfilledId), RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      throw new RuntimeException(
+          String.format("Failed to reset the backfill state of entity %s aspect %s", entityName, aspectName), e);
+    }
+    final Set<UrnAspect> backfilledAspects = new HashSet<>(_backfilledAspects);
+    backfilledAspects.remove(new UrnAspect(entityName, aspectName, null));
+    _backfilledAspects = Collections.unmodifiableSet(backfilledAspects);
+
+    _backfillExecutor.execute(() -> {
+      log.info("Backfilling the rollups of entity {} aspect {}", entityName, aspectName);
+      try {
+        final long[] count = {0};
+        final Map<UrnAspect, Set<Long>> daysByUrn = new HashMap<>();
+        forEachUrnDay(entityName, aspectName, QueryBuilders.matchAllQuery(), (urn, day) -> {
+          final UrnAspect urnAspect = new UrnAspect(entityName, aspectName, urn);
+          // Days are listed urn by urn, and all the days of an urn are rolled up together, for its weeks and months
+          // not to be rolled up from days whose rollups are not searchable yet
+          if (daysByUrn.size() >= PAGE_SIZE && !daysByUrn.containsKey(urnAspect)) {
+            rollupOrMarkDirty(daysByUrn);
+            daysByUrn.clear();
+            renewBackfillClaim(entityName, aspectName);
+          }
+          daysByUrn.computeIfAbsent(urnAspect, key -> new TreeSet<>()).add(day);
+          count[0]++;
+        });
+        rollupOrMarkDirty(daysByUrn);
+        // Days failing to roll up were marked dirty again, and are rolled up along with the other dirty days
+        _bulkProcessor.flush();
+        final ObjectNode backfilled = OBJECT_MAPPER.createObjectNode()
+            .put(MappingsBuilder.ROLLUP_STATE_TYPE_FIELD, BACKFILLED_TYPE)
+            .put(MappingsBuilder.ROLLUP_STATE_ENTITY_NAME_FIELD, entityName)
+            .put(MappingsBuilder.ROLLUP_STATE_ASPECT_NAME_FIELD, aspectName)
+            .put(MappingsBuilder.ROLLUP_STATE_UPDATED_AT_FIELD, System.currentTimeMillis());
+        _searchClient.index(new IndexRequest(_stateIndex).id(backfilledId)
+            .source(backfilled.toString(), XContentType.JSON), RequestOptions.DEFAULT);
+        log.info("Backfilled the rollups of {} days of entity {} aspect {}", count[0], entityName, aspectName);
+      } catch (IOException | RuntimeException e) {
+        log.error("Failed to backfill the rollups of entity {} aspect {}", entityName, aspectName, e);
+      } finally {
+        releaseBackfillClaim(entityName, aspectName);
+      }
+    });
+  }
+
+  /**
+   * Claims the backfill of an aspect, creating the claim if absent, or taking it over if it has expired.
+   *
+   * @return whether the claim is now held by this instance
+   */
+  private boolean claimBackfill(@Nonnull String entityName, @Nonnull String aspectName) {
+    try {
+      try {
+        _searchClient.index(buildBackfillClaim(entityName, aspectName).create(true), RequestOptions.DEFAULT);
+        return true;
+      } catch (ElasticsearchStatusException e) {
+        if (e.status() != RestStatus.CONFLICT) {
+          throw e;
+        }
+      }
+      final GetResponse claim = _searchClient.get(
+          new GetRequest(_stateIndex, getBackfillClaimId(entityName, aspectName)), RequestOptions.DEFAULT);
+      // A claim released in the meantime belongs to a backfill which just completed
+      if (!claim.isExists() || ((Number) claim.getSourceAsMap().get(MappingsBuilder.ROLLUP_STATE_UPDATED_AT_FIELD))
+          .longValue() > System.currentTimeMillis() - BACKFILL_CLAIM_LEASE_MILLIS) {
+        return false;
+      }
+      try {
+        _searchClient.index(buildBackfillClaim(entityName, aspectName)
+            .setIfSeqNo(claim.getSeqNo())
+            .setIfPrimaryTerm(claim.getPrimaryTerm()), RequestOptions.DEFAULT);
+        log.warn("Taking over the expired backfill claim of entity {} aspect {}", entityName, aspectName);
+        return true;
+      } catch (ElasticsearchStatusException e) {
+        if (e.status() != RestStatus.CONFLICT) {
+          throw e;
+        }
+        return false;
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(
+          String.format("Failed to claim the backfill of entity %s aspect %s", entityName, aspectName), e);
+    }
+  }
+
+  private void renewBackfillClaim(@Nonnull String entityName, @Nonnull String aspectName) {
+    try {
+      _searchClient.index(buildBackfillClaim(entityName, aspectName), RequestOptions.DEFAULT);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to renew the backfill claim of entity {} aspect {}", entityName, aspectName, e);
+    }
+  }
+
+  private void releaseBackfillClaim(@Nonnull String entityName, @Nonnull String aspectName) {
+    try {
+      _searchClient.delete(new DeleteRequest(_stateIndex, getBackfillClaimId(entityName, aspectName)),
+          RequestOptions.DEFAULT);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to release the backfill claim of entity {} aspect {}, which expires on its own", entityName,
+          aspectName, e);
+    }
+  }
+
+  @Nonnull
+  private IndexRequest buildBackfillClaim(@Nonnull String entityName, @Nonnull String aspectName) {
+    final ObjectNode claim = OBJECT_MAPPER.createObjectNode()
+        .put(MappingsBuilder.ROLLUP_STATE_TYPE_FIELD, BACKFILL_CLAIM_TYPE)
+        .put(MappingsBuilder.ROLLUP_STATE_ENTITY_NAME_FIELD, entityName)
+        .put(MappingsBuilder.ROLLUP_STATE_ASPECT_NAME_FIELD, aspectName)
+        .put(MappingsBuilder.ROLLUP_STATE_UPDATED_AT_FIELD, System.currentTimeMillis());
+    return new IndexRequest(_stateIndex).id(getBackfillClaimId(entityName, aspectName))
+        .source(claim.toString(), XContentType.JSON);
+  }
+
+  /**
+   * Rolls up the days marked dirty so far, along with their weeks and months.
+   */
+  public void flush() {
+    flush(Long.MAX_VALUE);
+  }
+
+  private void flush(long markedUntilMillis) {
+    scrollState(QueryBuilders.boolQuery()
+        .filter(QueryBuilders.termQuery(MappingsBuilder.ROLLUP_STATE_TYPE_FIELD, DIRTY_DAY_TYPE))
+        .filter(QueryBuilders.rangeQuery(MappingsBuilder.ROLLUP_STATE_UPDATED_AT_FIELD).lte(markedUntilMillis)),
+        hits -> {
+          final Map<UrnAspect, Set<Long>> daysByUrn = new HashMap<>();
+          for (SearchHit hit : hits) {
+            final Map<String, Object> marker = hit.getSourceAsMap();
+            daysByUrn.computeIfAbsent(new UrnAspect(
+                (String) marker.get(MappingsBuilder.ROLLUP_STATE_ENTITY_NAME_FIELD),
+                (String) marker.get(MappingsBuilder.ROLLUP_STATE_ASPECT_NAME_FIELD),
+                (String) marker.get(MappingsBuilder.URN_FIELD)), key -> new TreeSet<>())
+                .add(((Number) marker.get(MappingsBuilder.ROLLUP_STATE_DAY_START_FIELD)).longValue());
+          }
+          final Set<UrnAspect> rolledUp = rollup(daysByUrn);
+          // Markers updated since they were read belong to days marked dirty again, which are rolled up next time
+          for (SearchHit hit : hits) {
+            final Map<String, Object> marker = hit.getSourceAsMap();
+            if (rolledUp.contains(new UrnAspect((String) marker.get(MappingsBuilder.ROLLUP_STATE_ENTITY_NAME_FIELD),
+                (String) marker.get(MappingsBuilder.ROLLUP_STATE_ASPECT_NAME_FIELD),
+                (String) marker.get(MappingsBuilder.URN_FIELD)))) {
+              _bulkProcessor.add(new DeleteRequest(_stateIndex, hit.getId())
+                  .setIfSeqNo(hit.getSeqNo())
+                  .setIfPrimaryTerm(hit.getPrimaryTerm()));
+            }
+          }
+        });
+  }
+
+  /**
+   * Rolls up the given days of every urn, along with their weeks and months.
+   *
+   * @return the urns whose days have all been rolled up
+   */
+  private Set<UrnAspect> rollup(@Nonnull Map<UrnAspect, Set<Long>> daysByUrn) {
+    final Set<UrnAspect> rolledUp = new HashSet<>();
+    if (daysByUrn.isEmpty()) {
+      return rolledUp;
+    }
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "rollup").time()) {
+      daysByUrn.forEach((urnAspect, dayStarts) -> {
+        try {
+          rollup(urnAspect, dayStarts);
+          rolledUp.add(urnAspect);
+        } catch (RuntimeException e) {
+          log.error("Failed to roll up urn {} of aspect {}", urnAspect.getUrn(), urnAspect.getAspectName(), e);
+          MetricUtils.exceptionCounter(this.getClass(), "rollup", e);
+        }
+      });
+      MetricUtils.counter(this.getClass(), "rolledUpDays").inc(daysByUrn.values().stream().mapToInt(Set::size).sum());
+    }
+    return rolledUp;
+  }
+
+  private void rollupOrMarkDirty(@Nonnull Map<UrnAspect, Set<Long>> daysByUrn) {
+    final Set<UrnAspect> rolledUp = rollup(daysByUrn);
+    daysByUrn.forEach((urnAspect, dayStarts) -> {
+      if (!rolledUp.contains(urnAspect)) {
+        dayStarts.forEach(dayStart -> markDirty(new DirtyDay(urnAspect.getEntityName(), urnAspect.getAspectName(),
+            urnAspect.getUrn(), dayStart)));
+      }
+    });
+  }
+
+  private void flushQuietly(long markedUntilMillis) {
+    try {
+      flush(markedUntilMillis);
+    } catch (RuntimeException e) {
+      log.error("Failed to roll up timeseries aspects", e);
+      MetricUtils.exceptionCounter(this.getClass(), "flush", e);
+    }
+  }
+
+  private void rollup(@Nonnull UrnAspect urnAspect, @Nonnull Set<Long> dayStarts) {
+    final AspectSpec aspectSpec =
+        _entityRegistry.getEntitySpec(urnAspect.getEntityName()).getAspectSpec(urnAspect.getAspectName());
+    final TimeseriesRollupBuilder rollupBuilder =
+        _rollupBuilders.computeIfAbsent(aspectSpec.getName(), name -> new TimeseriesRollupBuilder(aspectSpec));
+    final String rawIndex =
+        _indexConvention.getTimeseriesAspectIndexName(urnAspect.getEntityName(), urnAspect.getAspectName());
+    final String dayIndex = getRollupIndexName(urnAspect.getEntityName(), urnAspect.getAspectName(),
+        RollupGranularity.DAY);
+
+    // Day rollups just built, which may not be searchable yet
+    final List<ObjectNode> freshDays = new ArrayList<>();
+    for (long dayStart : dayStarts) {
+      final Map<String, ObjectNode> rollups = rollupBuilder.rollup(RollupGranularity.DAY, dayStart,
+          search(rawIndex, urnAspect.getUrn(), dayStart, RollupGranularity.DAY.nextBucketStart(dayStart), true), false);
+      replace(dayIndex, urnAspect.getUrn(), dayStart, RollupGranularity.DAY.nextBucketStart(dayStart), rollups);
+      freshDays.addAll(rollups.values());
+    }
+
+    for (RollupGranularity granularity : new RollupGranularity[]{RollupGranularity.WEEK, RollupGranularity.MONTH}) {
+      final Set<Long> bucketStarts = dayStarts.stream().map(granularity::bucketStart).collect(Collectors.toSet());
+      for (long bucketStart : bucketStarts) {
+        final long bucketEnd = granularity.nextBucketStart(bucketStart);
+        final List<JsonNode> days = search(dayIndex, urnAspect.getUrn(), bucketStart, bucketEnd, true).stream()
+            .filter(day -> !dayStarts.contains(day.path(MappingsBuilder.TIMESTAMP_MILLIS_FIELD).asLong()))
+            .collect(Collectors.toList());
+        freshDays.stream()
+            .filter(day -> granularity.bucketStart(day.path(MappingsBuilder.TIMESTAMP_MILLIS_FIELD).asLong())
+                == bucketStart)
+            .forEach(days::add);
+        replace(getRollupIndexName(urnAspect.getEntityName(), urnAspect.getAspectName(), granularity),
+            urnAspect.getUrn(), bucketStart, bucketEnd, rollupBuilder.rollup(granularity, bucketStart, days, true));
+      }
+    }
+  }
+
+  /**
+   * Replaces the rollup documents of the bucket of an urn with the given ones.
+   */
+  private void replace(@Nonnull String index, @Nonnull String urn, long bucketStart, long bucketEnd,
+      @Nonnull Map<String, ObjectNode> rollups) {
+    search(index, urn, bucketStart, bucketEnd, false).stream()
+        .map(hit -> hit.path("_id").asText())
+        .filter(id -> !rollups.containsKey(id))
+        .forEach(id -> _bulkProcessor.add(new DeleteRequest(index, id)));
+    rollups.forEach((id, rollup) ->
+        _bulkProcessor.add(new IndexRequest(index).id(id).source(rollup.toString(), XContentType.JSON)));
+  }
+
+  /**
+   * Scrolls through the documents of an urn timestamped within [start, end).
+   *
+   * @param withSource whether to return the document sources, or their ids only
+   */
+  @Nonnull
+  private List<JsonNode> search(@Nonnull String index, @Nonnull String urn, long start, long end,
+      boolean withSource) {
+    final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+        .query(QueryBuilders.boolQuery()
+            .filter(QueryBuilders.termQuery(MappingsBuilder.URN_FIELD, urn))
+            .filter(QueryBuilders.rangeQuery(MappingsBuilder.TIMESTAMP_MILLIS_FIELD).gte(start).lt(end)))
+        .size(PAGE_SIZE);
+    if (withSource) {
+      searchSourceBuilder.fetchSource(null,
+          new String[]{MappingsBuilder.EVENT_FIELD, MappingsBuilder.SYSTEM_METADATA_FIELD});
+    } else {
+      searchSourceBuilder.fetchSource(false);
+    }
+    final SearchRequest searchRequest = new SearchRequest(index).source(searchSourceBuilder).scroll(SCROLL_KEEP_ALIVE);
+
+    final List<JsonNode> documents = new ArrayList<>();
+    String scrollId = null;
+    try {
+      SearchResponse response = _searchClient.search(searchRequest, RequestOptions.DEFAULT);
+      scrollId = response.getScrollId();
+      while (response.getHits().getHits().length > 0) {
+        for (SearchHit hit : response.getHits().getHits()) {
+          documents.add(withSource
+              ? OBJECT_MAPPER.readTree(hit.getSourceAsString())
+              : OBJECT_MAPPER.createObjectNode().put("_id", hit.getId()));
+        }
+        response = _searchClient.scroll(new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE),
+            RequestOptions.DEFAULT);
+        scrollId = response.getScrollId();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Failed to search index %s for urn %s", index, urn), e);
+    } finally {
+      clearScroll(scrollId);
+    }
+    return documents;
+  }
+
+  /**
+   * Scrolls through the documents of the state index matching a query, page by page, along with their sequence
+   * numbers.
+   */
+  private void scrollState(@Nonnull QueryBuilder query, @Nonnull Consumer<List<SearchHit>> consumer) {
+    try {
+      if (!_searchClient.indices().exists(new GetIndexRequest(_stateIndex), RequestOptions.DEFAULT)) {
+        return;
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Failed to check whether index %s exists", _stateIndex), e);
+    }
+    final SearchRequest searchRequest = new SearchRequest(_stateIndex)
+        .source(new SearchSourceBuilder().query(query).size(PAGE_SIZE).seqNoAndPrimaryTerm(true))
+        .scroll(SCROLL_KEEP_ALIVE);
+    String scrollId = null;
+    try {
+      SearchResponse response = _searchClient.search(searchRequest, RequestOptions.DEFAULT);
+      scrollId = response.getScrollId();
+      while (response.getHits().getHits().length > 0) {
+        consumer.accept(List.of(response.getHits().getHits()));
+        response = _searchClient.scroll(new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE),
+            RequestOptions.DEFAULT);
+        scrollId = response.getScrollId();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Failed to search index %s", _stateIndex), e);
+    } finally {
+      clearScroll(scrollId);
+    }
+  }
+
+  private static String getMarkerId(@Nonnull DirtyDay dirtyDay) {
+    return DigestUtils.md5Hex(String.join("|", DIRTY_DAY_TYPE, dirtyDay.getEntityName(), dirtyDay.getAspectName(),
+        dirtyDay.getUrn(), String.valueOf(dirtyDay.getDayStart())));
+  }
+
+  private static String getBackfilledId(@Nonnull String entityName, @Nonnull String aspectName) {
+    return String.join("|", BACKFILLED_TYPE, entityName, aspectName);
+  }
+
+  private static String getBackfillClaimId(@Nonnull String entityName, @Nonnull String aspectName) {
+    return String.join("|", BACKFILL_CLAIM_TYPE, entityName, aspectName);
+  }
+
+  private void clearScroll(String scrollId) {
+    if (scrollId == null) {
+      return;
+    }
+    final ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+    clearScrollRequest.addScrollId(scrollId);
+    try {
+      _searchClient.clearScroll(clearScrollRequest, RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      log.warn("Failed to clear scroll {}", scrollId, e);
+    }
+  }
+
+  /**
+   * Pages through the distinct (urn, day) pairs of the documents of a timeseries aspect index matching a query.
+   */
+  private void forEachUrnDay(@Nonnull String entityName, @Nonnull String aspectName, @Nonnull QueryBuilder query,
+      @Nonnull BiConsumer<String, Long> consumer) {
+    final String index = _indexConvention.getTimeseriesAspectIndexName(entityName, aspectName);
+    final List<CompositeValuesSourceBuilder<?>> sources = new ArrayList<>();
+    sources.add(new TermsValuesSourceBuilder(URN_SOURCE).field(MappingsBuilder.URN_FIELD));
+    sources.add(new DateHistogramValuesSourceBuilder(DAY_SOURCE).field(MappingsBuilder.TIMESTAMP_MILLIS_FIELD)
+        .calendarInterval(DateHistogramInterval.DAY));
+
+    Map<String, Object> afterKey = null;
+    do {
+      final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().query(query).size(0)
+          .aggregation(AggregationBuilders.composite(COMPOSITE_AGG, sources).size(PAGE_SIZE).aggregateAfter(afterKey));
+      final CompositeAggregation urnDays;
+      try {
+        urnDays = _searchClient.search(new SearchRequest(index).source(searchSourceBuilder), RequestOptions.DEFAULT)
+            .getAggregations()
+            .get(COMPOSITE_AGG);
+      } catch (IOException e) {
+        throw new RuntimeException(String.format("Failed to list the days of index %s", index), e);
+      }
+      for (CompositeAggregation.Bucket bucket : urnDays.getBuckets()) {
+        consumer.accept((String) bucket.getKey().get(URN_SOURCE),
+            ((Number) bucket.getKey().get(DAY_SOURCE)).longValue());
+      }
+      afterKey = urnDays.getBuckets().isEmpty() ? null : urnDays.afterKey();
+    } while (afterKey != null);
+  }
+
+  @Override
+  public void close() {
+    // Interrupted backfills release their claim, and are started over on the next start
+    _backfillExecutor.shutdownNow();
+    _scheduler.shutdown();
+    try {
+      _scheduler.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flushQuietly(Long.MAX_VALUE);
+  }
+
+  @Value
+  private static class DirtyDay {
+    String entityName;
+    String aspectName;
+    String urn;
+    long dayStart;
+  }
+
+  @Value
+  private static class UrnAspect {
+    String entityName;
+    String aspectName;
+    // Null when referring to the whole aspect
+    String urn;
+  }
+}
@@ -0,0 +1,77 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.timeseries.CalendarInterval;
+import com.linkedin.timeseries.TimeWindowSize;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Set;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Granularity of the buckets of a timeseries rollup index, ordered from the finest to the coarsest.
+ *
+ * Buckets are calendar buckets in UTC, weeks starting on Mondays, like the buckets of the date histograms the rollups
+ * are read with.
+ */
+public enum RollupGranularity {
+  DAY(ImmutableSet.of(CalendarInterval.DAY, CalendarInterval.WEEK, CalendarInterval.MONTH, CalendarInterval.QUARTER,
+      CalendarInterval.YEAR)),
+  WEEK(ImmutableSet.of(CalendarInterval.WEEK)),
+  MONTH(ImmutableSet.of(CalendarInterval.MONTH, CalendarInterval.QUARTER, CalendarInterval.YEAR));
+
+  // Units of the date histogram windows made of whole buckets of this granularity
+  private final Set<CalendarInterval> _coveredUnits;
+
+  RollupGranularity(Set<CalendarInterval> coveredUnits) {
+    _coveredUnits = coveredUnits;
+  }
+
+  /**
+   * @return whether every window of the given size is made of whole buckets of this granularity
+   */
+  public boolean covers(@Nonnull TimeWindowSize windowSize) {
+    return _coveredUnits.contains(windowSize.getUnit());
+  }
+
+  public long bucketStart(long timestampMillis) {
+    final ZonedDateTime day =
+        Instant.ofEpochMilli(timestampMillis).atZone(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
+    switch (this) {
+      case DAY:
+        return day.toInstant().toEpochMilli();
+      case WEEK:
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toInstant().toEpochMilli();
+      case MONTH:
+        return day.withDayOfMonth(1).toInstant().toEpochMilli();
+      default:
+        throw new IllegalStateException("Unknown rollup granularity " + this);
+    }
+  }
+
+  /**
+   * @return start of the bucket following the one of the given timestamp
+   */
+  public long nextBucketStart(long timestampMillis) {
+    final ZonedDateTime start = Instant.ofEpochMilli(bucketStart(timestampMillis)).atZone(ZoneOffset.UTC);
+    switch (this) {
+      case DAY:
+        return start.plusDays(1).toInstant().toEpochMilli();
+      case WEEK:
+        return start.plusWeeks(1).toInstant().toEpochMilli();
+      case MONTH:
+        return start.plusMonths(1).toInstant().toEpochMilli();
+      default:
+        throw new IllegalStateException("Unknown rollup granularity " + this);
+    }
+  }
+
+  public boolean isBucketStart(long timestampMillis) {
+    return bucketStart(timestampMillis) == timestampMillis;
+  }
+}
@@ -0,0 +1,174 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.TimeseriesFieldCollectionSpec;
+import com.linkedin.metadata.models.TimeseriesFieldSpec;
+import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.apache.commons.codec.digest.DigestUtils;
+
+
+/**
+ * Builds the documents of a rollup bucket out of the documents of the bucket, either raw timeseries documents or the
+ * rollup documents of a finer granularity.
+ *
+ * Documents are grouped by the fields which identify a row of the aspect: urn, event granularity, partition, and for
+ * exploded documents the collection and its key. Every group is rolled up into a single document, which is a copy of
+ * the latest document of the group timestamped with the start of the bucket, along with the timestamp of the latest
+ * document and the sum of every numeric field under the field name suffixed with
+ * {@link MappingsBuilder#ROLLUP_SUM_SUFFIX}. Rollup documents therefore answer LATEST and SUM aggregations, and filters
+ * on the fields of their group, as the raw documents would.
+ */
+public class TimeseriesRollupBuilder {
+  // Fields of raw documents not carried over to rollups, as they are specific to a single event
+  private static final Set<String> EVENT_FIELDS =
+      Set.of(MappingsBuilder.EVENT_FIELD, MappingsBuilder.SYSTEM_METADATA_FIELD, MappingsBuilder.RUN_ID_FIELD,
+          MappingsBuilder.MESSAGE_ID_FIELD);
+
+  private final AspectSpec _aspectSpec;
+  // Numeric field paths, along with their types
+  private final Map<String, DataSchema.Type> _numericFields = new LinkedHashMap<>();
+  // Fields having the same value across the documents of a group
+  private final Set<String> _groupFields = new HashSet<>();
+
+  public TimeseriesRollupBuilder(@Nonnull AspectSpec aspectSpec) {
+    _aspectSpec = aspectSpec;
+    for (TimeseriesFieldSpec fieldSpec : aspectSpec.getTimeseriesFieldSpecs()) {
+      if (MappingsBuilder.isNumeric(fieldSpec.getPegasusSchema().getType())) {
+        _numericFields.put(fieldSpec.getName(), fieldSpec.getPegasusSchema().getType());
+      }
+    }
+    _groupFields.add(MappingsBuilder.URN_FIELD);
+    _groupFields.add(MappingsBuilder.IS_EXPLODED_FIELD);
+    _groupFields.add(MappingsBuilder.EVENT_GRANULARITY);
+    _groupFields.add(MappingsBuilder.PARTITION_SPEC + "." + MappingsBuilder.PARTITION_SPEC_PARTITION);
+    _groupFields.add(MappingsBuilder.PARTITION_SPEC + "." + MappingsBuilder.PARTITION_SPEC_TIME_PARTITION);
+    for (TimeseriesFieldCollectionSpec collectionSpec : aspectSpec.getTimeseriesFieldCollectionSpecs()) {
+      for (TimeseriesFieldSpec fieldSpec : collectionSpec.getTimeseriesFieldSpecMap().values()) {
+        if (MappingsBuilder.isNumeric(fieldSpec.getPegasusSchema().getType())) {
+          _numericFields.put(collectionSpec.getName() + "." + fieldSpec.getName(),
+              fieldSpec.getPegasusSchema().getType());
+        }
+      }
+      _groupFields.add(
+          collectionSpec.getName() + "." + collectionSpec.getTimeseriesFieldCollectionAnnotation().getKey());
+    }
+  }
+
+  public boolean isNumericField(@Nonnull String fieldPath) {
+    return _numericFields.containsKey(fieldPath);
+  }
+
+  /**
+   * @return whether the field has the same value across the documents rolled up together
+   */
+  public boolean isGroupField(@Nonnull String fieldPath) {
+    return _groupFields.contains(fieldPath);
+  }
+
+  /**
+   * Rolls the documents of a bucket up.
+   *
+   * @param granularity granularity of the rollup
+   * @param bucketStart start of the rollup bucket all the documents belong to
+   * @param documents documents of the bucket
+   * @param rollupDocuments whether the documents are rollups themselves, whose sums are to be added up
+   * @return rollup documents by document id
+   */
+  @Nonnull
+  public Map<String, ObjectNode> rollup(@Nonnull RollupGranularity granularity, long bucketStart,
+      @Nonnull List<? extends JsonNode> documents, boolean rollupDocuments) {
+    final Map<String, List<JsonNode>> groups = documents.stream()
+        .collect(Collectors.groupingBy(this::getGroupKey, LinkedHashMap::new, Collectors.toList()));
+
+    final Map<String, ObjectNode> rollups = new HashMap<>();
+    groups.forEach((groupKey, group) -> rollups.put(
+        DigestUtils.md5Hex(granularity.name() + bucketStart + groupKey),
+        rollupGroup(bucketStart, group, rollupDocuments)));
+    return rollups;
+  }
+
+  private ObjectNode rollupGroup(long bucketStart, @Nonnull List<JsonNode> group, boolean rollupDocuments) {
+    final String timestampField =
+        rollupDocuments ? MappingsBuilder.ROLLUP_LATEST_TIMESTAMP_FIELD : MappingsBuilder.TIMESTAMP_MILLIS_FIELD;
+    final JsonNode latest = group.stream()
+        .max(Comparator.comparingLong(doc -> doc.path(timestampField).asLong()))
+        .orElseThrow(() -> new IllegalArgumentException("Empty group of documents to roll up"));
+
+    final ObjectNode rollup = latest.deepCopy();
+    rollup.remove(EVENT_FIELDS);
+    rollup.put(MappingsBuilder.ROLLUP_LATEST_TIMESTAMP_FIELD, latest.path(timestampField).asLong());
+    rollup.put(MappingsBuilder.TIMESTAMP_FIELD, bucketStart);
+    rollup.put(MappingsBuilder.TIMESTAMP_MILLIS_FIELD, bucketStart);
+
+    _numericFields.forEach((fieldPath, type) -> {
+      final String sourcePath = rollupDocuments ? fieldPath + MappingsBuilder.ROLLUP_SUM_SUFFIX : fieldPath;
+      final List<JsonNode> values = group.stream()
+          .map(doc -> getField(doc, sourcePath))
+          .filter(value -> value != null && value.isNumber())
+          .collect(Collectors.toList());
+      final ObjectNode parent = getParent(rollup, fieldPath);
+      if (values.isEmpty() || parent == null) {
+        return;
+      }
+      final String sumField = getLeafName(fieldPath) + MappingsBuilder.ROLLUP_SUM_SUFFIX;
+      if (type == DataSchema.Type.INT || type == DataSchema.Type.LONG) {
+        parent.put(sumField, values.stream().mapToLong(JsonNode::asLong).sum());
+      } else {
+        parent.put(sumField, values.stream().mapToDouble(JsonNode::asDouble).sum());
+      }
+    });
+    return rollup;
+  }
+
+  private String getGroupKey(@Nonnull JsonNode document) {
+    final StringBuilder groupKey = new StringBuilder()
+        .append(document.path(MappingsBuilder.URN_FIELD).asText())
+        .append('|').append(document.path(MappingsBuilder.IS_EXPLODED_FIELD).asBoolean())
+        .append('|').append(document.path(MappingsBuilder.EVENT_GRANULARITY).asText())
+        .append('|').append(document.path(MappingsBuilder.PARTITION_SPEC));
+    for (TimeseriesFieldCollectionSpec collectionSpec : _aspectSpec.getTimeseriesFieldCollectionSpecs()) {
+      final JsonNode component = document.get(collectionSpec.getName());
+      if (component != null && component.isObject()) {
+        groupKey.append('|').append(collectionSpec.getName()).append('=')
+            .append(component.path(collectionSpec.getTimeseriesFieldCollectionAnnotation().getKey()).asText());
+      }
+    }
+    return groupKey.toString();
+  }
+
+  @Nullable
+  private static JsonNode getField(@Nonnull JsonNode document, @Nonnull String fieldPath) {
+    JsonNode node = document;
+    for (String part : fieldPath.split("\\.")) {
+      node = node.get(part);
+      if (node == null) {
+        return null;
+      }
+    }
+    return node;
+  }
+
+  @Nullable
+  private static ObjectNode getParent(@Nonnull ObjectNode document, @Nonnull String fieldPath) {
+    final int lastDot = fieldPath.lastIndexOf('.');
+    final JsonNode parent = lastDot < 0 ? document : getField(document, fieldPath.substring(0, lastDot));
+    return parent != null && parent.isObject() ? (ObjectNode) parent : null;
+  }
+
+  private static String getLeafName(@Nonnull String fieldPath) {
+    return fieldPath.substring(fieldPath.lastIndexOf('.') + 1);
+  }
+}
@@ -14,6 +14,7 @@ import com.linkedin.metadata.search.SearchService;
 import com.linkedin.metadata.search.aggregator.AllEntitiesSearchAggregator;
 import com.linkedin.metadata.search.cache.CachingAllEntitiesSearchAggregator;
 import com.linkedin.metadata.search.cache.EntityDocCountCache;
+import com.linkedin.metadata.search.cache.EntityLineageResultCacheIndex;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
@@ -135,7 +136,8 @@ public class ESSearchLineageFixture {
                 .build()
                 .read();
 
-        return new LineageSearchService(searchService, graphService, null, false);
+        return new LineageSearchService(searchService, graphService, null, false,
+                new EntityLineageResultCacheIndex(null, null));
     }
 
     @Bean(name = "searchLineageSearchService")
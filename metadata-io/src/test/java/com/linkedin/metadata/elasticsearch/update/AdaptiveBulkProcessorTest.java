@@ -0,0 +1,144 @@
+package com.linkedin.metadata.elasticsearch.update;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.metadata.search.elasticsearch.update.AdaptiveBulkProcessor;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.rest.RestStatus;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+public class AdaptiveBulkProcessorTest {
+    // Long enough for bulks to only be sent once full or flushed
+    private static final long FLUSH_PERIOD_SECONDS = 60;
+
+    private RestHighLevelClient mockClient;
+    private BulkItemResponse okItem;
+    private BulkItemResponse rejectedItem;
+    private BulkItemResponse failedItem;
+    private List<List<String>> sentIds;
+    private Function<BulkRequest, BulkItemResponse[]> responder;
+    private AdaptiveBulkProcessor processor;
+
+    @BeforeMethod
+    public void setup() {
+        mockClient = mock(RestHighLevelClient.class);
+        okItem = item(null);
+        rejectedItem = item(RestStatus.TOO_MANY_REQUESTS);
+        failedItem = item(RestStatus.BAD_REQUEST);
+        sentIds = new ArrayList<>();
+        responder = request -> request.requests().stream().map(r -> okItem).toArray(BulkItemResponse[]::new);
+
+        doAnswer(invocation -> {
+            final BulkRequest request = invocation.getArgument(0);
+            final ActionListener<BulkResponse> listener = invocation.getArgument(2);
+            sentIds.add(request.requests().stream().map(DocWriteRequest::id).collect(Collectors.toList()));
+            listener.onResponse(new BulkResponse(responder.apply(request), 1));
+            return null;
+        }).when(mockClient).bulkAsync(any(BulkRequest.class), any(RequestOptions.class), any());
+    }
+
+    @AfterMethod
+    public void teardown() {
+        processor.close();
+    }
+
+    @Test
+    public void testFastBulksGrowBatchSizeThenConcurrency() {
+        processor = new AdaptiveBulkProcessor("test", mockClient, null, 2, 1, 4, 2, 60000, FLUSH_PERIOD_SECONDS, 3, 1);
+
+        addAll(2);
+        assertEquals(processor.getBatchSize(), 3);
+        addAll(3);
+        assertEquals(processor.getBatchSize(), 4);
+        addAll(4);
+        assertEquals(processor.getBatchSize(), 4);
+        assertEquals(processor.getConcurrentRequests(), 2);
+        assertEquals(sentIds.stream().map(List::size).collect(Collectors.toList()), ImmutableList.of(2, 3, 4));
+    }
+
+    @Test
+    public void testOnlyRejectedItemsAreRetried() {
+        // Retried late enough for the sizing to be checked before
+        processor = new AdaptiveBulkProcessor("test", mockClient, null, 4, 1, 4, 2, 60000, FLUSH_PERIOD_SECONDS, 3, 500);
+        responder = request -> sentIds.size() == 1
+                ? new BulkItemResponse[]{okItem, rejectedItem, okItem, rejectedItem}
+                : request.requests().stream().map(r -> okItem).toArray(BulkItemResponse[]::new);
+
+        addAll(4);
+        assertEquals(processor.getBatchSize(), 2);
+        assertEquals(processor.getConcurrentRequests(), 1);
+        processor.flush();
+
+        assertEquals(sentIds, ImmutableList.of(ImmutableList.of("0", "1", "2", "3"), ImmutableList.of("1", "3")));
+        assertEquals(processor.getQueueDepth(), 0);
+    }
+
+    @Test
+    public void testOtherItemFailuresAreNotRetried() {
+        processor = new AdaptiveBulkProcessor("test", mockClient, null, 2, 1, 4, 2, 60000, FLUSH_PERIOD_SECONDS, 3, 1);
+        responder = request -> new BulkItemResponse[]{okItem, failedItem};
+
+        addAll(2);
+        processor.flush();
+
+        assertEquals(sentIds, ImmutableList.of(ImmutableList.of("0", "1")));
+    }
+
+    @Test
+    public void testWritesToDocumentBeingRetriedWaitForTheRetry() {
+        // Retried late enough for the later writes to be added before
+        processor = new AdaptiveBulkProcessor("test", mockClient, null, 2, 1, 4, 2, 60000, FLUSH_PERIOD_SECONDS, 3,
+                500);
+        responder = request -> sentIds.size() == 1
+                ? new BulkItemResponse[]{rejectedItem, okItem}
+                : request.requests().stream().map(r -> okItem).toArray(BulkItemResponse[]::new);
+
+        addAll(2);
+        processor.add(new DeleteRequest("index", "0"));
+        processor.add(new DeleteRequest("index", "2"));
+        processor.flush();
+
+        // The later write to document 0 is held back until its retry is done
+        assertEquals(sentIds, ImmutableList.of(ImmutableList.of("0", "1"), ImmutableList.of("2"),
+                ImmutableList.of("0"), ImmutableList.of("0")));
+    }
+
+    private void addAll(int count) {
+        for (int i = 0; i < count; i++) {
+            processor.add(new DeleteRequest("index", String.valueOf(i)));
+        }
+    }
+
+    private static BulkItemResponse item(@Nullable RestStatus failureStatus) {
+        final BulkItemResponse item = mock(BulkItemResponse.class);
+        when(item.getIndex()).thenReturn("index");
+        when(item.isFailed()).thenReturn(failureStatus != null);
+        if (failureStatus != null) {
+            final BulkItemResponse.Failure failure = mock(BulkItemResponse.Failure.class);
+            when(failure.getStatus()).thenReturn(failureStatus);
+            when(item.getFailure()).thenReturn(failure);
+            when(item.getFailureMessage()).thenReturn(failureStatus.name());
+        }
+        return item;
+    }
+}
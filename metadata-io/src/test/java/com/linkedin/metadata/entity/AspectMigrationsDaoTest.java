@@ -74,6 +74,31 @@ abstract public class AspectMigrationsDaoTest<T extends AspectMigrationsDao> {
     }
   }
 
+  @Test
+  public void testListAllUrnsAfter() throws AssertionError {
+    final int totalAspects = 30;
+    final int pageSize = 25;
+    Map<Urn, CorpUserKey> ingestedAspects = AspectIngestionUtils.ingestCorpUserKeyAspects(_entityService, totalAspects);
+    List<String> ingestedUrns = ingestedAspects.keySet().stream().map(Urn::toString).collect(Collectors.toList());
+
+    List<String> page1Urns = ImmutableList.copyOf(_migrationsDao.listAllUrns(null, pageSize));
+    assertEquals(page1Urns.size(), pageSize);
+
+    List<String> page2Urns = ImmutableList.copyOf(_migrationsDao.listAllUrns(page1Urns.get(pageSize - 1), pageSize));
+    assertEquals(page2Urns.size(), totalAspects - pageSize);
+
+    List<String> page3Urns =
+        ImmutableList.copyOf(_migrationsDao.listAllUrns(page2Urns.get(page2Urns.size() - 1), pageSize));
+    assertTrue(page3Urns.isEmpty());
+
+    // validate all ingested URNs were returned exactly once
+    List<String> seenUrns = new ArrayList<>(page1Urns);
+    seenUrns.addAll(page2Urns);
+    for (String urn : ingestedUrns) {
+      assertEquals(seenUrns.stream().filter(u -> u.equals(urn)).count(), 1);
+    }
+  }
+
   @Test
   public void testCountEntities() throws AssertionError {
     AspectIngestionUtils.ingestCorpUserInfoAspects(_entityService, 11);
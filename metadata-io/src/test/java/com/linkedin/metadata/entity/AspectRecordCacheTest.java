@@ -0,0 +1,104 @@
+package com.linkedin.metadata.entity;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.DataMap;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class AspectRecordCacheTest {
+
+  private static final String URN = "urn:li:corpuser:test";
+  private static final String ASPECT_NAME = "corpUserEditableInfo";
+
+  @Test
+  public void testRepeatedReadsSkipParsing() {
+    final AspectRecordCache cache = new AspectRecordCache(1024 * 1024);
+    final AtomicInteger parses = new AtomicInteger();
+    final Function<String, DataMap> parser = json -> {
+      parses.incrementAndGet();
+      return RecordUtils.toDataMap(json);
+    };
+
+    final DataMap first = getDataMap(cache, createAspect("{\"description\":\"first\"}", 0), parser);
+    final DataMap second = getDataMap(cache, createAspect("{\"description\":\"first\"}", 0), parser);
+    assertEquals(parses.get(), 1);
+    assertEquals(second, first);
+
+    // Callers get their own copy
+    second.put("description", "mutated");
+    assertEquals(getDataMap(cache, createAspect("{\"description\":\"first\"}", 0), parser).get("description"),
+        "first");
+
+    // The latest version is updated in place, so a row updated later must be parsed again
+    final DataMap updated = getDataMap(cache, createAspect("{\"description\":\"second\"}", 1), parser);
+    assertEquals(parses.get(), 2);
+    assertEquals(updated.get("description"), "second");
+  }
+
+  @Test
+  public void testFormsAreCachedSeparately() {
+    final AspectRecordCache cache = new AspectRecordCache(1024 * 1024);
+    final EntityAspect aspect = createAspect("{\"description\":\"first\"}", 0);
+
+    cache.getDataMap(aspect, AspectRecordCache.Form.DATA_MAP, RecordUtils::toDataMap);
+    final DataMap record = cache.getDataMap(aspect, AspectRecordCache.Form.ASPECT_RECORD, json -> {
+      final DataMap dataMap = RecordUtils.toDataMap(json);
+      dataMap.put("validated", true);
+      return dataMap;
+    });
+
+    assertEquals(record.get("validated"), true);
+    assertNull(cache.getDataMap(aspect, AspectRecordCache.Form.DATA_MAP, RecordUtils::toDataMap).get("validated"));
+  }
+
+  @Test
+  public void testChangesEvictTheLatestVersion() {
+    final AspectRecordCache cache = new AspectRecordCache(1024 * 1024);
+    final AtomicInteger parses = new AtomicInteger();
+    final Function<String, DataMap> parser = json -> {
+      parses.incrementAndGet();
+      return RecordUtils.toDataMap(json);
+    };
+
+    getDataMap(cache, createAspect("{\"description\":\"first\"}", 0), parser);
+    // Updated within the same millisecond, to metadata of the same length
+    cache.invalidate(new MetadataChangeLog()
+        .setEntityType("corpuser")
+        .setEntityUrn(UrnUtils.getUrn(URN))
+        .setAspectName(ASPECT_NAME)
+        .setChangeType(ChangeType.UPSERT));
+    final DataMap updated = getDataMap(cache, createAspect("{\"description\":\"other\"}", 0), parser);
+
+    assertEquals(parses.get(), 2);
+    assertEquals(updated.get("description"), "other");
+  }
+
+  @Test
+  public void testDisabledCacheAlwaysParses() {
+    final AtomicInteger parses = new AtomicInteger();
+    for (int i = 0; i < 2; i++) {
+      getDataMap(AspectRecordCache.DISABLED, createAspect("{}", 0), json -> {
+        parses.incrementAndGet();
+        return RecordUtils.toDataMap(json);
+      });
+    }
+    assertEquals(parses.get(), 2);
+  }
+
+  private static DataMap getDataMap(AspectRecordCache cache, EntityAspect aspect, Function<String, DataMap> parser) {
+    return cache.getDataMap(aspect, AspectRecordCache.Form.DATA_MAP, parser);
+  }
+
+  private static EntityAspect createAspect(String metadata, long createdOn) {
+    return new EntityAspect(URN, ASPECT_NAME, 0, metadata, null, new Timestamp(createdOn),
+        "urn:li:corpuser:actor", null);
+  }
+}
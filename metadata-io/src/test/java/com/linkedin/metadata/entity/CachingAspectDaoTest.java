@@ -0,0 +1,105 @@
+package com.linkedin.metadata.entity;
+
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class CachingAspectDaoTest {
+
+  private static final String URN = "urn:li:corpuser:test";
+  private static final String ASPECT = "corpUserInfo";
+
+  private AspectDao _mockAspectDao;
+  private CachingAspectDao _aspectDao;
+
+  @BeforeMethod
+  public void setup() {
+    _mockAspectDao = mock(AspectDao.class);
+    when(_mockAspectDao.runInTransactionWithRetry(any(), anyInt()))
+        .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+    _aspectDao = new CachingAspectDao(_mockAspectDao, 100);
+  }
+
+  @Test
+  public void testReadsAreCachedUntilInvalidated() {
+    when(_mockAspectDao.getLatestAspect(URN, ASPECT)).thenReturn(createAspect("{\"v\":1}"));
+
+    assertEquals(_aspectDao.getLatestAspect(URN, ASPECT).getMetadata(), "{\"v\":1}");
+    assertEquals(_aspectDao.getAspect(URN, ASPECT, 0).getMetadata(), "{\"v\":1}");
+    verify(_mockAspectDao, times(1)).getLatestAspect(URN, ASPECT);
+
+    _aspectDao.invalidate(URN, ASPECT);
+    _aspectDao.getLatestAspect(URN, ASPECT);
+    verify(_mockAspectDao, times(2)).getLatestAspect(URN, ASPECT);
+  }
+
+  @Test
+  public void testTransactionalWritesAreAppliedOnCommit() {
+    when(_mockAspectDao.getLatestAspect(URN, ASPECT)).thenReturn(createAspect("{\"v\":1}"));
+    _aspectDao.getLatestAspect(URN, ASPECT);
+
+    _aspectDao.runInTransactionWithRetry(() -> {
+      // Reads within a transaction bypass the cache
+      _aspectDao.getLatestAspect(URN, ASPECT);
+      _aspectDao.saveLatestAspect(URN, ASPECT, "{\"v\":1}", "urn:li:corpuser:actor", null, new Timestamp(0), null,
+          "{\"v\":2}", "urn:li:corpuser:actor", null, new Timestamp(1), null, 1L);
+      assertEquals(_aspectDao.getLatestAspect(URN, ASPECT).getMetadata(), "{\"v\":1}");
+      return null;
+    }, 0);
+    verify(_mockAspectDao, times(3)).getLatestAspect(URN, ASPECT);
+
+    assertEquals(_aspectDao.getLatestAspect(URN, ASPECT).getMetadata(), "{\"v\":2}");
+    verify(_mockAspectDao, times(3)).getLatestAspect(URN, ASPECT);
+  }
+
+  @Test
+  public void testNestedWritesSurviveRetryOfOuterTransaction() {
+    // Runs every block twice, as if its first attempt had been rolled back
+    when(_mockAspectDao.runInTransactionWithRetry(any(), anyInt())).thenAnswer(invocation -> {
+      ((Supplier<?>) invocation.getArgument(0)).get();
+      return ((Supplier<?>) invocation.getArgument(0)).get();
+    });
+    when(_mockAspectDao.getLatestAspect(URN, ASPECT)).thenReturn(createAspect("{\"v\":1}"));
+    _aspectDao.getLatestAspect(URN, ASPECT);
+
+    // The nested transaction commits on its own during the first attempt, and is not run again by the retry
+    final AtomicInteger attempts = new AtomicInteger();
+    _aspectDao.runInTransactionWithRetry(() -> {
+      if (attempts.getAndIncrement() == 0) {
+        _aspectDao.runInTransactionWithRetry(() -> {
+          _aspectDao.saveAspect(createAspect("{\"v\":2}"), false);
+          return null;
+        }, 0);
+      }
+      return null;
+    }, 0);
+
+    when(_mockAspectDao.getLatestAspect(URN, ASPECT)).thenReturn(createAspect("{\"v\":2}"));
+    assertEquals(_aspectDao.getLatestAspect(URN, ASPECT).getMetadata(), "{\"v\":2}");
+  }
+
+  @Test
+  public void testDeleteUrnIsAppliedOnCommit() {
+    when(_mockAspectDao.getLatestAspect(URN, ASPECT)).thenReturn(createAspect("{\"v\":1}"));
+    _aspectDao.getLatestAspect(URN, ASPECT);
+
+    _aspectDao.runInTransactionWithRetry(() -> {
+      _aspectDao.deleteUrn(URN);
+      return null;
+    }, 0);
+
+    when(_mockAspectDao.getLatestAspect(URN, ASPECT)).thenReturn(null);
+    assertNull(_aspectDao.getLatestAspect(URN, ASPECT));
+  }
+
+  private static EntityAspect createAspect(String metadata) {
+    return new EntityAspect(URN, ASPECT, 0, metadata, null, new Timestamp(0), "urn:li:corpuser:actor", null);
+  }
+}
@@ -25,6 +25,7 @@ import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 
@@ -152,6 +153,22 @@ public class EbeanEntityServiceTest extends EntityServiceTest<EbeanAspectDao, Eb
     assertEquals(batch2.getTotal().intValue(), 3);
     assertEquals(batch2.getEntities().size(), 1);
     assertEquals(entityUrn3.toString(), batch2.getEntities().get(0).toString());
+    assertFalse(batch2.hasNextAfter());
+
+    // List the same pages after the last urn of the previous one
+    ListUrnsResult afterBatch1 = _entityService.listUrns(entityUrn1.getEntityType(), null, 2);
+
+    assertEquals(afterBatch1.getTotal().intValue(), 3);
+    assertEquals(afterBatch1.getEntities(), batch1.getEntities());
+    assertEquals(afterBatch1.getNextAfter(), entityUrn2);
+
+    ListUrnsResult afterBatch2 =
+        _entityService.listUrns(entityUrn1.getEntityType(), afterBatch1.getNextAfter().toString(), 2);
+
+    assertFalse(afterBatch2.hasStart());
+    assertFalse(afterBatch2.hasTotal());
+    assertEquals(afterBatch2.getEntities(), batch2.getEntities());
+    assertFalse(afterBatch2.hasNextAfter());
   }
 
   @Override
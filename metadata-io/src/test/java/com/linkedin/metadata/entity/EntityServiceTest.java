@@ -20,6 +20,7 @@ import com.linkedin.dataset.DatasetProperties;
 import com.linkedin.entity.Entity;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.client.BatchIngestProposalsException;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.identity.CorpUserInfo;
 import com.linkedin.metadata.AspectGenerationUtils;
@@ -37,6 +38,7 @@ import com.linkedin.metadata.models.registry.MergedEntityRegistry;
 import com.linkedin.metadata.run.AspectRowSummary;
 import com.linkedin.metadata.snapshot.CorpUserSnapshot;
 import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.metadata.utils.GenericRecordUtils;
 import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataAuditOperation;
 import com.linkedin.mxe.MetadataChangeLog;
@@ -609,6 +611,76 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         assertTrue(DataTemplateUtil.areEqual(writeAspect1, readNewRecentAspect));
     }
 
+    @Test
+    public void testRollbackBatch() throws AssertionError {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:corpuser:test1");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:corpuser:test2");
+
+        SystemMetadata metadata1 = AspectGenerationUtils.createSystemMetadata(1625792689, "run-123");
+        SystemMetadata metadata2 = AspectGenerationUtils.createSystemMetadata(1635792689, "run-456");
+
+        String aspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+
+        CorpUserInfo writeAspect1 = AspectGenerationUtils.createCorpUserInfo("email@test.com");
+        _entityService.ingestAspect(entityUrn1, aspectName, writeAspect1, TEST_AUDIT_STAMP, metadata1);
+        CorpUserInfo writeAspect2 = AspectGenerationUtils.createCorpUserInfo("email2@test.com");
+        _entityService.ingestAspect(entityUrn2, aspectName, writeAspect2, TEST_AUDIT_STAMP, metadata1);
+        CorpUserInfo writeAspect1Overwrite = AspectGenerationUtils.createCorpUserInfo("email1.overwrite@test.com");
+        _entityService.ingestAspect(entityUrn1, aspectName, writeAspect1Overwrite, TEST_AUDIT_STAMP, metadata2);
+
+        AspectRowSummary rollbackAspect1 = new AspectRowSummary();
+        rollbackAspect1.setRunId("run-456");
+        rollbackAspect1.setAspectName(aspectName);
+        rollbackAspect1.setUrn(entityUrn1.toString());
+
+        // urn 2 was not written by this run, so only urn 1 is rolled back
+        AspectRowSummary rollbackAspect2 = new AspectRowSummary();
+        rollbackAspect2.setRunId("run-456");
+        rollbackAspect2.setAspectName(aspectName);
+        rollbackAspect2.setUrn(entityUrn2.toString());
+
+        RollbackRunResult result = _entityService.rollbackBatchWithConditions(
+            ImmutableList.of(rollbackAspect1, rollbackAspect2), Collections.singletonMap("runId", "run-456"), true);
+
+        assertEquals(result.getRowsRolledBack(), ImmutableList.of(rollbackAspect1));
+        assertTrue(DataTemplateUtil.areEqual(writeAspect1, _entityService.getAspect(entityUrn1, aspectName, 0)));
+        assertTrue(DataTemplateUtil.areEqual(writeAspect2, _entityService.getAspect(entityUrn2, aspectName, 0)));
+    }
+
+    @Test
+    public void testRollbackBatchSoftDeletesKey() throws AssertionError {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:corpuser:test1");
+
+        SystemMetadata metadata1 = AspectGenerationUtils.createSystemMetadata(1625792689, "run-123");
+
+        String keyAspectName = _entityService.getKeyAspectName(entityUrn1);
+        String statusAspectName = AspectGenerationUtils.getAspectName(new Status());
+
+        RecordTemplate writeKey1 = _entityService.buildKeyAspect(entityUrn1);
+        _entityService.ingestAspect(entityUrn1, keyAspectName, writeKey1, TEST_AUDIT_STAMP, metadata1);
+        Status writeStatus1 = new Status().setRemoved(false);
+        _entityService.ingestAspect(entityUrn1, statusAspectName, writeStatus1, TEST_AUDIT_STAMP, metadata1);
+
+        // rows of an urn arrive sorted by aspect name, so the key aspect is rolled back before the status aspect
+        AspectRowSummary rollbackKey = new AspectRowSummary();
+        rollbackKey.setRunId("run-123");
+        rollbackKey.setAspectName(keyAspectName);
+        rollbackKey.setUrn(entityUrn1.toString());
+
+        AspectRowSummary rollbackStatus = new AspectRowSummary();
+        rollbackStatus.setRunId("run-123");
+        rollbackStatus.setAspectName(statusAspectName);
+        rollbackStatus.setUrn(entityUrn1.toString());
+
+        _entityService.rollbackBatchWithConditions(
+            ImmutableList.of(rollbackKey, rollbackStatus), Collections.singletonMap("runId", "run-123"), false);
+
+        // the key is kept and the entity ends up soft deleted
+        assertTrue(DataTemplateUtil.areEqual(writeKey1, _entityService.getAspect(entityUrn1, keyAspectName, 0)));
+        Status readStatus = (Status) _entityService.getLatestAspect(entityUrn1, statusAspectName);
+        assertTrue(readStatus.isRemoved());
+    }
+
     @Test
     public void testRollbackKey() throws AssertionError {
         Urn entityUrn1 = UrnUtils.getUrn("urn:li:corpuser:test1");
@@ -946,6 +1018,113 @@ abstract public class EntityServiceTest<T_AD extends AspectDao, T_RS extends Ret
         assertEquals(_entityService.listLatestAspects(entityUrn.getEntityType(), aspectName2, 0, 10).getTotalCount(), 1);
     }
 
+    @Test
+    public void testIngestProposals() throws Exception {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:corpuser:test1");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:corpuser:test2");
+        String aspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+
+        CorpUserInfo writeAspect1 = AspectGenerationUtils.createCorpUserInfo("email1@test.com");
+        CorpUserInfo writeAspect1a = AspectGenerationUtils.createCorpUserInfo("email1a@test.com");
+        CorpUserInfo writeAspect2 = AspectGenerationUtils.createCorpUserInfo("email2@test.com");
+
+        List<MetadataChangeProposal> proposals = ImmutableList.of(
+            createUpsertProposal(entityUrn1, aspectName, writeAspect1),
+            createUpsertProposal(entityUrn2, aspectName, writeAspect2),
+            createUpsertProposal(entityUrn1, aspectName, writeAspect1a));
+
+        List<EntityService.IngestProposalResult> results =
+            _entityService.ingestProposals(proposals, TEST_AUDIT_STAMP, false);
+
+        assertEquals(results.size(), 3);
+        assertEquals(results.get(0).getUrn(), entityUrn1);
+        assertEquals(results.get(1).getUrn(), entityUrn2);
+        assertEquals(results.get(2).getUrn(), entityUrn1);
+
+        // The second write to the same aspect must observe the first one
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn1, aspectName, 0), writeAspect1a));
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn1, aspectName, 1), writeAspect1));
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn2, aspectName, 0), writeAspect2));
+        assertNull(_entityService.getAspect(entityUrn2, aspectName, 1));
+
+        verify(_mockProducer, times(2)).produceMetadataChangeLog(Mockito.eq(entityUrn1), Mockito.any(), Mockito.any());
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn2), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testIngestProposalsReportsCommittedProposals() throws Exception {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:corpuser:test1");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:corpuser:test2");
+        String aspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+
+        CorpUserInfo writeAspect1 = AspectGenerationUtils.createCorpUserInfo("email1@test.com");
+        CorpUserInfo writeAspect1a = AspectGenerationUtils.createCorpUserInfo("email1a@test.com");
+        CorpUserInfo writeAspect2 = AspectGenerationUtils.createCorpUserInfo("email2@test.com");
+
+        // The first two proposals are committed as a group when the third one starts a new group, which is never
+        // committed as the fourth one fails
+        List<MetadataChangeProposal> proposals = ImmutableList.of(
+            createUpsertProposal(entityUrn1, aspectName, writeAspect1),
+            createUpsertProposal(entityUrn2, aspectName, writeAspect2),
+            createUpsertProposal(entityUrn1, aspectName, writeAspect1a),
+            createUpsertProposal(entityUrn2, "unknownAspect", writeAspect2));
+
+        try {
+            _entityService.ingestProposals(proposals, TEST_AUDIT_STAMP, false);
+            fail("The batch should have failed");
+        } catch (BatchIngestProposalsException e) {
+            assertEquals(e.getCommittedCount(), 2);
+            assertEquals(e.getFailedIndex(), 3);
+        }
+
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn1, aspectName, 0), writeAspect1));
+        assertNull(_entityService.getAspect(entityUrn1, aspectName, 1));
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn2, aspectName, 0), writeAspect2));
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn1), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testIngestProposalsEmitsRemainingChangeLogsAfterEmitFailure() throws Exception {
+        Urn entityUrn1 = UrnUtils.getUrn("urn:li:corpuser:test1");
+        Urn entityUrn2 = UrnUtils.getUrn("urn:li:corpuser:test2");
+        Urn entityUrn3 = UrnUtils.getUrn("urn:li:corpuser:test3");
+        String aspectName = AspectGenerationUtils.getAspectName(new CorpUserInfo());
+
+        CorpUserInfo writeAspect1 = AspectGenerationUtils.createCorpUserInfo("email1@test.com");
+        CorpUserInfo writeAspect2 = AspectGenerationUtils.createCorpUserInfo("email2@test.com");
+        CorpUserInfo writeAspect3 = AspectGenerationUtils.createCorpUserInfo("email3@test.com");
+
+        // Emitting the change log of the second proposal of the group fails once the group has committed
+        Mockito.doThrow(new RuntimeException("Failed to produce"))
+            .when(_mockProducer).produceMetadataChangeLog(Mockito.eq(entityUrn2), Mockito.any(), Mockito.any());
+
+        List<MetadataChangeProposal> proposals = ImmutableList.of(
+            createUpsertProposal(entityUrn1, aspectName, writeAspect1),
+            createUpsertProposal(entityUrn2, aspectName, writeAspect2),
+            createUpsertProposal(entityUrn3, aspectName, writeAspect3));
+
+        List<EntityService.IngestProposalResult> results =
+            _entityService.ingestProposals(proposals, TEST_AUDIT_STAMP, false);
+
+        assertEquals(results.size(), 3);
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn1, aspectName, 0), writeAspect1));
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn2, aspectName, 0), writeAspect2));
+        assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn3, aspectName, 0), writeAspect3));
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn1), Mockito.any(), Mockito.any());
+        verify(_mockProducer, times(1)).produceMetadataChangeLog(Mockito.eq(entityUrn3), Mockito.any(), Mockito.any());
+    }
+
+    @Nonnull
+    protected MetadataChangeProposal createUpsertProposal(Urn entityUrn, String aspectName, RecordTemplate aspect) {
+        MetadataChangeProposal proposal = new MetadataChangeProposal();
+        proposal.setEntityUrn(entityUrn);
+        proposal.setEntityType(entityUrn.getEntityType());
+        proposal.setChangeType(ChangeType.UPSERT);
+        proposal.setAspectName(aspectName);
+        proposal.setAspect(GenericRecordUtils.serializeAspect(aspect));
+        return proposal;
+    }
+
     @Nonnull
     protected com.linkedin.entity.Entity createCorpUserEntity(Urn entityUrn, String email) throws Exception {
         CorpuserUrn corpuserUrn = CorpuserUrn.createFromUrn(entityUrn);
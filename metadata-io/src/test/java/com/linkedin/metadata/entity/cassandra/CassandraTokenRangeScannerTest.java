@@ -0,0 +1,95 @@
+package com.linkedin.metadata.entity.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.Test;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class CassandraTokenRangeScannerTest {
+
+  @Test
+  public void testSplitTokenRingCoversWholeRing() {
+    for (int numSplits : new int[]{1, 3, 64}) {
+      final List<CassandraTokenRangeScanner.TokenRange> ranges = CassandraTokenRangeScanner.splitTokenRing(numSplits);
+
+      assertEquals(ranges.size(), numSplits);
+      assertEquals(ranges.get(0).getStart(), Long.MIN_VALUE);
+      assertEquals(ranges.get(numSplits - 1).getEnd(), Long.MAX_VALUE);
+      for (int i = 0; i < numSplits; i++) {
+        assertTrue(ranges.get(i).getStart() < ranges.get(i).getEnd());
+        if (i > 0) {
+          assertEquals(ranges.get(i).getStart(), ranges.get(i - 1).getEnd());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testScanReadsEveryRangeOnce() {
+    final Set<CassandraTokenRangeScanner.TokenRange> boundRanges = ConcurrentHashMap.newKeySet();
+    final CqlSession session = mockSession(boundRanges, null);
+    final AtomicLong consumedRows = new AtomicLong();
+
+    final long scanned = new CassandraTokenRangeScanner(session, 3, 2)
+        .scan(selectFrom(CassandraAspect.TABLE_NAME).column(CassandraAspect.URN_COLUMN),
+            row -> consumedRows.incrementAndGet());
+
+    // Every range returns two rows, and the same statement is prepared once and bound to every range
+    assertEquals(scanned, 6);
+    assertEquals(consumedRows.get(), 6);
+    assertEquals(boundRanges, new HashSet<>(CassandraTokenRangeScanner.splitTokenRing(3)));
+    verify(session, times(1)).prepare(anyString());
+  }
+
+  @Test
+  public void testScanFailure() {
+    final IllegalStateException failure = new IllegalStateException("down");
+    final CqlSession session = mockSession(ConcurrentHashMap.newKeySet(), failure);
+
+    final IllegalStateException e = expectThrows(IllegalStateException.class,
+        () -> new CassandraTokenRangeScanner(session, 3, 2)
+            .scan(selectFrom(CassandraAspect.TABLE_NAME).column(CassandraAspect.URN_COLUMN), row -> { }));
+    assertSame(e, failure);
+  }
+
+  /**
+   * Mocks a session returning two rows for every token range, or failing every read with the given failure.
+   */
+  private static CqlSession mockSession(Set<CassandraTokenRangeScanner.TokenRange> boundRanges,
+      RuntimeException failure) {
+    final CqlSession session = mock(CqlSession.class);
+    final PreparedStatement statement = mock(PreparedStatement.class);
+    // Setting the page size returns the bound statement itself
+    final BoundStatement bound = mock(BoundStatement.class, RETURNS_SELF);
+    final ResultSet rs = mock(ResultSet.class);
+    final List<Row> rows = Arrays.asList(mock(Row.class), mock(Row.class));
+    when(session.prepare(anyString())).thenReturn(statement);
+    when(statement.bind(any(), any())).thenAnswer(invocation -> {
+      boundRanges.add(new CassandraTokenRangeScanner.TokenRange(invocation.<Long>getArgument(0),
+          invocation.<Long>getArgument(1)));
+      return bound;
+    });
+    if (failure != null) {
+      when(session.execute(any(Statement.class))).thenThrow(failure);
+    } else {
+      when(session.execute(any(Statement.class))).thenReturn(rs);
+    }
+    when(rs.iterator()).thenAnswer(invocation -> rows.iterator());
+    return session;
+  }
+}
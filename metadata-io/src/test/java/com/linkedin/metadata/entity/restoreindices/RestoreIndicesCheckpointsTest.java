@@ -0,0 +1,49 @@
+package com.linkedin.metadata.entity.restoreindices;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class RestoreIndicesCheckpointsTest {
+
+  @Test
+  public void testCheckpointsOnlyContiguousPages() {
+    final List<String> checkpointed = new ArrayList<>();
+    final RestoreIndicesCheckpoints checkpoints = new RestoreIndicesCheckpoints(args -> checkpointed.add(args.lastUrn));
+
+    checkpoints.complete(1, new RestoreIndicesArgs().setCursor("urn:li:corpuser:b", "corpUserKey"));
+    assertTrue(checkpointed.isEmpty());
+    assertNull(checkpoints.getLastCheckpoint());
+
+    checkpoints.complete(0, new RestoreIndicesArgs().setCursor("urn:li:corpuser:a", "corpUserKey"));
+    checkpoints.complete(3, new RestoreIndicesArgs().setCursor("urn:li:corpuser:d", "corpUserKey"));
+    assertEquals(checkpointed, ImmutableList.of("urn:li:corpuser:b"));
+
+    checkpoints.complete(2, new RestoreIndicesArgs().setCursor("urn:li:corpuser:c", "corpUserKey"));
+    assertEquals(checkpointed, ImmutableList.of("urn:li:corpuser:b", "urn:li:corpuser:d"));
+    assertEquals(checkpoints.getLastCheckpoint().lastUrn, "urn:li:corpuser:d");
+  }
+
+  @Test
+  public void testLastCheckpointOnlyReportsPersistedCheckpoints() {
+    final List<String> checkpointed = new ArrayList<>();
+    // Only persists the first checkpoint, as a throttled checkpointer would
+    final RestoreIndicesCheckpoints checkpoints = new RestoreIndicesCheckpoints(args -> {
+      if (!checkpointed.isEmpty()) {
+        return false;
+      }
+      checkpointed.add(args.lastUrn);
+      return true;
+    });
+
+    checkpoints.complete(0, new RestoreIndicesArgs().setCursor("urn:li:corpuser:a", "corpUserKey"));
+    assertEquals(checkpoints.getLastCheckpoint().lastUrn, "urn:li:corpuser:a");
+
+    checkpoints.complete(1, new RestoreIndicesArgs().setCursor("urn:li:corpuser:b", "corpUserKey"));
+    assertEquals(checkpoints.getLastCheckpoint().lastUrn, "urn:li:corpuser:a");
+  }
+}
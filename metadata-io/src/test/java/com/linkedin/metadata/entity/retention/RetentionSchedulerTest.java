@@ -0,0 +1,87 @@
+package com.linkedin.metadata.entity.retention;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.entity.RetentionService;
+import com.linkedin.metadata.entity.RetentionService.RetentionContext;
+import com.linkedin.metadata.entity.RetentionService.RetentionRequest;
+import java.util.Optional;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class RetentionSchedulerTest {
+
+  private static final Urn URN_1 = UrnUtils.getUrn("urn:li:corpuser:test1");
+  private static final Urn URN_2 = UrnUtils.getUrn("urn:li:corpuser:test2");
+  private static final String ASPECT = "corpUserInfo";
+  // Long enough for batches to only be taken once full
+  private static final long FLUSH_INTERVAL_MS = 60000;
+
+  private RetentionService _mockRetentionService;
+  private RetentionScheduler _scheduler;
+
+  @BeforeMethod
+  public void setup() {
+    _mockRetentionService = mock(RetentionService.class);
+  }
+
+  @AfterMethod
+  public void teardown() {
+    _scheduler.close();
+  }
+
+  @Test
+  public void testRequestsAreCoalescedPerAspect() {
+    _scheduler = new RetentionScheduler(_mockRetentionService, 10, 2, FLUSH_INTERVAL_MS, 0);
+
+    _scheduler.schedule(URN_1, ASPECT, context(3L));
+    _scheduler.schedule(URN_1, ASPECT, context(5L));
+    _scheduler.schedule(URN_1, ASPECT, context(4L));
+    assertEquals(_scheduler.getPendingCount(), 1);
+    _scheduler.schedule(URN_2, ASPECT, context(1L));
+
+    verify(_mockRetentionService, timeout(5000)).applyRetention(ImmutableList.of(
+        new RetentionRequest(URN_1, ASPECT, context(5L)),
+        new RetentionRequest(URN_2, ASPECT, context(1L))));
+    verify(_mockRetentionService, never()).applyRetention(any(Urn.class), anyString(), any(Optional.class));
+  }
+
+  @Test
+  public void testUnknownVersionIsReadFromStorage() {
+    _scheduler = new RetentionScheduler(_mockRetentionService, 10, 2, FLUSH_INTERVAL_MS, 0);
+
+    _scheduler.schedule(URN_1, ASPECT, context(3L));
+    _scheduler.schedule(URN_1, ASPECT, Optional.empty());
+    _scheduler.schedule(URN_2, ASPECT, context(1L));
+
+    verify(_mockRetentionService, timeout(5000)).applyRetention(ImmutableList.of(
+        new RetentionRequest(URN_1, ASPECT, Optional.of(new RetentionContext(Optional.empty()))),
+        new RetentionRequest(URN_2, ASPECT, context(1L))));
+  }
+
+  @Test
+  public void testCallerRunsWhenFull() {
+    _scheduler = new RetentionScheduler(_mockRetentionService, 1, 10, FLUSH_INTERVAL_MS, 0);
+
+    _scheduler.schedule(URN_1, ASPECT, context(3L));
+    _scheduler.schedule(URN_2, ASPECT, context(1L));
+
+    verify(_mockRetentionService).applyRetention(URN_2, ASPECT, context(1L));
+    assertEquals(_scheduler.getPendingCount(), 1);
+
+    // Already queued aspects are still coalesced
+    _scheduler.schedule(URN_1, ASPECT, context(4L));
+    verify(_mockRetentionService, never()).applyRetention(eq(URN_1), anyString(), any(Optional.class));
+  }
+
+  private static Optional<RetentionContext> context(long maxVersion) {
+    return Optional.of(new RetentionContext(Optional.of(maxVersion)));
+  }
+}
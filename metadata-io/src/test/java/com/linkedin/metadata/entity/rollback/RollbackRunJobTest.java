@@ -0,0 +1,129 @@
+package com.linkedin.metadata.entity.rollback;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.RollbackRunResult;
+import com.linkedin.metadata.run.AspectRowSummary;
+import com.linkedin.metadata.systemmetadata.SystemMetadataService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class RollbackRunJobTest {
+
+  private static final String RUN_ID = "run-123";
+  private static final Map<String, String> CONDITIONS = Collections.singletonMap("runId", RUN_ID);
+  private static final Comparator<AspectRowSummary> ROW_ORDER =
+      Comparator.comparing(AspectRowSummary::getUrn).thenComparing(AspectRowSummary::getAspectName);
+
+  private static final List<AspectRowSummary> ROWS = ImmutableList.of(
+      row("urn:li:corpuser:1", "corpUserInfo"),
+      row("urn:li:corpuser:1", "corpUserKey"),
+      row("urn:li:corpuser:2", "corpUserInfo"),
+      row("urn:li:corpuser:2", "corpUserKey"),
+      row("urn:li:corpuser:3", "corpUserInfo"));
+
+  private EntityService _entityService;
+  private SystemMetadataService _systemMetadataService;
+
+  @BeforeMethod
+  public void setup() {
+    _entityService = mock(EntityService.class);
+    _systemMetadataService = mock(SystemMetadataService.class);
+    when(_systemMetadataService.scrollByRunId(eq(RUN_ID), eq(false), any(), anyInt())).thenAnswer(invocation -> {
+      final AspectRowSummary after = invocation.getArgument(2);
+      return ROWS.stream()
+          .filter(row -> after == null || ROW_ORDER.compare(row, after) > 0)
+          .limit(invocation.<Integer>getArgument(3))
+          .collect(Collectors.toList());
+    });
+    when(_entityService.rollbackBatchWithConditions(any(), eq(CONDITIONS), eq(false)))
+        .thenAnswer(invocation -> new RollbackRunResult(invocation.getArgument(0), 0));
+  }
+
+  @Test
+  public void testUrnsAreNotSplitAcrossPages() {
+    final List<String> checkpoints = new ArrayList<>();
+    final RollbackRunArgs args = new RollbackRunArgs().setRunId(RUN_ID).setPageSize(3).setBatchSize(1);
+
+    final RollbackRunSummary summary = new RollbackRunJob(_entityService, _systemMetadataService)
+        .run(args, (checkpoint, progress) -> checkpoints.add(checkpoint.lastUrn + "/" + checkpoint.lastAspect));
+
+    // The last urn of every full page is left for the next page
+    verify(_entityService).rollbackBatchWithConditions(ROWS.subList(0, 2), CONDITIONS, false);
+    verify(_entityService).rollbackBatchWithConditions(ROWS.subList(2, 4), CONDITIONS, false);
+    verify(_entityService).rollbackBatchWithConditions(ROWS.subList(4, 5), CONDITIONS, false);
+    assertEquals(checkpoints, ImmutableList.of("urn:li:corpuser:1/corpUserKey", "urn:li:corpuser:2/corpUserKey",
+        "urn:li:corpuser:3/corpUserInfo"));
+
+    assertEquals(summary.rowsScanned, 5);
+    assertEquals(summary.rowsRolledBack, 5);
+    assertEquals(summary.entitiesAffected, 3);
+    assertEquals(summary.keyAspectsScanned, 2);
+    assertEquals(summary.keyAspects, ImmutableList.of(ROWS.get(1), ROWS.get(3)));
+    assertEquals(summary.sampleRows, ROWS);
+  }
+
+  @Test
+  public void testResumeFromCheckpoint() {
+    final RollbackRunArgs args = new RollbackRunArgs().setRunId(RUN_ID).setPageSize(10).setBatchSize(10)
+        .setCursor("urn:li:corpuser:2", "corpUserKey");
+
+    final RollbackRunSummary summary = new RollbackRunJob(_entityService, _systemMetadataService)
+        .run(args, (checkpoint, progress) -> { });
+
+    verify(_entityService).rollbackBatchWithConditions(ROWS.subList(4, 5), CONDITIONS, false);
+    verifyNoMoreInteractions(_entityService);
+    assertEquals(summary.rowsRolledBack, 1);
+  }
+
+  @Test
+  public void testFailedBatchReportsLastCheckpoint() {
+    when(_entityService.rollbackBatchWithConditions(eq(ROWS.subList(2, 4)), eq(CONDITIONS), eq(false)))
+        .thenThrow(new IllegalStateException("Failed to roll back"));
+    final RollbackRunArgs args = new RollbackRunArgs().setRunId(RUN_ID).setPageSize(3).setBatchSize(1);
+
+    try {
+      new RollbackRunJob(_entityService, _systemMetadataService).run(args, (checkpoint, progress) -> { });
+      fail("Expected the rollback to fail");
+    } catch (RuntimeException e) {
+      assertTrue(e.getMessage().contains("resume after urn urn:li:corpuser:1 and aspect corpUserKey"), e.getMessage());
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  public void testFailedPageReadReportsLastCheckpoint() {
+    final AspectRowSummary failingAfter = row("urn:li:corpuser:2", "corpUserKey");
+    when(_systemMetadataService.scrollByRunId(eq(RUN_ID), eq(false),
+        argThat(after -> after != null && ROW_ORDER.compare(after, failingAfter) == 0), anyInt()))
+        .thenThrow(new RuntimeException("Failed to scroll system metadata"));
+    final RollbackRunArgs args = new RollbackRunArgs().setRunId(RUN_ID).setPageSize(3).setBatchSize(1);
+
+    try {
+      new RollbackRunJob(_entityService, _systemMetadataService).run(args, (checkpoint, progress) -> { });
+      fail("Expected the rollback to fail rather than stop at the page which could not be read");
+    } catch (RuntimeException e) {
+      assertTrue(e.getMessage().contains("resume after urn urn:li:corpuser:1 and aspect corpUserKey"), e.getMessage());
+      assertEquals(e.getCause().getMessage(), "Failed to scroll system metadata");
+    }
+  }
+
+  private static AspectRowSummary row(String urn, String aspectName) {
+    return new AspectRowSummary()
+        .setRunId(RUN_ID)
+        .setUrn(urn)
+        .setAspectName(aspectName)
+        .setKeyAspect(aspectName.endsWith("Key"));
+  }
+}
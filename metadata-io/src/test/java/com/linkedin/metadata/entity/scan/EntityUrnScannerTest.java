@@ -0,0 +1,89 @@
+package com.linkedin.metadata.entity.scan;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.query.ListUrnsResult;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class EntityUrnScannerTest {
+
+  private static final Urn CHART_1 = UrnUtils.getUrn("urn:li:chart:(looker,1)");
+  private static final Urn CHART_2 = UrnUtils.getUrn("urn:li:chart:(looker,2)");
+  private static final Urn CHART_3 = UrnUtils.getUrn("urn:li:chart:(looker,3)");
+  private static final Urn USER_1 = UrnUtils.getUrn("urn:li:corpuser:1");
+
+  private EntityService _mockEntityService;
+
+  @BeforeMethod
+  public void setup() {
+    _mockEntityService = mock(EntityService.class);
+    when(_mockEntityService.listUrns("chart", (String) null, 2)).thenReturn(page(CHART_2, CHART_1, CHART_2));
+    when(_mockEntityService.listUrns("chart", CHART_2.toString(), 2)).thenReturn(page(null, CHART_3));
+    when(_mockEntityService.listUrns("corpuser", (String) null, 2)).thenReturn(page(null, USER_1));
+  }
+
+  @Test
+  public void testScanAllPagesOfAllEntities() {
+    final Set<Urn> scannedUrns = ConcurrentHashMap.newKeySet();
+    final EntityUrnScanner scanner = new EntityUrnScanner(_mockEntityService, 2, 2);
+
+    final long scanned = scanner.scan(ImmutableList.of("chart", "corpuser"), scannedUrns::addAll);
+
+    assertEquals(scanned, 4);
+    assertEquals(scannedUrns, ImmutableSet.of(CHART_1, CHART_2, CHART_3, USER_1));
+    verify(_mockEntityService, never()).listUrns(anyString(), anyInt(), anyInt());
+  }
+
+  @Test
+  public void testScanSplitsEntitiesIntoRanges() {
+    when(_mockEntityService.listUrns("chart", (String) null, 1)).thenReturn(page(CHART_1, CHART_1).setTotal(3));
+    when(_mockEntityService.listUrns("chart", 1, 1)).thenReturn(page(CHART_2, CHART_2));
+    when(_mockEntityService.listUrns("corpuser", (String) null, 1)).thenReturn(page(null, USER_1).setTotal(1));
+    final Set<Urn> scannedUrns = ConcurrentHashMap.newKeySet();
+    final EntityUrnScanner scanner = new EntityUrnScanner(_mockEntityService, 2, 2, 2);
+
+    final long scanned = scanner.scan(ImmutableList.of("chart", "corpuser"), scannedUrns::addAll);
+
+    // Charts are split at the second chart, while users fit in a single page
+    assertEquals(scanned, 4);
+    assertEquals(scannedUrns, ImmutableSet.of(CHART_1, CHART_2, CHART_3, USER_1));
+    verify(_mockEntityService, times(1)).listUrns("chart", (String) null, 2);
+    verify(_mockEntityService, times(1)).listUrns("chart", CHART_2.toString(), 2);
+    verify(_mockEntityService, never()).listUrns(eq("corpuser"), anyInt(), anyInt());
+  }
+
+  @Test
+  public void testScanFailure() {
+    doThrow(new IllegalStateException("down")).when(_mockEntityService).listUrns("corpuser", (String) null, 2);
+    final EntityUrnScanner scanner = new EntityUrnScanner(_mockEntityService, 2, 2);
+
+    final RuntimeException e = expectThrows(RuntimeException.class,
+        () -> scanner.scan(ImmutableList.of("chart", "corpuser"), urns -> { }));
+    assertTrue(e.getCause() instanceof IllegalStateException);
+  }
+
+  private static ListUrnsResult page(@Nullable Urn nextAfter, Urn... urns) {
+    final List<Urn> entities = ImmutableList.copyOf(urns);
+    final ListUrnsResult result = new ListUrnsResult()
+        .setEntities(new UrnArray(entities))
+        .setCount(entities.size());
+    if (nextAfter != null) {
+      result.setNextAfter(nextAfter);
+    }
+    return result;
+  }
+}
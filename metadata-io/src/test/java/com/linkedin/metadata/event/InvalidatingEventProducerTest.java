@@ -0,0 +1,46 @@
+package com.linkedin.metadata.event;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.mxe.MetadataChangeLog;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+
+
+public class InvalidatingEventProducerTest {
+
+  private static final Urn URN = UrnUtils.getUrn("urn:li:tag:test");
+
+  @Test
+  public void testInvalidatesCachesOnceProduced() {
+    final EventProducer delegate = Mockito.mock(EventProducer.class);
+    final CacheInvalidator failingCache = Mockito.mock(CacheInvalidator.class);
+    final CacheInvalidator cache = Mockito.mock(CacheInvalidator.class);
+    final CacheInvalidator writeThroughCache = Mockito.mock(CacheInvalidator.class);
+    Mockito.doThrow(new IllegalStateException()).when(failingCache).invalidate(any());
+    Mockito.when(writeThroughCache.isWriteThrough()).thenReturn(true);
+    final EventProducer producer = new InvalidatingEventProducer(delegate,
+        () -> ImmutableList.of(failingCache, cache, writeThroughCache));
+
+    final AspectSpec aspectSpec = Mockito.mock(AspectSpec.class);
+    final MetadataChangeLog metadataChangeLog = new MetadataChangeLog()
+        .setEntityType(URN.getEntityType())
+        .setEntityUrn(URN)
+        .setAspectName("tagProperties")
+        .setChangeType(ChangeType.UPSERT);
+    producer.produceMetadataChangeLog(URN, aspectSpec, metadataChangeLog);
+
+    // A failing cache does not fail the write, nor keep other caches stale
+    final InOrder inOrder = Mockito.inOrder(delegate, cache);
+    inOrder.verify(delegate).produceMetadataChangeLog(URN, aspectSpec, metadataChangeLog);
+    inOrder.verify(cache).invalidate(metadataChangeLog);
+    // Write-through caches already hold the change
+    Mockito.verify(writeThroughCache, Mockito.never()).invalidate(any());
+  }
+}
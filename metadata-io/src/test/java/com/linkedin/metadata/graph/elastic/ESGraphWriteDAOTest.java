@@ -0,0 +1,125 @@
+package com.linkedin.metadata.graph.elastic;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import com.linkedin.metadata.query.filter.RelationshipFilter;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class ESGraphWriteDAOTest {
+
+  private static final Filter EMPTY_FILTER = new Filter().setOr(new ConjunctiveCriterionArray());
+
+  private ESBulkProcessor _mockBulkProcessor;
+  private ESGraphWriteDAO _writeDAO;
+
+  @BeforeMethod
+  public void setup() {
+    _mockBulkProcessor = mock(ESBulkProcessor.class);
+    when(_mockBulkProcessor.deleteByQuery(any(), any())).thenReturn(Optional.empty());
+    _writeDAO = new ESGraphWriteDAO(new IndexConventionImpl(null), _mockBulkProcessor, 1, 100);
+  }
+
+  @Test
+  public void testWritesAreCoalescedPerDocument() {
+    _writeDAO.upsertDocument("edge1", document("createdOn", 1L));
+    _writeDAO.upsertDocument("edge1", document("updatedOn", 2L));
+    _writeDAO.upsertDocument("edge2", document("createdOn", 1L));
+    _writeDAO.deleteDocument("edge2");
+    verify(_mockBulkProcessor, never()).add(any());
+
+    _writeDAO.flush();
+
+    final ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    verify(_mockBulkProcessor, times(2)).add(captor.capture());
+    final List<DocWriteRequest> requests = captor.getAllValues();
+    assertEquals(requests.get(0).id(), "edge1");
+    assertEquals(((UpdateRequest) requests.get(0)).doc().sourceAsMap(), ImmutableMap.of("createdOn", 1, "updatedOn", 2));
+    assertTrue(requests.get(1) instanceof DeleteRequest);
+    assertEquals(requests.get(1).id(), "edge2");
+
+    // Nothing left to send
+    _writeDAO.flush();
+    verify(_mockBulkProcessor, times(2)).add(any());
+  }
+
+  @Test
+  public void testNestedFieldsAreMerged() {
+    final ObjectNode first = document("createdOn", 1L);
+    first.putObject("properties").put("source", "UI").put("via", "urn:li:dataJob:1");
+    final ObjectNode second = document("updatedOn", 2L);
+    second.putObject("properties").put("source", "API");
+    _writeDAO.upsertDocument("edge1", first);
+    _writeDAO.upsertDocument("edge1", second);
+
+    _writeDAO.flush();
+
+    final ArgumentCaptor<UpdateRequest> captor = ArgumentCaptor.forClass(UpdateRequest.class);
+    verify(_mockBulkProcessor).add(captor.capture());
+    assertEquals(captor.getValue().doc().sourceAsMap(), ImmutableMap.of("createdOn", 1, "updatedOn", 2,
+        "properties", ImmutableMap.of("source", "API", "via", "urn:li:dataJob:1")));
+  }
+
+  @Test
+  public void testUpsertAfterDeleteKeepsTheDelete() {
+    _writeDAO.upsertDocument("edge1", document("createdOn", 1L));
+    _writeDAO.deleteDocument("edge1");
+    _writeDAO.upsertDocument("edge1", document("updatedOn", 2L));
+
+    _writeDAO.flush();
+
+    final ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    verify(_mockBulkProcessor, times(2)).add(captor.capture());
+    final List<DocWriteRequest> requests = captor.getAllValues();
+    assertTrue(requests.get(0) instanceof DeleteRequest);
+    assertEquals(requests.get(0).id(), "edge1");
+    assertEquals(((UpdateRequest) requests.get(1)).doc().sourceAsMap(), ImmutableMap.of("updatedOn", 2));
+  }
+
+  @Test
+  public void testWritesAreFlushedBeforeDeleteByQuery() {
+    _writeDAO.upsertDocument("edge1", document("createdOn", 1L));
+
+    _writeDAO.deleteByQuery(null, EMPTY_FILTER, null, EMPTY_FILTER, Collections.singletonList("DownstreamOf"),
+        new RelationshipFilter().setDirection(RelationshipDirection.OUTGOING));
+
+    final InOrder inOrder = inOrder(_mockBulkProcessor);
+    inOrder.verify(_mockBulkProcessor).add(any(UpdateRequest.class));
+    inOrder.verify(_mockBulkProcessor).deleteByQuery(any(), any());
+  }
+
+  @Test
+  public void testUnbufferedWrites() {
+    _writeDAO = new ESGraphWriteDAO(new IndexConventionImpl(null), _mockBulkProcessor, 1);
+
+    _writeDAO.upsertDocument("edge1", document("createdOn", 1L));
+    _writeDAO.upsertDocument("edge1", document("updatedOn", 2L));
+
+    verify(_mockBulkProcessor, times(2)).add(any(UpdateRequest.class));
+  }
+
+  private static ObjectNode document(String field, long value) {
+    final ObjectNode document = JsonNodeFactory.instance.objectNode();
+    document.put(field, value);
+    return document;
+  }
+}
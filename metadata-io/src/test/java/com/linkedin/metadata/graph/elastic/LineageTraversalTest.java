@@ -0,0 +1,55 @@
+package com.linkedin.metadata.graph.elastic;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.graph.elastic.LineageTraversal.LineageEdge;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import java.util.List;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class LineageTraversalTest {
+
+  private static final Urn ROOT = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,root,PROD)");
+  private static final Urn FIRST = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,first,PROD)");
+  private static final Urn SECOND = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,second,PROD)");
+  private static final Urn JOB = UrnUtils.getUrn("urn:li:dataJob:(urn:li:dataFlow:(airflow,flow,PROD),job)");
+
+  @Test
+  public void testVisitDeduplicatesAndBuildsPaths() {
+    LineageTraversal traversal = new LineageTraversal(ROOT);
+
+    List<Urn> firstHop = traversal.visit(ImmutableList.of(
+        edge(ROOT, FIRST, RelationshipDirection.OUTGOING),
+        edge(ROOT, FIRST, RelationshipDirection.OUTGOING)), 1);
+    assertEquals(firstHop, ImmutableList.of(FIRST));
+
+    List<Urn> secondHop = traversal.visit(ImmutableList.of(
+        edge(FIRST, ROOT, RelationshipDirection.OUTGOING),
+        edge(FIRST, SECOND, RelationshipDirection.OUTGOING),
+        edge(SECOND, JOB, RelationshipDirection.INCOMING)), 2);
+    assertEquals(secondHop, ImmutableList.of(SECOND, JOB));
+    assertEquals(traversal.getTotal(), 3);
+
+    List<LineageRelationship> relationships = traversal.getRelationships(0, 10);
+    assertEquals(relationships.get(0).getDegree().intValue(), 1);
+    assertEquals(relationships.get(0).getPaths().get(0), new UrnArray(ImmutableList.of(FIRST, ROOT)));
+    assertEquals(relationships.get(1).getDegree().intValue(), 2);
+    assertEquals(relationships.get(1).getPaths().get(0), new UrnArray(ImmutableList.of(SECOND, FIRST, ROOT)));
+    // A change of direction starts a new path at the parent
+    assertEquals(relationships.get(2).getPaths().get(0), new UrnArray(ImmutableList.of(SECOND, JOB)));
+
+    assertEquals(traversal.getRelationships(1, 1).size(), 1);
+    assertEquals(traversal.getRelationships(1, 1).get(0).getEntity(), SECOND);
+    assertTrue(traversal.getRelationships(3, 10).isEmpty());
+  }
+
+  private static LineageEdge edge(Urn parent, Urn child, RelationshipDirection direction) {
+    return new LineageEdge(parent, child, "DownstreamOf", direction, null, null, null, null, false);
+  }
+}
@@ -1,7 +1,13 @@
 package com.linkedin.metadata.graph.neo4j;
 
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.graph.Edge;
+import com.linkedin.metadata.graph.EntityLineageResult;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.graph.GraphServiceTestBase;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.graph.LineageRelationship;
 import com.linkedin.metadata.graph.RelatedEntitiesResult;
 import com.linkedin.metadata.graph.RelatedEntity;
 import com.linkedin.metadata.models.registry.LineageRegistry;
@@ -9,6 +15,7 @@ import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
 import com.linkedin.metadata.query.filter.RelationshipFilter;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.SessionConfig;
 import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -16,10 +23,16 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import static com.linkedin.metadata.search.utils.QueryUtils.EMPTY_FILTER;
+import static com.linkedin.metadata.search.utils.QueryUtils.newFilter;
 import static org.testng.Assert.assertEquals;
 
 
@@ -111,6 +124,55 @@ public class Neo4jGraphServiceTest extends GraphServiceTestBase {
     super.testFindRelatedEntitiesDestinationType(datasetType, relationshipTypes, relationships, expectedRelatedEntities);
   }
 
+  @Test
+  public void testUpdateEdgesInChunks() {
+    final Neo4jGraphService client = new Neo4jGraphService(new LineageRegistry(SnapshotEntityRegistry.getInstance()),
+        _driver, SessionConfig.defaultConfig(), 2);
+    final Edge edgeOne = new Edge(datasetTwoUrn, datasetOneUrn, downstreamOf, null, null, null, null, null);
+    final Edge edgeTwo = new Edge(datasetThreeUrn, datasetOneUrn, downstreamOf, null, null, null, null, null);
+    final Edge edgeThree = new Edge(datasetFourUrn, datasetOneUrn, downstreamOf, null, null, null, null, null);
+    final Edge edgeFour = new Edge(datasetOneUrn, userOneUrn, hasOwner, null, null, null, null, null);
+
+    client.updateEdges(Arrays.asList(edgeOne, edgeTwo, edgeThree, edgeFour), Collections.emptyList());
+    assertEquals(findIncomingDownstreamOf(client), 3);
+
+    client.updateEdges(Collections.emptyList(), Arrays.asList(edgeOne, edgeThree));
+    client.removeEdge(edgeFour);
+    assertEquals(findIncomingDownstreamOf(client), 1);
+    assertEquals(client.findRelatedEntities(null, newFilter("urn", datasetOneUrnString), null, EMPTY_FILTER,
+        Collections.singletonList(hasOwner), outgoingRelationships, 0, 10).getTotal(), 0);
+  }
+
+  @Test
+  public void testLineageKeepsEachEntityOnceAtItsMinimumDegree() {
+    // Dataset four reaches dataset one through two paths of two hops and one of three hops
+    _client.updateEdges(Arrays.asList(
+        new Edge(datasetTwoUrn, datasetOneUrn, downstreamOf, null, null, null, null, null),
+        new Edge(datasetThreeUrn, datasetOneUrn, downstreamOf, null, null, null, null, null),
+        new Edge(datasetThreeUrn, datasetTwoUrn, downstreamOf, null, null, null, null, null),
+        new Edge(datasetFourUrn, datasetTwoUrn, downstreamOf, null, null, null, null, null),
+        new Edge(datasetFourUrn, datasetThreeUrn, downstreamOf, null, null, null, null, null)
+    ), Collections.emptyList());
+
+    final EntityLineageResult lineage = _client.getLineage(datasetOneUrn, LineageDirection.DOWNSTREAM, 0, 1000, 3);
+
+    assertEquals(lineage.getTotal().intValue(), 3);
+    final Map<Urn, Integer> degrees = lineage.getRelationships().stream()
+        .collect(Collectors.toMap(LineageRelationship::getEntity, LineageRelationship::getDegree));
+    assertEquals(degrees, ImmutableMap.of(datasetTwoUrn, 1, datasetThreeUrn, 1, datasetFourUrn, 2));
+
+    // Pages are taken from the entities ordered by degree
+    final EntityLineageResult page = _client.getLineage(datasetOneUrn, LineageDirection.DOWNSTREAM, 2, 1, 3);
+    assertEquals(page.getTotal().intValue(), 3);
+    assertEquals(page.getRelationships().size(), 1);
+    assertEquals(page.getRelationships().get(0).getEntity(), datasetFourUrn);
+  }
+
+  private static int findIncomingDownstreamOf(@Nonnull GraphService client) {
+    return client.findRelatedEntities(null, newFilter("urn", datasetOneUrnString), null, EMPTY_FILTER,
+        Collections.singletonList(downstreamOf), incomingRelationships, 0, 10).getTotal();
+  }
+
   @Test
   @Override
   public void testFindRelatedEntitiesNullSourceType() throws Exception {
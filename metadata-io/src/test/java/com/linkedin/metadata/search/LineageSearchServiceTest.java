@@ -19,6 +19,7 @@ import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
 import com.linkedin.metadata.search.aggregator.AllEntitiesSearchAggregator;
 import com.linkedin.metadata.search.cache.CachingAllEntitiesSearchAggregator;
 import com.linkedin.metadata.search.cache.EntityDocCountCache;
+import com.linkedin.metadata.search.cache.EntityLineageResultCacheIndex;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
@@ -34,6 +35,7 @@ import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -101,7 +103,8 @@ public class LineageSearchServiceTest extends AbstractTestNGSpringContextTests {
                 100,
                 true),
             new SimpleRanker()),
-        _graphService, _cacheManager.getCache("test"), withCache);
+        _graphService, _cacheManager.getCache("test"), withCache,
+        new EntityLineageResultCacheIndex(_cacheManager.getCache("test"), new ConcurrentHashMap<>()));
   }
 
   @BeforeMethod
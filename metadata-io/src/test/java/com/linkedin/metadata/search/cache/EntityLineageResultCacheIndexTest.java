@@ -0,0 +1,80 @@
+package com.linkedin.metadata.search.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.graph.EntityLineageResult;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.graph.LineageRelationshipArray;
+import com.linkedin.metadata.search.EntityLineageResultCacheKey;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.mockito.Mockito;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+
+public class EntityLineageResultCacheIndexTest {
+  private static final Urn SOURCE = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,source,PROD)");
+  private static final Urn MEMBER = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,member,PROD)");
+  private static final Urn OTHER_SOURCE = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,other,PROD)");
+
+  private final CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+  @Test
+  public void testInvalidateEvictsResultsContainingUrn() {
+    Cache lineageCache = cacheManager.getCache("lineage");
+    EntityLineageResultCacheIndex cacheIndex = new EntityLineageResultCacheIndex(lineageCache,
+        new ConcurrentHashMap<>(), MoreExecutors.newDirectExecutorService());
+
+    EntityLineageResultCacheKey firstKey =
+        new EntityLineageResultCacheKey(SOURCE, LineageDirection.DOWNSTREAM, null, null);
+    EntityLineageResultCacheKey secondKey =
+        new EntityLineageResultCacheKey(OTHER_SOURCE, LineageDirection.DOWNSTREAM, null, null);
+    cache(lineageCache, cacheIndex, firstKey, MEMBER);
+    cache(lineageCache, cacheIndex, secondKey, SOURCE);
+
+    // Only results that do not contain the urn survive
+    cacheIndex.invalidate(ImmutableList.of(MEMBER));
+    assertNull(lineageCache.get(firstKey));
+    assertNotNull(lineageCache.get(secondKey));
+
+    // Source urns are indexed as well
+    cacheIndex.invalidate(ImmutableList.of(OTHER_SOURCE));
+    assertNull(lineageCache.get(secondKey));
+  }
+
+  @Test
+  public void testUnqueuedRegistrationEvictsResult() {
+    Cache lineageCache = cacheManager.getCache("lineage");
+    ExecutorService executor = Mockito.mock(ExecutorService.class);
+    Mockito.doThrow(new RejectedExecutionException()).when(executor).execute(any());
+    EntityLineageResultCacheIndex cacheIndex =
+        new EntityLineageResultCacheIndex(lineageCache, new ConcurrentHashMap<>(), executor);
+
+    EntityLineageResultCacheKey cacheKey =
+        new EntityLineageResultCacheKey(SOURCE, LineageDirection.DOWNSTREAM, null, null);
+    cache(lineageCache, cacheIndex, cacheKey, MEMBER);
+
+    // The result could not be invalidated, so it is not served
+    assertNull(lineageCache.get(cacheKey));
+  }
+
+  private static void cache(Cache lineageCache, EntityLineageResultCacheIndex cacheIndex,
+      EntityLineageResultCacheKey cacheKey, Urn member) {
+    EntityLineageResult result = new EntityLineageResult().setStart(0).setCount(1).setTotal(1)
+        .setRelationships(new LineageRelationshipArray(ImmutableList.of(
+            new LineageRelationship().setType("DownstreamOf").setEntity(member).setDegree(1))));
+    lineageCache.put(cacheKey, new CachedEntityLineageResult(result, System.currentTimeMillis()));
+    cacheIndex.register(cacheKey, result);
+  }
+}
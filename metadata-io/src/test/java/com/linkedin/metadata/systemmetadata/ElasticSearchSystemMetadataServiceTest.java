@@ -19,6 +19,7 @@ import org.testng.annotations.Test;
 
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.linkedin.metadata.ESTestConfiguration.syncAfterWrite;
 import static org.testng.Assert.assertEquals;
@@ -136,6 +137,36 @@ public class ElasticSearchSystemMetadataServiceTest extends AbstractTestNGSpring
     rows.forEach(row -> assertEquals(row.getRunId(), "abc-456"));
   }
 
+  @Test
+  public void testScrollByRunId() throws Exception {
+    SystemMetadata metadata1 = new SystemMetadata();
+    metadata1.setRunId("abc-123");
+    metadata1.setLastObserved(Long.valueOf(120L));
+
+    SystemMetadata metadata2 = new SystemMetadata();
+    metadata2.setRunId("abc-456");
+    metadata2.setLastObserved(Long.valueOf(240L));
+
+    _client.insert(metadata1, "urn:li:chart:1", "chartKey");
+    _client.insert(metadata2, "urn:li:chart:1", "ChartInfo");
+    _client.insert(metadata2, "urn:li:chart:1", "Ownership");
+    _client.insert(metadata2, "urn:li:chart:2", "chartKey");
+    _client.insert(metadata2, "urn:li:chart:2", "Ownership");
+
+    syncAfterWrite(_bulkProcessor);
+
+    List<AspectRowSummary> firstPage = _client.scrollByRunId("abc-456", false, null, 3);
+    assertEquals(firstPage.stream().map(row -> row.getUrn() + "/" + row.getAspectName()).collect(Collectors.toList()),
+        List.of("urn:li:chart:1/ChartInfo", "urn:li:chart:1/Ownership", "urn:li:chart:2/Ownership"));
+
+    List<AspectRowSummary> secondPage = _client.scrollByRunId("abc-456", false, firstPage.get(2), 3);
+    assertEquals(secondPage.size(), 1);
+    assertEquals(secondPage.get(0).getUrn(), "urn:li:chart:2");
+    assertEquals(secondPage.get(0).getAspectName(), "chartKey");
+
+    assertEquals(_client.scrollByRunId("abc-456", false, secondPage.get(0), 3).size(), 0);
+  }
+
   @Test
   public void testDelete() throws Exception {
     SystemMetadata metadata1 = new SystemMetadata();
@@ -0,0 +1,107 @@
+package com.linkedin.metadata.systemmetadata;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableSet;
+import org.mockito.InOrder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class SystemMetadataBulkWriterTest {
+
+  private static final String URN_1 = "urn:li:chart:1";
+  private static final String URN_2 = "urn:li:chart:2";
+  // Long enough for writes to only be flushed explicitly
+  private static final long FLUSH_INTERVAL_MS = 60000;
+
+  private ESSystemMetadataDAO _mockDAO;
+  private SystemMetadataBulkWriter _writer;
+
+  @BeforeMethod
+  public void setup() {
+    _mockDAO = mock(ESSystemMetadataDAO.class);
+    _writer = new SystemMetadataBulkWriter(_mockDAO, 100, FLUSH_INTERVAL_MS);
+  }
+
+  @AfterMethod
+  public void teardown() {
+    _writer.close();
+  }
+
+  @Test
+  public void testLastWriteWinsPerDocument() {
+    _writer.upsert(URN_1, "doc1", document("runId", "run1"));
+    _writer.upsert(URN_1, "doc1", document("runId", "run2"));
+    _writer.upsert(URN_1, "doc1", document("removed", "true"));
+    _writer.upsert(URN_2, "doc2", document("runId", "run1"));
+    _writer.delete(URN_2, "doc2");
+    assertEquals(_writer.getPendingCount(), 2);
+
+    _writer.flush();
+
+    verify(_mockDAO).upsertDocument("doc1", "{\"runId\":\"run2\",\"removed\":\"true\"}");
+    verify(_mockDAO).deleteDocument("doc2");
+    verify(_mockDAO, times(1)).upsertDocument(anyString(), anyString());
+    verify(_mockDAO, never()).deleteByUrns(any());
+    assertEquals(_writer.getPendingCount(), 0);
+  }
+
+  @Test
+  public void testUpsertAfterDeleteKeepsTheDelete() {
+    _writer.upsert(URN_1, "doc1", document("runId", "run1"));
+    _writer.delete(URN_1, "doc1");
+    _writer.upsert(URN_1, "doc1", document("removed", "true"));
+    _writer.upsert(URN_1, "doc1", document("lastUpdated", "1"));
+
+    _writer.flush();
+
+    // The fields of the deleted document are not merged into the upsert
+    final InOrder inOrder = inOrder(_mockDAO);
+    inOrder.verify(_mockDAO).deleteDocument("doc1");
+    inOrder.verify(_mockDAO).upsertDocument("doc1", "{\"removed\":\"true\",\"lastUpdated\":\"1\"}");
+    verify(_mockDAO, times(1)).upsertDocument(anyString(), anyString());
+  }
+
+  @Test
+  public void testUrnDeletesAreCoalesced() {
+    _writer.upsert(URN_1, "doc1", document("runId", "run1"));
+    _writer.deleteUrn(URN_1);
+    _writer.deleteUrn(URN_2);
+    _writer.deleteUrn(URN_1);
+    // Written after the delete of its urn, so kept
+    _writer.upsert(URN_2, "doc2", document("runId", "run1"));
+
+    _writer.flush();
+
+    final InOrder inOrder = inOrder(_mockDAO);
+    inOrder.verify(_mockDAO).deleteByUrns(ImmutableSet.of(URN_1, URN_2));
+    inOrder.verify(_mockDAO).upsertDocument("doc2", "{\"runId\":\"run1\"}");
+    verify(_mockDAO, times(1)).deleteByUrns(any());
+    verify(_mockDAO, never()).upsertDocument(eq("doc1"), anyString());
+  }
+
+  @Test
+  public void testFlushWhenFull() {
+    _writer.close();
+    _writer = new SystemMetadataBulkWriter(_mockDAO, 2, FLUSH_INTERVAL_MS);
+
+    _writer.upsert(URN_1, "doc1", document("runId", "run1"));
+    verify(_mockDAO, never()).upsertDocument(anyString(), anyString());
+    _writer.upsert(URN_2, "doc2", document("runId", "run1"));
+
+    verify(_mockDAO, times(2)).upsertDocument(anyString(), anyString());
+    assertEquals(_writer.getPendingCount(), 0);
+  }
+
+  private static ObjectNode document(String field, String value) {
+    final ObjectNode document = JsonNodeFactory.instance.objectNode();
+    document.put(field, value);
+    return document;
+  }
+}
@@ -0,0 +1,80 @@
+package com.linkedin.metadata.timeseries;
+
+import com.datahub.test.TestEntityComponentProfile;
+import com.datahub.test.TestEntityComponentProfileArray;
+import com.datahub.test.TestEntityProfile;
+import com.linkedin.common.urn.TestEntityUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.models.DataSchemaFactory;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class TimeseriesDocumentBatchTest {
+  private static final Urn TEST_URN = new TestEntityUrn("acryl", "testTimeseriesDocumentBatch", "table1");
+  private static final String ENTITY_NAME = "testEntity";
+  private static final String ASPECT_NAME = "testEntityProfile";
+
+  private EntityRegistry _entityRegistry;
+
+  @BeforeClass
+  public void setup() {
+    _entityRegistry = new ConfigEntityRegistry(new DataSchemaFactory("com.datahub.test"),
+        TestEntityProfile.class.getClassLoader().getResourceAsStream("test-entity-registry.yml"));
+  }
+
+  @Test
+  public void testUpsertOncePerAspect() throws Exception {
+    final TimeseriesAspectService timeseriesAspectService = mock(TimeseriesAspectService.class);
+    final TimeseriesDocumentBatch batch = new TimeseriesDocumentBatch();
+
+    assertEquals(batch.add(proposal(1L, ChangeType.UPSERT), _entityRegistry), TEST_URN);
+    batch.add(proposal(2L, ChangeType.UPSERT), _entityRegistry);
+    // Same value as the first one, which maps to the same documents
+    batch.add(proposal(1L, ChangeType.UPSERT), _entityRegistry);
+    // A document of the aspect along with one exploded document per component profile
+    assertEquals(batch.size(), 6);
+
+    batch.upsert(timeseriesAspectService);
+
+    verify(timeseriesAspectService, times(1)).upsertDocuments(eq(ENTITY_NAME), eq(ASPECT_NAME),
+        argThat(documents -> documents.size() == 6));
+    verify(timeseriesAspectService, never()).upsertDocument(anyString(), anyString(), anyString(), any());
+    assertTrue(batch.isEmpty());
+  }
+
+  @Test
+  public void testRejectUnsupportedProposals() throws Exception {
+    final TimeseriesDocumentBatch batch = new TimeseriesDocumentBatch();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> batch.add(proposal(1L, ChangeType.DELETE), _entityRegistry));
+    assertThrows(IllegalArgumentException.class,
+        () -> batch.add(proposal(1L, ChangeType.UPSERT).setAspectName("testEntityKey"), _entityRegistry));
+    assertTrue(batch.isEmpty());
+  }
+
+  private static MetadataChangeProposal proposal(long timestampMillis, ChangeType changeType) {
+    final TestEntityProfile profile = new TestEntityProfile()
+        .setTimestampMillis(timestampMillis)
+        .setStat(timestampMillis * 10)
+        .setComponentProfiles(new TestEntityComponentProfileArray(
+            new TestEntityComponentProfile().setKey("col1").setStat(1L),
+            new TestEntityComponentProfile().setKey("col2").setStat(2L)));
+    return new MetadataChangeProposal()
+        .setEntityType(ENTITY_NAME)
+        .setEntityUrn(TEST_URN)
+        .setAspectName(ASPECT_NAME)
+        .setChangeType(changeType)
+        .setAspect(GenericRecordUtils.serializeAspect(profile));
+  }
+}
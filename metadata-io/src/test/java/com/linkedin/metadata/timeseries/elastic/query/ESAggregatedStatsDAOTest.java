@@ -0,0 +1,159 @@
+package com.linkedin.metadata.timeseries.elastic.query;
+
+import com.datahub.test.TestEntityProfile;
+import com.google.common.collect.ImmutableList;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.DataSchemaFactory;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.query.filter.Condition;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterion;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
+import com.linkedin.metadata.query.filter.Criterion;
+import com.linkedin.metadata.query.filter.CriterionArray;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.timeseries.elastic.rollup.ESTimeseriesRollupDAO;
+import com.linkedin.metadata.timeseries.elastic.rollup.RollupGranularity;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import com.linkedin.timeseries.AggregationSpec;
+import com.linkedin.timeseries.AggregationType;
+import com.linkedin.timeseries.CalendarInterval;
+import com.linkedin.timeseries.GroupingBucket;
+import com.linkedin.timeseries.GroupingBucketType;
+import com.linkedin.timeseries.TimeWindowSize;
+import java.util.Arrays;
+import java.util.Optional;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class ESAggregatedStatsDAOTest {
+  // 2022-06-01T00:00:00Z, a Wednesday
+  private static final long MONTH_START = 1654041600000L;
+  private static final long DAY = 24 * 3600000L;
+  private static final long NOW = MONTH_START + 10 * DAY + 3600000L;
+
+  private ESAggregatedStatsDAO _dao;
+  private AspectSpec _aspectSpec;
+
+  @BeforeClass
+  public void setup() {
+    final EntityRegistry entityRegistry = new ConfigEntityRegistry(new DataSchemaFactory("com.datahub.test"),
+        TestEntityProfile.class.getClassLoader().getResourceAsStream("test-entity-registry.yml"));
+    _aspectSpec = entityRegistry.getEntitySpec("testEntity").getAspectSpec("testEntityProfile");
+    _dao = new ESAggregatedStatsDAO(new IndexConventionImpl(null), mock(RestHighLevelClient.class), entityRegistry,
+        mock(ESTimeseriesRollupDAO.class));
+  }
+
+  @Test
+  public void testSelectCoarsestRollupCoveringDateBuckets() {
+    assertEquals(select(agg(AggregationType.LATEST, "stat"), null, dateBucket(CalendarInterval.YEAR)),
+        Optional.of(RollupGranularity.MONTH));
+    assertEquals(select(agg(AggregationType.LATEST, "stat"), null, dateBucket(CalendarInterval.WEEK)),
+        Optional.of(RollupGranularity.WEEK));
+    assertEquals(select(agg(AggregationType.SUM, "componentProfiles.stat"), null,
+        new GroupingBucket().setKey("componentProfiles.key").setType(GroupingBucketType.STRING_GROUPING_BUCKET)),
+        Optional.of(RollupGranularity.MONTH));
+    assertEquals(select(agg(AggregationType.LATEST, "stat"), null, dateBucket(CalendarInterval.HOUR)),
+        Optional.empty());
+  }
+
+  @Test
+  public void testSelectRollupAlignedWithTimestampFilter() {
+    // Starting on a day which is neither a Monday nor the first of a month, up to now
+    final Filter dayAligned = filter(timestamp(Condition.GREATER_THAN_OR_EQUAL_TO, MONTH_START + DAY),
+        timestamp(Condition.LESS_THAN_OR_EQUAL_TO, NOW));
+    assertEquals(select(agg(AggregationType.LATEST, "stat"), dayAligned, dateBucket(CalendarInterval.MONTH)),
+        Optional.of(RollupGranularity.DAY));
+
+    final Filter monthAligned = filter(timestamp(Condition.GREATER_THAN_OR_EQUAL_TO, MONTH_START),
+        timestamp(Condition.LESS_THAN, MONTH_START + 30 * DAY), urn());
+    assertEquals(select(agg(AggregationType.SUM, "stat"), monthAligned),
+        Optional.of(RollupGranularity.MONTH));
+
+    final Filter unaligned = filter(timestamp(Condition.GREATER_THAN_OR_EQUAL_TO, NOW - 30 * DAY));
+    assertEquals(select(agg(AggregationType.LATEST, "stat"), unaligned), Optional.of(RollupGranularity.DAY));
+  }
+
+  @Test
+  public void testSplitUsageQueryIntoRollupAndRawEdges() {
+    // The bounds of the queries for the last month of usage
+    final long startTime = NOW - (31 * DAY + 1);
+    final Filter lastMonth = filter(urn(), timestamp(Condition.GREATER_THAN_OR_EQUAL_TO, startTime),
+        timestamp(Condition.LESS_THAN_OR_EQUAL_TO, NOW));
+
+    final ESAggregatedStatsDAO.RollupPlan plan = plan(agg(AggregationType.SUM, "stat"), lastMonth,
+        dateBucket(CalendarInterval.DAY)).get();
+    // Whole days from the day following the start time on, and the rest of the day of the start time out of the
+    // aspect index
+    assertEquals(plan.getGranularity(), RollupGranularity.DAY);
+    assertEquals(plan.getStartMillis(), MONTH_START - 20 * DAY);
+    assertEquals(plan.getEndMillis(), Long.MAX_VALUE);
+    assertEquals(plan.getEdgeMillis(), MONTH_START - 20 * DAY - startTime);
+
+    // Past upper bounds leave an edge too
+    final Filter pastMonth = filter(timestamp(Condition.GREATER_THAN_OR_EQUAL_TO, startTime),
+        timestamp(Condition.LESS_THAN_OR_EQUAL_TO, NOW - DAY));
+    final ESAggregatedStatsDAO.RollupPlan pastPlan = plan(agg(AggregationType.LATEST, "stat"), pastMonth).get();
+    assertEquals(pastPlan.getGranularity(), RollupGranularity.DAY);
+    assertEquals(pastPlan.getEndMillis(), MONTH_START + 9 * DAY);
+    assertEquals(pastPlan.getEdgeMillis(), MONTH_START - 20 * DAY - startTime + 3600000L + 1);
+
+    // Less than a whole day
+    final Filter lastHour = filter(timestamp(Condition.GREATER_THAN, NOW - 3600000L));
+    assertEquals(select(agg(AggregationType.LATEST, "stat"), lastHour), Optional.empty());
+  }
+
+  @Test
+  public void testSelectNoRollupForUnsupportedQueries() {
+    assertEquals(select(agg(AggregationType.CARDINALITY, "componentProfiles.key"), null), Optional.empty());
+    assertEquals(select(agg(AggregationType.SUM, "strStat"), null), Optional.empty());
+    assertEquals(select(agg(AggregationType.LATEST, "stat"), filter(new Criterion().setField("strStat")
+        .setCondition(Condition.EQUAL).setValue("1"))), Optional.empty());
+    assertEquals(select(agg(AggregationType.LATEST, "stat"), null,
+        new GroupingBucket().setKey("strStat").setType(GroupingBucketType.STRING_GROUPING_BUCKET)), Optional.empty());
+    // Timestamp bounds of several conjunctions
+    assertEquals(select(agg(AggregationType.LATEST, "stat"), new Filter().setOr(new ConjunctiveCriterionArray(
+        ImmutableList.of(
+            new ConjunctiveCriterion().setAnd(new CriterionArray(ImmutableList.of(timestamp(Condition.LESS_THAN,
+                MONTH_START)))),
+            new ConjunctiveCriterion().setAnd(new CriterionArray(ImmutableList.of(urn()))))))), Optional.empty());
+  }
+
+  private Optional<RollupGranularity> select(AggregationSpec aggregationSpec, Filter filter,
+      GroupingBucket... groupingBuckets) {
+    return plan(aggregationSpec, filter, groupingBuckets).map(ESAggregatedStatsDAO.RollupPlan::getGranularity);
+  }
+
+  private Optional<ESAggregatedStatsDAO.RollupPlan> plan(AggregationSpec aggregationSpec, Filter filter,
+      GroupingBucket... groupingBuckets) {
+    return _dao.planRollup(_aspectSpec, new AggregationSpec[]{aggregationSpec}, filter, groupingBuckets, NOW);
+  }
+
+  private static AggregationSpec agg(AggregationType type, String fieldPath) {
+    return new AggregationSpec().setAggregationType(type).setFieldPath(fieldPath);
+  }
+
+  private static GroupingBucket dateBucket(CalendarInterval unit) {
+    return new GroupingBucket().setKey("timestampMillis")
+        .setType(GroupingBucketType.DATE_GROUPING_BUCKET)
+        .setTimeWindowSize(new TimeWindowSize().setUnit(unit).setMultiple(1));
+  }
+
+  private static Criterion timestamp(Condition condition, long value) {
+    return new Criterion().setField("timestampMillis").setCondition(condition).setValue(String.valueOf(value));
+  }
+
+  private static Criterion urn() {
+    return new Criterion().setField("urn").setCondition(Condition.EQUAL).setValue("urn:li:testEntity:1");
+  }
+
+  private static Filter filter(Criterion... criteria) {
+    return new Filter().setOr(new ConjunctiveCriterionArray(ImmutableList.of(
+        new ConjunctiveCriterion().setAnd(new CriterionArray(Arrays.asList(criteria))))));
+  }
+}
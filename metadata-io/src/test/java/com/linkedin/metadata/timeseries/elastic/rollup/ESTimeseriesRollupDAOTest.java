@@ -0,0 +1,87 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.rest.RestStatus;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class ESTimeseriesRollupDAOTest {
+  private static final String STATE_INDEX = "timeseries_rollup_state";
+  private static final String CLAIM_ID = "backfillClaim|testEntity|testEntityProfile";
+  private static final String BACKFILLED_ID = "backfilled|testEntity|testEntityProfile";
+
+  private RestHighLevelClient _searchClient;
+  private ESTimeseriesRollupDAO _rollupDAO;
+
+  @BeforeMethod
+  public void setup() throws IOException {
+    final IndexConvention indexConvention = mock(IndexConvention.class);
+    when(indexConvention.getIndexName(STATE_INDEX)).thenReturn(STATE_INDEX);
+    _searchClient = mock(RestHighLevelClient.class);
+    // Another instance holds the claim
+    when(_searchClient.index(argThat(request -> request != null && request.opType() == DocWriteRequest.OpType.CREATE),
+        any(RequestOptions.class))).thenThrow(new ElasticsearchStatusException("conflict", RestStatus.CONFLICT));
+    _rollupDAO = new ESTimeseriesRollupDAO(indexConvention, _searchClient, mock(ESBulkProcessor.class),
+        mock(EntityRegistry.class), TimeUnit.HOURS.toSeconds(1));
+  }
+
+  @AfterMethod
+  public void cleanup() {
+    _rollupDAO.close();
+  }
+
+  @Test
+  public void testBackfillIsSkippedWhileClaimed() throws IOException {
+    mockClaim(System.currentTimeMillis());
+
+    _rollupDAO.backfill("testEntity", "testEntityProfile");
+
+    verify(_searchClient, never()).delete(any(DeleteRequest.class), any(RequestOptions.class));
+  }
+
+  @Test
+  public void testExpiredClaimIsTakenOver() throws IOException {
+    mockClaim(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1));
+
+    _rollupDAO.backfill("testEntity", "testEntityProfile");
+
+    final ArgumentCaptor<IndexRequest> indexRequests = ArgumentCaptor.forClass(IndexRequest.class);
+    verify(_searchClient, atLeast(2)).index(indexRequests.capture(), any(RequestOptions.class));
+    final IndexRequest takeOver = indexRequests.getAllValues().get(1);
+    assertEquals(takeOver.id(), CLAIM_ID);
+    assertEquals(takeOver.ifSeqNo(), 7L);
+    assertEquals(takeOver.ifPrimaryTerm(), 1L);
+    verify(_searchClient).delete(argThat(request -> request != null && BACKFILLED_ID.equals(request.id())),
+        any(RequestOptions.class));
+  }
+
+  private void mockClaim(long updatedAt) throws IOException {
+    final GetResponse claim = mock(GetResponse.class);
+    when(claim.isExists()).thenReturn(true);
+    when(claim.getSourceAsMap()).thenReturn(ImmutableMap.of(MappingsBuilder.ROLLUP_STATE_UPDATED_AT_FIELD, updatedAt));
+    when(claim.getSeqNo()).thenReturn(7L);
+    when(claim.getPrimaryTerm()).thenReturn(1L);
+    when(_searchClient.get(argThat(request -> request != null && CLAIM_ID.equals(request.id())),
+        any(RequestOptions.class))).thenReturn(claim);
+  }
+}
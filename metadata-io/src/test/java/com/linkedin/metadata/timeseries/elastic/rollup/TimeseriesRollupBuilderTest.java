@@ -0,0 +1,151 @@
+package com.linkedin.metadata.timeseries.elastic.rollup;
+
+import com.datahub.test.BatchType;
+import com.datahub.test.ComplexNestedRecord;
+import com.datahub.test.TestEntityComponentProfile;
+import com.datahub.test.TestEntityComponentProfileArray;
+import com.datahub.test.TestEntityProfile;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.common.urn.TestEntityUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringMapArray;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.DataSchemaFactory;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.timeseries.transformer.TimeseriesAspectTransformer;
+import com.linkedin.timeseries.CalendarInterval;
+import com.linkedin.timeseries.TimeWindowSize;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class TimeseriesRollupBuilderTest {
+  private static final Urn TEST_URN = new TestEntityUrn("acryl", "testTimeseriesRollupBuilder", "table1");
+  // Wednesday 2022-06-01T00:00:00Z
+  private static final long DAY_START = 1654041600000L;
+  private static final long HOUR = 3600000L;
+
+  private TimeseriesRollupBuilder _rollupBuilder;
+  private AspectSpec _aspectSpec;
+
+  @BeforeClass
+  public void setup() {
+    final EntityRegistry entityRegistry = new ConfigEntityRegistry(new DataSchemaFactory("com.datahub.test"),
+        TestEntityProfile.class.getClassLoader().getResourceAsStream("test-entity-registry.yml"));
+    _aspectSpec = entityRegistry.getEntitySpec("testEntity").getAspectSpec("testEntityProfile");
+    _rollupBuilder = new TimeseriesRollupBuilder(_aspectSpec);
+  }
+
+  @Test
+  public void testGranularityBuckets() {
+    assertEquals(RollupGranularity.DAY.bucketStart(DAY_START + 5 * HOUR), DAY_START);
+    assertEquals(RollupGranularity.DAY.nextBucketStart(DAY_START), DAY_START + 24 * HOUR);
+    // Weeks start on Mondays, 2022-05-30
+    assertEquals(RollupGranularity.WEEK.bucketStart(DAY_START + 5 * HOUR), DAY_START - 48 * HOUR);
+    assertEquals(RollupGranularity.MONTH.bucketStart(DAY_START + 5 * HOUR), DAY_START);
+    assertEquals(RollupGranularity.MONTH.nextBucketStart(DAY_START), DAY_START + 30 * 24 * HOUR);
+    assertTrue(RollupGranularity.MONTH.isBucketStart(DAY_START));
+    assertFalse(RollupGranularity.WEEK.isBucketStart(DAY_START));
+
+    assertTrue(RollupGranularity.DAY.covers(window(CalendarInterval.WEEK)));
+    assertFalse(RollupGranularity.DAY.covers(window(CalendarInterval.HOUR)));
+    assertFalse(RollupGranularity.WEEK.covers(window(CalendarInterval.MONTH)));
+    assertTrue(RollupGranularity.MONTH.covers(window(CalendarInterval.YEAR)));
+  }
+
+  @Test
+  public void testRollupKeepsLatestValuesAndSumsNumericFields() throws JsonProcessingException {
+    final List<JsonNode> documents = new ArrayList<>();
+    documents.addAll(documents(profile(DAY_START + HOUR, 10)));
+    documents.addAll(documents(profile(DAY_START + 2 * HOUR, 20)));
+
+    final Map<String, ObjectNode> rollups = _rollupBuilder.rollup(RollupGranularity.DAY, DAY_START, documents, false);
+
+    // One rollup for the aspect, and one for each component
+    assertEquals(rollups.size(), 3);
+    final ObjectNode aspectRollup = rollup(rollups, false).get(0);
+    assertEquals(aspectRollup.get("timestampMillis").asLong(), DAY_START);
+    assertEquals(aspectRollup.get("rollupLatestTimestampMillis").asLong(), DAY_START + 2 * HOUR);
+    assertEquals(aspectRollup.get("stat").asLong(), 20);
+    assertEquals(aspectRollup.get("strStat").asText(), "20");
+    assertEquals(aspectRollup.get("stat_rollupSum").asLong(), 30);
+    assertNull(aspectRollup.get("event"));
+
+    final Map<String, Long> componentSums = rollup(rollups, true).stream()
+        .collect(Collectors.toMap(doc -> doc.get("componentProfiles").get("key").asText(),
+            doc -> doc.get("componentProfiles").get("stat_rollupSum").asLong()));
+    assertEquals(componentSums, Map.of("col1", 32L, "col2", 34L));
+
+    // Rolling the day up again gives the same documents
+    assertEquals(_rollupBuilder.rollup(RollupGranularity.DAY, DAY_START, documents, false), rollups);
+  }
+
+  @Test
+  public void testRollupOfRollups() throws JsonProcessingException {
+    final long nextDayStart = RollupGranularity.DAY.nextBucketStart(DAY_START);
+    final List<ObjectNode> days = new ArrayList<>();
+    days.addAll(_rollupBuilder.rollup(RollupGranularity.DAY, DAY_START,
+        new ArrayList<>(documents(profile(DAY_START + HOUR, 10))), false).values());
+    days.addAll(_rollupBuilder.rollup(RollupGranularity.DAY, nextDayStart,
+        new ArrayList<>(documents(profile(nextDayStart + HOUR, 5))), false).values());
+
+    final long monthStart = RollupGranularity.MONTH.bucketStart(DAY_START);
+    final Map<String, ObjectNode> rollups = _rollupBuilder.rollup(RollupGranularity.MONTH, monthStart, days, true);
+
+    assertEquals(rollups.size(), 3);
+    final ObjectNode aspectRollup = rollup(rollups, false).get(0);
+    assertEquals(aspectRollup.get("timestampMillis").asLong(), monthStart);
+    assertEquals(aspectRollup.get("rollupLatestTimestampMillis").asLong(), nextDayStart + HOUR);
+    assertEquals(aspectRollup.get("stat").asLong(), 5);
+    assertEquals(aspectRollup.get("stat_rollupSum").asLong(), 15);
+  }
+
+  @Test
+  public void testFields() {
+    assertTrue(_rollupBuilder.isNumericField("stat"));
+    assertTrue(_rollupBuilder.isNumericField("componentProfiles.stat"));
+    assertFalse(_rollupBuilder.isNumericField("strStat"));
+    assertTrue(_rollupBuilder.isGroupField("urn"));
+    assertTrue(_rollupBuilder.isGroupField("componentProfiles.key"));
+    assertFalse(_rollupBuilder.isGroupField("strStat"));
+  }
+
+  private List<JsonNode> documents(TestEntityProfile profile) throws JsonProcessingException {
+    return new ArrayList<>(TimeseriesAspectTransformer.transform(TEST_URN, profile, _aspectSpec, null).values());
+  }
+
+  private static List<ObjectNode> rollup(Map<String, ObjectNode> rollups, boolean exploded) {
+    return rollups.values().stream()
+        .filter(doc -> doc.get("isExploded").asBoolean() == exploded)
+        .collect(Collectors.toList());
+  }
+
+  private static TestEntityProfile profile(long timestampMillis, long stat) {
+    final TestEntityComponentProfile componentProfile1 = new TestEntityComponentProfile()
+        .setKey("col1")
+        .setStat(stat + 1);
+    final TestEntityComponentProfile componentProfile2 = new TestEntityComponentProfile()
+        .setKey("col2")
+        .setStat(stat + 2);
+    return new TestEntityProfile()
+        .setTimestampMillis(timestampMillis)
+        .setStat(stat)
+        .setStrStat(String.valueOf(stat))
+        .setComponentProfiles(new TestEntityComponentProfileArray(componentProfile1, componentProfile2))
+        .setAComplexNestedRecord(new ComplexNestedRecord().setType(BatchType.FULL_TABLE)
+            .setPartitions(new StringMapArray()));
+  }
+
+  private static TimeWindowSize window(CalendarInterval unit) {
+    return new TimeWindowSize().setUnit(unit).setMultiple(1);
+  }
+}
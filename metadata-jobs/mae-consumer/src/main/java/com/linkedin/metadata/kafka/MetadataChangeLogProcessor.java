@@ -8,6 +8,7 @@ import com.linkedin.gms.factory.kafka.KafkaEventConsumerFactory;
 import com.linkedin.metadata.EventUtils;
 import com.linkedin.metadata.kafka.config.MetadataChangeLogProcessorCondition;
 import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHookExecutor;
 import com.linkedin.metadata.kafka.hook.UpdateIndicesHook;
 import com.linkedin.metadata.kafka.hook.event.EntityChangeEventGeneratorHook;
 import com.linkedin.metadata.kafka.hook.ingestion.IngestionSchedulerHook;
@@ -15,14 +16,23 @@ import com.linkedin.metadata.kafka.hook.siblings.SiblingAssociationHook;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.Topics;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
@@ -42,38 +52,95 @@ import org.springframework.stereotype.Component;
 public class MetadataChangeLogProcessor {
 
   private final List<MetadataChangeLogHook> hooks;
+  private final MetadataChangeLogHookExecutor hookExecutor;
   private final Histogram kafkaLagStats = MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats = MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
+
+  @Value("${kafka.mcl.batch.enabled:false}")
+  private boolean batchEnabled;
 
   @Autowired
   public MetadataChangeLogProcessor(
       @Nonnull final UpdateIndicesHook updateIndicesHook,
       @Nonnull final IngestionSchedulerHook ingestionSchedulerHook,
       @Nonnull final EntityChangeEventGeneratorHook entityChangeEventHook,
-      @Nonnull final SiblingAssociationHook siblingAssociationHook
+      @Nonnull final SiblingAssociationHook siblingAssociationHook,
+      @Nonnull final Environment environment,
+      @Value("${kafka.mcl.hooks.parallel.enabled:false}") final boolean parallelHooksEnabled,
+      @Value("${kafka.mcl.hooks.parallel.threads:8}") final int parallelHooksThreads,
+      @Value("${kafka.mcl.hooks.parallel.queueSize:100}") final int parallelHooksQueueSize
   ) {
     this.hooks = ImmutableList.of(updateIndicesHook, ingestionSchedulerHook, entityChangeEventHook, siblingAssociationHook);
     this.hooks.forEach(MetadataChangeLogHook::init);
+    this.hookExecutor = parallelHooksEnabled
+        ? new MetadataChangeLogHookExecutor(parallelHooksThreads, parallelHooksQueueSize,
+            getHookPermits(this.hooks, environment))
+        : null;
   }
 
   @KafkaListener(id = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}", topics = {
       "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}",
       "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES
-          + "}"}, containerFactory = "kafkaEventConsumer")
+          + "}"}, containerFactory = "kafkaEventConsumer",
+      autoStartup = "#{!(${kafka.mcl.batch.enabled:false} || ${kafka.mcl.hooks.parallel.enabled:false})}")
   public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
-    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
-    final GenericRecord record = consumerRecord.value();
-    log.debug("Got Generic MCL on topic: {}, partition: {}, offset: {}", consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
-    MetricUtils.counter(this.getClass(), "received_mcl_count").inc();
+    consumeRecord(consumerRecord);
+  }
 
-    MetadataChangeLog event;
-    try {
-      event = EventUtils.avroToPegasusMCL(record);
-      log.debug("Successfully converted Avro MCL to Pegasus MCL. urn: {}, key: {}", event.getEntityUrn(),
-          event.getEntityKeyAspect());
-    } catch (Exception e) {
-      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
-      log.error("Error deserializing message due to: ", e);
-      log.error("Message: {}", record.toString());
+  /**
+   * Same as {@link #consume}, but receives whole polls. Only started when batching or parallel hooks are enabled, in
+   * place of {@link #consume}, within the same consumer group.
+   */
+  @KafkaListener(id = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}-batch",
+      groupId = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}", topics = {
+      "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}",
+      "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES
+          + "}"}, containerFactory = "kafkaBatchEventConsumer",
+      autoStartup = "#{${kafka.mcl.batch.enabled:false} || ${kafka.mcl.hooks.parallel.enabled:false}}")
+  public void consumeBatch(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    batchSizeStats.update(consumerRecords.size());
+    if (hookExecutor != null) {
+      final List<MetadataChangeLog> events = new ArrayList<>(consumerRecords.size());
+      for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+        final MetadataChangeLog event = convert(consumerRecord);
+        if (event != null) {
+          events.add(event);
+        }
+      }
+      // Blocks until every hook has completed, so the offsets of this poll are only committed afterwards
+      hookExecutor.execute(events, batchEnabled ? this::invokeHookBatch : this::invokeHookEach);
+      MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc(events.size());
+      return;
+    }
+
+    if (!batchEnabled) {
+      consumerRecords.forEach(this::consumeRecord);
+      return;
+    }
+
+    // Group the poll by partition. Records within a partition keep the order in which they were received, which
+    // preserves per-key ordering as MCLs are keyed by urn.
+    final Map<TopicPartition, List<MetadataChangeLog>> eventsByPartition = new LinkedHashMap<>();
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      final MetadataChangeLog event = convert(consumerRecord);
+      if (event != null) {
+        eventsByPartition.computeIfAbsent(new TopicPartition(consumerRecord.topic(), consumerRecord.partition()),
+            ignored -> new ArrayList<>()).add(event);
+      }
+    }
+    eventsByPartition.values().forEach(this::invokeHooks);
+  }
+
+  @PreDestroy
+  public void close() {
+    if (hookExecutor != null) {
+      hookExecutor.close();
+    }
+  }
+
+  private void consumeRecord(final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    final MetadataChangeLog event = convert(consumerRecord);
+    if (event == null) {
       return;
     }
 
@@ -81,16 +148,8 @@ public class MetadataChangeLogProcessor {
 
     // Here - plug in additional "custom processor hooks"
     for (MetadataChangeLogHook hook : this.hooks) {
-      if (!hook.isEnabled()) {
-        continue;
-      }
-      try (Timer.Context ignored = MetricUtils.timer(this.getClass(), hook.getClass().getSimpleName() + "_latency")
-          .time()) {
-        hook.invoke(event);
-      } catch (Exception e) {
-        // Just skip this hook and continue. - Note that this represents "at most once" processing.
-        MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
-        log.error("Failed to execute MCL hook with name {}", hook.getClass().getCanonicalName(), e);
+      if (hook.isEnabled()) {
+        invokeHook(hook, event);
       }
     }
     // TODO: Manually commit kafka offsets after full processing.
@@ -98,4 +157,85 @@ public class MetadataChangeLogProcessor {
     log.debug("Successfully completed MCL hooks for urn: {}, key: {}", event.getEntityUrn(),
         event.getEntityKeyAspect());
   }
+
+  /**
+   * Invokes every hook once with all events received from a single partition.
+   */
+  private void invokeHooks(@Nonnull final List<MetadataChangeLog> events) {
+    log.debug("Invoking MCL hooks for batch of {} events", events.size());
+
+    for (MetadataChangeLogHook hook : this.hooks) {
+      if (hook.isEnabled()) {
+        invokeHookBatch(hook, events);
+      }
+    }
+    MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc(events.size());
+    log.debug("Successfully completed MCL hooks for batch of {} events", events.size());
+  }
+
+  private void invokeHook(@Nonnull final MetadataChangeLogHook hook, @Nonnull final MetadataChangeLog event) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), hook.getClass().getSimpleName() + "_latency")
+        .time()) {
+      hook.invoke(event);
+    } catch (Exception e) {
+      // Just skip this hook and continue. - Note that this represents "at most once" processing.
+      MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
+      log.error("Failed to execute MCL hook with name {}", hook.getClass().getCanonicalName(), e);
+    }
+  }
+
+  private void invokeHookEach(@Nonnull final MetadataChangeLogHook hook,
+      @Nonnull final List<MetadataChangeLog> events) {
+    events.forEach(event -> invokeHook(hook, event));
+  }
+
+  private void invokeHookBatch(@Nonnull final MetadataChangeLogHook hook,
+      @Nonnull final List<MetadataChangeLog> events) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(),
+        hook.getClass().getSimpleName() + "_batch_latency").time()) {
+      hook.invokeBatch(events);
+    } catch (Exception e) {
+      // Just skip this hook and continue. - Note that this represents "at most once" processing.
+      MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
+      log.error("Failed to execute MCL hook with name {} for batch", hook.getClass().getCanonicalName(), e);
+    }
+  }
+
+  /**
+   * Resolves the number of permits of each hook, i.e. how many stripes it may process in parallel, from
+   * kafka.mcl.hooks.&lt;hookName&gt;.concurrency, where the hook name is the camel-cased class name without the
+   * Hook suffix, e.g. kafka.mcl.hooks.updateIndices.concurrency. Hooks default to a single permit.
+   */
+  @Nonnull
+  private static Map<MetadataChangeLogHook, Integer> getHookPermits(
+      @Nonnull final List<MetadataChangeLogHook> hooks, @Nonnull final Environment environment) {
+    final Map<MetadataChangeLogHook, Integer> hookPermits = new LinkedHashMap<>();
+    for (MetadataChangeLogHook hook : hooks) {
+      final String hookName = StringUtils.uncapitalize(StringUtils.removeEnd(hook.getClass().getSimpleName(), "Hook"));
+      final int concurrency = environment.getProperty(String.format("kafka.mcl.hooks.%s.concurrency", hookName),
+          Integer.class, 1);
+      hookPermits.put(hook, Math.max(1, concurrency));
+    }
+    return hookPermits;
+  }
+
+  @Nullable
+  private MetadataChangeLog convert(@Nonnull final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+    final GenericRecord record = consumerRecord.value();
+    log.debug("Got Generic MCL on topic: {}, partition: {}, offset: {}", consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+    MetricUtils.counter(this.getClass(), "received_mcl_count").inc();
+
+    try {
+      final MetadataChangeLog event = EventUtils.avroToPegasusMCL(record);
+      log.debug("Successfully converted Avro MCL to Pegasus MCL. urn: {}, key: {}", event.getEntityUrn(),
+          event.getEntityKeyAspect());
+      return event;
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+      log.error("Error deserializing message due to: ", e);
+      log.error("Message: {}", record.toString());
+      return null;
+    }
+  }
 }
@@ -12,6 +12,7 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -183,4 +184,14 @@ public class GraphIndexUtils {
         newEdge.getProperties()
     );
   }
+
+  /**
+   * Whether updating an edge with a merged edge would leave its document unchanged, i.e. the merged edge only carries
+   * the updated fields that the edge already has.
+   */
+  public static boolean isEdgeUnchanged(@Nonnull final Edge oldEdge, @Nonnull final Edge mergedEdge) {
+    return Objects.equals(oldEdge.getUpdatedOn(), mergedEdge.getUpdatedOn())
+        && Objects.equals(oldEdge.getUpdatedActor(), mergedEdge.getUpdatedActor())
+        && Objects.equals(oldEdge.getProperties(), mergedEdge.getProperties());
+  }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.metadata.kafka.hook;
 
 import com.linkedin.mxe.MetadataChangeLog;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 
@@ -29,4 +30,29 @@ public interface MetadataChangeLogHook {
    * Invoke the hook when a MetadataChangeLog is received
    */
   void invoke(@Nonnull MetadataChangeLog log) throws Exception;
+
+  /**
+   * Invoke the hook with a batch of MetadataChangeLogs received from a single partition, in the order in which they
+   * were received. Hooks that are able to coalesce work across events should override this method.
+   *
+   * The default implementation invokes the hook for each event one at a time. A failing event does not prevent the
+   * remaining events from being processed; the first failure is rethrown once the whole batch has been attempted.
+   */
+  default void invokeBatch(@Nonnull List<MetadataChangeLog> logs) throws Exception {
+    Exception failure = null;
+    for (MetadataChangeLog log : logs) {
+      try {
+        invoke(log);
+      } catch (Exception e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
 }
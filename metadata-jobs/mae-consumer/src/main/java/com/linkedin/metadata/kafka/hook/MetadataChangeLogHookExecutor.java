@@ -0,0 +1,125 @@
+package com.linkedin.metadata.kafka.hook;
+
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Runs {@link MetadataChangeLogHook}s over the {@link MetadataChangeLog}s of a poll on a bounded thread pool.
+ *
+ * The events of a poll are split into stripes, keyed by urn. Each hook gets a number of permits, which bounds how many
+ * of its stripes run at the same time, so that a slow hook cannot take over the threads shared with the others. Every
+ * permit drains the hook's stripes one after another, handing the events of a stripe to the hook in the order in which
+ * they were received. This keeps per-urn ordering for every hook.
+ *
+ * {@link #execute(List, BiConsumer)} blocks until every hook has processed every event. Since the consumer commits
+ * the offsets of a poll only once the listener returns, offsets are never committed ahead of the hooks.
+ *
+ * Backpressure is applied by the bounded work queue: once it is full, the calling listener thread runs the work
+ * itself, which stops it from polling further records.
+ */
+public class MetadataChangeLogHookExecutor implements AutoCloseable {
+
+  private final ThreadPoolExecutor _executor;
+  private final int _stripeCount;
+  private final Map<MetadataChangeLogHook, Integer> _hookPermits;
+
+  /**
+   * @param threads the number of threads shared by all hooks
+   * @param queueSize the maximum number of permits waiting for a thread before the caller runs them itself
+   * @param hookPermits the maximum number of stripes of each hook that may run at the same time
+   */
+  public MetadataChangeLogHookExecutor(final int threads, final int queueSize,
+      @Nonnull final Map<MetadataChangeLogHook, Integer> hookPermits) {
+    final AtomicInteger threadCount = new AtomicInteger();
+    _executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueSize), runnable -> {
+          final Thread thread = new Thread(runnable, "mcl-hook-executor-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+    // Finer than any hook's permits, so that a permit freed by a short stripe moves on to the next one
+    _stripeCount = Math.max(threads, hookPermits.values().stream().mapToInt(Integer::intValue).max().orElse(1));
+    _hookPermits = hookPermits;
+  }
+
+  /**
+   * Invokes every enabled hook with the given events and waits for all of them to complete.
+   *
+   * @param events the events of a poll, in the order in which they were received
+   * @param invoker invokes a hook with the ordered events of one stripe. Failures must be handled by the invoker.
+   */
+  public void execute(@Nonnull final List<MetadataChangeLog> events,
+      @Nonnull final BiConsumer<MetadataChangeLogHook, List<MetadataChangeLog>> invoker) {
+    final List<List<MetadataChangeLog>> stripes = stripe(events, _stripeCount);
+    final List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (Map.Entry<MetadataChangeLogHook, Integer> entry : _hookPermits.entrySet()) {
+      final MetadataChangeLogHook hook = entry.getKey();
+      if (!hook.isEnabled()) {
+        continue;
+      }
+      final Queue<List<MetadataChangeLog>> pending = new ConcurrentLinkedQueue<>(stripes);
+      for (int i = 0; i < Math.min(entry.getValue(), stripes.size()); i++) {
+        futures.add(CompletableFuture.runAsync(() -> {
+          List<MetadataChangeLog> stripe;
+          while ((stripe = pending.poll()) != null) {
+            invoker.accept(hook, stripe);
+          }
+        }, _executor));
+      }
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+  }
+
+  /**
+   * Stops the threads of the executor once the stripes already submitted have completed.
+   */
+  @Override
+  public void close() {
+    _executor.shutdown();
+    try {
+      _executor.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * @return the non-empty stripes of the given events
+   */
+  @Nonnull
+  private static List<List<MetadataChangeLog>> stripe(@Nonnull final List<MetadataChangeLog> events,
+      final int stripeCount) {
+    final List<List<MetadataChangeLog>> stripes = new ArrayList<>(stripeCount);
+    for (int i = 0; i < stripeCount; i++) {
+      stripes.add(new ArrayList<>());
+    }
+    for (MetadataChangeLog event : events) {
+      stripes.get(Math.floorMod(getOrderingKey(event).hashCode(), stripeCount)).add(event);
+    }
+    stripes.removeIf(List::isEmpty);
+    return stripes;
+  }
+
+  @Nonnull
+  private static Object getOrderingKey(@Nonnull final MetadataChangeLog event) {
+    if (event.hasEntityUrn()) {
+      return event.getEntityUrn();
+    }
+    if (event.hasEntityKeyAspect()) {
+      return event.getEntityKeyAspect().getValue();
+    }
+    return event.getEntityType();
+  }
+}
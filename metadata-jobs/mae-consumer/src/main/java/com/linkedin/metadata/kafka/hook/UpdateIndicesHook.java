@@ -2,6 +2,7 @@ package com.linkedin.metadata.kafka.hook;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.InputField;
 import com.linkedin.common.InputFields;
@@ -15,12 +16,14 @@ import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.gms.factory.common.GraphServiceFactory;
 import com.linkedin.gms.factory.common.SystemMetadataServiceFactory;
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.gms.factory.search.EntityLineageResultCacheIndexFactory;
 import com.linkedin.gms.factory.search.EntitySearchServiceFactory;
 import com.linkedin.gms.factory.search.SearchDocumentTransformerFactory;
 import com.linkedin.gms.factory.timeseries.TimeseriesAspectServiceFactory;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphService;
+import com.linkedin.metadata.graph.LineageDirection;
 import com.linkedin.metadata.graph.elastic.ElasticSearchGraphService;
 import com.linkedin.metadata.key.SchemaFieldKey;
 import com.linkedin.metadata.models.AspectSpec;
@@ -28,17 +31,22 @@ import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.RelationshipFieldSpec;
 import com.linkedin.metadata.models.extractor.FieldExtractor;
 import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.models.registry.LineageRegistry;
+import com.linkedin.metadata.models.registry.LineageRegistry.EdgeInfo;
 import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.EntityLineageResultCacheIndex;
 import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.search.utils.SearchUtils;
 import com.linkedin.metadata.systemmetadata.SystemMetadataService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.timeseries.TimeseriesDocumentBatch;
 import com.linkedin.metadata.timeseries.transformer.TimeseriesAspectTransformer;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.SystemMetadata;
@@ -46,9 +54,11 @@ import com.linkedin.util.Pair;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -68,7 +78,8 @@ import static com.linkedin.metadata.search.utils.QueryUtils.*;
 @Slf4j
 @Component
 @Import({GraphServiceFactory.class, EntitySearchServiceFactory.class, TimeseriesAspectServiceFactory.class,
-    EntityRegistryFactory.class, SystemMetadataServiceFactory.class, SearchDocumentTransformerFactory.class})
+    EntityRegistryFactory.class, SystemMetadataServiceFactory.class, SearchDocumentTransformerFactory.class,
+    EntityLineageResultCacheIndexFactory.class})
 public class UpdateIndicesHook implements MetadataChangeLogHook {
 
   private static final Set<ChangeType> UPDATE_CHANGE_TYPES = ImmutableSet.of(
@@ -76,6 +87,8 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
       ChangeType.RESTATE,
       ChangeType.PATCH);
   private static final String DOWNSTREAM_OF = "DownstreamOf";
+  private static final List<LineageDirection> LINEAGE_DIRECTIONS =
+      ImmutableList.of(LineageDirection.UPSTREAM, LineageDirection.DOWNSTREAM);
 
   private final GraphService _graphService;
   private final EntitySearchService _entitySearchService;
@@ -83,6 +96,8 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
   private final SystemMetadataService _systemMetadataService;
   private final EntityRegistry _entityRegistry;
   private final SearchDocumentTransformer _searchDocumentTransformer;
+  private final EntityLineageResultCacheIndex _lineageCacheIndex;
+  private final LineageRegistry _lineageRegistry;
 
   @Value("${featureFlags.graphServiceDiffModeEnabled:false}")
   private boolean _diffMode;
@@ -94,21 +109,85 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
       TimeseriesAspectService timeseriesAspectService,
       SystemMetadataService systemMetadataService,
       EntityRegistry entityRegistry,
-      SearchDocumentTransformer searchDocumentTransformer) {
+      SearchDocumentTransformer searchDocumentTransformer,
+      EntityLineageResultCacheIndex lineageCacheIndex) {
     _graphService = graphService;
     _entitySearchService = entitySearchService;
     _timeseriesAspectService = timeseriesAspectService;
     _systemMetadataService = systemMetadataService;
     _entityRegistry = entityRegistry;
     _searchDocumentTransformer = searchDocumentTransformer;
+    _lineageCacheIndex = lineageCacheIndex;
+    _lineageRegistry = new LineageRegistry(entityRegistry);
   }
 
   @Override
   public void invoke(@Nonnull final MetadataChangeLog event) {
-    if (UPDATE_CHANGE_TYPES.contains(event.getChangeType())) {
-      handleUpdateChangeEvent(event);
-    } else if (event.getChangeType() == ChangeType.DELETE) {
-      handleDeleteChangeEvent(event);
+    try {
+      if (UPDATE_CHANGE_TYPES.contains(event.getChangeType())) {
+        handleUpdateChangeEvent(event, null, null);
+      } else if (event.getChangeType() == ChangeType.DELETE) {
+        handleDeleteChangeEvent(event);
+      }
+    } finally {
+      _graphService.flush();
+    }
+  }
+
+  /**
+   * Processes a batch of {@link MetadataChangeLog} events received from a single partition.
+   *
+   * Search and system metadata writes are handed to the bulk processors as they are produced. Timeseries documents
+   * are collected across the batch and upserted with one call per aspect once the whole batch has been attempted. Graph
+   * updates are coalesced across the batch so that each urn's outgoing edges are cleared with a single
+   * delete-by-query, rather than one per event, before the surviving edges are added. Deletions flush any pending
+   * graph updates first so that the order of events within the batch is respected. Edge writes buffered by the graph
+   * service are flushed once at the end of the batch.
+   *
+   * A failing event is skipped and does not prevent the rest of the batch from being processed; the first failure is
+   * rethrown once the whole batch has been attempted.
+   *
+   * @param events the change events to be processed, in the order in which they were received.
+   */
+  @Override
+  public void invokeBatch(@Nonnull final List<MetadataChangeLog> events) throws Exception {
+    final PendingGraphUpdates pendingGraphUpdates = new PendingGraphUpdates();
+    final TimeseriesDocumentBatch pendingTimeseriesDocuments = new TimeseriesDocumentBatch();
+    Exception failure = null;
+    for (MetadataChangeLog event : events) {
+      try {
+        if (UPDATE_CHANGE_TYPES.contains(event.getChangeType())) {
+          handleUpdateChangeEvent(event, pendingGraphUpdates, pendingTimeseriesDocuments);
+        } else if (event.getChangeType() == ChangeType.DELETE) {
+          pendingGraphUpdates.flush();
+          handleDeleteChangeEvent(event);
+        }
+      } catch (Exception e) {
+        log.error("Failed to update indices for urn: {}, aspect: {}", event.getEntityUrn(), event.getAspectName(), e);
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    try {
+      pendingTimeseriesDocuments.upsert(_timeseriesAspectService);
+    } catch (Exception e) {
+      log.error("Failed to upsert the timeseries documents of the batch", e);
+      if (failure == null) {
+        failure = e;
+      } else {
+        failure.addSuppressed(e);
+      }
+    }
+    try {
+      pendingGraphUpdates.flush();
+    } finally {
+      _graphService.flush();
+    }
+    if (failure != null) {
+      throw failure;
     }
   }
 
@@ -121,8 +200,13 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
    * the changes present in the new aspect.
    *
    * @param event the change event to be processed.
+   * @param pendingGraphUpdates graph updates of the current batch, or null if the event is processed on its own.
+   * @param pendingTimeseriesDocuments timeseries documents of the current batch, or null if the event is processed on
+   *                                   its own.
    */
-  private void handleUpdateChangeEvent(@Nonnull final MetadataChangeLog event) {
+  private void handleUpdateChangeEvent(@Nonnull final MetadataChangeLog event,
+      @Nullable final PendingGraphUpdates pendingGraphUpdates,
+      @Nullable final TimeseriesDocumentBatch pendingTimeseriesDocuments) {
 
     final EntitySpec entitySpec = getEventEntitySpec(event);
     final Urn urn = EntityKeyUtils.getUrnFromLog(event, entitySpec.getKeyAspectSpec());
@@ -152,7 +236,7 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
     // Step 0. If the aspect is timeseries, add to its timeseries index.
     if (aspectSpec.isTimeseries()) {
       updateTimeseriesFields(event.getEntityType(), event.getAspectName(), urn, aspect, aspectSpec,
-          event.getSystemMetadata());
+          event.getSystemMetadata(), pendingTimeseriesDocuments);
     } else {
       // Inject into the System Metadata Index when an aspect is non-timeseries only.
       // TODO: Verify whether timeseries aspects can be dropped into System Metadata as well
@@ -167,6 +251,8 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
     // Step 2. For all aspects, attempt to update Graph
     if (_diffMode && _graphService instanceof ElasticSearchGraphService) {
       updateGraphServiceDiff(urn, aspectSpec, previousAspect, aspect, event);
+    } else if (pendingGraphUpdates != null) {
+      pendingGraphUpdates.add(getEdgesAndRelationshipTypesFromAspect(urn, aspectSpec, aspect, event, true));
     } else {
       updateGraphService(urn, aspectSpec, aspect, event);
     }
@@ -321,7 +407,8 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
         _graphService.removeEdgesFromNode(entry.getKey(), new ArrayList<>(entry.getValue()),
             newRelationshipFilter(new Filter().setOr(new ConjunctiveCriterionArray()), RelationshipDirection.OUTGOING));
       }
-      edgesToAdd.forEach(_graphService::addEdge);
+      _graphService.updateEdges(edgesToAdd, Collections.emptyList());
+      invalidateLineageCache(urnToRelationshipTypesBeingAdded, edgesToAdd);
     }
   }
 
@@ -357,7 +444,7 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
         .filter(edge -> !newEdgeSet.contains(edge))
         .collect(Collectors.toList());
 
-    // Edges to update
+    // Edges to update, leaving out the ones the new aspect leaves unchanged
     final List<Edge> mergedEdges = getMergedEdges(oldEdgeSet, newEdgeSet);
 
     // Remove any old edges that no longer exist first
@@ -372,11 +459,16 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
       additiveDifference.forEach(_graphService::addEdge);
     }
 
-    // Then update existing edges
+    // Then update existing edges whose content changed
     if (mergedEdges.size() > 0) {
       log.debug("Updating edges: {}", mergedEdges);
       mergedEdges.forEach(_graphService::upsertEdge);
     }
+
+    final List<Edge> changedEdges = new ArrayList<>(subtractiveDifference);
+    changedEdges.addAll(additiveDifference);
+    changedEdges.addAll(mergedEdges);
+    invalidateLineageCache(Collections.emptyMap(), changedEdges);
   }
 
   private static List<Edge> getMergedEdges(final Set<Edge> oldEdgeSet, final Set<Edge> newEdgeSet) {
@@ -391,7 +483,11 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
         if (oldEdgesMap.containsKey(newEdge.hashCode())) {
           final com.linkedin.metadata.graph.Edge oldEdge = oldEdgesMap.get(newEdge.hashCode());
           final com.linkedin.metadata.graph.Edge mergedEdge = GraphIndexUtils.mergeEdges(oldEdge, newEdge);
-          mergedEdges.add(mergedEdge);
+          if (GraphIndexUtils.isEdgeUnchanged(oldEdge, mergedEdge)) {
+            MetricUtils.counter(UpdateIndicesHook.class, "unchangedEdgesSkipped").inc();
+          } else {
+            mergedEdges.add(mergedEdge);
+          }
         }
       }
     }
@@ -426,10 +522,11 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
   }
 
   /**
-   * Process snapshot and update time-series index
+   * Process snapshot and update time-series index, or add its documents to the pending ones of the batch
    */
   private void updateTimeseriesFields(String entityType, String aspectName, Urn urn, RecordTemplate aspect,
-      AspectSpec aspectSpec, SystemMetadata systemMetadata) {
+      AspectSpec aspectSpec, SystemMetadata systemMetadata,
+      @Nullable TimeseriesDocumentBatch pendingTimeseriesDocuments) {
     Map<String, JsonNode> documents;
     try {
       documents = TimeseriesAspectTransformer.transform(urn, aspect, aspectSpec, systemMetadata);
@@ -437,9 +534,11 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
       log.error("Failed to generate timeseries document from aspect: {}", e.toString());
       return;
     }
-    documents.entrySet().forEach(document -> {
-      _timeseriesAspectService.upsertDocument(entityType, aspectName, document.getKey(), document.getValue());
-    });
+    if (pendingTimeseriesDocuments != null) {
+      pendingTimeseriesDocuments.add(entityType, aspectName, documents);
+    } else {
+      _timeseriesAspectService.upsertDocuments(entityType, aspectName, documents);
+    }
   }
 
   private void updateSystemMetadata(SystemMetadata systemMetadata, Urn urn, AspectSpec aspectSpec, RecordTemplate aspect) {
@@ -472,6 +571,7 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
   ) {
     if (isKeyAspect) {
       _graphService.removeNode(urn);
+      _lineageCacheIndex.invalidate(Collections.singleton(urn));
       return;
     }
 
@@ -484,9 +584,49 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
         _graphService.removeEdgesFromNode(entry.getKey(), new ArrayList<>(entry.getValue()),
             createRelationshipFilter(new Filter().setOr(new ConjunctiveCriterionArray()), RelationshipDirection.OUTGOING));
       }
+      invalidateLineageCache(urnToRelationshipTypesBeingAdded, Collections.emptyList());
     }
   }
 
+  /**
+   * Evicts cached lineage results that may have been affected by changes to lineage edges. Removing the outgoing edges
+   * of an urn only affects results containing that urn, while new or updated edges affect results containing either
+   * of their endpoints.
+   */
+  private void invalidateLineageCache(@Nonnull final Map<Urn, Set<String>> removedRelationshipTypes,
+      @Nonnull final Collection<Edge> changedEdges) {
+    if (!_lineageCacheIndex.isEnabled()) {
+      return;
+    }
+    final Set<Urn> urns = new HashSet<>();
+    removedRelationshipTypes.forEach((urn, relationshipTypes) -> {
+      if (relationshipTypes.stream().anyMatch(relationshipType -> isLineageRelationship(urn, relationshipType))) {
+        urns.add(urn);
+      }
+    });
+    for (Edge edge : changedEdges) {
+      if (isLineageRelationship(edge.getSource(), edge.getRelationshipType())) {
+        urns.add(edge.getSource());
+        urns.add(edge.getDestination());
+      }
+    }
+    if (!urns.isEmpty()) {
+      _lineageCacheIndex.invalidate(urns);
+    }
+  }
+
+  private boolean isLineageRelationship(@Nonnull final Urn sourceUrn, @Nonnull final String relationshipType) {
+    for (LineageDirection direction : LINEAGE_DIRECTIONS) {
+      for (EdgeInfo edgeInfo : _lineageRegistry.getLineageRelationships(sourceUrn.getEntityType(), direction)) {
+        if (edgeInfo.getDirection() == RelationshipDirection.OUTGOING
+            && edgeInfo.getType().equalsIgnoreCase(relationshipType)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   private void deleteSearchData(Urn urn, String entityName, AspectSpec aspectSpec, RecordTemplate aspect, Boolean isKeyAspect) {
     String docId;
     try {
@@ -516,6 +656,57 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
     _entitySearchService.upsertDocument(entityName, searchDocument.get(), docId);
   }
 
+  /**
+   * Graph updates accumulated over a batch of events. Applying them is equivalent to applying each event's
+   * remove-then-add in order: edges added by an earlier event are dropped if a later event clears the same
+   * relationship types from the same source urn.
+   */
+  private class PendingGraphUpdates {
+    private final Map<Urn, Set<String>> _relationshipTypesToRemove = new LinkedHashMap<>();
+    // Keyed by source urn, so that clearing the relationship types of an urn only filters the edges of that urn
+    private final Map<Urn, List<Edge>> _edgesToAdd = new LinkedHashMap<>();
+
+    void add(@Nonnull final Pair<List<Edge>, HashMap<Urn, Set<String>>> edgesAndRelationshipTypes) {
+      final HashMap<Urn, Set<String>> urnToRelationshipTypes = edgesAndRelationshipTypes.getSecond();
+      if (urnToRelationshipTypes.isEmpty()) {
+        return;
+      }
+      for (Map.Entry<Urn, Set<String>> entry : urnToRelationshipTypes.entrySet()) {
+        _edgesToAdd.computeIfPresent(entry.getKey(), (source, edges) -> {
+          final List<Edge> remaining = edges.stream()
+              .filter(edge -> !entry.getValue().contains(edge.getRelationshipType()))
+              .collect(Collectors.toList());
+          return remaining.isEmpty() ? null : remaining;
+        });
+        _relationshipTypesToRemove.computeIfAbsent(entry.getKey(), ignored -> new HashSet<>()).addAll(entry.getValue());
+      }
+      for (Edge edge : edgesAndRelationshipTypes.getFirst()) {
+        _edgesToAdd.computeIfAbsent(edge.getSource(), ignored -> new ArrayList<>()).add(edge);
+      }
+    }
+
+    void flush() {
+      if (_relationshipTypesToRemove.isEmpty()) {
+        return;
+      }
+      final List<Edge> edgesToAdd = _edgesToAdd.values().stream()
+          .flatMap(List::stream)
+          .collect(Collectors.toList());
+      log.debug("Flushing relationship types {} and {} edges", _relationshipTypesToRemove, edgesToAdd.size());
+      try {
+        for (Map.Entry<Urn, Set<String>> entry : _relationshipTypesToRemove.entrySet()) {
+          _graphService.removeEdgesFromNode(entry.getKey(), new ArrayList<>(entry.getValue()),
+              newRelationshipFilter(new Filter().setOr(new ConjunctiveCriterionArray()), RelationshipDirection.OUTGOING));
+        }
+        _graphService.updateEdges(edgesToAdd, Collections.emptyList());
+        invalidateLineageCache(_relationshipTypesToRemove, edgesToAdd);
+      } finally {
+        _relationshipTypesToRemove.clear();
+        _edgesToAdd.clear();
+      }
+    }
+  }
+
   private EntitySpec getEventEntitySpec(@Nonnull final MetadataChangeLog event) {
     try {
       return _entityRegistry.getEntitySpec(event.getEntityType());
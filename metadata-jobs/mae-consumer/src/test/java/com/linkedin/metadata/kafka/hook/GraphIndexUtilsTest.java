@@ -139,6 +139,42 @@ public class GraphIndexUtilsTest {
     assertEquals(edge3.getProperties(), edge2.getProperties());
   }
 
+  @Test
+  public void testIsEdgeUnchanged() {
+    final Edge oldEdge = new Edge(
+        _datasetUrn,
+        _upstreamDataset1,
+        DOWNSTREAM_RELATIONSHIP_TYPE,
+        CREATED_EVENT_TIME,
+        _createdActorUrn,
+        UPDATED_EVENT_TIME_1,
+        _updatedActorUrn,
+        Collections.singletonMap("foo", "bar")
+    );
+    final Edge sameEdge = new Edge(
+        _datasetUrn,
+        _upstreamDataset1,
+        DOWNSTREAM_RELATIONSHIP_TYPE,
+        UPDATED_EVENT_TIME_2,
+        _updatedActorUrn,
+        UPDATED_EVENT_TIME_1,
+        _updatedActorUrn,
+        Collections.singletonMap("foo", "bar")
+    );
+    final Edge updatedEdge = new Edge(
+        _datasetUrn,
+        _upstreamDataset1,
+        DOWNSTREAM_RELATIONSHIP_TYPE,
+        CREATED_EVENT_TIME,
+        _createdActorUrn,
+        UPDATED_EVENT_TIME_2,
+        _updatedActorUrn,
+        Collections.singletonMap("foo", "bar")
+    );
+    assertTrue(isEdgeUnchanged(oldEdge, mergeEdges(oldEdge, sameEdge)));
+    assertFalse(isEdgeUnchanged(oldEdge, mergeEdges(oldEdge, updatedEdge)));
+  }
+
   private UpstreamLineage createUpstreamLineage() {
     UpstreamLineage upstreamLineage = new UpstreamLineage();
     UpstreamArray upstreams = new UpstreamArray();
@@ -0,0 +1,111 @@
+package com.linkedin.metadata.kafka.hook;
+
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.Constants;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class MetadataChangeLogHookExecutorTest {
+
+  @Test
+  public void testEveryHookSeesEveryEventInOrderPerUrn() {
+    final RecordingHook firstHook = new RecordingHook();
+    final RecordingHook secondHook = new RecordingHook();
+    final MetadataChangeLogHookExecutor executor =
+        new MetadataChangeLogHookExecutor(4, 1, ImmutableMap.of(firstHook, 3, secondHook, 1));
+
+    final List<MetadataChangeLog> events = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      events.add(createEvent("urn:li:corpuser:user" + (i % 7), i));
+    }
+
+    final Map<MetadataChangeLogHook, List<List<MetadataChangeLog>>> stripes = new ConcurrentHashMap<>();
+    executor.execute(events, (hook, stripe) -> {
+      stripes.computeIfAbsent(hook, ignored -> Collections.synchronizedList(new ArrayList<>())).add(stripe);
+      stripe.forEach(((RecordingHook) hook)::invoke);
+    });
+    executor.close();
+
+    assertEquals(stripes.get(firstHook).size(), stripes.get(secondHook).size());
+    for (RecordingHook hook : new RecordingHook[]{firstHook, secondHook}) {
+      assertEquals(hook._received.size(), events.size());
+      for (int i = 0; i < 7; i++) {
+        final String urn = "urn:li:corpuser:user" + i;
+        assertEquals(getVersions(hook._received, urn), getVersions(events, urn));
+      }
+    }
+  }
+
+  @Test
+  public void testHookRunsNoMoreStripesThanItsPermits() {
+    final RecordingHook limitedHook = new RecordingHook();
+    final RecordingHook otherHook = new RecordingHook();
+    final MetadataChangeLogHookExecutor executor =
+        new MetadataChangeLogHookExecutor(8, 100, ImmutableMap.of(limitedHook, 2, otherHook, 8));
+
+    final List<MetadataChangeLog> events = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      events.add(createEvent("urn:li:corpuser:user" + i, i));
+    }
+
+    final Map<MetadataChangeLogHook, AtomicInteger> running = new ConcurrentHashMap<>();
+    final Map<MetadataChangeLogHook, AtomicInteger> maxRunning = new ConcurrentHashMap<>();
+    executor.execute(events, (hook, stripe) -> {
+      final int current = running.computeIfAbsent(hook, ignored -> new AtomicInteger()).incrementAndGet();
+      maxRunning.computeIfAbsent(hook, ignored -> new AtomicInteger()).accumulateAndGet(current, Math::max);
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      stripe.forEach(((RecordingHook) hook)::invoke);
+      running.get(hook).decrementAndGet();
+    });
+    executor.close();
+
+    assertTrue(maxRunning.get(limitedHook).get() <= 2);
+    assertEquals(limitedHook._received.size(), events.size());
+    assertEquals(otherHook._received.size(), events.size());
+  }
+
+  private static List<Long> getVersions(@Nonnull final List<MetadataChangeLog> events, @Nonnull final String urn) {
+    synchronized (events) {
+      return events.stream()
+          .filter(event -> event.getEntityUrn().toString().equals(urn))
+          .map(event -> event.getCreated().getTime())
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static MetadataChangeLog createEvent(@Nonnull final String urn, final long time) {
+    final MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(Constants.CORP_USER_ENTITY_NAME);
+    event.setEntityUrn(UrnUtils.getUrn(urn));
+    event.setChangeType(ChangeType.UPSERT);
+    event.setCreated(new AuditStamp().setActor(UrnUtils.getUrn("urn:li:corpuser:test")).setTime(time));
+    return event;
+  }
+
+  private static class RecordingHook implements MetadataChangeLogHook {
+    private final List<MetadataChangeLog> _received = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void invoke(@Nonnull MetadataChangeLog log) {
+      _received.add(log);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.kafka.hook;
 
+import com.google.common.collect.ImmutableList;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.InputField;
 import com.linkedin.common.InputFieldArray;
@@ -11,6 +12,7 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.dataset.DatasetLineageType;
+import com.linkedin.dataset.DatasetProfile;
 import com.linkedin.dataset.FineGrainedLineage;
 import com.linkedin.dataset.FineGrainedLineageArray;
 import com.linkedin.dataset.Upstream;
@@ -33,6 +35,7 @@ import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.EntityLineageResultCacheIndex;
 import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.systemmetadata.SystemMetadataService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
@@ -64,6 +67,7 @@ public class UpdateIndicesHookTest {
   private TimeseriesAspectService _mockTimeseriesAspectService;
   private SystemMetadataService _mockSystemMetadataService;
   private SearchDocumentTransformer _mockSearchDocumentTransformer;
+  private EntityLineageResultCacheIndex _mockLineageCacheIndex;
   private DataHubUpgradeKafkaListener _mockDataHubUpgradeKafkaListener;
   private ConfigurationProvider _mockConfigurationProvider;
   private Urn _actorUrn;
@@ -74,10 +78,13 @@ public class UpdateIndicesHookTest {
     EntityRegistry registry = new ConfigEntityRegistry(
         UpdateIndicesHookTest.class.getClassLoader().getResourceAsStream("test-entity-registry.yml"));
     _mockGraphService = Mockito.mock(GraphService.class);
+    // Edges written in bulk are verified one by one
+    Mockito.doCallRealMethod().when(_mockGraphService).updateEdges(Mockito.anyList(), Mockito.anyList());
     _mockEntitySearchService = Mockito.mock(EntitySearchService.class);
     _mockTimeseriesAspectService = Mockito.mock(TimeseriesAspectService.class);
     _mockSystemMetadataService = Mockito.mock(SystemMetadataService.class);
     _mockSearchDocumentTransformer = Mockito.mock(SearchDocumentTransformer.class);
+    _mockLineageCacheIndex = Mockito.mock(EntityLineageResultCacheIndex.class);
     _mockDataHubUpgradeKafkaListener = Mockito.mock(DataHubUpgradeKafkaListener.class);
     _mockConfigurationProvider = Mockito.mock(ConfigurationProvider.class);
     ElasticSearchConfiguration elasticSearchConfiguration = new ElasticSearchConfiguration();
@@ -90,7 +97,8 @@ public class UpdateIndicesHookTest {
         _mockTimeseriesAspectService,
         _mockSystemMetadataService,
         registry,
-        _mockSearchDocumentTransformer
+        _mockSearchDocumentTransformer,
+        _mockLineageCacheIndex
     );
   }
 
@@ -122,7 +130,8 @@ public class UpdateIndicesHookTest {
         _mockTimeseriesAspectService,
         _mockSystemMetadataService,
         mockEntityRegistry,
-        _mockSearchDocumentTransformer
+        _mockSearchDocumentTransformer,
+        _mockLineageCacheIndex
     );
 
     _updateIndicesHook.invoke(event);
@@ -138,6 +147,55 @@ public class UpdateIndicesHookTest {
     );
   }
 
+  @Test
+  public void testBatchCoalescesGraphUpdates() throws Exception {
+    Urn firstUpstreamUrn = UrnUtils.getUrn("urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleCypressHdfsDataset,PROD),foo_info)");
+    Urn secondUpstreamUrn = UrnUtils.getUrn("urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleCypressHdfsDataset,PROD),bar_info)");
+    Urn downstreamUrn = UrnUtils.getUrn("urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:hive,SampleCypressHiveDataset,PROD),field_foo)");
+    _updateIndicesHook.invokeBatch(ImmutableList.of(
+        createUpstreamLineageMCL(firstUpstreamUrn, downstreamUrn),
+        createUpstreamLineageMCL(secondUpstreamUrn, downstreamUrn)));
+
+    // Only the edge of the latest event survives, and the downstream's edges are cleared once for the whole batch
+    Edge firstEdge = new Edge(downstreamUrn, firstUpstreamUrn, DOWNSTREAM_OF, null, null, null, null, null);
+    Edge secondEdge = new Edge(downstreamUrn, secondUpstreamUrn, DOWNSTREAM_OF, null, null, null, null, null);
+    Mockito.verify(_mockGraphService, Mockito.never()).addEdge(Mockito.eq(firstEdge));
+    Mockito.verify(_mockGraphService, Mockito.times(1)).addEdge(Mockito.eq(secondEdge));
+    Mockito.verify(_mockGraphService, Mockito.times(1)).removeEdgesFromNode(
+        Mockito.eq(downstreamUrn),
+        Mockito.eq(new ArrayList<>(Collections.singleton(DOWNSTREAM_OF))),
+        Mockito.eq(newRelationshipFilter(new Filter().setOr(new ConjunctiveCriterionArray()), RelationshipDirection.OUTGOING))
+    );
+  }
+
+  @Test
+  public void testBatchUpsertsTimeseriesDocumentsOnce() throws Exception {
+    _updateIndicesHook.invokeBatch(ImmutableList.of(
+        createDatasetProfileMCL(EVENT_TIME, 10L),
+        createDatasetProfileMCL(EVENT_TIME + 1, 20L),
+        // Redelivery of the first event, which maps to the same document
+        createDatasetProfileMCL(EVENT_TIME, 10L)));
+
+    Mockito.verify(_mockTimeseriesAspectService, Mockito.times(1)).upsertDocuments(
+        Mockito.eq(DATASET_ENTITY_NAME),
+        Mockito.eq(Constants.DATASET_PROFILE_ASPECT_NAME),
+        Mockito.argThat(documents -> documents.size() == 2));
+    Mockito.verify(_mockTimeseriesAspectService, Mockito.never()).upsertDocument(
+        Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
+  }
+
+  @Test
+  public void testLineageCacheIsInvalidatedForLineageEdges() throws Exception {
+    Mockito.when(_mockLineageCacheIndex.isEnabled()).thenReturn(true);
+    Urn upstreamUrn = UrnUtils.getUrn("urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleCypressHdfsDataset,PROD),foo_info)");
+    Urn downstreamUrn = UrnUtils.getUrn("urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:hive,SampleCypressHiveDataset,PROD),field_foo)");
+    _updateIndicesHook.invoke(createUpstreamLineageMCL(upstreamUrn, downstreamUrn));
+
+    Mockito.verify(_mockLineageCacheIndex, Mockito.times(1)).invalidate(Mockito.argThat(urns ->
+        urns.contains(UrnUtils.getUrn(TEST_DATASET_URN))
+            && urns.contains(UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleCypressHdfsDataset,PROD)"))));
+  }
+
   private EntityRegistry createMockEntityRegistry() {
     // need to mock this registry instead of using test-entity-registry.yml because inputFields does not work due to a known bug
     EntityRegistry mockEntityRegistry = Mockito.mock(EntityRegistry.class);
@@ -190,6 +248,19 @@ public class UpdateIndicesHookTest {
     return event;
   }
 
+  private MetadataChangeLog createDatasetProfileMCL(long timestampMillis, long rowCount) throws Exception {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    event.setAspectName(Constants.DATASET_PROFILE_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+    DatasetProfile datasetProfile = new DatasetProfile().setTimestampMillis(timestampMillis).setRowCount(rowCount);
+
+    event.setAspect(GenericRecordUtils.serializeAspect(datasetProfile));
+    event.setEntityUrn(Urn.createFromString(TEST_DATASET_URN));
+    event.setCreated(new AuditStamp().setActor(_actorUrn).setTime(EVENT_TIME));
+    return event;
+  }
+
   private MetadataChangeLog createInputFieldsMCL(Urn upstreamUrn, String downstreamFieldPath) throws Exception {
     MetadataChangeLog event = new MetadataChangeLog();
     event.setEntityType(Constants.CHART_ENTITY_NAME);
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.kafka;
 
+import com.linkedin.gms.factory.common.CacheInvalidationListener;
 import com.linkedin.gms.factory.entity.RestliEntityClientFactory;
 import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.gms.factory.telemetry.ScheduledAnalyticsFactory;
@@ -36,7 +37,8 @@ import org.springframework.context.annotation.PropertySource;
 }, excludeFilters = {
         @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
                 ScheduledAnalyticsFactory.class,
-                RestliEntityClientFactory.class
+                RestliEntityClientFactory.class,
+                CacheInvalidationListener.class
         })
 })
 @PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
@@ -3,6 +3,7 @@ package com.linkedin.metadata.kafka;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.datahub.authentication.Authentication;
+import com.linkedin.entity.client.BatchIngestProposalsException;
 import com.linkedin.entity.client.RestliEntityClient;
 import com.linkedin.gms.factory.auth.SystemAuthenticationFactory;
 import com.linkedin.gms.factory.entity.RestliEntityClientFactory;
@@ -15,6 +16,8 @@ import com.linkedin.mxe.FailedMetadataChangeProposal;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.Topics;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 import lombok.RequiredArgsConstructor;
@@ -47,13 +50,14 @@ public class MetadataChangeProposalsProcessor {
   private final Producer<String, IndexedRecord> kafkaProducer;
 
   private final Histogram kafkaLagStats = MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats = MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
 
   @Value("${FAILED_METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.FAILED_METADATA_CHANGE_PROPOSAL + "}")
   private String fmcpTopicName;
 
   @KafkaListener(id = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}", topics =
       "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL
-          + "}", containerFactory = "kafkaEventConsumer")
+          + "}", containerFactory = "kafkaEventConsumer", autoStartup = "#{!${kafka.mcp.batch.enabled:false}}")
   public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
     kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
     final GenericRecord record = consumerRecord.value();
@@ -72,6 +76,68 @@ public class MetadataChangeProposalsProcessor {
     }
   }
 
+  /**
+   * Same as {@link #consume}, but ingests the proposals of each poll as a single batch. Only started when batching is
+   * enabled, in place of {@link #consume}, within the same consumer group.
+   */
+  @KafkaListener(id = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}-batch",
+      groupId = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}", topics =
+      "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL
+          + "}", containerFactory = "kafkaBatchEventConsumer", autoStartup = "${kafka.mcp.batch.enabled:false}")
+  public void consumeBatch(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    final List<MetadataChangeProposal> events = new ArrayList<>(consumerRecords.size());
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+      final GenericRecord record = consumerRecord.value();
+      log.debug("Record {}", record);
+      try {
+        final MetadataChangeProposal event = EventUtils.avroToPegasusMCP(record);
+        log.debug("MetadataChangeProposal {}", event);
+        events.add(event);
+      } catch (Throwable throwable) {
+        log.error("MCP Processor Error", throwable);
+        log.error("Message: {}", record);
+        sendFailedMCP(new MetadataChangeProposal(), throwable);
+      }
+    }
+    batchSizeStats.update(events.size());
+    ingestBatch(events);
+  }
+
+  /**
+   * Ingests proposals as a single batch. If the batch fails part way through, the proposals it did not commit are
+   * retried, the failing one on its own so that only it is sent to the failed MCP topic, and the others as batches.
+   */
+  private void ingestBatch(@Nonnull final List<MetadataChangeProposal> events) {
+    if (events.size() <= 1) {
+      events.forEach(this::ingest);
+      return;
+    }
+    try {
+      entityClient.batchIngestProposals(events, this.systemAuthentication, false);
+    } catch (BatchIngestProposalsException e) {
+      log.warn("Failed to ingest MCP {} of a batch of {} MCPs, retrying the {} MCPs not committed", e.getFailedIndex(),
+          events.size(), events.size() - e.getCommittedCount(), e);
+      ingestBatch(events.subList(e.getCommittedCount(), e.getFailedIndex()));
+      ingest(events.get(e.getFailedIndex()));
+      ingestBatch(events.subList(e.getFailedIndex() + 1, events.size()));
+    } catch (Throwable throwable) {
+      // Which proposals got committed is unknown, so all of them are retried one at a time
+      log.warn("Failed to ingest batch of {} MCPs, retrying them one at a time", events.size(), throwable);
+      events.forEach(this::ingest);
+    }
+  }
+
+  private void ingest(@Nonnull final MetadataChangeProposal event) {
+    try {
+      entityClient.ingestProposal(event, this.systemAuthentication, false);
+    } catch (Throwable throwable) {
+      log.error("MCP Processor Error", throwable);
+      log.error("Message: {}", event);
+      sendFailedMCP(event, throwable);
+    }
+  }
+
   private void sendFailedMCP(@Nonnull MetadataChangeProposal event, @Nonnull Throwable throwable) {
     final FailedMetadataChangeProposal failedMetadataChangeProposal = createFailedMCPEvent(event, throwable);
     try {
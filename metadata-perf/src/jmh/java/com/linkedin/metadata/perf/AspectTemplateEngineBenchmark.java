@@ -0,0 +1,101 @@
+package com.linkedin.metadata.perf;
+
+import com.datahub.util.RecordUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.linkedin.common.Ownership;
+import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.template.AspectTemplateEngine;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Applying a small PATCH proposal on top of a large existing aspect, as done by EntityService for every patch MCP.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AspectTemplateEngineBenchmark {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  private AspectTemplateEngine _templateEngine;
+  private AspectSpec _upstreamLineageSpec;
+  private AspectSpec _ownershipSpec;
+  private UpstreamLineage _upstreamLineage;
+  private Ownership _ownership;
+  private JsonPatch _upstreamLineagePatch;
+  private JsonPatch _ownershipPatch;
+
+  @Setup
+  public void setup() throws IOException {
+    final EntitySpec entitySpec = BenchmarkFixtures.ENTITY_REGISTRY.getEntitySpec(DATASET_ENTITY_NAME);
+    _templateEngine = BenchmarkFixtures.ENTITY_REGISTRY.getAspectTemplateEngine();
+    _upstreamLineageSpec = entitySpec.getAspectSpec(UPSTREAM_LINEAGE_ASPECT_NAME);
+    _ownershipSpec = entitySpec.getAspectSpec(OWNERSHIP_ASPECT_NAME);
+    _upstreamLineage = BenchmarkFixtures.upstreamLineage(size);
+    _ownership = BenchmarkFixtures.largeOwnership(size);
+
+    // Add one new upstream and remove an existing one
+    final ArrayNode upstreamOps = JsonNodeFactory.instance.arrayNode();
+    upstreamOps.add(addOp("/upstreams/" + BenchmarkFixtures.datasetUrn(size),
+        RecordUtils.toJsonString(BenchmarkFixtures.upstreamLineage(size + 1).getUpstreams().get(size))));
+    upstreamOps.add(removeOp("/upstreams/" + BenchmarkFixtures.datasetUrn(0)));
+    _upstreamLineagePatch = JsonPatch.fromJson(upstreamOps);
+
+    // Add one new owner
+    final ArrayNode ownerOps = JsonNodeFactory.instance.arrayNode();
+    final CorpuserUrn newOwner = new CorpuserUrn("new_owner");
+    ownerOps.add(addOp("/owners/" + newOwner + "/TECHNICAL_OWNER",
+        "{\"owner\":\"" + newOwner + "\",\"type\":\"TECHNICAL_OWNER\"}"));
+    _ownershipPatch = JsonPatch.fromJson(ownerOps);
+  }
+
+  @Benchmark
+  public RecordTemplate patchUpstreamLineage() throws JsonProcessingException, JsonPatchException {
+    return _templateEngine.applyPatch(_upstreamLineage, _upstreamLineagePatch, _upstreamLineageSpec);
+  }
+
+  @Benchmark
+  public RecordTemplate patchOwnership() throws JsonProcessingException, JsonPatchException {
+    return _templateEngine.applyPatch(_ownership, _ownershipPatch, _ownershipSpec);
+  }
+
+  private static ObjectNode addOp(String path, String valueJson) throws IOException {
+    final ObjectNode op = JsonNodeFactory.instance.objectNode();
+    op.put("op", "add");
+    op.put("path", path);
+    op.set("value", OBJECT_MAPPER.readTree(valueJson));
+    return op;
+  }
+
+  private static ObjectNode removeOp(String path) {
+    final ObjectNode op = JsonNodeFactory.instance.objectNode();
+    op.put("op", "remove");
+    op.put("path", path);
+    return op;
+  }
+}
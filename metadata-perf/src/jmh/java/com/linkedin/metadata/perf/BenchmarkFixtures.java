@@ -0,0 +1,112 @@
+package com.linkedin.metadata.perf;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.Owner;
+import com.linkedin.common.OwnerArray;
+import com.linkedin.common.Ownership;
+import com.linkedin.common.OwnershipType;
+import com.linkedin.common.TagAssociation;
+import com.linkedin.common.TagAssociationArray;
+import com.linkedin.common.urn.CorpGroupUrn;
+import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.common.urn.TagUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.dataset.DatasetLineageType;
+import com.linkedin.dataset.Upstream;
+import com.linkedin.dataset.UpstreamArray;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.schema.MySqlDDL;
+import com.linkedin.schema.SchemaField;
+import com.linkedin.schema.SchemaFieldArray;
+import com.linkedin.schema.SchemaFieldDataType;
+import com.linkedin.schema.SchemaMetadata;
+import com.linkedin.schema.StringType;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Realistically sized aspects shared by the benchmarks in this module.
+ */
+public class BenchmarkFixtures {
+
+  public static final EntityRegistry ENTITY_REGISTRY =
+      new ConfigEntityRegistry(Snapshot.class.getClassLoader().getResourceAsStream("entity-registry.yml"));
+
+  public static final DataPlatformUrn PLATFORM = new DataPlatformUrn("hive");
+
+  private BenchmarkFixtures() {
+  }
+
+  @Nonnull
+  public static DatasetUrn datasetUrn(int index) {
+    return new DatasetUrn(PLATFORM, "warehouse.schema_" + (index % 50) + ".table_" + index, FabricType.PROD);
+  }
+
+  @Nonnull
+  public static AuditStamp auditStamp() {
+    return new AuditStamp().setTime(0L).setActor(new CorpuserUrn("benchmark"));
+  }
+
+  /**
+   * A schemaMetadata aspect with the given number of nested fields, each with a description and a few tags.
+   */
+  @Nonnull
+  public static SchemaMetadata wideSchema(int numFields) {
+    final SchemaFieldArray fields = new SchemaFieldArray();
+    for (int i = 0; i < numFields; i++) {
+      final TagAssociationArray tags = new TagAssociationArray();
+      for (int j = 0; j < 3; j++) {
+        tags.add(new TagAssociation().setTag(new TagUrn("tag_" + ((i + j) % 20))));
+      }
+      fields.add(new SchemaField()
+          .setFieldPath("[version=2.0].[type=struct].struct_" + (i / 10) + ".[type=string].field_" + i)
+          .setDescription("Description of field " + i + " which is long enough to look like a real one")
+          .setType(new SchemaFieldDataType().setType(SchemaFieldDataType.Type.create(new StringType())))
+          .setNativeDataType("varchar(255)")
+          .setGlobalTags(new GlobalTags().setTags(tags)));
+    }
+    return new SchemaMetadata()
+        .setSchemaName("benchmark")
+        .setPlatform(PLATFORM)
+        .setPlatformSchema(SchemaMetadata.PlatformSchema.create(new MySqlDDL().setTableSchema("")))
+        .setHash("")
+        .setVersion(0L)
+        .setFields(fields);
+  }
+
+  /**
+   * An ownership aspect with the given number of user and group owners.
+   */
+  @Nonnull
+  public static Ownership largeOwnership(int numOwners) {
+    final OwnerArray owners = new OwnerArray();
+    for (int i = 0; i < numOwners; i++) {
+      final Urn owner = i % 4 == 0 ? new CorpGroupUrn("group_" + i) : new CorpuserUrn("user_" + i);
+      owners.add(new Owner().setOwner(owner).setType(OwnershipType.TECHNICAL_OWNER));
+    }
+    return new Ownership().setOwners(owners).setLastModified(auditStamp());
+  }
+
+  /**
+   * An upstreamLineage aspect with the given number of upstream datasets, as found on the wide fan-in tables at the
+   * bottom of a deep lineage graph.
+   */
+  @Nonnull
+  public static UpstreamLineage upstreamLineage(int numUpstreams) {
+    final UpstreamArray upstreams = new UpstreamArray();
+    for (int i = 0; i < numUpstreams; i++) {
+      upstreams.add(new Upstream()
+          .setDataset(datasetUrn(i))
+          .setType(DatasetLineageType.TRANSFORMED)
+          .setAuditStamp(auditStamp()));
+    }
+    return new UpstreamLineage().setUpstreams(upstreams);
+  }
+}
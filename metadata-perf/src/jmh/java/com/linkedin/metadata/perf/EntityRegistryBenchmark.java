@@ -0,0 +1,38 @@
+package com.linkedin.metadata.perf;
+
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.EntitySpecBuilder;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.snapshot.Snapshot;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Construction of the entity registry, which is paid on every GMS and consumer startup and plugin registry reload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EntityRegistryBenchmark {
+
+  private final DataSchema _snapshotSchema = new Snapshot().schema();
+
+  @Benchmark
+  public List<EntitySpec> buildSnapshotEntitySpecs() {
+    return new EntitySpecBuilder().buildEntitySpecs(_snapshotSchema);
+  }
+
+  @Benchmark
+  public EntityRegistry buildConfigEntityRegistry() {
+    return new ConfigEntityRegistry(Snapshot.class.getClassLoader().getResourceAsStream("entity-registry.yml"));
+  }
+}
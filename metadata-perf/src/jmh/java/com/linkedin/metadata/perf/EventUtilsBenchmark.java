@@ -0,0 +1,61 @@
+package com.linkedin.metadata.perf;
+
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.SystemMetadata;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Conversion of MetadataChangeLog events between Pegasus and Avro, as done by GMS for every emitted event and by the
+ * MAE consumer for every consumed one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventUtilsBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int numFields;
+
+  private MetadataChangeLog _mcl;
+  private GenericRecord _record;
+
+  @Setup
+  public void setup() throws IOException {
+    _mcl = new MetadataChangeLog()
+        .setEntityType(DATASET_ENTITY_NAME)
+        .setEntityUrn(BenchmarkFixtures.datasetUrn(0))
+        .setChangeType(ChangeType.UPSERT)
+        .setAspectName(SCHEMA_METADATA_ASPECT_NAME)
+        .setAspect(GenericRecordUtils.serializeAspect(BenchmarkFixtures.wideSchema(numFields)))
+        .setPreviousAspectValue(GenericRecordUtils.serializeAspect(BenchmarkFixtures.wideSchema(numFields - 1)))
+        .setSystemMetadata(new SystemMetadata().setRunId("benchmark").setLastObserved(0L))
+        .setCreated(BenchmarkFixtures.auditStamp());
+    _record = EventUtils.pegasusToAvroMCL(_mcl);
+  }
+
+  @Benchmark
+  public MetadataChangeLog avroToPegasus() throws IOException {
+    return EventUtils.avroToPegasusMCL(_record);
+  }
+
+  @Benchmark
+  public GenericRecord pegasusToAvro() throws IOException {
+    return EventUtils.pegasusToAvroMCL(_mcl);
+  }
+}
@@ -0,0 +1,127 @@
+package com.linkedin.metadata.perf;
+
+import com.datahub.authentication.Authentication;
+import com.datahub.authorization.FieldResolver;
+import com.datahub.authorization.PolicyEngine;
+import com.datahub.authorization.ResolvedResourceSpec;
+import com.datahub.authorization.ResourceFieldType;
+import com.datahub.authorization.ResourceSpec;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.Owner;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.CorpGroupUrn;
+import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.identity.GroupMembership;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.linkedin.metadata.Constants.*;
+import static com.linkedin.metadata.authorization.PoliciesConfig.*;
+import static org.mockito.ArgumentMatchers.*;
+
+
+/**
+ * Evaluation of a single policy against a request, as done by the authorizer for every policy on every authorized
+ * call. Group membership is served by a stubbed EntityClient, so only the in-process cost is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PolicyEngineBenchmark {
+
+  private static final String PRIVILEGE = "EDIT_ENTITY_TAGS";
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  private PolicyEngine _policyEngine;
+  private Urn _actor;
+  private DataHubPolicyInfo _userListPolicy;
+  private DataHubPolicyInfo _ownerPolicy;
+  private Optional<ResolvedResourceSpec> _resource;
+
+  @Setup
+  public void setup() throws Exception {
+    _actor = new CorpuserUrn("benchmark_actor");
+
+    // The actor is a member of many groups, the last of which owns the resource
+    final UrnArray groups = new UrnArray();
+    for (int i = 0; i < 50; i++) {
+      groups.add(new CorpGroupUrn("actor_group_" + i));
+    }
+    final EnvelopedAspectMap aspects = new EnvelopedAspectMap();
+    aspects.put(GROUP_MEMBERSHIP_ASPECT_NAME,
+        new EnvelopedAspect().setValue(new Aspect(new GroupMembership().setGroups(groups).data())));
+    final EntityClient entityClient = Mockito.mock(EntityClient.class);
+    Mockito.when(entityClient.batchGetV2(eq(CORP_USER_ENTITY_NAME), eq(Collections.singleton(_actor)), any(), any()))
+        .thenReturn(Collections.singletonMap(_actor, new EntityResponse().setUrn(_actor).setAspects(aspects)));
+    _policyEngine = new PolicyEngine(Mockito.mock(Authentication.class), entityClient);
+
+    final Set<String> owners = BenchmarkFixtures.largeOwnership(size).getOwners()
+        .stream()
+        .map(Owner::getOwner)
+        .map(Urn::toString)
+        .collect(Collectors.toSet());
+    owners.add(groups.get(groups.size() - 1).toString());
+    final String resourceUrn = BenchmarkFixtures.datasetUrn(0).toString();
+    _resource = Optional.of(new ResolvedResourceSpec(new ResourceSpec(DATASET_ENTITY_NAME, resourceUrn),
+        ImmutableMap.of(ResourceFieldType.RESOURCE_TYPE,
+            FieldResolver.getResolverFromValues(Collections.singleton(DATASET_ENTITY_NAME)),
+            ResourceFieldType.RESOURCE_URN, FieldResolver.getResolverFromValues(Collections.singleton(resourceUrn)),
+            ResourceFieldType.OWNER, FieldResolver.getResolverFromValues(owners),
+            ResourceFieldType.DOMAIN, FieldResolver.getResolverFromValues(Collections.emptySet()))));
+
+    // The actor is the last of a long list of users
+    final UrnArray users = new UrnArray();
+    for (int i = 0; i < size; i++) {
+      users.add(new CorpuserUrn("user_" + i));
+    }
+    users.add(_actor);
+    _userListPolicy = createPolicy(new DataHubActorFilter().setUsers(users));
+    _ownerPolicy = createPolicy(new DataHubActorFilter().setResourceOwners(true));
+  }
+
+  @Benchmark
+  public boolean userListMatch() {
+    return _policyEngine.evaluatePolicy(_userListPolicy, _actor, PRIVILEGE, _resource).isGranted();
+  }
+
+  @Benchmark
+  public boolean groupOwnerMatch() {
+    return _policyEngine.evaluatePolicy(_ownerPolicy, _actor, PRIVILEGE, _resource).isGranted();
+  }
+
+  private static DataHubPolicyInfo createPolicy(DataHubActorFilter actorFilter) {
+    return new DataHubPolicyInfo()
+        .setDisplayName("benchmark")
+        .setDescription("benchmark")
+        .setType(METADATA_POLICY_TYPE)
+        .setState(ACTIVE_POLICY_STATE)
+        .setPrivileges(new StringArray(PRIVILEGE))
+        .setActors(actorFilter)
+        .setResources(new DataHubResourceFilter().setType(DATASET_ENTITY_NAME).setAllResources(true))
+        .setEditable(true);
+  }
+}
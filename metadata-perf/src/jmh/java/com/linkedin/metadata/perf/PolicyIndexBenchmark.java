@@ -0,0 +1,151 @@
+package com.linkedin.metadata.perf;
+
+import com.datahub.authentication.Authentication;
+import com.datahub.authorization.FieldResolver;
+import com.datahub.authorization.PolicyEngine;
+import com.datahub.authorization.PolicyIndex;
+import com.datahub.authorization.ResolvedResourceSpec;
+import com.datahub.authorization.ResourceFieldType;
+import com.datahub.authorization.ResourceSpec;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.CorpGroupUrn;
+import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.identity.GroupMembership;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.linkedin.metadata.Constants.*;
+import static com.linkedin.metadata.authorization.PoliciesConfig.*;
+import static org.mockito.ArgumentMatchers.*;
+
+
+/**
+ * Authorization of a request against many policies, either evaluating every policy granting the privilege as the
+ * authorizer used to, or only the candidates found by the {@link PolicyIndex}. Policies are spread over privileges,
+ * resource types, users and groups, and only the last one grants the request. Memberships are cached by the engine,
+ * so only the in-process cost is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PolicyIndexBenchmark {
+
+  private static final List<String> PRIVILEGES =
+      ImmutableList.of("EDIT_ENTITY_TAGS", "EDIT_ENTITY_OWNERS", "EDIT_ENTITY_DOCS", "VIEW_ENTITY_PAGE");
+  private static final List<String> RESOURCE_TYPES =
+      ImmutableList.of(DATASET_ENTITY_NAME, CHART_ENTITY_NAME, DASHBOARD_ENTITY_NAME, DATA_JOB_ENTITY_NAME);
+
+  @Param({"1000", "10000"})
+  private int size;
+
+  private PolicyEngine _policyEngine;
+  private PolicyIndex _policyIndex;
+  private Urn _actor;
+  private Optional<ResourceSpec> _resource;
+  private Optional<ResolvedResourceSpec> _resolvedResource;
+
+  @Setup
+  public void setup() throws Exception {
+    _actor = new CorpuserUrn("benchmark_actor");
+    final UrnArray groups = new UrnArray();
+    for (int i = 0; i < 10; i++) {
+      groups.add(new CorpGroupUrn("actor_group_" + i));
+    }
+    final EnvelopedAspectMap aspects = new EnvelopedAspectMap();
+    aspects.put(GROUP_MEMBERSHIP_ASPECT_NAME,
+        new EnvelopedAspect().setValue(new Aspect(new GroupMembership().setGroups(groups).data())));
+    final EntityClient entityClient = Mockito.mock(EntityClient.class);
+    Mockito.when(entityClient.batchGetV2(eq(CORP_USER_ENTITY_NAME), eq(Collections.singleton(_actor)), any(), any()))
+        .thenReturn(Collections.singletonMap(_actor, new EntityResponse().setUrn(_actor).setAspects(aspects)));
+    _policyEngine = new PolicyEngine(Mockito.mock(Authentication.class), entityClient, 100, 3600);
+
+    final String resourceUrn = BenchmarkFixtures.datasetUrn(0).toString();
+    _resource = Optional.of(new ResourceSpec(DATASET_ENTITY_NAME, resourceUrn));
+    _resolvedResource = Optional.of(new ResolvedResourceSpec(_resource.get(),
+        ImmutableMap.of(ResourceFieldType.RESOURCE_TYPE,
+            FieldResolver.getResolverFromValues(Collections.singleton(DATASET_ENTITY_NAME)),
+            ResourceFieldType.RESOURCE_URN, FieldResolver.getResolverFromValues(Collections.singleton(resourceUrn)),
+            ResourceFieldType.OWNER, FieldResolver.getResolverFromValues(Collections.emptySet()),
+            ResourceFieldType.DOMAIN, FieldResolver.getResolverFromValues(Collections.emptySet()))));
+
+    // Policies granted to other users and groups, followed by the one granted to a group of the actor
+    final List<DataHubPolicyInfo> policies = new ArrayList<>(size);
+    for (int i = 0; i < size - 1; i++) {
+      final UrnArray actors = new UrnArray();
+      actors.add(i % 2 == 0 ? new CorpuserUrn("user_" + i) : new CorpGroupUrn("group_" + i));
+      final DataHubActorFilter actorFilter = i % 2 == 0
+          ? new DataHubActorFilter().setUsers(actors)
+          : new DataHubActorFilter().setGroups(actors);
+      policies.add(createPolicy(PRIVILEGES.get(i % PRIVILEGES.size()),
+          RESOURCE_TYPES.get((i / PRIVILEGES.size()) % RESOURCE_TYPES.size()), actorFilter));
+    }
+    final UrnArray actorGroups = new UrnArray();
+    actorGroups.add(groups.get(groups.size() - 1));
+    policies.add(createPolicy(PRIVILEGES.get(0), DATASET_ENTITY_NAME, new DataHubActorFilter().setGroups(actorGroups)));
+    _policyIndex = new PolicyIndex(policies);
+  }
+
+  @Benchmark
+  public boolean linearEvaluation() {
+    for (DataHubPolicyInfo policy : _policyIndex.getPolicies(PRIVILEGES.get(0))) {
+      if (_policyEngine.evaluatePolicy(policy, _actor, PRIVILEGES.get(0), _resolvedResource).isGranted()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Benchmark
+  public boolean indexedEvaluation() {
+    final List<DataHubPolicyInfo> candidates = _policyIndex.getCandidatePolicies(PRIVILEGES.get(0),
+        _resource.map(ResourceSpec::getType), _actor, () -> _policyEngine.getGroups(_actor));
+    for (DataHubPolicyInfo policy : candidates) {
+      if (_policyEngine.evaluatePolicy(policy, _actor, PRIVILEGES.get(0), _resolvedResource).isGranted()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Benchmark
+  public PolicyIndex buildIndex() {
+    return new PolicyIndex(_policyIndex.getAllPolicies());
+  }
+
+  private static DataHubPolicyInfo createPolicy(String privilege, String resourceType,
+      DataHubActorFilter actorFilter) {
+    return new DataHubPolicyInfo()
+        .setDisplayName("benchmark")
+        .setDescription("benchmark")
+        .setType(METADATA_POLICY_TYPE)
+        .setState(ACTIVE_POLICY_STATE)
+        .setPrivileges(new StringArray(privilege))
+        .setActors(actorFilter)
+        .setResources(new DataHubResourceFilter().setType(resourceType).setAllResources(true))
+        .setEditable(true);
+  }
+}
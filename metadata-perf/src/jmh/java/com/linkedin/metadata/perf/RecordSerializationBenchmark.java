@@ -0,0 +1,61 @@
+package com.linkedin.metadata.perf;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.common.Ownership;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.schema.SchemaMetadata;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * JSON (de)serialization of aspects, as done on every aspect read from and write to the local DB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordSerializationBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  private SchemaMetadata _schema;
+  private String _schemaJson;
+  private Ownership _ownership;
+  private String _ownershipJson;
+
+  @Setup
+  public void setup() {
+    _schema = BenchmarkFixtures.wideSchema(size);
+    _schemaJson = RecordUtils.toJsonString(_schema);
+    _ownership = BenchmarkFixtures.largeOwnership(size);
+    _ownershipJson = RecordUtils.toJsonString(_ownership);
+  }
+
+  @Benchmark
+  public RecordTemplate schemaFromJson() {
+    return RecordUtils.toRecordTemplate(SchemaMetadata.class, _schemaJson);
+  }
+
+  @Benchmark
+  public String schemaToJson() {
+    return RecordUtils.toJsonString(_schema);
+  }
+
+  @Benchmark
+  public RecordTemplate ownershipFromJson() {
+    return RecordUtils.toRecordTemplate(Ownership.class, _ownershipJson);
+  }
+
+  @Benchmark
+  public String ownershipToJson() {
+    return RecordUtils.toJsonString(_ownership);
+  }
+}
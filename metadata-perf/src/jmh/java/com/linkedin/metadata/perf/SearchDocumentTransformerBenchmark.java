@@ -0,0 +1,69 @@
+package com.linkedin.metadata.perf;
+
+import com.linkedin.common.Ownership;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
+import com.linkedin.schema.SchemaMetadata;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Building the search document for an aspect, as done by the MAE consumer for every searchable aspect change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchDocumentTransformerBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  // Same limits as the default SEARCH_DOCUMENT_MAX_ARRAY_LENGTH and SEARCH_DOCUMENT_MAX_OBJECT_KEYS
+  private final SearchDocumentTransformer _transformer = new SearchDocumentTransformer(1000, 1000);
+
+  private Urn _urn;
+  private EntitySpec _entitySpec;
+  private SchemaMetadata _schema;
+  private Ownership _ownership;
+  private UpstreamLineage _upstreamLineage;
+
+  @Setup
+  public void setup() {
+    _urn = BenchmarkFixtures.datasetUrn(0);
+    _entitySpec = BenchmarkFixtures.ENTITY_REGISTRY.getEntitySpec(DATASET_ENTITY_NAME);
+    _schema = BenchmarkFixtures.wideSchema(size);
+    _ownership = BenchmarkFixtures.largeOwnership(size);
+    _upstreamLineage = BenchmarkFixtures.upstreamLineage(size);
+  }
+
+  @Benchmark
+  public Optional<String> schemaMetadata() {
+    return _transformer.transformAspect(_urn, _schema,
+        _entitySpec.getAspectSpec(SCHEMA_METADATA_ASPECT_NAME), false);
+  }
+
+  @Benchmark
+  public Optional<String> ownership() {
+    return _transformer.transformAspect(_urn, _ownership,
+        _entitySpec.getAspectSpec(OWNERSHIP_ASPECT_NAME), false);
+  }
+
+  @Benchmark
+  public Optional<String> upstreamLineage() {
+    return _transformer.transformAspect(_urn, _upstreamLineage,
+        _entitySpec.getAspectSpec(UPSTREAM_LINEAGE_ASPECT_NAME), false);
+  }
+}
@@ -0,0 +1,90 @@
+package com.linkedin.metadata.perf;
+
+import com.linkedin.common.urn.DataFlowUrn;
+import com.linkedin.common.urn.DataJobUrn;
+import com.linkedin.common.urn.TupleKey;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnInterner;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Parsing of the urn shapes seen on every aspect read, search document and graph edge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UrnBenchmark {
+
+  @Param({"corpuser", "dataset", "dataJob", "schemaField"})
+  private String shape;
+
+  private final UrnInterner _interner = new UrnInterner(1024);
+
+  private String _urn;
+  private String _tupleKey;
+
+  @Setup
+  public void setup() {
+    final Urn urn;
+    switch (shape) {
+      case "corpuser":
+        urn = Urn.createFromTuple("corpuser", "john.doe@example.com");
+        break;
+      case "dataset":
+        urn = BenchmarkFixtures.datasetUrn(42);
+        break;
+      case "dataJob":
+        urn = new DataJobUrn(new DataFlowUrn("airflow", "warehouse_daily_rollup", "prod"), "load_table_42");
+        break;
+      case "schemaField":
+        urn = Urn.createFromTuple("schemaField", BenchmarkFixtures.datasetUrn(42),
+            "[version=2.0].[type=struct].struct_4.[type=string].field_42");
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown urn shape " + shape);
+    }
+    _urn = urn.toString();
+    _tupleKey = _urn.substring(_urn.indexOf(':', "urn:li:".length()) + 1);
+  }
+
+  @Benchmark
+  public Urn createFromString() throws URISyntaxException {
+    return Urn.createFromString(_urn);
+  }
+
+  @Benchmark
+  public Urn createFromStringInterned() throws URISyntaxException {
+    return _interner.intern(_urn, Urn.class, Urn::new);
+  }
+
+  /**
+   * Parsing followed by a hash lookup, as done when urns are used as map keys or deduplicated.
+   */
+  @Benchmark
+  public int createFromStringAndHash() throws URISyntaxException {
+    return Urn.createFromString(_urn).hashCode();
+  }
+
+  /**
+   * Parsing followed by reading the key parts, as done by the typed urns.
+   */
+  @Benchmark
+  public int createFromStringAndGetKey() throws URISyntaxException {
+    return Urn.createFromString(_urn).getEntityKey().size();
+  }
+
+  @Benchmark
+  public TupleKey tupleKeyFromString() throws URISyntaxException {
+    return TupleKey.fromString(_tupleKey);
+  }
+}
@@ -13,4 +13,20 @@ public class DefaultAuthorizerConfiguration {
    * The duration between policies cache refreshes.
    */
   private int cacheRefreshIntervalSecs;
+  /**
+   * Maximum number of actors whose groups and roles are cached across authorization requests. Disabled if not positive.
+   */
+  private long membershipCacheMaxSize;
+  /**
+   * The duration the groups and roles of an actor stay cached.
+   */
+  private int membershipCacheTtlSecs;
+  /**
+   * Maximum number of authorization decisions cached across requests. Disabled if not positive.
+   */
+  private long decisionCacheMaxSize;
+  /**
+   * The duration an authorization decision stays cached. Disabled if not positive.
+   */
+  private int decisionCacheTtlSecs;
 }
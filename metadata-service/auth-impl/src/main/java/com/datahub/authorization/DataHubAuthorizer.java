@@ -3,13 +3,16 @@ package com.datahub.authorization;
 import com.datahub.authentication.Authentication;
 import com.datahub.plugins.auth.authorization.Authorizer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.policy.DataHubPolicyInfo;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -17,8 +20,12 @@ import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -48,9 +55,11 @@ public class DataHubAuthorizer implements Authorizer {
   // Credentials used to make / authorize requests as the internal system actor.
   private final Authentication _systemAuthentication;
 
-  // Maps privilege name to the associated set of policies for fast access.
-  // Not concurrent data structure because writes are always against the entire thing.
-  private final Map<String, List<DataHubPolicyInfo>> _policyCache = new HashMap<>(); // Shared Policy Cache.
+  // Index of the policies, swapped as a whole whenever the policies are refreshed.
+  private final AtomicReference<PolicyIndex> _policyIndex = new AtomicReference<>(PolicyIndex.EMPTY);
+  // Recent decisions by request. Null if every request is evaluated against the policies.
+  @Nullable
+  private final Cache<AuthorizationRequest, CachedDecision> _decisionCache;
 
   private final ScheduledExecutorService _refreshExecutorService = Executors.newScheduledThreadPool(1);
   private final PolicyRefreshRunnable _policyRefreshRunnable;
@@ -66,10 +75,49 @@ public class DataHubAuthorizer implements Authorizer {
       final int delayIntervalSeconds,
       final int refreshIntervalSeconds,
       final AuthorizationMode mode) {
+    this(systemAuthentication, entityClient, delayIntervalSeconds, refreshIntervalSeconds, mode, 0, 0);
+  }
+
+  public DataHubAuthorizer(
+      final Authentication systemAuthentication,
+      final EntityClient entityClient,
+      final int delayIntervalSeconds,
+      final int refreshIntervalSeconds,
+      final AuthorizationMode mode,
+      final long membershipCacheMaxSize,
+      final long membershipCacheTtlSeconds) {
+    this(systemAuthentication, entityClient, delayIntervalSeconds, refreshIntervalSeconds, mode,
+        membershipCacheMaxSize, membershipCacheTtlSeconds, 0, 0);
+  }
+
+  /**
+   * @param membershipCacheMaxSize maximum number of actors whose groups and roles are cached across requests. Disables
+   *                               the cache if not positive.
+   * @param membershipCacheTtlSeconds number of seconds the groups and roles of an actor stay cached
+   * @param decisionCacheMaxSize maximum number of authorization decisions cached across requests. Disables the cache
+   *                             if not positive.
+   * @param decisionCacheTtlSeconds number of seconds a decision stays cached. Disables the cache if not positive.
+   */
+  public DataHubAuthorizer(
+      final Authentication systemAuthentication,
+      final EntityClient entityClient,
+      final int delayIntervalSeconds,
+      final int refreshIntervalSeconds,
+      final AuthorizationMode mode,
+      final long membershipCacheMaxSize,
+      final long membershipCacheTtlSeconds,
+      final long decisionCacheMaxSize,
+      final long decisionCacheTtlSeconds) {
     _systemAuthentication = Objects.requireNonNull(systemAuthentication);
     _mode = Objects.requireNonNull(mode);
-    _policyEngine = new PolicyEngine(systemAuthentication, Objects.requireNonNull(entityClient));
-    _policyRefreshRunnable = new PolicyRefreshRunnable(systemAuthentication, new PolicyFetcher(entityClient), _policyCache);
+    _policyEngine = new PolicyEngine(systemAuthentication, Objects.requireNonNull(entityClient), membershipCacheMaxSize,
+        membershipCacheTtlSeconds);
+    _decisionCache = decisionCacheMaxSize <= 0 || decisionCacheTtlSeconds <= 0 ? null : CacheBuilder.newBuilder()
+        .maximumSize(decisionCacheMaxSize)
+        .expireAfterWrite(decisionCacheTtlSeconds, TimeUnit.SECONDS)
+        .build();
+    _policyRefreshRunnable =
+        new PolicyRefreshRunnable(systemAuthentication, new PolicyFetcher(entityClient), this::setPolicyIndex);
     _refreshExecutorService.scheduleAtFixedRate(_policyRefreshRunnable, delayIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
   }
 
@@ -86,14 +134,59 @@ public class DataHubAuthorizer implements Authorizer {
       return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW, null);
     }
 
-    Optional<ResolvedResourceSpec> resolvedResourceSpec = request.getResourceSpec().map(_resourceSpecResolver::resolve);
+    // 1. Short circuit: If policies are disabled, allow any privilege granted by a policy.
+    if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
+      final List<DataHubPolicyInfo> policies = _policyIndex.get().getPolicies(request.getPrivilege());
+      return policies.isEmpty()
+          ? new AuthorizationResult(request, AuthorizationResult.Type.DENY, null)
+          : new AuthorizationResult(request, AuthorizationResult.Type.ALLOW,
+              String.format("Granted by policy with type: %s", policies.get(0).getType()));
+    }
+
+    // 2. Reuse a recent decision for the same request, if any. Decisions made against a previous index are ignored,
+    // since the evaluation may have raced with the swap and cached its decision after the decisions were invalidated.
+    final PolicyIndex policyIndex = _policyIndex.get();
+    if (_decisionCache == null) {
+      return evaluateRequest(request, policyIndex);
+    }
+    final CachedDecision cachedDecision = _decisionCache.getIfPresent(request);
+    if (cachedDecision != null && cachedDecision.getPolicyIndex() == policyIndex) {
+      MetricUtils.counter(this.getClass(), "decision_cache_hit").inc();
+      return new AuthorizationResult(request, cachedDecision.getType(), cachedDecision.getMessage());
+    }
+    MetricUtils.counter(this.getClass(), "decision_cache_miss").inc();
+    final AuthorizationResult result = evaluateRequest(request, policyIndex);
+    _decisionCache.put(request, new CachedDecision(policyIndex, result.getType(), result.getMessage()));
+    return result;
+  }
+
+  private AuthorizationResult evaluateRequest(@Nonnull final AuthorizationRequest request,
+      @Nonnull final PolicyIndex policyIndex) {
+    final Urn actor;
+    try {
+      // Currently Actor must be an urn. Consider whether this contract should be pushed up.
+      actor = Urn.createFromString(request.getActorUrn());
+    } catch (URISyntaxException e) {
+      log.error(String.format("Failed to bind actor %s to an URN. Actors must be URNs. Denying the authorization request",
+          request.getActorUrn()));
+      return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
+    }
+
+    // 1. Fetch the policies which may grant the requested privilege to the actor on the resource.
+    final List<DataHubPolicyInfo> policiesToEvaluate = policyIndex.getCandidatePolicies(
+        request.getPrivilege(),
+        request.getResourceSpec().map(ResourceSpec::getType),
+        actor,
+        () -> _policyEngine.getGroups(actor));
+    if (policiesToEvaluate.isEmpty()) {
+      return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
+    }
 
-    // 1. Fetch the policies relevant to the requested privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = _policyCache.getOrDefault(request.getPrivilege(), new ArrayList<>());
+    Optional<ResolvedResourceSpec> resolvedResourceSpec = request.getResourceSpec().map(_resourceSpecResolver::resolve);
 
     // 2. Evaluate each policy.
     for (DataHubPolicyInfo policy : policiesToEvaluate) {
-      if (isRequestGranted(policy, request, resolvedResourceSpec)) {
+      if (_policyEngine.evaluatePolicy(policy, actor, request.getPrivilege(), resolvedResourceSpec).isGranted()) {
         // Short circuit if policy has granted privileges to this actor.
         return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW,
             String.format("Granted by policy with type: %s", policy.getType()));
@@ -105,7 +198,7 @@ public class DataHubAuthorizer implements Authorizer {
   public List<String> getGrantedPrivileges(final String actorUrn, final Optional<ResourceSpec> resourceSpec) {
 
     // 1. Fetch all policies
-    final List<DataHubPolicyInfo> policiesToEvaluate = _policyCache.getOrDefault(ALL, new ArrayList<>());
+    final List<DataHubPolicyInfo> policiesToEvaluate = _policyIndex.get().getAllPolicies();
 
     Optional<ResolvedResourceSpec> resolvedResourceSpec = resourceSpec.map(_resourceSpecResolver::resolve);
 
@@ -120,7 +213,7 @@ public class DataHubAuthorizer implements Authorizer {
       final String privilege,
       final Optional<ResourceSpec> resourceSpec) {
     // Step 1: Find policies granting the privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = _policyCache.getOrDefault(privilege, new ArrayList<>());
+    final List<DataHubPolicyInfo> policiesToEvaluate = _policyIndex.get().getPolicies(privilege);
 
     Optional<ResolvedResourceSpec> resolvedResourceSpec = resourceSpec.map(_resourceSpecResolver::resolve);
 
@@ -161,12 +254,46 @@ public class DataHubAuthorizer implements Authorizer {
     _refreshExecutorService.execute(_policyRefreshRunnable);
   }
 
+  /**
+   * Evicts the cached groups and roles of an actor. Should be invoked when the memberships of the actor change.
+   */
+  public void invalidateMemberships(@Nonnull final Urn actor) {
+    _policyEngine.invalidateMemberships(actor);
+    if (_decisionCache != null) {
+      final String actorUrn = actor.toString();
+      _decisionCache.asMap().keySet().removeIf(request -> actorUrn.equals(request.getActorUrn()));
+    }
+  }
+
+  /**
+   * Evicts the cached groups and roles of all actors. Should be invoked when a group changes.
+   */
+  public void invalidateAllMemberships() {
+    _policyEngine.invalidateAllMemberships();
+    invalidateDecisions();
+  }
+
   public AuthorizationMode mode() {
     return _mode;
   }
 
   public void setMode(final AuthorizationMode mode) {
     _mode = mode;
+    invalidateDecisions();
+  }
+
+  /**
+   * Swaps the index of the policies, evicting the decisions made against the previous one.
+   */
+  private void setPolicyIndex(@Nonnull final PolicyIndex policyIndex) {
+    _policyIndex.set(policyIndex);
+    invalidateDecisions();
+  }
+
+  private void invalidateDecisions() {
+    if (_decisionCache != null) {
+      _decisionCache.invalidateAll();
+    }
   }
 
   /**
@@ -178,19 +305,13 @@ public class DataHubAuthorizer implements Authorizer {
   }
 
   /**
-   * Returns true if a policy grants the requested privilege for a given actor and resource.
+   * A decision of the decision cache, along with the index of the policies it was made against.
    */
-  private boolean isRequestGranted(final DataHubPolicyInfo policy, final AuthorizationRequest request, final Optional<ResolvedResourceSpec> resourceSpec) {
-    if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
-      return true;
-    }
-    final PolicyEngine.PolicyEvaluationResult result = _policyEngine.evaluatePolicy(
-        policy,
-        request.getActorUrn(),
-        request.getPrivilege(),
-        resourceSpec
-    );
-    return result.isGranted();
+  @Value
+  private static class CachedDecision {
+    PolicyIndex policyIndex;
+    AuthorizationResult.Type type;
+    String message;
   }
 
   /**
@@ -205,13 +326,13 @@ public class DataHubAuthorizer implements Authorizer {
 
     private final Authentication _systemAuthentication;
     private final PolicyFetcher _policyFetcher;
-    private final Map<String, List<DataHubPolicyInfo>> _policyCache;
+    private final Consumer<PolicyIndex> _policyIndexConsumer;
 
     @Override
     public void run() {
       try {
-        // Populate new cache and swap.
-        Map<String, List<DataHubPolicyInfo>> newCache = new HashMap<>();
+        // Fetch all the policies, then index them and swap.
+        final List<DataHubPolicyInfo> policies = new ArrayList<>();
 
         int start = 0;
         int count = 30;
@@ -222,7 +343,7 @@ public class DataHubAuthorizer implements Authorizer {
             final PolicyFetcher.PolicyFetchResult
                 policyFetchResult = _policyFetcher.fetchPolicies(start, count, _systemAuthentication);
 
-            addPoliciesToCache(newCache, policyFetchResult.getPolicies());
+            policyFetchResult.getPolicies().forEach(policy -> policies.add(policy.getPolicyInfo()));
 
             total = policyFetchResult.getTotal();
             start = start + count;
@@ -231,32 +352,12 @@ public class DataHubAuthorizer implements Authorizer {
                 "Failed to retrieve policy urns! Skipping updating policy cache until next refresh. start: {}, count: {}", start, count, e);
             return;
           }
-          synchronized (_policyCache) {
-            _policyCache.clear();
-            _policyCache.putAll(newCache);
-          }
         }
+        _policyIndexConsumer.accept(new PolicyIndex(policies));
         log.debug(String.format("Successfully fetched %s policies.", total));
       } catch (Exception e) {
         log.error("Caught exception while loading Policy cache. Will retry on next scheduled attempt.", e);
       }
     }
-
-    private void addPoliciesToCache(final Map<String, List<DataHubPolicyInfo>> cache,
-        final List<PolicyFetcher.Policy> policies) {
-      policies.forEach(policy -> addPolicyToCache(cache, policy.getPolicyInfo()));
-    }
-
-    private void addPolicyToCache(final Map<String, List<DataHubPolicyInfo>> cache, final DataHubPolicyInfo policy) {
-      final List<String> privileges = policy.getPrivileges();
-      for (String privilege : privileges) {
-        List<DataHubPolicyInfo> existingPolicies = cache.getOrDefault(privilege, new ArrayList<>());
-        existingPolicies.add(policy);
-        cache.put(privilege, existingPolicies);
-      }
-      List<DataHubPolicyInfo> existingPolicies = cache.getOrDefault(ALL, new ArrayList<>());
-      existingPolicies.add(policy);
-      cache.put(ALL, existingPolicies);
-    }
   }
 }
@@ -1,6 +1,8 @@
 package com.datahub.authorization;
 
 import com.datahub.authentication.Authentication;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
@@ -12,6 +14,7 @@ import com.linkedin.identity.GroupMembership;
 import com.linkedin.identity.NativeGroupMembership;
 import com.linkedin.identity.RoleMembership;
 import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.policy.DataHubActorFilter;
 import com.linkedin.policy.DataHubPolicyInfo;
 import com.linkedin.policy.DataHubResourceFilter;
@@ -27,20 +30,50 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import static com.linkedin.metadata.Constants.*;
 
 
 @Slf4j
-@RequiredArgsConstructor
 public class PolicyEngine {
 
+  private static final Set<String> MEMBERSHIP_ASPECT_NAMES =
+      ImmutableSet.of(GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME, ROLE_MEMBERSHIP_ASPECT_NAME);
+
   private final Authentication _systemAuthentication;
   private final EntityClient _entityClient;
+  // Groups and roles of actors, shared across evaluations. Null if they are fetched again for every evaluation.
+  @Nullable
+  private final Cache<Urn, ActorMemberships> _membershipCache;
+
+  public PolicyEngine(final Authentication systemAuthentication, final EntityClient entityClient) {
+    this(systemAuthentication, entityClient, 0, 0);
+  }
+
+  /**
+   * @param membershipCacheMaxSize maximum number of actors whose groups and roles are cached. Disables the cache if
+   *                               not positive.
+   * @param membershipCacheTtlSeconds number of seconds the groups and roles of an actor stay cached
+   */
+  public PolicyEngine(
+      final Authentication systemAuthentication,
+      final EntityClient entityClient,
+      final long membershipCacheMaxSize,
+      final long membershipCacheTtlSeconds) {
+    _systemAuthentication = systemAuthentication;
+    _entityClient = entityClient;
+    _membershipCache = membershipCacheMaxSize <= 0 || membershipCacheTtlSeconds <= 0 ? null : CacheBuilder.newBuilder()
+        .maximumSize(membershipCacheMaxSize)
+        .expireAfterWrite(membershipCacheTtlSeconds, TimeUnit.SECONDS)
+        .build();
+  }
 
   public PolicyEvaluationResult evaluatePolicy(
       final DataHubPolicyInfo policy,
@@ -203,7 +236,7 @@ public class PolicyEngine {
    * Get filter object from policy resource filter. Make sure it is backward compatible by constructing PolicyMatchFilter object
    * from other fields if the filter field is not set
    */
-  private PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
+  static PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
     if (policyResourceFilter.hasFilter()) {
       return policyResourceFilter.getFilter();
     }
@@ -344,31 +377,17 @@ public class PolicyEngine {
       return context.roles;
     }
 
-    Set<Urn> roles = new HashSet<>();
-    final EnvelopedAspectMap aspectMap;
-
+    final ActorMemberships memberships;
     try {
-      final EntityResponse corpUser = _entityClient.batchGetV2(CORP_USER_ENTITY_NAME, Collections.singleton(actor),
-          Collections.singleton(ROLE_MEMBERSHIP_ASPECT_NAME), _systemAuthentication).get(actor);
-      if (corpUser == null || !corpUser.hasAspects()) {
-        return roles;
-      }
-      aspectMap = corpUser.getAspects();
+      memberships = getMemberships(actor);
     } catch (Exception e) {
       log.error(String.format("Failed to fetch %s for urn %s", ROLE_MEMBERSHIP_ASPECT_NAME, actor), e);
-      return roles;
+      return new HashSet<>();
     }
 
-    if (!aspectMap.containsKey(ROLE_MEMBERSHIP_ASPECT_NAME)) {
-      return roles;
-    }
-
-    RoleMembership roleMembership = new RoleMembership(aspectMap.get(ROLE_MEMBERSHIP_ASPECT_NAME).getValue().data());
-    if (roleMembership.hasRoles()) {
-      roles.addAll(roleMembership.getRoles());
-      context.setRoles(roles);
-    }
-    return roles;
+    context.setGroups(memberships.getGroups());
+    context.setRoles(memberships.getRoles());
+    return memberships.getRoles();
   }
 
   private Set<Urn> resolveGroups(Urn actor, PolicyEvaluationContext context) {
@@ -376,22 +395,75 @@ public class PolicyEngine {
       return context.groups;
     }
 
-    Set<Urn> groups = new HashSet<>();
-    final EnvelopedAspectMap aspectMap;
-
+    final ActorMemberships memberships;
     try {
-      final EntityResponse corpUser = _entityClient.batchGetV2(CORP_USER_ENTITY_NAME, Collections.singleton(actor),
-              ImmutableSet.of(GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME), _systemAuthentication)
-          .get(actor);
-      if (corpUser == null || !corpUser.hasAspects()) {
-        return groups;
-      }
-      aspectMap = corpUser.getAspects();
+      memberships = getMemberships(actor);
     } catch (Exception e) {
       throw new RuntimeException(String.format("Failed to fetch %s and %s for urn %s", GROUP_MEMBERSHIP_ASPECT_NAME,
           NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME, actor), e);
     }
 
+    context.setGroups(memberships.getGroups());
+    context.setRoles(memberships.getRoles());
+    return memberships.getGroups();
+  }
+
+  /**
+   * Returns the groups of an actor, from the membership cache when enabled.
+   */
+  public Set<Urn> getGroups(final Urn actor) {
+    return resolveGroups(actor, new PolicyEvaluationContext());
+  }
+
+  /**
+   * Evicts the cached groups and roles of an actor. Should be invoked when the memberships of the actor change.
+   */
+  public void invalidateMemberships(@Nonnull final Urn actor) {
+    if (_membershipCache != null) {
+      _membershipCache.invalidate(actor);
+    }
+  }
+
+  /**
+   * Evicts the cached groups and roles of all actors. Should be invoked when a group changes, as groups do not keep
+   * track of their members.
+   */
+  public void invalidateAllMemberships() {
+    if (_membershipCache != null) {
+      _membershipCache.invalidateAll();
+    }
+  }
+
+  private ActorMemberships getMemberships(Urn actor) throws Exception {
+    if (_membershipCache == null) {
+      return fetchMemberships(actor);
+    }
+    final ActorMemberships cached = _membershipCache.getIfPresent(actor);
+    if (cached != null) {
+      MetricUtils.counter(this.getClass(), "membership_cache_hit").inc();
+      return cached;
+    }
+    MetricUtils.counter(this.getClass(), "membership_cache_miss").inc();
+    try {
+      return _membershipCache.get(actor, () -> fetchMemberships(actor));
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+    }
+  }
+
+  /**
+   * Fetches the groups and roles of an actor with a single call, as the ones needed by an evaluation are not known
+   * upfront.
+   */
+  private ActorMemberships fetchMemberships(Urn actor) throws Exception {
+    final EntityResponse corpUser = _entityClient.batchGetV2(CORP_USER_ENTITY_NAME, Collections.singleton(actor),
+        MEMBERSHIP_ASPECT_NAMES, _systemAuthentication).get(actor);
+    if (corpUser == null || !corpUser.hasAspects()) {
+      return new ActorMemberships(Collections.emptySet(), Collections.emptySet());
+    }
+    final EnvelopedAspectMap aspectMap = corpUser.getAspects();
+
+    final Set<Urn> groups = new HashSet<>();
     Optional<GroupMembership> maybeGroupMembership = resolveGroupMembership(aspectMap);
     maybeGroupMembership.ifPresent(groupMembership -> groups.addAll(groupMembership.getGroups()));
 
@@ -399,11 +471,16 @@ public class PolicyEngine {
     maybeNativeGroupMembership.ifPresent(
         nativeGroupMembership -> groups.addAll(nativeGroupMembership.getNativeGroups()));
 
-    context.setGroups(groups); // Cache the groups.
-    return groups;
+    final Set<Urn> roles = new HashSet<>();
+    if (aspectMap.containsKey(ROLE_MEMBERSHIP_ASPECT_NAME)) {
+      RoleMembership roleMembership = new RoleMembership(aspectMap.get(ROLE_MEMBERSHIP_ASPECT_NAME).getValue().data());
+      if (roleMembership.hasRoles()) {
+        roles.addAll(roleMembership.getRoles());
+      }
+    }
+    return new ActorMemberships(Collections.unmodifiableSet(groups), Collections.unmodifiableSet(roles));
   }
 
-  // TODO: Optimization - Cache the group membership. Refresh periodically.
   private Optional<GroupMembership> resolveGroupMembership(final EnvelopedAspectMap aspectMap) {
     if (aspectMap.containsKey(GROUP_MEMBERSHIP_ASPECT_NAME)) {
       return Optional.of(new GroupMembership(aspectMap.get(GROUP_MEMBERSHIP_ASPECT_NAME).getValue().data()));
@@ -419,6 +496,15 @@ public class PolicyEngine {
     return Optional.empty();
   }
 
+  /**
+   * Groups and roles of an actor.
+   */
+  @Value
+  private static class ActorMemberships {
+    Set<Urn> groups;
+    Set<Urn> roles;
+  }
+
   /**
    * Class used to store state across a single Policy evaluation.
    */
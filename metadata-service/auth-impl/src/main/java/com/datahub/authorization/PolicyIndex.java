@@ -0,0 +1,184 @@
+package com.datahub.authorization;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Immutable index of the DataHub policies, built once per refresh of the policies.
+ *
+ * Besides the policies listing each privilege, active policies are indexed by privilege, by the resource types they
+ * apply to, and by the users and groups they name, so that an authorization request only evaluates the few policies
+ * which may grant it. Candidate policies still need to be evaluated by the {@link PolicyEngine}, as they may not match
+ * the resource or the actor.
+ */
+public class PolicyIndex {
+
+  public static final PolicyIndex EMPTY = new PolicyIndex(Collections.emptyList());
+
+  // Maps privilege name to the associated list of policies, active or not. All the policies are under ALL.
+  private final Map<String, List<DataHubPolicyInfo>> _policiesByPrivilege = new HashMap<>();
+  // Maps privilege name to the active policies granting it.
+  private final Map<String, PrivilegeIndex> _activePoliciesByPrivilege = new HashMap<>();
+
+  public PolicyIndex(@Nonnull final Collection<DataHubPolicyInfo> policies) {
+    for (DataHubPolicyInfo policy : policies) {
+      for (String privilege : policy.getPrivileges()) {
+        _policiesByPrivilege.computeIfAbsent(privilege, ignored -> new ArrayList<>()).add(policy);
+      }
+      _policiesByPrivilege.computeIfAbsent(DataHubAuthorizer.ALL, ignored -> new ArrayList<>()).add(policy);
+
+      if (PoliciesConfig.INACTIVE_POLICY_STATE.equals(policy.getState())) {
+        // Inactive policies never grant anything.
+        continue;
+      }
+      final Set<String> resourceTypes = getResourceTypes(policy);
+      for (String privilege : new HashSet<>(policy.getPrivileges())) {
+        _activePoliciesByPrivilege.computeIfAbsent(privilege, ignored -> new PrivilegeIndex())
+            .add(policy, resourceTypes);
+      }
+    }
+  }
+
+  /**
+   * Returns the policies listing a privilege, whether they are active or not, or all the policies for
+   * {@link DataHubAuthorizer#ALL}.
+   */
+  @Nonnull
+  public List<DataHubPolicyInfo> getPolicies(@Nonnull final String privilege) {
+    return Collections.unmodifiableList(_policiesByPrivilege.getOrDefault(privilege, Collections.emptyList()));
+  }
+
+  /**
+   * Returns every policy, whether it is active or not.
+   */
+  @Nonnull
+  public List<DataHubPolicyInfo> getAllPolicies() {
+    return getPolicies(DataHubAuthorizer.ALL);
+  }
+
+  /**
+   * Returns the active policies which may grant a privilege to an actor on a resource.
+   *
+   * @param privilege the requested privilege
+   * @param resourceType the type of the requested resource, if any
+   * @param actor the requesting actor
+   * @param actorGroups supplies the groups of the actor, only called when a candidate policy is keyed by group
+   */
+  @Nonnull
+  public List<DataHubPolicyInfo> getCandidatePolicies(
+      @Nonnull final String privilege,
+      @Nonnull final Optional<String> resourceType,
+      @Nonnull final Urn actor,
+      @Nonnull final Supplier<Set<Urn>> actorGroups) {
+    final PrivilegeIndex privilegeIndex = _activePoliciesByPrivilege.get(privilege);
+    if (privilegeIndex == null) {
+      return Collections.emptyList();
+    }
+    final List<ActorIndex> actorIndexes = new ArrayList<>(2);
+    actorIndexes.add(privilegeIndex._anyResourceType);
+    // Policies restricted to resource types can only match requests for a resource of one of these types.
+    resourceType.map(privilegeIndex._byResourceType::get).ifPresent(actorIndexes::add);
+
+    // The same policy may be found under several keys.
+    final Set<DataHubPolicyInfo> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<Urn> groups = null;
+    for (ActorIndex actorIndex : actorIndexes) {
+      candidates.addAll(actorIndex._anyActor);
+      candidates.addAll(actorIndex._byUser.getOrDefault(actor, Collections.emptyList()));
+      if (!actorIndex._byGroup.isEmpty()) {
+        if (groups == null) {
+          groups = actorGroups.get();
+        }
+        for (Urn group : groups) {
+          candidates.addAll(actorIndex._byGroup.getOrDefault(group, Collections.emptyList()));
+        }
+      }
+    }
+    return new ArrayList<>(candidates);
+  }
+
+  /**
+   * Returns the resource types a policy may match, or null if it may match any resource.
+   */
+  @Nullable
+  private static Set<String> getResourceTypes(@Nonnull final DataHubPolicyInfo policy) {
+    if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(policy.getType()) || policy.getResources() == null) {
+      return null;
+    }
+    for (PolicyMatchCriterion criterion : PolicyEngine.getFilter(policy.getResources()).getCriteria()) {
+      if (ResourceFieldType.RESOURCE_TYPE.name().equalsIgnoreCase(criterion.getField())) {
+        // All the criteria must match, so the first one on the resource type is enough to narrow the policy down.
+        return PolicyMatchCondition.EQUALS.equals(criterion.getCondition())
+            ? new HashSet<>(criterion.getValues())
+            : Collections.emptySet();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Active policies granting a privilege, by the resource types they apply to.
+   */
+  private static class PrivilegeIndex {
+    // Policies which do not restrict the type of the resource, or apply to no resource at all.
+    private final ActorIndex _anyResourceType = new ActorIndex();
+    private final Map<String, ActorIndex> _byResourceType = new HashMap<>();
+
+    private void add(@Nonnull final DataHubPolicyInfo policy, @Nullable final Set<String> resourceTypes) {
+      if (resourceTypes == null) {
+        _anyResourceType.add(policy);
+        return;
+      }
+      for (String resourceType : resourceTypes) {
+        _byResourceType.computeIfAbsent(resourceType, ignored -> new ActorIndex()).add(policy);
+      }
+    }
+  }
+
+  /**
+   * Policies by the users and groups they name.
+   */
+  private static class ActorIndex {
+    // Policies which may apply to any actor: to all users or groups, to resource owners or to roles.
+    private final List<DataHubPolicyInfo> _anyActor = new ArrayList<>();
+    private final Map<Urn, List<DataHubPolicyInfo>> _byUser = new HashMap<>();
+    private final Map<Urn, List<DataHubPolicyInfo>> _byGroup = new HashMap<>();
+
+    private void add(@Nonnull final DataHubPolicyInfo policy) {
+      final DataHubActorFilter actorFilter = policy.getActors();
+      if (actorFilter.isAllUsers() || actorFilter.isAllGroups() || actorFilter.isResourceOwners()
+          || (actorFilter.hasRoles() && !actorFilter.getRoles().isEmpty())) {
+        _anyActor.add(policy);
+        return;
+      }
+      if (actorFilter.hasUsers()) {
+        for (Urn user : actorFilter.getUsers()) {
+          _byUser.computeIfAbsent(user, ignored -> new ArrayList<>()).add(policy);
+        }
+      }
+      if (actorFilter.hasGroups()) {
+        for (Urn group : actorFilter.getGroups()) {
+          _byGroup.computeIfAbsent(group, ignored -> new ArrayList<>()).add(policy);
+        }
+      }
+    }
+  }
+}
@@ -205,6 +205,57 @@ public class DataHubAuthorizerTest {
     assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
   }
 
+  @Test
+  public void testInvalidateCacheWithDecisionCache() throws Exception {
+    final Authentication systemAuthentication = new Authentication(
+        new Actor(ActorType.USER, DATAHUB_SYSTEM_CLIENT_ID),
+        ""
+    );
+    final DataHubAuthorizer dataHubAuthorizer = new DataHubAuthorizer(
+        systemAuthentication,
+        _entityClient,
+        10,
+        10,
+        DataHubAuthorizer.AuthorizationMode.DEFAULT,
+        0,
+        0,
+        100,
+        3600
+    );
+    dataHubAuthorizer.init(Collections.emptyMap(), createAuthorizerContext(systemAuthentication, _entityClient));
+    dataHubAuthorizer.invalidateCache();
+    Thread.sleep(500); // Sleep so the runnable can execute. (not ideal)
+
+    ResourceSpec resourceSpec = new ResourceSpec("dataset", "urn:li:dataset:test");
+
+    AuthorizationRequest request = new AuthorizationRequest(
+        "urn:li:corpuser:test",
+        "EDIT_ENTITY_TAGS",
+        Optional.of(resourceSpec)
+    );
+
+    // The second authorization is served by the decision cache.
+    assertEquals(dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+    assertEquals(dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+
+    // Now init the mocks to return 0 policies.
+    final SearchResult emptyResult = new SearchResult();
+    emptyResult.setNumEntities(0);
+    emptyResult.setEntities(new SearchEntityArray());
+
+    when(_entityClient.search(eq("dataHubPolicy"), eq(""), isNull(), any(), anyInt(), anyInt(), any(),
+            eq(Boolean.TRUE))).thenReturn(
+        emptyResult);
+    when(_entityClient.batchGetV2(eq(POLICY_ENTITY_NAME), eq(Collections.emptySet()), eq(null), any())).thenReturn(
+        Collections.emptyMap());
+
+    // Invalidate Cache.
+    dataHubAuthorizer.invalidateCache();
+    Thread.sleep(500); // Sleep so the runnable can execute. (not ideal)
+    // Now verify that the decision made against the previous policies is not reused.
+    assertEquals(dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.DENY);
+  }
+
   @Test
   public void testAuthorizedActorsActivePolicy() throws Exception {
     final AuthorizedActors actors =
@@ -365,6 +365,62 @@ public class PolicyEngineTest {
         any(), any());
   }
 
+  @Test
+  public void testEvaluatePolicyActorFilterCachedMemberships() throws Exception {
+    final PolicyEngine policyEngine =
+        new PolicyEngine(Mockito.mock(Authentication.class), _entityClient, 100, 60);
+
+    final DataHubPolicyInfo groupPolicyInfo = new DataHubPolicyInfo();
+    groupPolicyInfo.setType(METADATA_POLICY_TYPE);
+    groupPolicyInfo.setState(ACTIVE_POLICY_STATE);
+    groupPolicyInfo.setPrivileges(new StringArray("EDIT_ENTITY_TAGS"));
+    groupPolicyInfo.setDisplayName("My Test Display");
+    groupPolicyInfo.setDescription("My test display!");
+    groupPolicyInfo.setEditable(true);
+
+    final DataHubActorFilter groupActorFilter = new DataHubActorFilter();
+    final UrnArray groupsUrnArray = new UrnArray();
+    groupsUrnArray.add(Urn.createFromString("urn:li:corpGroup:authorizedGroup"));
+    groupActorFilter.setGroups(groupsUrnArray);
+    groupActorFilter.setResourceOwners(false);
+    groupActorFilter.setAllUsers(false);
+    groupActorFilter.setAllGroups(false);
+    groupPolicyInfo.setActors(groupActorFilter);
+
+    final DataHubResourceFilter resourceFilter = new DataHubResourceFilter();
+    resourceFilter.setAllResources(true);
+    resourceFilter.setType("dataset");
+    groupPolicyInfo.setResources(resourceFilter);
+
+    final DataHubPolicyInfo rolePolicyInfo = groupPolicyInfo.copy();
+    final DataHubActorFilter roleActorFilter = new DataHubActorFilter();
+    final UrnArray rolesUrnArray = new UrnArray();
+    rolesUrnArray.add(Urn.createFromString("urn:li:dataHubRole:admin"));
+    roleActorFilter.setRoles(rolesUrnArray);
+    roleActorFilter.setResourceOwners(false);
+    roleActorFilter.setAllUsers(false);
+    roleActorFilter.setAllGroups(false);
+    rolePolicyInfo.setActors(roleActorFilter);
+
+    ResolvedResourceSpec resourceSpec = buildResourceResolvers("dataset", RESOURCE_URN);
+    // Assert authorized user can edit entity tags, because of both group and role membership.
+    assertTrue(policyEngine.evaluatePolicy(groupPolicyInfo, AUTHORIZED_PRINCIPAL, "EDIT_ENTITY_TAGS",
+        Optional.of(resourceSpec)).isGranted());
+    assertTrue(policyEngine.evaluatePolicy(rolePolicyInfo, AUTHORIZED_PRINCIPAL, "EDIT_ENTITY_TAGS",
+        Optional.of(resourceSpec)).isGranted());
+
+    // Verify groups and roles are fetched once across evaluations.
+    verify(_entityClient, times(1)).batchGetV2(eq(CORP_USER_ENTITY_NAME), eq(Collections.singleton(authorizedUserUrn)),
+        any(), any());
+
+    // Verify they are fetched again once invalidated.
+    policyEngine.invalidateMemberships(authorizedUserUrn);
+    assertTrue(policyEngine.evaluatePolicy(groupPolicyInfo, AUTHORIZED_PRINCIPAL, "EDIT_ENTITY_TAGS",
+        Optional.of(resourceSpec)).isGranted());
+    verify(_entityClient, times(2)).batchGetV2(eq(CORP_USER_ENTITY_NAME), eq(Collections.singleton(authorizedUserUrn)),
+        any(), any());
+  }
+
   @Test
   // Write a test to verify that the policy engine is able to evaluate a policy with a role match
   public void testEvaluatePolicyActorFilterNoRoleMatch() throws Exception {
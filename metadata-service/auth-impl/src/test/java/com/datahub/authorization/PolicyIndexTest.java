@@ -0,0 +1,115 @@
+package com.datahub.authorization;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.authorization.PoliciesConfig.*;
+import static org.testng.Assert.*;
+
+
+public class PolicyIndexTest {
+
+  private static final String PRIVILEGE = "EDIT_ENTITY_TAGS";
+  private static final Urn ACTOR = UrnUtils.getUrn("urn:li:corpuser:actor");
+  private static final Urn OTHER_ACTOR = UrnUtils.getUrn("urn:li:corpuser:other");
+  private static final Urn GROUP = UrnUtils.getUrn("urn:li:corpGroup:group");
+
+  @Test
+  public void testCandidatesByResourceType() {
+    final DataHubPolicyInfo datasetPolicy = createPolicy(ACTIVE_POLICY_STATE, allUsers(), "dataset");
+    final DataHubPolicyInfo chartPolicy = createPolicy(ACTIVE_POLICY_STATE, allUsers(), "chart");
+    final DataHubPolicyInfo anyResourcePolicy = createPolicy(ACTIVE_POLICY_STATE, allUsers(), null);
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(datasetPolicy, chartPolicy, anyResourcePolicy));
+
+    assertEquals(candidates(index, Optional.of("dataset"), ACTOR, Collections.emptySet()),
+        ImmutableSet.of(datasetPolicy, anyResourcePolicy));
+    assertEquals(candidates(index, Optional.empty(), ACTOR, Collections.emptySet()),
+        ImmutableSet.of(anyResourcePolicy));
+  }
+
+  @Test
+  public void testCandidatesByActor() {
+    final DataHubPolicyInfo userPolicy = createPolicy(ACTIVE_POLICY_STATE,
+        new DataHubActorFilter().setUsers(urns(ACTOR)), "dataset");
+    final DataHubPolicyInfo otherUserPolicy = createPolicy(ACTIVE_POLICY_STATE,
+        new DataHubActorFilter().setUsers(urns(OTHER_ACTOR)), "dataset");
+    final DataHubPolicyInfo groupPolicy = createPolicy(ACTIVE_POLICY_STATE,
+        new DataHubActorFilter().setGroups(urns(GROUP)), "dataset");
+    final DataHubPolicyInfo ownerPolicy = createPolicy(ACTIVE_POLICY_STATE,
+        new DataHubActorFilter().setResourceOwners(true), "dataset");
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(userPolicy, otherUserPolicy, groupPolicy, ownerPolicy));
+
+    assertEquals(candidates(index, Optional.of("dataset"), ACTOR, ImmutableSet.of(GROUP)),
+        ImmutableSet.of(userPolicy, groupPolicy, ownerPolicy));
+    assertEquals(candidates(index, Optional.of("dataset"), ACTOR, Collections.emptySet()),
+        ImmutableSet.of(userPolicy, ownerPolicy));
+  }
+
+  @Test
+  public void testResolvesGroupsOnlyWhenNeeded() {
+    final DataHubPolicyInfo userPolicy = createPolicy(ACTIVE_POLICY_STATE,
+        new DataHubActorFilter().setUsers(urns(ACTOR)), "dataset");
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(userPolicy));
+    final AtomicInteger groupResolutions = new AtomicInteger();
+
+    index.getCandidatePolicies(PRIVILEGE, Optional.of("dataset"), ACTOR, () -> {
+      groupResolutions.incrementAndGet();
+      return Collections.emptySet();
+    });
+
+    assertEquals(groupResolutions.get(), 0);
+  }
+
+  @Test
+  public void testInactivePoliciesAreNotCandidates() {
+    final DataHubPolicyInfo inactivePolicy = createPolicy(INACTIVE_POLICY_STATE, allUsers(), "dataset");
+    final PolicyIndex index = new PolicyIndex(ImmutableList.of(inactivePolicy));
+
+    assertTrue(candidates(index, Optional.of("dataset"), ACTOR, Collections.emptySet()).isEmpty());
+    assertEquals(index.getPolicies(PRIVILEGE), ImmutableList.of(inactivePolicy));
+    assertEquals(index.getAllPolicies(), ImmutableList.of(inactivePolicy));
+  }
+
+  private static Set<DataHubPolicyInfo> candidates(PolicyIndex index, Optional<String> resourceType, Urn actor,
+      Set<Urn> groups) {
+    return new HashSet<>(index.getCandidatePolicies(PRIVILEGE, resourceType, actor, () -> groups));
+  }
+
+  private static DataHubActorFilter allUsers() {
+    return new DataHubActorFilter().setAllUsers(true);
+  }
+
+  private static UrnArray urns(Urn urn) {
+    final UrnArray urns = new UrnArray();
+    urns.add(urn);
+    return urns;
+  }
+
+  private static DataHubPolicyInfo createPolicy(String state, DataHubActorFilter actorFilter, String resourceType) {
+    final DataHubPolicyInfo policy = new DataHubPolicyInfo()
+        .setDisplayName("test")
+        .setDescription("test")
+        .setType(METADATA_POLICY_TYPE)
+        .setState(state)
+        .setPrivileges(new StringArray(PRIVILEGE))
+        .setActors(actorFilter)
+        .setEditable(true);
+    if (resourceType != null) {
+      policy.setResources(new DataHubResourceFilter().setType(resourceType).setAllResources(true));
+    }
+    return policy;
+  }
+}
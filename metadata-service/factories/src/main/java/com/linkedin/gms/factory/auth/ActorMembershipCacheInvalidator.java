@@ -0,0 +1,52 @@
+package com.linkedin.gms.factory.auth;
+
+import com.datahub.authorization.DataHubAuthorizer;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.event.CacheInvalidator;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import static com.linkedin.metadata.Constants.*;
+
+
+/**
+ * Evicts the groups and roles cached by this instance's {@link DataHubAuthorizer} when they change.
+ *
+ * Memberships are stored on users, so a change to the membership aspects of a user only evicts that user. Groups do
+ * not keep track of their members, so a group being deleted or given roles evicts every user.
+ */
+@Component
+@ConditionalOnExpression("${authorization.defaultAuthorizer.membershipCacheMaxSize:10000} > 0")
+public class ActorMembershipCacheInvalidator implements CacheInvalidator {
+
+  private static final Set<String> MEMBERSHIP_ASPECT_NAMES =
+      ImmutableSet.of(GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME, ROLE_MEMBERSHIP_ASPECT_NAME);
+
+  private final DataHubAuthorizer _dataHubAuthorizer;
+
+  @Autowired
+  public ActorMembershipCacheInvalidator(@Qualifier("dataHubAuthorizer") DataHubAuthorizer dataHubAuthorizer) {
+    _dataHubAuthorizer = dataHubAuthorizer;
+  }
+
+  @Override
+  public void invalidate(@Nonnull final MetadataChangeLog event) {
+    if (!event.hasEntityUrn()) {
+      return;
+    }
+    final boolean membershipChange = event.hasAspectName() && MEMBERSHIP_ASPECT_NAMES.contains(event.getAspectName());
+    if (CORP_USER_ENTITY_NAME.equals(event.getEntityType())
+        && (membershipChange || ChangeType.DELETE.equals(event.getChangeType()))) {
+      _dataHubAuthorizer.invalidateMemberships(event.getEntityUrn());
+    } else if (CORP_GROUP_ENTITY_NAME.equals(event.getEntityType())
+        && (membershipChange || ChangeType.DELETE.equals(event.getChangeType()))) {
+      _dataHubAuthorizer.invalidateAllMemberships();
+    }
+  }
+}
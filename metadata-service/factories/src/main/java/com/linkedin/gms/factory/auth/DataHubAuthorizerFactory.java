@@ -35,6 +35,18 @@ public class DataHubAuthorizerFactory {
   @Value("${authorization.defaultAuthorizer.enabled:true}")
   private Boolean policiesEnabled;
 
+  @Value("${authorization.defaultAuthorizer.membershipCacheMaxSize:10000}")
+  private Long membershipCacheMaxSize;
+
+  @Value("${authorization.defaultAuthorizer.membershipCacheTtlSecs:120}")
+  private Long membershipCacheTtlSeconds;
+
+  @Value("${authorization.defaultAuthorizer.decisionCacheMaxSize:10000}")
+  private Long decisionCacheMaxSize;
+
+  @Value("${authorization.defaultAuthorizer.decisionCacheTtlSecs:5}")
+  private Long decisionCacheTtlSeconds;
+
   @Bean(name = "dataHubAuthorizer")
   @Scope("singleton")
   @Nonnull
@@ -44,6 +56,7 @@ public class DataHubAuthorizerFactory {
         : DataHubAuthorizer.AuthorizationMode.ALLOW_ALL;
 
     return new DataHubAuthorizer(systemAuthentication, entityClient, 10,
-        policyCacheRefreshIntervalSeconds, mode);
+        policyCacheRefreshIntervalSeconds, mode, membershipCacheMaxSize, membershipCacheTtlSeconds,
+        decisionCacheMaxSize, decisionCacheTtlSeconds);
   }
 }
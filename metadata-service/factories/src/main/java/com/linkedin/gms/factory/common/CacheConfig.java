@@ -9,6 +9,7 @@ import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
+import com.linkedin.gms.factory.search.EntityLineageResultCacheIndexFactory;
 import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -27,6 +28,10 @@ public class CacheConfig {
   @Value("${CACHE_MAX_SIZE:10000}")
   private int cacheMaxSize;
 
+  // The lineage cache index has an entry per urn found in cached lineage results, so it needs more room than the results
+  @Value("${CACHE_LINEAGE_INDEX_MAX_SIZE:200000}")
+  private int lineageIndexMaxSize;
+
   @Value("${searchService.cache.hazelcast.serviceName:hazelcast-service}")
   private String hazelcastServiceName;
 
@@ -34,14 +39,16 @@ public class CacheConfig {
   @ConditionalOnProperty(name = "searchService.cacheImplementation", havingValue = "caffeine")
   public CacheManager caffeineCacheManager() {
     CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-    cacheManager.setCaffeine(caffeineCacheBuilder());
+    cacheManager.setCaffeine(caffeineCacheBuilder(cacheMaxSize));
+    cacheManager.registerCustomCache(EntityLineageResultCacheIndexFactory.LINEAGE_CACHE_INDEX_NAME,
+        caffeineCacheBuilder(lineageIndexMaxSize).build());
     return cacheManager;
   }
 
-  private Caffeine<Object, Object> caffeineCacheBuilder() {
+  private Caffeine<Object, Object> caffeineCacheBuilder(int maxSize) {
     return Caffeine.newBuilder()
         .initialCapacity(100)
-        .maximumSize(cacheMaxSize)
+        .maximumSize(maxSize)
         .expireAfterAccess(cacheTtlSeconds, TimeUnit.SECONDS)
         .recordStats();
   }
@@ -52,15 +59,9 @@ public class CacheConfig {
     Config config = new Config();
     // TODO: This setting is equivalent to expireAfterAccess, refreshes timer after a get, put, containsKey etc.
     //       is this behavior what we actually desire? Should we change it now?
-    MapConfig mapConfig = new MapConfig().setMaxIdleSeconds(cacheTtlSeconds);
-
-    EvictionConfig evictionConfig = new EvictionConfig()
-        .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
-        .setSize(cacheMaxSize)
-        .setEvictionPolicy(EvictionPolicy.LFU);
-    mapConfig.setEvictionConfig(evictionConfig);
-    mapConfig.setName("default");
-    config.addMapConfig(mapConfig);
+    config.addMapConfig(hazelcastMapConfig("default", cacheMaxSize));
+    config.addMapConfig(
+        hazelcastMapConfig(EntityLineageResultCacheIndexFactory.LINEAGE_CACHE_INDEX_NAME, lineageIndexMaxSize));
 
     config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
     config.getNetworkConfig().getJoin().getKubernetesConfig().setEnabled(true)
@@ -71,4 +72,16 @@ public class CacheConfig {
 
     return new HazelcastCacheManager(hazelcastInstance);
   }
+
+  private MapConfig hazelcastMapConfig(String name, int maxSize) {
+    MapConfig mapConfig = new MapConfig().setMaxIdleSeconds(cacheTtlSeconds);
+
+    EvictionConfig evictionConfig = new EvictionConfig()
+        .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+        .setSize(maxSize)
+        .setEvictionPolicy(EvictionPolicy.LFU);
+    mapConfig.setEvictionConfig(evictionConfig);
+    mapConfig.setName(name);
+    return mapConfig;
+  }
 }
\ No newline at end of file
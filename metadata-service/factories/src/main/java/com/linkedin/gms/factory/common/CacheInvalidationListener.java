@@ -0,0 +1,98 @@
+package com.linkedin.gms.factory.common;
+
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.event.CacheInvalidator;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.Topics;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Hands the changes made by every instance to the {@link CacheInvalidator}s of this instance.
+ *
+ * Every instance keeps its own caches, so every instance consumes the whole MCL stream. Rather than joining a consumer
+ * group, which instances sharing a group id would split the partitions of, the listener assigns itself every
+ * partition of the topic and never commits offsets, so that no consumer group is left behind either. Caches start
+ * empty, so the changes made while the instance was down are skipped: consumption always starts from the end of the
+ * log. Partitions added to the topic are only picked up on restart.
+ *
+ * Only processes serving reads from caches need it: the MCE consumer and upgrade jobs leave it out of their contexts,
+ * and kafka.mcl.cacheInvalidation.enabled turns it off elsewhere.
+ */
+@Slf4j
+@Component("cacheInvalidationListener")
+@ConditionalOnProperty(name = "kafka.mcl.cacheInvalidation.enabled", havingValue = "true", matchIfMissing = true)
+@EnableKafka
+public class CacheInvalidationListener implements ConsumerSeekAware {
+
+  private static final String TOPIC =
+      "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}";
+
+  private final ObjectProvider<CacheInvalidator> _cacheInvalidators;
+  private final ConsumerFactory<String, GenericRecord> _consumerFactory;
+
+  @Autowired
+  public CacheInvalidationListener(ObjectProvider<CacheInvalidator> cacheInvalidators,
+      @Qualifier("kafkaConsumerFactory") ConsumerFactory<String, GenericRecord> consumerFactory) {
+    _cacheInvalidators = cacheInvalidators;
+    _consumerFactory = consumerFactory;
+  }
+
+  /**
+   * Returns every partition of the given topic.
+   */
+  @Nonnull
+  public String[] partitions(@Nonnull String topic) {
+    try (Consumer<String, GenericRecord> consumer = _consumerFactory.createConsumer()) {
+      return consumer.partitionsFor(topic).stream()
+          .map(partitionInfo -> String.valueOf(partitionInfo.partition()))
+          .toArray(String[]::new);
+    }
+  }
+
+  @Override
+  public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+    callback.seekToEnd(assignments.keySet());
+  }
+
+  @KafkaListener(id = "cacheInvalidator",
+      idIsGroup = false,
+      topicPartitions = @org.springframework.kafka.annotation.TopicPartition(topic = TOPIC,
+          partitions = "#{@cacheInvalidationListener.partitions('" + TOPIC + "')}"),
+      containerFactory = "kafkaUncommittedEventConsumer",
+      properties = "enable.auto.commit=false")
+  public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    final MetadataChangeLog event;
+    try {
+      event = EventUtils.avroToPegasusMCL(consumerRecord.value());
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+      log.error("Error deserializing message due to: ", e);
+      return;
+    }
+    _cacheInvalidators.orderedStream().forEach(cacheInvalidator -> {
+      try {
+        cacheInvalidator.invalidate(event);
+      } catch (RuntimeException e) {
+        MetricUtils.counter(this.getClass(), "cache_invalidation_failure").inc();
+        log.error("Failed to invalidate the caches of {}", event.getEntityUrn(), e);
+      }
+    });
+  }
+}
@@ -11,6 +11,7 @@ import com.linkedin.metadata.models.registry.EntityRegistry;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -29,13 +30,24 @@ public class ElasticSearchGraphServiceFactory {
   @Qualifier("entityRegistry")
   private EntityRegistry entityRegistry;
 
+  @Value("${elasticsearch.graph.lineageThreads:10}")
+  private int lineageThreads;
+
+  @Value("${elasticsearch.graph.lineageQueueSize:100}")
+  private int lineageQueueSize;
+
+  @Value("${elasticsearch.graph.maxPendingWrites:1000}")
+  private int maxPendingWrites;
+
   @Bean(name = "elasticSearchGraphService")
   @Nonnull
   protected ElasticSearchGraphService getInstance() {
     LineageRegistry lineageRegistry = new LineageRegistry(entityRegistry);
     return new ElasticSearchGraphService(lineageRegistry, components.getBulkProcessor(), components.getIndexConvention(),
-        new ESGraphWriteDAO(components.getIndexConvention(), components.getBulkProcessor(), components.getNumRetries()),
-        new ESGraphQueryDAO(components.getSearchClient(), lineageRegistry, components.getIndexConvention()),
+        new ESGraphWriteDAO(components.getIndexConvention(), components.getBulkProcessor(), components.getNumRetries(),
+            maxPendingWrites),
+        new ESGraphQueryDAO(components.getSearchClient(), lineageRegistry, components.getIndexConvention(),
+            lineageThreads, lineageQueueSize),
         components.getIndexBuilder());
   }
 }
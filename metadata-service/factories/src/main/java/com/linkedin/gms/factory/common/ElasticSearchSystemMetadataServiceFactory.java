@@ -4,9 +4,11 @@ import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
 import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.systemmetadata.ESSystemMetadataDAO;
 import com.linkedin.metadata.systemmetadata.ElasticSearchSystemMetadataService;
+import com.linkedin.metadata.systemmetadata.SystemMetadataBulkWriter;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -21,11 +23,26 @@ public class ElasticSearchSystemMetadataServiceFactory {
   @Qualifier("baseElasticSearchComponents")
   private BaseElasticSearchComponentsFactory.BaseElasticSearchComponents components;
 
-  @Bean(name = "elasticSearchSystemMetadataService")
+  @Value("${elasticsearch.systemMetadata.bulkWriter.enabled:false}")
+  private boolean bulkWriterEnabled;
+
+  @Value("${elasticsearch.systemMetadata.bulkWriter.maxPending:1000}")
+  private int bulkWriterMaxPending;
+
+  @Value("${elasticsearch.systemMetadata.bulkWriter.flushIntervalMs:1000}")
+  private long bulkWriterFlushIntervalMs;
+
+  // Closing the service sends its buffered writes
+  @Bean(name = "elasticSearchSystemMetadataService", destroyMethod = "close")
   @Nonnull
   protected ElasticSearchSystemMetadataService getInstance() {
-    return new ElasticSearchSystemMetadataService(components.getBulkProcessor(), components.getIndexConvention(),
-        new ESSystemMetadataDAO(components.getSearchClient(), components.getIndexConvention(),
-            components.getBulkProcessor(), components.getNumRetries()), components.getIndexBuilder());
+    final ESSystemMetadataDAO dao = new ESSystemMetadataDAO(components.getSearchClient(),
+        components.getIndexConvention(), components.getBulkProcessor(), components.getNumRetries());
+    final ElasticSearchSystemMetadataService service = new ElasticSearchSystemMetadataService(
+        components.getBulkProcessor(), components.getIndexConvention(), dao, components.getIndexBuilder());
+    if (bulkWriterEnabled) {
+      service.setBulkWriter(new SystemMetadataBulkWriter(dao, bulkWriterMaxPending, bulkWriterFlushIntervalMs));
+    }
+    return service;
   }
 }
@@ -1,19 +1,24 @@
 package com.linkedin.gms.factory.common;
 
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.models.registry.LineageRegistry;
 import com.linkedin.metadata.graph.neo4j.Neo4jGraphService;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import javax.annotation.Nonnull;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.SessionConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
 
 
 @Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 @Import({Neo4jDriverFactory.class, EntityRegistryFactory.class})
 public class Neo4jGraphServiceFactory {
   @Autowired
@@ -24,10 +29,13 @@ public class Neo4jGraphServiceFactory {
   @Qualifier("entityRegistry")
   private EntityRegistry entityRegistry;
 
+  @Value("${neo4j.maxEdgesPerStatement:1000}")
+  private int maxEdgesPerStatement;
+
   @Bean(name = "neo4jGraphService")
   @Nonnull
   protected Neo4jGraphService getInstance() {
     LineageRegistry lineageRegistry = new LineageRegistry(entityRegistry);
-    return new Neo4jGraphService(lineageRegistry, neo4jDriver);
+    return new Neo4jGraphService(lineageRegistry, neo4jDriver, SessionConfig.defaultConfig(), maxEdgesPerStatement);
   }
 }
@@ -3,8 +3,10 @@ package com.linkedin.gms.factory.config;
 import com.datahub.authentication.AuthenticationConfiguration;
 import com.datahub.authorization.AuthorizationConfiguration;
 import com.linkedin.datahub.graphql.featureflags.FeatureFlags;
+import com.linkedin.metadata.config.CassandraConfiguration;
 import com.linkedin.metadata.config.DataHubConfiguration;
 import com.linkedin.metadata.config.ElasticSearchConfiguration;
+import com.linkedin.metadata.config.GraphQLConfiguration;
 import com.linkedin.metadata.config.IngestionConfiguration;
 import com.linkedin.metadata.config.SystemUpdateConfiguration;
 import com.linkedin.metadata.config.TestsConfiguration;
@@ -55,6 +57,10 @@ public class ConfigurationProvider {
    * Views feature related configs
    */
   private ViewsConfiguration views;
+  /**
+   * GraphQL execution related configs
+   */
+  private GraphQLConfiguration graphQL;
   /**
    * Feature flags indicating what is turned on vs turned off
    */
@@ -69,4 +75,9 @@ public class ConfigurationProvider {
    * System Update configurations
    */
   private SystemUpdateConfiguration systemUpdate;
+
+  /**
+   * Cassandra tuning configurations
+   */
+  private CassandraConfiguration cassandra;
 }
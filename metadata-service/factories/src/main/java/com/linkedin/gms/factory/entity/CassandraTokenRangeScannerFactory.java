@@ -0,0 +1,31 @@
+package com.linkedin.gms.factory.entity;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.CassandraScanConfiguration;
+import com.linkedin.metadata.entity.cassandra.CassandraTokenRangeScanner;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Import;
+
+
+@Configuration
+@Import({ConfigurationProvider.class})
+public class CassandraTokenRangeScannerFactory {
+
+  @Autowired
+  private ConfigurationProvider _configurationProvider;
+
+  @Bean(name = "cassandraTokenRangeScanner")
+  @DependsOn({"cassandraSession"})
+  @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
+  @Nonnull
+  protected CassandraTokenRangeScanner createInstance(CqlSession session) {
+    final CassandraScanConfiguration scan = _configurationProvider.getCassandra().getScan();
+    return new CassandraTokenRangeScanner(session, scan.getSplits(), scan.getThreads());
+  }
+}
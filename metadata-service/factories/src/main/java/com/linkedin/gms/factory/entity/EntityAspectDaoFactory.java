@@ -1,33 +1,57 @@
 package com.linkedin.gms.factory.entity;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.CachingAspectDao;
 import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
+import com.linkedin.metadata.entity.cassandra.CassandraTokenRangeScanner;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import io.ebean.EbeanServer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
 
 import javax.annotation.Nonnull;
 
 @Configuration
+@Import({ConfigurationProvider.class, CassandraTokenRangeScannerFactory.class})
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class EntityAspectDaoFactory {
 
+  @Value("${entityService.latestAspectCache.enabled:false}")
+  private boolean latestAspectCacheEnabled;
+
+  @Value("${entityService.latestAspectCache.maxSize:10000}")
+  private long latestAspectCacheMaxSize;
+
+  @Autowired
+  private ConfigurationProvider _configurationProvider;
+
   @Bean(name = "entityAspectDao")
   @DependsOn({"gmsEbeanServiceConfig"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
   @Nonnull
   protected AspectDao createEbeanInstance(EbeanServer server) {
-    return new EbeanAspectDao(server);
+    return withLatestAspectCache(new EbeanAspectDao(server));
   }
 
   @Bean(name = "entityAspectDao")
-  @DependsOn({"cassandraSession"})
+  @DependsOn({"cassandraSession", "cassandraTokenRangeScanner"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
   @Nonnull
-  protected AspectDao createCassandraInstance(CqlSession session) {
-    return new CassandraAspectDao(session);
+  protected AspectDao createCassandraInstance(CqlSession session, CassandraTokenRangeScanner scanner) {
+    return withLatestAspectCache(new CassandraAspectDao(session,
+        _configurationProvider.getCassandra().getMaxInFlightReads(), scanner));
+  }
+
+  private AspectDao withLatestAspectCache(AspectDao aspectDao) {
+    return latestAspectCacheEnabled ? new CachingAspectDao(aspectDao, latestAspectCacheMaxSize) : aspectDao;
   }
 }
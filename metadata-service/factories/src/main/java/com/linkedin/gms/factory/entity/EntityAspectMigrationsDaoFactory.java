@@ -2,19 +2,30 @@ package com.linkedin.gms.factory.entity;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.linkedin.metadata.entity.AspectMigrationsDao;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
+import com.linkedin.metadata.entity.cassandra.CassandraTokenRangeScanner;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import io.ebean.EbeanServer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
 
 import javax.annotation.Nonnull;
 
 @Configuration
+@Import({ConfigurationProvider.class, CassandraTokenRangeScannerFactory.class})
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class EntityAspectMigrationsDaoFactory {
 
+  @Autowired
+  private ConfigurationProvider _configurationProvider;
+
   @Bean(name = "entityAspectMigrationsDao")
   @DependsOn({"gmsEbeanServiceConfig"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
@@ -24,10 +35,10 @@ public class EntityAspectMigrationsDaoFactory {
   }
 
   @Bean(name = "entityAspectMigrationsDao")
-  @DependsOn({"cassandraSession"})
+  @DependsOn({"cassandraSession", "cassandraTokenRangeScanner"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
   @Nonnull
-  protected AspectMigrationsDao createCassandraInstance(CqlSession session) {
-    return new CassandraAspectDao(session);
+  protected AspectMigrationsDao createCassandraInstance(CqlSession session, CassandraTokenRangeScanner scanner) {
+    return new CassandraAspectDao(session, _configurationProvider.getCassandra().getMaxInFlightReads(), scanner);
   }
 }
@@ -1,25 +1,37 @@
 package com.linkedin.gms.factory.entity;
 
 import com.linkedin.gms.factory.common.TopicConventionFactory;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.dao.producer.KafkaEventProducer;
 import com.linkedin.metadata.dao.producer.KafkaHealthChecker;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.AspectRecordCache;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.event.CacheInvalidator;
+import com.linkedin.metadata.event.InvalidatingEventProducer;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.mxe.TopicConvention;
+import java.util.stream.Collectors;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.kafka.clients.producer.Producer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.PropertySource;
 
 import javax.annotation.Nonnull;
 
 
 @Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class EntityServiceFactory {
 
+  @Value("${entityService.aspectRecordCache.maxWeightBytes:0}")
+  private long aspectRecordCacheMaxWeightBytes;
+
   @Bean(name = "entityService")
   @DependsOn({"entityAspectDao", "kafkaEventProducer", "kafkaHealthChecker",
           TopicConventionFactory.TOPIC_CONVENTION_BEAN, "entityRegistry"})
@@ -29,9 +41,22 @@ public class EntityServiceFactory {
       TopicConvention convention,
       KafkaHealthChecker kafkaHealthChecker,
       @Qualifier("entityAspectDao") AspectDao aspectDao,
-      EntityRegistry entityRegistry) {
+      EntityRegistry entityRegistry,
+      AspectRecordCache aspectRecordCache,
+      ObjectProvider<CacheInvalidator> cacheInvalidators) {
+
+    // Caches of this instance see its writes as soon as they are committed
+    final InvalidatingEventProducer eventProducer = new InvalidatingEventProducer(
+        new KafkaEventProducer(producer, convention, kafkaHealthChecker),
+        () -> cacheInvalidators.orderedStream().collect(Collectors.toList()));
+    final EntityService entityService = new EntityService(aspectDao, eventProducer, entityRegistry);
+    entityService.setAspectRecordCache(aspectRecordCache);
+    return entityService;
+  }
 
-    final KafkaEventProducer eventProducer = new KafkaEventProducer(producer, convention, kafkaHealthChecker);
-    return new EntityService(aspectDao, eventProducer, entityRegistry);
+  @Bean(name = "aspectRecordCache")
+  @Nonnull
+  protected AspectRecordCache createAspectRecordCache() {
+    return new AspectRecordCache(aspectRecordCacheMaxWeightBytes);
   }
 }
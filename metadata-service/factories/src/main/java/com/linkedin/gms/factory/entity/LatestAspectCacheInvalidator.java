@@ -0,0 +1,39 @@
+package com.linkedin.gms.factory.entity;
+
+import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.CachingAspectDao;
+import com.linkedin.metadata.event.CacheInvalidator;
+import com.linkedin.mxe.MetadataChangeLog;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Evicts latest aspects written by other instances from this instance's {@link CachingAspectDao}.
+ */
+@Component
+@ConditionalOnProperty(name = "entityService.latestAspectCache.enabled", havingValue = "true")
+public class LatestAspectCacheInvalidator implements CacheInvalidator {
+
+  private final CachingAspectDao _aspectDao;
+
+  @Autowired
+  public LatestAspectCacheInvalidator(@Qualifier("entityAspectDao") AspectDao aspectDao) {
+    _aspectDao = (CachingAspectDao) aspectDao;
+  }
+
+  @Override
+  public void invalidate(@Nonnull final MetadataChangeLog metadataChangeLog) {
+    if (metadataChangeLog.hasEntityUrn() && metadataChangeLog.hasAspectName()) {
+      _aspectDao.invalidate(metadataChangeLog.getEntityUrn().toString(), metadataChangeLog.getAspectName());
+    }
+  }
+
+  @Override
+  public boolean isWriteThrough() {
+    return true;
+  }
+}
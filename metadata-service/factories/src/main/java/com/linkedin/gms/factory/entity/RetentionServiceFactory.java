@@ -5,7 +5,9 @@ import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.RetentionService;
 import com.linkedin.metadata.entity.cassandra.CassandraRetentionService;
+import com.linkedin.metadata.entity.cassandra.CassandraTokenRangeScanner;
 import com.linkedin.metadata.entity.ebean.EbeanRetentionService;
+import com.linkedin.metadata.entity.retention.RetentionScheduler;
 import io.ebean.EbeanServer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -14,12 +16,14 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
 
 import javax.annotation.Nonnull;
 
 
 @Configuration
+@Import({CassandraTokenRangeScannerFactory.class})
 @PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class RetentionServiceFactory {
 
@@ -30,13 +34,28 @@ public class RetentionServiceFactory {
   @Value("${RETENTION_APPLICATION_BATCH_SIZE:1000}")
   private Integer _batchSize;
 
+  @Value("${entityService.retention.scheduler.enabled:false}")
+  private boolean _schedulerEnabled;
+
+  @Value("${entityService.retention.scheduler.maxPending:10000}")
+  private int _schedulerMaxPending;
+
+  @Value("${entityService.retention.scheduler.batchSize:100}")
+  private int _schedulerBatchSize;
+
+  @Value("${entityService.retention.scheduler.flushIntervalMs:1000}")
+  private long _schedulerFlushIntervalMs;
+
+  @Value("${entityService.retention.scheduler.maxAspectsPerSecond:0}")
+  private double _schedulerMaxAspectsPerSecond;
 
   @Bean(name = "retentionService")
-  @DependsOn({"cassandraSession", "entityService"})
+  @DependsOn({"cassandraSession", "cassandraTokenRangeScanner", "entityService"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
   @Nonnull
-  protected RetentionService createCassandraInstance(CqlSession session) {
-    RetentionService retentionService = new CassandraRetentionService(_entityService, session, _batchSize);
+  protected RetentionService createCassandraInstance(CqlSession session, CassandraTokenRangeScanner scanner) {
+    RetentionService retentionService = new CassandraRetentionService(_entityService, session, _batchSize, scanner);
+    configureScheduler(retentionService);
     _entityService.setRetentionService(retentionService);
     return retentionService;
   }
@@ -48,7 +67,15 @@ public class RetentionServiceFactory {
   @Nonnull
   protected RetentionService createEbeanInstance(EbeanServer server) {
     RetentionService retentionService = new EbeanRetentionService(_entityService, server, _batchSize);
+    configureScheduler(retentionService);
     _entityService.setRetentionService(retentionService);
     return retentionService;
   }
+
+  private void configureScheduler(RetentionService retentionService) {
+    if (_schedulerEnabled) {
+      retentionService.setRetentionScheduler(new RetentionScheduler(retentionService, _schedulerMaxPending,
+          _schedulerBatchSize, _schedulerFlushIntervalMs, _schedulerMaxAspectsPerSecond));
+    }
+  }
 }
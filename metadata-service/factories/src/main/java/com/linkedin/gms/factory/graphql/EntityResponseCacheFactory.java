@@ -0,0 +1,28 @@
+package com.linkedin.gms.factory.graphql;
+
+import com.linkedin.datahub.graphql.types.EntityResponseCache;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.config.GraphQLEntityCacheConfiguration;
+import javax.annotation.Nonnull;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+public class EntityResponseCacheFactory {
+
+  @Bean(name = "entityResponseCache")
+  @Nonnull
+  protected EntityResponseCache getInstance(ConfigurationProvider configurationProvider) {
+    final GraphQLEntityCacheConfiguration configuration = configurationProvider.getGraphQL() != null
+        ? configurationProvider.getGraphQL().getEntityCache() : null;
+    if (configuration == null || !configuration.isEnabled() || configuration.getEntityTypes() == null) {
+      return EntityResponseCache.DISABLED;
+    }
+    return new EntityResponseCache(configuration.getEntityTypes(), configuration.getMaxSize(),
+        configuration.getTtlSeconds());
+  }
+}
@@ -10,6 +10,7 @@ import com.linkedin.datahub.graphql.GmsGraphQLEngine;
 import com.linkedin.datahub.graphql.GmsGraphQLEngineArgs;
 import com.linkedin.datahub.graphql.GraphQLEngine;
 import com.linkedin.datahub.graphql.analytics.service.AnalyticsService;
+import com.linkedin.datahub.graphql.types.EntityResponseCache;
 import com.linkedin.metadata.client.JavaEntityClient;
 import com.linkedin.gms.factory.auth.DataHubTokenServiceFactory;
 import com.linkedin.gms.factory.common.GitVersionFactory;
@@ -48,7 +49,7 @@ import org.springframework.context.annotation.Import;
 @Configuration
 @Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, RestliEntityClientFactory.class,
     RecommendationServiceFactory.class, EntityRegistryFactory.class, DataHubTokenServiceFactory.class,
-    GitVersionFactory.class, SiblingGraphServiceFactory.class})
+    GitVersionFactory.class, SiblingGraphServiceFactory.class, EntityResponseCacheFactory.class})
 public class GraphQLEngineFactory {
   @Autowired
   @Qualifier("elasticSearchRestHighLevelClient")
@@ -144,6 +145,10 @@ public class GraphQLEngineFactory {
   @Qualifier("lineageService")
   private LineageService _lineageService;
 
+  @Autowired
+  @Qualifier("entityResponseCache")
+  private EntityResponseCache _entityResponseCache;
+
   @Value("${platformAnalytics.enabled}") // TODO: Migrate to DATAHUB_ANALYTICS_ENABLED
   private Boolean isAnalyticsEnabled;
 
@@ -176,6 +181,8 @@ public class GraphQLEngineFactory {
     args.setTestsConfiguration(_configProvider.getMetadataTests());
     args.setDatahubConfiguration(_configProvider.getDatahub());
     args.setViewsConfiguration(_configProvider.getViews());
+    args.setGraphQLConfiguration(_configProvider.getGraphQL());
+    args.setEntityResponseCache(_entityResponseCache);
     args.setSiblingGraphService(_siblingGraphService);
     args.setGroupService(_groupService);
     args.setRoleService(_roleService);
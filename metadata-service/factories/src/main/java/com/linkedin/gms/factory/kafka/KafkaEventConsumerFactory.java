@@ -23,6 +23,7 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 
 
 @Slf4j
@@ -106,4 +107,47 @@ public class KafkaEventConsumerFactory {
 
     return factory;
   }
+
+  /**
+   * Same as the event consumer, but delivers the records of each poll to the listener as a single list so that
+   * consumers are able to process them as one batch.
+   */
+  @Bean(name = "kafkaBatchEventConsumer")
+  protected KafkaListenerContainerFactory<?> createBatchInstance(
+          @Qualifier("kafkaConsumerFactory") DefaultKafkaConsumerFactory<String, GenericRecord> defaultKafkaConsumerFactory,
+          @Qualifier("kafkaEventConsumerConcurrency") int concurrency) {
+
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(defaultKafkaConsumerFactory);
+    factory.setContainerCustomizer(new ThreadPoolContainerCustomizer());
+    factory.setConcurrency(concurrency);
+    factory.setBatchListener(true);
+
+    log.info(String.format("Event-based batch KafkaListenerContainerFactory built successfully. Consumers = %s",
+            concurrency));
+
+    return factory;
+  }
+
+  /**
+   * Single consumer that never commits offsets, for listeners that assign themselves partitions rather than joining a
+   * consumer group, and always start reading from the end of the log.
+   */
+  @Bean(name = "kafkaUncommittedEventConsumer")
+  protected KafkaListenerContainerFactory<?> createUncommittedInstance(
+          @Qualifier("kafkaConsumerFactory") DefaultKafkaConsumerFactory<String, GenericRecord> defaultKafkaConsumerFactory) {
+
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(defaultKafkaConsumerFactory);
+    factory.setContainerCustomizer(new ThreadPoolContainerCustomizer());
+    factory.setConcurrency(1);
+    // Records are never acknowledged, so no offsets are committed
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+    log.info("Event-based uncommitted KafkaListenerContainerFactory built successfully.");
+
+    return factory;
+  }
 }
@@ -44,6 +44,21 @@ public class ElasticSearchBulkProcessorFactory {
   @Value("${elasticsearch.bulkProcessor.refreshPolicy}")
   private String refreshPolicy;
 
+  @Value("${elasticsearch.bulkProcessor.adaptive.enabled}")
+  private Boolean adaptive;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.minRequestsLimit}")
+  private Integer minBulkRequestsLimit;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.maxRequestsLimit}")
+  private Integer maxBulkRequestsLimit;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.maxConcurrentRequests}")
+  private Integer maxConcurrentRequests;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.targetLatencyMs}")
+  private Long targetLatencyMs;
+
   @Bean(name = "elasticSearchBulkProcessor")
   @Nonnull
   protected ESBulkProcessor getInstance() {
@@ -53,6 +68,12 @@ public class ElasticSearchBulkProcessorFactory {
             .bulkRequestsLimit(bulkRequestsLimit)
             .retryInterval(retryInterval)
             .numRetries(numRetries)
+            .adaptive(adaptive)
+            .minBulkRequestsLimit(minBulkRequestsLimit)
+            .maxBulkRequestsLimit(maxBulkRequestsLimit)
+            .maxConcurrentRequests(maxConcurrentRequests)
+            .targetLatencyMs(targetLatencyMs)
+            .name("elasticSearchBulkProcessor")
             .writeRequestRefreshPolicy(WriteRequest.RefreshPolicy.valueOf(refreshPolicy))
             .build();
   }
@@ -0,0 +1,61 @@
+package com.linkedin.gms.factory.search;
+
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
+import com.linkedin.metadata.search.cache.EntityLineageResultCacheIndex;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.search.EntityLineageResultCacheKey;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+
+@Configuration
+@PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
+public class EntityLineageResultCacheIndexFactory {
+  public static final String LINEAGE_CACHE_NAME = "relationshipSearchService";
+  public static final String LINEAGE_CACHE_INDEX_NAME = "relationshipSearchServiceIndex";
+
+  @Autowired(required = false)
+  private CacheManager cacheManager;
+
+  // Closed by Spring, which infers the destroy method of beans
+  @Bean(name = "entityLineageResultCacheIndex")
+  @Nonnull
+  protected EntityLineageResultCacheIndex getInstance(ConfigurationProvider configurationProvider) {
+    boolean cacheEnabled = cacheManager != null
+        && configurationProvider.getFeatureFlags().isLineageSearchCacheEnabled();
+    return cacheEnabled
+        ? new EntityLineageResultCacheIndex(cacheManager.getCache(LINEAGE_CACHE_NAME),
+            asMap(cacheManager.getCache(LINEAGE_CACHE_INDEX_NAME)))
+        : new EntityLineageResultCacheIndex(null, null);
+  }
+
+  /**
+   * The index is updated with atomic merges, which Spring caches do not offer, so the native map of the cache is used:
+   * the IMap of Hazelcast caches, the map view of Caffeine caches, or the map of concurrent map caches.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private static ConcurrentMap<Urn, Set<EntityLineageResultCacheKey>> asMap(@Nullable Cache indexCache) {
+    if (indexCache == null) {
+      return null;
+    }
+    final Object nativeCache = indexCache.getNativeCache();
+    if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache) {
+      return ((com.github.benmanes.caffeine.cache.Cache<Urn, Set<EntityLineageResultCacheKey>>) nativeCache).asMap();
+    }
+    if (nativeCache instanceof ConcurrentMap) {
+      return (ConcurrentMap<Urn, Set<EntityLineageResultCacheKey>>) nativeCache;
+    }
+    throw new IllegalStateException(
+        String.format("Unsupported cache %s for the lineage cache index", nativeCache.getClass().getName()));
+  }
+}
@@ -6,6 +6,7 @@ import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.LineageSearchService;
 import com.linkedin.metadata.search.SearchService;
+import com.linkedin.metadata.search.cache.EntityLineageResultCacheIndex;
 import javax.annotation.Nonnull;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -16,7 +17,7 @@ import org.springframework.context.annotation.PropertySource;
 
 
 @Configuration
-@Import({GraphServiceFactory.class})
+@Import({GraphServiceFactory.class, EntityLineageResultCacheIndexFactory.class})
 @PropertySource(value = "classpath:/application.yml", factory = YamlPropertySourceFactory.class)
 public class LineageSearchServiceFactory {
 
@@ -24,9 +25,11 @@ public class LineageSearchServiceFactory {
   @Primary
   @Nonnull
   protected LineageSearchService getInstance(CacheManager cacheManager, GraphService graphService,
-       SearchService searchService, ConfigurationProvider configurationProvider) {
+       SearchService searchService, ConfigurationProvider configurationProvider,
+       EntityLineageResultCacheIndex entityLineageResultCacheIndex) {
     boolean cacheEnabled = configurationProvider.getFeatureFlags().isLineageSearchCacheEnabled();
     return new LineageSearchService(searchService, graphService,
-        cacheEnabled ? cacheManager.getCache("relationshipSearchService") : null, cacheEnabled);
+        cacheEnabled ? cacheManager.getCache(EntityLineageResultCacheIndexFactory.LINEAGE_CACHE_NAME) : null,
+        cacheEnabled, entityLineageResultCacheIndex);
   }
 }
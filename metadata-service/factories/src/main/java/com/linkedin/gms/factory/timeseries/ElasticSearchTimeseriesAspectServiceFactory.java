@@ -6,9 +6,11 @@ import com.linkedin.gms.factory.spring.YamlPropertySourceFactory;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.timeseries.elastic.ElasticSearchTimeseriesAspectService;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesAspectIndexBuilders;
+import com.linkedin.metadata.timeseries.elastic.rollup.ESTimeseriesRollupDAO;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -27,11 +29,28 @@ public class ElasticSearchTimeseriesAspectServiceFactory {
   @Qualifier("entityRegistry")
   private EntityRegistry entityRegistry;
 
-  @Bean(name = "elasticSearchTimeseriesAspectService")
+  @Value("${elasticsearch.timeseries.rollups.enabled:false}")
+  private boolean rollupsEnabled;
+
+  @Value("${elasticsearch.timeseries.rollups.query:false}")
+  private boolean queryRollups;
+
+  @Value("${elasticsearch.timeseries.rollups.flushPeriodSeconds:60}")
+  private long rollupsFlushPeriodSeconds;
+
+  @Value("${elasticsearch.timeseries.routeByUrn:false}")
+  private boolean routeByUrn;
+
+  @Bean(name = "elasticSearchTimeseriesAspectService", destroyMethod = "close")
   @Nonnull
   protected ElasticSearchTimeseriesAspectService getInstance() {
+    final ESTimeseriesRollupDAO rollupDAO = rollupsEnabled
+        ? new ESTimeseriesRollupDAO(components.getIndexConvention(), components.getSearchClient(),
+            components.getBulkProcessor(), entityRegistry, rollupsFlushPeriodSeconds)
+        : null;
     return new ElasticSearchTimeseriesAspectService(components.getSearchClient(), components.getIndexConvention(),
         new TimeseriesAspectIndexBuilders(components.getIndexBuilder(), entityRegistry,
-            components.getIndexConvention()), entityRegistry, components.getBulkProcessor(), components.getNumRetries());
+            components.getIndexConvention(), rollupsEnabled), entityRegistry, components.getBulkProcessor(),
+        components.getNumRetries(), rollupDAO, queryRollups, routeByUrn);
   }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.boot.steps;
 
+import com.google.common.collect.ImmutableList;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.DataPlatformInstance;
 import com.linkedin.common.urn.Urn;
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 import java.util.Optional;
 
 import static com.linkedin.metadata.Constants.*;
@@ -56,11 +58,16 @@ public class IngestDataPlatformInstancesStep implements BootstrapStep {
 
     long numEntities = _migrationsDao.countEntities();
     int start = 0;
+    // Urns are listed after the last urn of the previous batch, so deep batches are as cheap as the first one
+    String afterUrn = null;
 
     while (start < numEntities) {
       log.info("Reading urns {} to {} from the aspects table to generate dataplatform instance aspects", start,
           start + BATCH_SIZE);
-      Iterable<String> urns = _migrationsDao.listAllUrns(start, start + BATCH_SIZE);
+      List<String> urns = ImmutableList.copyOf(_migrationsDao.listAllUrns(afterUrn, BATCH_SIZE));
+      if (urns.isEmpty()) {
+        break;
+      }
       for (String urnStr : urns) {
         Urn urn = Urn.createFromString(urnStr);
         Optional<DataPlatformInstance> dataPlatformInstance = getDataPlatformInstance(urn);
@@ -75,6 +82,7 @@ public class IngestDataPlatformInstancesStep implements BootstrapStep {
       }
       log.info("Finished ingesting DataPlatformInstance for urn {} to {}", start, start + BATCH_SIZE);
       start += BATCH_SIZE;
+      afterUrn = urns.get(urns.size() - 1);
     }
     log.info("Finished ingesting DataPlatformInstance for all entities");
   }
@@ -26,6 +26,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -91,11 +92,11 @@ public class RestoreDbtSiblingsIndices implements BootstrapStep {
       final DataHubUpgradeRequest upgradeRequest = new DataHubUpgradeRequest().setTimestampMs(System.currentTimeMillis()).setVersion(VERSION);
       ingestUpgradeAspect(Constants.DATA_HUB_UPGRADE_REQUEST_ASPECT_NAME, upgradeRequest, auditStamp);
 
-      int indexedCount = 0;
-      while (indexedCount < rowCount) {
-        getAndRestoreUpstreamLineageIndices(indexedCount, auditStamp, datasetAspectSpec);
-        indexedCount += BATCH_SIZE;
-      }
+      // Datasets are listed after the last urn of the previous batch, so deep batches are as cheap as the first one
+      Urn afterUrn = null;
+      do {
+        afterUrn = getAndRestoreUpstreamLineageIndices(afterUrn, auditStamp, datasetAspectSpec);
+      } while (afterUrn != null);
 
       final DataHubUpgradeResult upgradeResult = new DataHubUpgradeResult().setTimestampMs(System.currentTimeMillis());
       ingestUpgradeAspect(Constants.DATA_HUB_UPGRADE_RESULT_ASPECT_NAME, upgradeResult, auditStamp);
@@ -108,13 +109,21 @@ public class RestoreDbtSiblingsIndices implements BootstrapStep {
     }
   }
 
-  private void getAndRestoreUpstreamLineageIndices(int start, AuditStamp auditStamp, AspectSpec upstreamAspectSpec) {
-    ListUrnsResult datasetUrnsResult = _entityService.listUrns(DATASET_ENTITY_NAME, start, BATCH_SIZE);
+  /**
+   * Restores the upstream lineage indices of the batch of datasets listed after the given urn.
+   *
+   * @return the urn to list the next batch after, null if this was the last batch
+   */
+  @Nullable
+  private Urn getAndRestoreUpstreamLineageIndices(@Nullable Urn afterUrn, AuditStamp auditStamp,
+      AspectSpec upstreamAspectSpec) {
+    ListUrnsResult datasetUrnsResult =
+        _entityService.listUrns(DATASET_ENTITY_NAME, afterUrn == null ? null : afterUrn.toString(), BATCH_SIZE);
     List<Urn> datasetUrns = datasetUrnsResult.getEntities();
-    log.info("Re-indexing upstreamLineage aspect from {} with batch size {}", start, BATCH_SIZE);
+    log.info("Re-indexing upstreamLineage aspect after {} with batch size {}", afterUrn, BATCH_SIZE);
 
     if (datasetUrns.size() == 0) {
-      return;
+      return null;
     }
 
    final Map<Urn, EntityResponse> upstreamLineageResponse;
@@ -149,6 +158,7 @@ public class RestoreDbtSiblingsIndices implements BootstrapStep {
           auditStamp,
           ChangeType.RESTATE);
     }
+    return datasetUrnsResult.getNextAfter();
   }
 
   private UpstreamLineage getUpstreamLineage(EntityResponse entityResponse) {
@@ -0,0 +1,78 @@
+package io.datahubproject.openapi.timeseries;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.timeseries.TimeseriesDocumentBatch;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.datahubproject.openapi.generated.MetadataChangeProposal;
+import io.datahubproject.openapi.util.MappingUtil;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.HttpClientErrorException;
+
+
+@RestController
+@RequestMapping("/timeseries/v1")
+@Slf4j
+@Tag(name = "Timeseries", description = "APIs for ingesting high volumes of timeseries aspects")
+public class TimeseriesController {
+
+  private final EntityService _entityService;
+  private final TimeseriesAspectService _timeseriesAspectService;
+  private final ObjectMapper _objectMapper;
+
+  public TimeseriesController(EntityService entityService,
+      @Qualifier("timeseriesAspectService") TimeseriesAspectService timeseriesAspectService,
+      ObjectMapper objectMapper) {
+    _entityService = entityService;
+    _timeseriesAspectService = timeseriesAspectService;
+    _objectMapper = objectMapper;
+  }
+
+  /**
+   * Writes UPSERT proposals of timeseries aspects straight to their indices, with one bulk upsert per aspect, without
+   * emitting change logs for them.
+   *
+   * @return urns of the entities of the proposals, in order
+   */
+  @PostMapping(value = "/", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<String>> postTimeseriesAspects(
+      @RequestBody @Nonnull List<MetadataChangeProposal> metadataChangeProposals) {
+    log.info("INGEST TIMESERIES BATCH size: {}", metadataChangeProposals.size());
+    final Timer.Context context = MetricUtils.timer("postTimeseriesAspects").time();
+    final TimeseriesDocumentBatch batch = new TimeseriesDocumentBatch();
+    final List<String> urns = new ArrayList<>(metadataChangeProposals.size());
+    try {
+      for (MetadataChangeProposal proposal : metadataChangeProposals) {
+        urns.add(batch.add(MappingUtil.mapToServiceProposal(proposal, _objectMapper),
+            _entityService.getEntityRegistry()).toString());
+      }
+      batch.upsert(_timeseriesAspectService);
+      MetricUtils.counter(MetricRegistry.name("postTimeseriesAspects", "success")).inc();
+      return ResponseEntity.ok(urns);
+    } catch (IllegalArgumentException e) {
+      MetricUtils.counter(MetricRegistry.name("postTimeseriesAspects", "failed")).inc();
+      throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, e.getMessage(), null, null, null);
+    } catch (JsonProcessingException e) {
+      MetricUtils.counter(MetricRegistry.name("postTimeseriesAspects", "failed")).inc();
+      throw HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage(), null, null, null);
+    } finally {
+      context.stop();
+    }
+  }
+}
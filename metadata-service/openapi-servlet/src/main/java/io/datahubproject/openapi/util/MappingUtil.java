@@ -240,6 +240,38 @@ public class MappingUtil {
     final com.linkedin.common.AuditStamp auditStamp =
         new com.linkedin.common.AuditStamp().setTime(System.currentTimeMillis())
             .setActor(UrnUtils.getUrn(actorUrn));
+
+    final com.linkedin.mxe.MetadataChangeProposal serviceProposal =
+        mapToServiceProposal(metadataChangeProposal, objectMapper);
+
+    final List<com.linkedin.mxe.MetadataChangeProposal> additionalChanges =
+        AspectUtils.getAdditionalChanges(serviceProposal, entityService);
+
+    log.info("Proposal: {}", serviceProposal);
+    Throwable exceptionally = null;
+    try {
+      EntityService.IngestProposalResult proposalResult = entityService.ingestProposal(serviceProposal, auditStamp, false);
+      Urn urn = proposalResult.getUrn();
+      additionalChanges.forEach(proposal -> entityService.ingestProposal(proposal, auditStamp, false));
+      return new Pair<>(urn.toString(), proposalResult.isDidUpdate());
+    } catch (ValidationException ve) {
+      exceptionally = ve;
+      throw HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_ENTITY, ve.getMessage(), null, null, null);
+    } catch (Exception e) {
+      exceptionally = e;
+      throw e;
+    } finally {
+      if (exceptionally != null) {
+        MetricUtils.counter(MetricRegistry.name("postEntity", "failed")).inc();
+      } else {
+        MetricUtils.counter(MetricRegistry.name("postEntity", "success")).inc();
+      }
+      context.stop();
+    }
+  }
+
+  public static com.linkedin.mxe.MetadataChangeProposal mapToServiceProposal(
+      MetadataChangeProposal metadataChangeProposal, ObjectMapper objectMapper) {
     io.datahubproject.openapi.generated.KafkaAuditHeader auditHeader = metadataChangeProposal.getAuditHeader();
 
     com.linkedin.mxe.MetadataChangeProposal serviceProposal =
@@ -287,31 +319,7 @@ public class MappingUtil {
         ? serviceProposal.setAspect(
         MappingUtil.convertGenericAspect(metadataChangeProposal.getAspect(), objectMapper))
         : serviceProposal;
-
-    final List<com.linkedin.mxe.MetadataChangeProposal> additionalChanges =
-        AspectUtils.getAdditionalChanges(serviceProposal, entityService);
-
-    log.info("Proposal: {}", serviceProposal);
-    Throwable exceptionally = null;
-    try {
-      EntityService.IngestProposalResult proposalResult = entityService.ingestProposal(serviceProposal, auditStamp, false);
-      Urn urn = proposalResult.getUrn();
-      additionalChanges.forEach(proposal -> entityService.ingestProposal(proposal, auditStamp, false));
-      return new Pair<>(urn.toString(), proposalResult.isDidUpdate());
-    } catch (ValidationException ve) {
-      exceptionally = ve;
-      throw HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_ENTITY, ve.getMessage(), null, null, null);
-    } catch (Exception e) {
-      exceptionally = e;
-      throw e;
-    } finally {
-      if (exceptionally != null) {
-        MetricUtils.counter(MetricRegistry.name("postEntity", "failed")).inc();
-      } else {
-        MetricUtils.counter(MetricRegistry.name("postEntity", "success")).inc();
-      }
-      context.stop();
-    }
+    return serviceProposal;
   }
 
   public static MetadataChangeProposal mapToProposal(UpsertAspectRequest aspectRequest) {
@@ -0,0 +1,56 @@
+package com.linkedin.entity.client;
+
+import com.linkedin.data.DataMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+
+
+/**
+ * Thrown when a batch of proposals fails part way through. Batches are not atomic: the proposals preceding
+ * {@link #getCommittedCount()} have been committed, and the others have not, so that only those need retrying.
+ */
+@Getter
+public class BatchIngestProposalsException extends RuntimeException {
+
+  // Keys of the error details of the Rest.li error responses reporting the failure of a batch
+  public static final String COMMITTED_COUNT = "committedCount";
+  public static final String FAILED_INDEX = "failedIndex";
+
+  // Number of proposals, from the start of the batch, which have been committed
+  private final int committedCount;
+  // Index of the proposal whose ingestion failed, or of the first proposal of a group whose commit failed
+  private final int failedIndex;
+
+  public BatchIngestProposalsException(int committedCount, int failedIndex, @Nullable Throwable cause) {
+    super(String.format("Failed to ingest proposal %d of the batch, after committing %d proposals", failedIndex,
+        committedCount), cause);
+    this.committedCount = committedCount;
+    this.failedIndex = failedIndex;
+  }
+
+  /**
+   * @return the error details of the Rest.li error responses reporting the failure
+   */
+  @Nonnull
+  public DataMap toErrorDetails() {
+    final DataMap errorDetails = new DataMap();
+    errorDetails.put(COMMITTED_COUNT, committedCount);
+    errorDetails.put(FAILED_INDEX, failedIndex);
+    return errorDetails;
+  }
+
+  /**
+   * @return the failure reported by the error details of a Rest.li error response, or null if it reports none
+   */
+  @Nullable
+  public static BatchIngestProposalsException fromErrorDetails(@Nullable DataMap errorDetails,
+      @Nullable Throwable cause) {
+    if (errorDetails == null || !(errorDetails.get(COMMITTED_COUNT) instanceof Integer)
+        || !(errorDetails.get(FAILED_INDEX) instanceof Integer)) {
+      return null;
+    }
+    return new BatchIngestProposalsException(errorDetails.getInteger(COMMITTED_COUNT),
+        errorDetails.getInteger(FAILED_INDEX), cause);
+  }
+}
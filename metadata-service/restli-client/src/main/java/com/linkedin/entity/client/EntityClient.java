@@ -24,12 +24,12 @@ import com.linkedin.mxe.PlatformEvent;
 import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.r2.RemoteInvocationException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -254,6 +254,12 @@ public interface EntityClient {
   public ListUrnsResult listUrns(@Nonnull final String entityName, final int start, final int count,
       @Nonnull final Authentication authentication) throws RemoteInvocationException;
 
+  /**
+   * List the urns existing for a particular Entity type, starting right after the last urn of the previous page.
+   */
+  public ListUrnsResult listUrns(@Nonnull final String entityName, @Nullable final Urn afterUrn, final int count,
+      @Nonnull final Authentication authentication) throws RemoteInvocationException;
+
   /**
    * Hard delete an entity with a particular urn.
    */
@@ -337,11 +343,23 @@ public interface EntityClient {
     return batchIngestProposals(metadataChangeProposals, authentication, false);
   }
 
+  /**
+   * Ingests a batch of proposals, in the order they were provided.
+   *
+   * @throws BatchIngestProposalsException if the batch failed part way through, reporting which proposals were
+   * committed
+   */
   default List<String> batchIngestProposals(@Nonnull final Collection<MetadataChangeProposal> metadataChangeProposals,
       @Nonnull final Authentication authentication, final boolean async) throws RemoteInvocationException {
-    return metadataChangeProposals.stream()
-        .map(proposal -> wrappedIngestProposal(proposal, authentication, async))
-        .collect(Collectors.toList());
+    final List<String> urns = new ArrayList<>(metadataChangeProposals.size());
+    for (MetadataChangeProposal proposal : metadataChangeProposals) {
+      try {
+        urns.add(ingestProposal(proposal, authentication, async));
+      } catch (RemoteInvocationException | RuntimeException e) {
+        throw new BatchIngestProposalsException(urns.size(), urns.size(), e);
+      }
+    }
+    return urns;
   }
 
   @Nonnull
@@ -11,6 +11,7 @@ import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.entity.AspectsDoGetTimeseriesAspectValuesRequestBuilder;
+import com.linkedin.entity.AspectsDoIngestProposalBatchRequestBuilder;
 import com.linkedin.entity.AspectsDoIngestProposalRequestBuilder;
 import com.linkedin.entity.AspectsGetRequestBuilder;
 import com.linkedin.entity.AspectsRequestBuilders;
@@ -59,6 +60,7 @@ import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.LineageSearchResult;
 import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.MetadataChangeProposalArray;
 import com.linkedin.mxe.PlatformEvent;
 import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.parseq.retry.backoff.BackoffPolicy;
@@ -521,6 +523,19 @@ public class RestliEntityClient extends BaseClient implements EntityClient {
     return sendClientRequest(requestBuilder, authentication).getEntity();
   }
 
+  /**
+   * List the urns existing for a particular Entity type, starting right after the last urn of the previous page.
+   */
+  public ListUrnsResult listUrns(@Nonnull final String entityName, @Nullable final Urn afterUrn, final int count,
+      @Nonnull final Authentication authentication) throws RemoteInvocationException {
+    EntitiesDoListUrnsRequestBuilder requestBuilder =
+        ENTITIES_REQUEST_BUILDERS.actionListUrns().entityParam(entityName).startParam(0).countParam(count);
+    if (afterUrn != null) {
+      requestBuilder.afterParam(afterUrn.toString());
+    }
+    return sendClientRequest(requestBuilder, authentication).getEntity();
+  }
+
   /**
    * Hard delete an entity with a particular urn.
    */
@@ -666,6 +681,31 @@ public class RestliEntityClient extends BaseClient implements EntityClient {
     return sendClientRequest(requestBuilder, authentication).getEntity();
   }
 
+  /**
+   * Ingest a batch of MetadataChangeProposal events in a single request.
+   * @return the urns of the entities the proposals were applied to, in the order they were provided
+   * @throws BatchIngestProposalsException if the batch failed part way through
+   */
+  @Override
+  public List<String> batchIngestProposals(@Nonnull final Collection<MetadataChangeProposal> metadataChangeProposals,
+                                           @Nonnull final Authentication authentication,
+                                           final boolean async) throws RemoteInvocationException {
+    final AspectsDoIngestProposalBatchRequestBuilder requestBuilder =
+        ASPECTS_REQUEST_BUILDERS.actionIngestProposalBatch()
+            .proposalsParam(new MetadataChangeProposalArray(metadataChangeProposals))
+            .asyncParam(String.valueOf(async));
+    try {
+      return sendClientRequest(requestBuilder, authentication).getEntity();
+    } catch (RestLiResponseException e) {
+      final BatchIngestProposalsException batchException =
+          BatchIngestProposalsException.fromErrorDetails(e.hasErrorDetails() ? e.getErrorDetails() : null, e);
+      if (batchException != null) {
+        throw batchException;
+      }
+      throw e;
+    }
+  }
+
   public <T extends RecordTemplate> Optional<T> getVersionedAspect(@Nonnull String urn, @Nonnull String aspect,
       @Nonnull Long version, @Nonnull Class<T> aspectClass, @Nonnull final Authentication authentication)
       throws RemoteInvocationException {
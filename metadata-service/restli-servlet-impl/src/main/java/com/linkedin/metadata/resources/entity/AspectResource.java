@@ -3,9 +3,12 @@ package com.linkedin.metadata.resources.entity;
 import com.codahale.metrics.MetricRegistry;
 import com.datahub.authentication.Authentication;
 import com.datahub.authentication.AuthenticationContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.linkedin.aspect.GetTimeseriesAspectValuesResponse;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.entity.client.BatchIngestProposalsException;
 import com.linkedin.metadata.aspect.EnvelopedAspectArray;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.entity.AspectUtils;
@@ -16,6 +19,7 @@ import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.timeseries.TimeseriesDocumentBatch;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.parseq.Task;
@@ -32,8 +36,11 @@ import com.linkedin.restli.server.resources.CollectionResourceTaskTemplate;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -55,12 +62,15 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
 
   private static final String ACTION_GET_TIMESERIES_ASPECT = "getTimeseriesAspectValues";
   private static final String ACTION_INGEST_PROPOSAL = "ingestProposal";
+  private static final String ACTION_INGEST_PROPOSAL_BATCH = "ingestProposalBatch";
+  private static final String ACTION_INGEST_TIMESERIES_BATCH = "ingestTimeseriesBatch";
   private static final String ACTION_GET_COUNT = "getCount";
   private static final String ACTION_RESTORE_INDICES = "restoreIndices";
 
   private static final String PARAM_ENTITY = "entity";
   private static final String PARAM_ASPECT = "aspect";
   private static final String PARAM_PROPOSAL = "proposal";
+  private static final String PARAM_PROPOSALS = "proposals";
   private static final String PARAM_START_TIME_MILLIS = "startTimeMillis";
   private static final String PARAM_END_TIME_MILLIS = "endTimeMillis";
   private static final String PARAM_LATEST_VALUE = "latestValue";
@@ -174,6 +184,96 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
     }, MetricRegistry.name(this.getClass(), "ingestProposal"));
   }
 
+  @Action(name = ACTION_INGEST_PROPOSAL_BATCH)
+  @Nonnull
+  @WithSpan
+  public Task<StringArray> ingestProposalBatch(
+      @ActionParam(PARAM_PROPOSALS) @Nonnull MetadataChangeProposal[] metadataChangeProposals,
+      @ActionParam(PARAM_ASYNC) @Optional(UNSET) String async) throws URISyntaxException {
+    log.info("INGEST PROPOSAL BATCH size: {}", metadataChangeProposals.length);
+
+    boolean asyncBool;
+    if (UNSET.equals(async)) {
+      asyncBool = Boolean.parseBoolean(System.getenv(ASYNC_INGEST_DEFAULT_NAME));
+    } else {
+      asyncBool = Boolean.parseBoolean(async);
+    }
+
+    Authentication authentication = AuthenticationContext.getAuthentication();
+    String actorUrnStr = authentication.getActor().toUrnStr();
+    final AuditStamp auditStamp = new AuditStamp().setTime(_clock.millis()).setActor(Urn.createFromString(actorUrnStr));
+
+    return RestliUtil.toTask(() -> {
+      try {
+        final List<MetadataChangeProposal> proposals = Arrays.asList(metadataChangeProposals);
+        final List<List<MetadataChangeProposal>> additionalChanges = proposals.stream()
+            .map(proposal -> AspectUtils.getAdditionalChanges(proposal, _entityService))
+            .collect(Collectors.toList());
+
+        final List<EntityService.IngestProposalResult> results;
+        try {
+          results = _entityService.ingestProposals(proposals, auditStamp, asyncBool);
+        } catch (BatchIngestProposalsException e) {
+          // The proposals committed get their additional changes all the same, as only the others are retried
+          _entityService.ingestProposals(additionalChanges.subList(0, e.getCommittedCount()).stream()
+              .flatMap(List::stream)
+              .collect(Collectors.toList()), auditStamp, asyncBool);
+          // The client is told which proposals were committed
+          final RestLiServiceException exception = new RestLiServiceException(
+              e.getCause() instanceof ValidationException ? HttpStatus.S_422_UNPROCESSABLE_ENTITY
+                  : HttpStatus.S_500_INTERNAL_SERVER_ERROR, e.getMessage(), e.getCause());
+          exception.setErrorDetails(e.toErrorDetails());
+          throw exception;
+        }
+        _entityService.ingestProposals(additionalChanges.stream().flatMap(List::stream).collect(Collectors.toList()),
+            auditStamp, asyncBool);
+
+        final StringArray urns = new StringArray();
+        for (int i = 0; i < results.size(); i++) {
+          final EntityService.IngestProposalResult result = results.get(i);
+          if (!result.isQueued()) {
+            tryIndexRunId(result.getUrn(), proposals.get(i).getSystemMetadata(), _entitySearchService);
+          }
+          urns.add(result.getUrn().toString());
+        }
+        return urns;
+      } catch (ValidationException e) {
+        throw new RestLiServiceException(HttpStatus.S_422_UNPROCESSABLE_ENTITY, e.getMessage());
+      }
+    }, MetricRegistry.name(this.getClass(), "ingestProposalBatch"));
+  }
+
+  /**
+   * Writes the values of timeseries aspects straight to their indices, with one bulk upsert per aspect, rather than
+   * emitting a change log for each one of them. Meant for high volumes of statistics, such as profiles and operations.
+   *
+   * This action skips the MCL entirely: MCL hooks and any other downstream MCL consumers never see these writes. Use
+   * {@link #ingestProposalBatch} for aspects they need to observe.
+   */
+  @Action(name = ACTION_INGEST_TIMESERIES_BATCH)
+  @Nonnull
+  @WithSpan
+  public Task<StringArray> ingestTimeseriesBatch(
+      @ActionParam(PARAM_PROPOSALS) @Nonnull MetadataChangeProposal[] metadataChangeProposals) {
+    log.info("INGEST TIMESERIES BATCH size: {}", metadataChangeProposals.length);
+
+    return RestliUtil.toTask(() -> {
+      final TimeseriesDocumentBatch batch = new TimeseriesDocumentBatch();
+      final StringArray urns = new StringArray();
+      try {
+        for (MetadataChangeProposal proposal : metadataChangeProposals) {
+          urns.add(batch.add(proposal, _entityService.getEntityRegistry()).toString());
+        }
+      } catch (IllegalArgumentException e) {
+        throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST, e.getMessage());
+      } catch (JsonProcessingException e) {
+        throw new RestLiServiceException(HttpStatus.S_422_UNPROCESSABLE_ENTITY, e.getMessage());
+      }
+      batch.upsert(_timeseriesAspectService);
+      return urns;
+    }, MetricRegistry.name(this.getClass(), "ingestTimeseriesBatch"));
+  }
+
   @Action(name = ACTION_GET_COUNT)
   @Nonnull
   @WithSpan
@@ -10,7 +10,9 @@ import com.linkedin.execution.ExecutionRequestResult;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.entity.EntityService;
-import com.linkedin.metadata.entity.RollbackRunResult;
+import com.linkedin.metadata.entity.rollback.RollbackRunArgs;
+import com.linkedin.metadata.entity.rollback.RollbackRunJob;
+import com.linkedin.metadata.entity.rollback.RollbackRunSummary;
 import com.linkedin.metadata.key.ExecutionRequestKey;
 import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.metadata.run.AspectRowSummary;
@@ -36,7 +38,6 @@ import com.linkedin.timeseries.DeleteAspectValuesResult;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -58,7 +59,11 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
   private static final boolean DEFAULT_INCLUDE_SOFT_DELETED = false;
   private static final boolean DEFAULT_HARD_DELETE = false;
   private static final Integer ELASTIC_MAX_PAGE_SIZE = 10000;
-  private static final Integer ELASTIC_BATCH_DELETE_SLEEP_SEC = 5;
+  private static final Integer ROLLBACK_PAGE_SIZE = 1000;
+  private static final Integer ROLLBACK_BATCH_SIZE =
+      Integer.parseInt(System.getenv().getOrDefault("ROLLBACK_BATCH_SIZE", "100"));
+  private static final Integer ROLLBACK_NUM_THREADS =
+      Integer.parseInt(System.getenv().getOrDefault("ROLLBACK_NUM_THREADS", "4"));
   private static final String ROLLING_BACK_STATUS = "ROLLING_BACK";
   private static final String ROLLED_BACK_STATUS = "ROLLED_BACK";
   private static final String ROLLBACK_FAILED_STATUS = "ROLLBACK_FAILED";
@@ -104,11 +109,11 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
         }
 
         RollbackResponse response = new RollbackResponse();
-        List<AspectRowSummary> aspectRowsToDelete;
-        aspectRowsToDelete = _systemMetadataService.findByRunId(runId, doHardDelete, 0, ESUtils.MAX_RESULT_SIZE);
-
-        log.info("found {} rows to delete...", stringifyRowCount(aspectRowsToDelete.size()));
         if (dryRun) {
+          List<AspectRowSummary> aspectRowsToDelete;
+          aspectRowsToDelete = _systemMetadataService.findByRunId(runId, doHardDelete, 0, ESUtils.MAX_RESULT_SIZE);
+
+          log.info("found {} rows to delete...", stringifyRowCount(aspectRowsToDelete.size()));
 
           final Map<Boolean, List<AspectRowSummary>> aspectsSplitByIsKeyAspects =
               aspectRowsToDelete.stream().collect(Collectors.partitioningBy(AspectRowSummary::isKeyAspect));
@@ -160,39 +165,32 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
               .setAspectRowSummaries(rowSummaries);
         }
 
-        RollbackRunResult rollbackRunResult = _entityService.rollbackRun(aspectRowsToDelete, runId, doHardDelete);
-        final List<AspectRowSummary> deletedRows = rollbackRunResult.getRowsRolledBack();
-        int rowsDeletedFromEntityDeletion = rollbackRunResult.getRowsDeletedFromEntityDeletion();
-
-        // since elastic limits how many rows we can access at once, we need to iteratively delete
-        while (aspectRowsToDelete.size() >= ELASTIC_MAX_PAGE_SIZE) {
-          sleep(ELASTIC_BATCH_DELETE_SLEEP_SEC);
-          aspectRowsToDelete = _systemMetadataService.findByRunId(runId, doHardDelete, 0, ESUtils.MAX_RESULT_SIZE);
-          log.info("{} remaining rows to delete...", stringifyRowCount(aspectRowsToDelete.size()));
-          log.info("deleting...");
-          rollbackRunResult = _entityService.rollbackRun(aspectRowsToDelete, runId, doHardDelete);
-          deletedRows.addAll(rollbackRunResult.getRowsRolledBack());
-          rowsDeletedFromEntityDeletion += rollbackRunResult.getRowsDeletedFromEntityDeletion();
-        }
+        final RollbackRunArgs rollbackRunArgs = new RollbackRunArgs()
+            .setRunId(runId)
+            .setHardDelete(doHardDelete)
+            .setPageSize(ROLLBACK_PAGE_SIZE)
+            .setBatchSize(ROLLBACK_BATCH_SIZE)
+            .setNumThreads(ROLLBACK_NUM_THREADS);
+        final RollbackRunSummary rollbackRunSummary = new RollbackRunJob(_entityService, _systemMetadataService)
+            .run(rollbackRunArgs, (checkpoint, progress) ->
+                log.info("rolled back {} of {} rows of run {} so far, resume after urn {} aspect {}",
+                    progress.rowsRolledBack, progress.rowsScanned, runId, checkpoint.lastUrn, checkpoint.lastAspect));
+        long rowsDeletedFromEntityDeletion = rollbackRunSummary.rowsDeletedFromEntityDeletion;
 
         // Rollback timeseries aspects
         DeleteAspectValuesResult timeseriesRollbackResult = _timeseriesAspectService.rollbackTimeseriesAspects(runId);
         rowsDeletedFromEntityDeletion += timeseriesRollbackResult.getNumDocsDeleted();
 
-        log.info("finished deleting {} rows", deletedRows.size());
-        int aspectsReverted = deletedRows.size() + rowsDeletedFromEntityDeletion;
+        log.info("finished deleting {} rows", rollbackRunSummary.rowsRolledBack);
+        long aspectsReverted = rollbackRunSummary.rowsRolledBack + rowsDeletedFromEntityDeletion;
 
-        final Map<Boolean, List<AspectRowSummary>> aspectsSplitByIsKeyAspects =
-            aspectRowsToDelete.stream().collect(Collectors.partitioningBy(AspectRowSummary::isKeyAspect));
+        // Only a sample of the key aspects of the run is kept, bounding the lookups below
+        final List<AspectRowSummary> keyAspects = rollbackRunSummary.keyAspects;
 
-        final List<AspectRowSummary> keyAspects = aspectsSplitByIsKeyAspects.get(true);
+        final long entitiesDeleted = rollbackRunSummary.keyAspectsScanned;
+        final long affectedEntities = rollbackRunSummary.entitiesAffected;
 
-        final long entitiesDeleted = keyAspects.size();
-        final long affectedEntities =
-            deletedRows.stream().collect(Collectors.groupingBy(AspectRowSummary::getUrn)).keySet().size();
-
-        final AspectRowSummaryArray rowSummaries =
-            new AspectRowSummaryArray(aspectRowsToDelete.subList(0, Math.min(100, aspectRowsToDelete.size())));
+        final AspectRowSummaryArray rowSummaries = new AspectRowSummaryArray(rollbackRunSummary.sampleRows);
 
         log.info("computing aspects affected by this rollback...");
         // Compute the aspects that exist referencing the key aspects we are deleting
@@ -243,14 +241,6 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
     }
   }
 
-  private void sleep(Integer seconds) {
-    try {
-      TimeUnit.SECONDS.sleep(seconds);
-    } catch (InterruptedException e) {
-      e.printStackTrace();
-    }
-  }
-
   private void updateExecutionRequestStatus(String runId, String status) {
     try {
       final Urn executionRequestUrn = EntityKeyUtils.convertEntityKeyToUrn(new ExecutionRequestKey().setId(runId), Constants.EXECUTION_REQUEST_ENTITY_NAME);
@@ -100,6 +100,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
   private static final String PARAM_ENTITY = "entity";
   private static final String PARAM_ENTITIES = "entities";
   private static final String PARAM_COUNT = "count";
+  private static final String PARAM_AFTER = "after";
   private static final String PARAM_FULLTEXT = "fulltext";
   private static final String PARAM_VALUE = "value";
   private static final String PARAM_ASPECT_NAME = "aspectName";
@@ -551,7 +552,13 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
   @Nonnull
   @WithSpan
   public Task<ListUrnsResult> listUrns(@ActionParam(PARAM_ENTITY) @Nonnull String entityName,
-      @ActionParam(PARAM_START) int start, @ActionParam(PARAM_COUNT) int count) throws URISyntaxException {
+      @ActionParam(PARAM_START) int start, @ActionParam(PARAM_COUNT) int count,
+      @ActionParam(PARAM_AFTER) @Optional @Nullable String afterUrn) throws URISyntaxException {
+    if (afterUrn != null) {
+      // Pages listed after an urn are read by seeking to the urn, so start is ignored
+      log.info("LIST URNS for {} after {} and count {}", entityName, afterUrn, count);
+      return RestliUtil.toTask(() -> _entityService.listUrns(entityName, afterUrn, count), "listUrns");
+    }
     log.info("LIST URNS for {} with start {} and count {}", entityName, start, count);
     return RestliUtil.toTask(() -> _entityService.listUrns(entityName, start, count), "listUrns");
   }
@@ -27,6 +27,9 @@ public interface IndexConvention {
   @Nonnull
   String getTimeseriesAspectIndexName(String entityName, String aspectName);
 
+  @Nonnull
+  String getTimeseriesAspectRollupIndexName(String entityName, String aspectName, String granularity);
+
   @Nonnull
   String getAllEntityIndicesPattern();
 